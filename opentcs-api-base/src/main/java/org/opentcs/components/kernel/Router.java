@@ -243,6 +243,52 @@ public interface Router
         .orElse(Set.of());
   }
 
+  /**
+   * Returns possible routes from one point to a number of others, passable by a given vehicle.
+   * <p>
+   * Implementations may compute the routes to all destination points at once, which is usually
+   * more efficient than calling {@link #getRoutes(Vehicle, Point, Point, Set, int)} for each of
+   * them. This default implementation does exactly that, though.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the calculated routes must be passable.
+   * @param sourcePoint The starting point of the routes to calculate.
+   * @param destinationPoints The end points of the routes to calculate.
+   * @param resourcesToAvoid Resources to avoid when calculating the routes.
+   * @param maxRouteCount The maximum number of routes to return per destination point.
+   * @return The routes, mapped to the destination points they lead to. Every given destination
+   * point is mapped to a (possibly empty) set of routes.
+   */
+  @Nonnull
+  default Map<Point, Set<Route>> getRoutes(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints,
+      @Nonnull
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    return destinationPoints.stream()
+        .collect(
+            Collectors.toMap(
+                destinationPoint -> destinationPoint,
+                destinationPoint -> getRoutes(
+                    vehicle,
+                    sourcePoint,
+                    destinationPoint,
+                    resourcesToAvoid,
+                    maxRouteCount
+                )
+            )
+        );
+  }
+
   /**
    * Returns the costs for travelling a route from one point to another with a
    * given vehicle.
@@ -2,8 +2,10 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import jakarta.annotation.Nonnull;
 import java.util.Set;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 
@@ -27,6 +29,25 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns the blocks that contain the given resource as a member.
+   * <p>
+   * The default implementation filters all existing blocks. Implementations are expected to
+   * provide a more efficient lookup, e.g. via an index of blocks by their members.
+   * </p>
+   *
+   * @param resource A reference to the resource.
+   * @return Copies of the blocks that contain the given resource as a member. If there are no such
+   * blocks, the returned set is empty.
+   */
+  @Nonnull
+  default Set<Block> fetchBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resource
+  ) {
+    return fetchObjects(Block.class, block -> block.getMembers().contains(resource));
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
@@ -0,0 +1,72 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+/**
+ * An {@link EventHandler} that declares that it wants events to be delivered asynchronously, i.e.
+ * not on the thread that emitted them.
+ * <p>
+ * Event buses that do not support asynchronous delivery (e.g. {@link SimpleEventBus}) deliver
+ * events to such handlers synchronously. Event buses that do support it (e.g.
+ * {@link PartitionedEventBus}) queue events for such handlers in bounded queues and deliver them on
+ * separate threads. Implementations therefore must not rely on the thread they are called on, and
+ * must be able to cope with events being dropped when their queues are full.
+ * </p>
+ * <p>
+ * Event buses never block the thread emitting an event because a handler's queue is full. The
+ * emitting thread is usually the kernel executor, holding the kernel's global lock, and a handler
+ * calling a kernel service while the kernel executor waits for it to drain its queue would
+ * deadlock.
+ * </p>
+ */
+public interface AsynchronousEventHandler
+    extends
+      EventHandler {
+
+  /**
+   * Returns the capacity of each of the queues events for this handler are buffered in.
+   *
+   * @return The capacity of each of the queues events for this handler are buffered in.
+   */
+  default int getEventQueueCapacity() {
+    return 1000;
+  }
+
+  /**
+   * Returns the number of partitions events for this handler are distributed to.
+   * <p>
+   * Events with the same partition key (e.g. the name of the object a {@code TCSObjectEvent}
+   * refers to) are always assigned to the same partition and delivered in the order they were
+   * emitted. Events in different partitions may be delivered concurrently, i.e. a handler returning
+   * a value greater than 1 here must be thread-safe.
+   * </p>
+   *
+   * @return The number of partitions events for this handler are distributed to.
+   */
+  default int getEventPartitionCount() {
+    return 1;
+  }
+
+  /**
+   * Returns what to do with a new event when the queue it is assigned to is full.
+   *
+   * @return What to do with a new event when the queue it is assigned to is full.
+   */
+  default OverflowPolicy getOverflowPolicy() {
+    return OverflowPolicy.DROP_OLDEST;
+  }
+
+  /**
+   * Defines what to do with a new event when the queue it is assigned to is full.
+   */
+  enum OverflowPolicy {
+    /**
+     * The oldest event in the queue is discarded to make room for the new one.
+     */
+    DROP_OLDEST,
+    /**
+     * The new event is discarded.
+     */
+    DROP_NEWEST;
+  }
+}
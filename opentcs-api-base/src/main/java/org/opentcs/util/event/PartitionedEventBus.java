@@ -0,0 +1,369 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link EventBus} that supports asynchronous delivery of events.
+ * <p>
+ * Events are delivered to plain {@link EventHandler}s synchronously, on the emitting thread, and to
+ * subscribers in the order they subscribed, just like {@link SimpleEventBus} does it. For every subscribed {@link AsynchronousEventHandler}, events
+ * are distributed to a number of partitions based on their partition key. Every partition buffers
+ * events in a bounded queue and delivers them, in order, via the given executor. If a partition's
+ * queue is full, the handler's {@link AsynchronousEventHandler.OverflowPolicy} is applied. The
+ * emitting thread is never blocked, as it is usually the kernel executor holding the kernel's
+ * global lock.
+ * </p>
+ */
+public class PartitionedEventBus
+    implements
+      EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionedEventBus.class);
+  /**
+   * The maximum number of events a partition delivers in one go before yielding its thread.
+   */
+  private static final int MAX_EVENTS_PER_RUN = 100;
+  /**
+   * The executor used for delivering events to asynchronous handlers.
+   */
+  private final Executor executor;
+  /**
+   * Extracts the partition key from an event.
+   */
+  private final Function<Object, Object> partitionKeyExtractor;
+  /**
+   * The subscriptions, in the order they were made.
+   * Modifications are guarded by <code>this</code>.
+   */
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor The executor used for delivering events to asynchronous handlers.
+   * @param partitionKeyExtractor Extracts the partition key from an event. Events with equal
+   * partition keys are always delivered in the order they were emitted. If the function returns
+   * <code>null</code> for an event, the event is assigned to the first partition.
+   */
+  public PartitionedEventBus(
+      @Nonnull
+      Executor executor,
+      @Nonnull
+      Function<Object, Object> partitionKeyExtractor
+  ) {
+    this.executor = requireNonNull(executor, "executor");
+    this.partitionKeyExtractor = requireNonNull(partitionKeyExtractor, "partitionKeyExtractor");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    for (Subscription subscription : subscriptions) {
+      subscription.deliver(event);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (findSubscription(listener) != null) {
+      return;
+    }
+
+    subscriptions.add(
+        listener instanceof AsynchronousEventHandler asyncHandler
+            ? new AsynchronousSubscription(asyncHandler)
+            : new SynchronousSubscription(listener)
+    );
+  }
+
+  @Override
+  public synchronized void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    Subscription subscription = findSubscription(listener);
+    if (subscription != null) {
+      subscriptions.remove(subscription);
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * Returns the number of events that have been discarded for the given handler so far due to its
+   * overflow policy.
+   *
+   * @param listener The handler.
+   * @return The number of discarded events, or 0, if the handler is not subscribed.
+   */
+  public long getDroppedEventCount(
+      @Nonnull
+      EventHandler listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    Subscription subscription = findSubscription(listener);
+    return subscription == null ? 0 : subscription.getDroppedEventCount();
+  }
+
+  private Subscription findSubscription(EventHandler listener) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.getHandler().equals(listener)) {
+        return subscription;
+      }
+    }
+    return null;
+  }
+
+  private static void deliverSafely(EventHandler handler, Object event) {
+    try {
+      handler.onEvent(event);
+    }
+    catch (Exception exc) {
+      LOG.warn("Exception thrown by event handler", exc);
+    }
+  }
+
+  /**
+   * A handler's subscription to this event bus.
+   */
+  private interface Subscription {
+
+    EventHandler getHandler();
+
+    void deliver(Object event);
+
+    void cancel();
+
+    long getDroppedEventCount();
+  }
+
+  /**
+   * A subscription of a handler that events are delivered to synchronously.
+   */
+  private static class SynchronousSubscription
+      implements
+        Subscription {
+
+    private final EventHandler handler;
+
+    SynchronousSubscription(EventHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public EventHandler getHandler() {
+      return handler;
+    }
+
+    @Override
+    public void deliver(Object event) {
+      deliverSafely(handler, event);
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+      return 0;
+    }
+  }
+
+  /**
+   * A subscription of a handler that events are delivered to asynchronously.
+   */
+  private class AsynchronousSubscription
+      implements
+        Subscription {
+
+    private final AsynchronousEventHandler handler;
+    private final Partition[] partitions;
+
+    AsynchronousSubscription(AsynchronousEventHandler handler) {
+      this.handler = handler;
+      int partitionCount = handler.getEventPartitionCount();
+      checkArgument(partitionCount > 0, "partitionCount <= 0: %s", partitionCount);
+      int queueCapacity = handler.getEventQueueCapacity();
+      checkArgument(queueCapacity > 0, "queueCapacity <= 0: %s", queueCapacity);
+      AsynchronousEventHandler.OverflowPolicy overflowPolicy
+          = requireNonNull(handler.getOverflowPolicy(), "overflowPolicy");
+
+      partitions = new Partition[partitionCount];
+      for (int i = 0; i < partitionCount; i++) {
+        partitions[i] = new Partition(handler, queueCapacity, overflowPolicy);
+      }
+    }
+
+    @Override
+    public EventHandler getHandler() {
+      return handler;
+    }
+
+    @Override
+    public void deliver(Object event) {
+      partitionFor(event).enqueue(event);
+    }
+
+    @Override
+    public void cancel() {
+      for (Partition partition : partitions) {
+        partition.cancel();
+      }
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+      long result = 0;
+      for (Partition partition : partitions) {
+        result += partition.getDroppedEventCount();
+      }
+      return result;
+    }
+
+    private Partition partitionFor(Object event) {
+      if (partitions.length == 1) {
+        return partitions[0];
+      }
+      Object key = partitionKeyExtractor.apply(event);
+      if (key == null) {
+        return partitions[0];
+      }
+      return partitions[Math.floorMod(key.hashCode(), partitions.length)];
+    }
+
+    @Override
+    public String toString() {
+      return "AsynchronousSubscription{" + "handler=" + handler + '}';
+    }
+  }
+
+  /**
+   * A bounded queue of events for a handler that delivers its events in order, using at most one
+   * of the executor's threads at a time.
+   */
+  private class Partition
+      implements
+        Runnable {
+
+    private final AsynchronousEventHandler handler;
+    private final int capacity;
+    private final AsynchronousEventHandler.OverflowPolicy overflowPolicy;
+    /**
+     * The queued events.
+     * Guarded by <code>this</code>.
+     */
+    private final Queue<Object> queue = new ArrayDeque<>();
+    /**
+     * Whether a delivery run for this partition has been submitted to the executor.
+     * Guarded by <code>this</code>.
+     */
+    private boolean scheduled;
+    /**
+     * Whether the subscription has been cancelled.
+     * Guarded by <code>this</code>.
+     */
+    private boolean cancelled;
+    /**
+     * Whether events have been discarded since the queue was last empty.
+     * Guarded by <code>this</code>.
+     */
+    private boolean overflowing;
+    /**
+     * The number of events discarded so far.
+     * Guarded by <code>this</code>.
+     */
+    private long droppedEventCount;
+
+    Partition(
+        AsynchronousEventHandler handler,
+        int capacity,
+        AsynchronousEventHandler.OverflowPolicy overflowPolicy
+    ) {
+      this.handler = handler;
+      this.capacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    synchronized void enqueue(Object event) {
+      if (cancelled) {
+        return;
+      }
+      if (queue.size() >= capacity) {
+        recordDroppedEvent();
+        if (overflowPolicy == AsynchronousEventHandler.OverflowPolicy.DROP_NEWEST) {
+          return;
+        }
+        queue.poll();
+      }
+      queue.add(event);
+      scheduleIfNecessary();
+    }
+
+    synchronized void cancel() {
+      cancelled = true;
+      queue.clear();
+    }
+
+    synchronized long getDroppedEventCount() {
+      return droppedEventCount;
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+        Object event;
+        synchronized (this) {
+          event = queue.poll();
+          if (event == null) {
+            scheduled = false;
+            overflowing = false;
+            return;
+          }
+        }
+        deliverSafely(handler, event);
+      }
+
+      // Yield the thread to other partitions and continue with a new run.
+      synchronized (this) {
+        if (queue.isEmpty()) {
+          scheduled = false;
+        }
+        else {
+          executor.execute(this);
+        }
+      }
+    }
+
+    private void scheduleIfNecessary() {
+      if (!scheduled) {
+        scheduled = true;
+        executor.execute(this);
+      }
+    }
+
+    private void recordDroppedEvent() {
+      droppedEventCount++;
+      if (!overflowing) {
+        overflowing = true;
+        LOG.warn("Event queue for {} is full, discarding events.", handler);
+      }
+    }
+  }
+}
@@ -0,0 +1,183 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PartitionedEventBus}.
+ */
+class PartitionedEventBusTest {
+
+  /**
+   * Collects the tasks submitted by the event bus, so they can be run explicitly.
+   */
+  private Queue<Runnable> pendingTasks;
+  private PartitionedEventBus eventBus;
+
+  @BeforeEach
+  void setUp() {
+    pendingTasks = new LinkedList<>();
+    Executor executor = pendingTasks::add;
+    eventBus = new PartitionedEventBus(executor, event -> event);
+  }
+
+  @Test
+  void forwardEventToSynchronousSubscribersImmediately() {
+    List<Object> receivedObjects = new ArrayList<>();
+    EventHandler eventHandler = (object) -> receivedObjects.add(object);
+
+    eventBus.subscribe(eventHandler);
+    eventBus.onEvent("some-event");
+
+    assertThat(receivedObjects, hasSize(1));
+    assertThat(pendingTasks, is(empty()));
+
+    eventBus.unsubscribe(eventHandler);
+    receivedObjects.clear();
+    eventBus.onEvent("some-event");
+
+    assertThat(receivedObjects, is(empty()));
+  }
+
+  @Test
+  void forwardEventToSynchronousSubscribersInOrderOfSubscription() {
+    List<String> receivingHandlers = new ArrayList<>();
+    EventHandler handler1 = (object) -> receivingHandlers.add("handler-1");
+    EventHandler handler2 = (object) -> receivingHandlers.add("handler-2");
+    EventHandler handler3 = (object) -> receivingHandlers.add("handler-3");
+
+    eventBus.subscribe(handler3);
+    eventBus.subscribe(handler1);
+    eventBus.subscribe(handler2);
+    eventBus.subscribe(handler3);
+    eventBus.onEvent("some-event");
+
+    assertThat(receivingHandlers, contains("handler-3", "handler-1", "handler-2"));
+  }
+
+  @Test
+  void forwardEventToAsynchronousSubscribersViaExecutor() {
+    RecordingHandler handler
+        = new RecordingHandler(10, AsynchronousEventHandler.OverflowPolicy.DROP_OLDEST);
+
+    eventBus.subscribe(handler);
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+
+    assertThat(handler.receivedEvents, is(empty()));
+
+    runPendingTasks();
+
+    assertThat(handler.receivedEvents, contains("event-1", "event-2"));
+  }
+
+  @Test
+  void discardOldestEventsOnOverflow() {
+    RecordingHandler handler
+        = new RecordingHandler(2, AsynchronousEventHandler.OverflowPolicy.DROP_OLDEST);
+
+    eventBus.subscribe(handler);
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+    runPendingTasks();
+
+    assertThat(handler.receivedEvents, contains("event-2", "event-3"));
+    assertThat(eventBus.getDroppedEventCount(handler), is(1L));
+  }
+
+  @Test
+  void discardNewestEventsOnOverflow() {
+    RecordingHandler handler
+        = new RecordingHandler(2, AsynchronousEventHandler.OverflowPolicy.DROP_NEWEST);
+
+    eventBus.subscribe(handler);
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+    runPendingTasks();
+
+    assertThat(handler.receivedEvents, contains("event-1", "event-2"));
+    assertThat(eventBus.getDroppedEventCount(handler), is(1L));
+  }
+
+  @Test
+  void neverBlockEmittingThreadOnOverflow() {
+    RecordingHandler handler = new RecordingHandler(1, null);
+
+    eventBus.subscribe(handler);
+    // The executor never runs the handler here, so any blocking would wait forever.
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+    runPendingTasks();
+
+    assertThat(handler.receivedEvents, contains("event-3"));
+    assertThat(eventBus.getDroppedEventCount(handler), is(2L));
+  }
+
+  @Test
+  void discardQueuedEventsOnUnsubscribe() {
+    RecordingHandler handler
+        = new RecordingHandler(10, AsynchronousEventHandler.OverflowPolicy.DROP_OLDEST);
+
+    eventBus.subscribe(handler);
+    eventBus.onEvent("event-1");
+    eventBus.unsubscribe(handler);
+    runPendingTasks();
+
+    assertThat(handler.receivedEvents, is(empty()));
+  }
+
+  private void runPendingTasks() {
+    Runnable task;
+    while ((task = pendingTasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static class RecordingHandler
+      implements
+        AsynchronousEventHandler {
+
+    private final List<Object> receivedEvents = new ArrayList<>();
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    RecordingHandler(int queueCapacity, @Nullable OverflowPolicy overflowPolicy) {
+      this.queueCapacity = queueCapacity;
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+      receivedEvents.add(event);
+    }
+
+    @Override
+    public int getEventQueueCapacity() {
+      return queueCapacity;
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+      return overflowPolicy == null
+          ? AsynchronousEventHandler.super.getOverflowPolicy()
+          : overflowPolicy;
+    }
+  }
+}
@@ -41,6 +41,12 @@ public class ServiceWebApiModule
     bind(ServiceWebApiConfiguration.class)
         .toInstance(configuration);
 
+    bind(JsonBinder.class)
+        .toInstance(new JsonBinder(configuration.prettyPrintJson()));
+
+    bind(KernelStateSnapshot.class)
+        .in(Singleton.class);
+
     extensionsBinderAllModes().addBinding()
         .to(ServiceWebApi.class)
         .in(Singleton.class);
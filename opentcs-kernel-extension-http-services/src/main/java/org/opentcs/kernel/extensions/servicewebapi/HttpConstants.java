@@ -11,6 +11,11 @@ public class HttpConstants {
    * Name of the header that is expected to contain the API access keys.
    */
   public static final String HEADER_NAME_ACCESS_KEY = "X-Api-Access-Key";
+  /**
+   * Name of the header with which SSE clients reconnecting provide the ID of the last event they
+   * received.
+   */
+  public static final String HEADER_NAME_LAST_EVENT_ID = "Last-Event-ID";
   /**
    * Content type for plain text.
    */
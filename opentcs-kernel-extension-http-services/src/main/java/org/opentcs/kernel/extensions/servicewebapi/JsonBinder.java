@@ -2,29 +2,71 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Binds JSON strings to objects and vice versa.
  */
 public class JsonBinder {
 
+  /**
+   * The ID of the property filter that limits the properties written for objects of classes
+   * annotated with {@code @JsonFilter(PROPERTY_FILTER_ID)} to the requested ones.
+   */
+  public static final String PROPERTY_FILTER_ID = "requestedProperties";
   /**
    * Maps between objects and their JSON representations.
    */
   private final ObjectMapper objectMapper
       = new ObjectMapper()
           .registerModule(new JavaTimeModule())
-          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .setFilterProvider(
+              new SimpleFilterProvider()
+                  .addFilter(PROPERTY_FILTER_ID, SimpleBeanPropertyFilter.serializeAll())
+          );
+  /**
+   * Writes JSON representations of objects.
+   */
+  private final ObjectWriter objectWriter;
+  /**
+   * Writers for objects of specific classes, reused so that their serializers are looked up only
+   * once.
+   */
+  private final Map<Class<?>, ObjectWriter> writersByType = new ConcurrentHashMap<>();
 
   /**
-   * Creates a new instance.
+   * Creates a new instance that produces compact JSON output.
    */
   public JsonBinder() {
+    this(false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param prettyPrinting Whether to produce JSON output that is indented and spread over multiple
+   * lines for readability, instead of compact JSON output.
+   */
+  public JsonBinder(boolean prettyPrinting) {
+    this.objectWriter = prettyPrinting
+        ? objectMapper.writerWithDefaultPrettyPrinter()
+        : objectMapper.writer();
   }
 
   /**
@@ -59,15 +101,82 @@ public class JsonBinder {
   public String toJson(Object object)
       throws IllegalStateException {
     try {
-      return objectMapper
-          .writerWithDefaultPrettyPrinter()
-          .writeValueAsString(object);
+      return writerFor(object).writeValueAsString(object);
     }
     catch (JsonProcessingException exc) {
       throw new IllegalStateException("Could not produce JSON output", exc);
     }
   }
 
+  /**
+   * Writes the JSON representation of the given object to the given output stream.
+   * <p>
+   * The JSON representation is written as it is produced, i.e. it is never held in memory as a
+   * whole.
+   * </p>
+   *
+   * @param object The object to be written.
+   * @param outputStream The output stream to write to. It is not closed by this method.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public void writeJson(Object object, OutputStream outputStream)
+      throws IllegalStateException {
+    ObjectWriter writer = writerFor(object);
+
+    try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      writer.writeValue(generator, object);
+    }
+    catch (IOException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
+  /**
+   * Writes the given elements as a JSON array to the given output stream.
+   * <p>
+   * Elements are taken from the given stream and written one after the other, i.e. the JSON
+   * representation of the whole array is never held in memory.
+   * </p>
+   *
+   * @param elements The elements to be written.
+   * @param properties The names of the properties to be written for elements of classes annotated
+   * with {@code @JsonFilter(PROPERTY_FILTER_ID)}, or {@code null} to write all of them.
+   * @param outputStream The output stream to write to. It is not closed by this method.
+   * @throws IllegalStateException In case there was a problem mapping the given elements to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public void writeJsonArray(
+      Stream<?> elements,
+      @Nullable
+      Set<String> properties,
+      OutputStream outputStream
+  )
+      throws IllegalStateException {
+    ObjectWriter writer = objectWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    if (properties != null) {
+      writer = writer.with(
+          new SimpleFilterProvider().addFilter(
+              PROPERTY_FILTER_ID,
+              SimpleBeanPropertyFilter.filterOutAllExcept(properties)
+          )
+      );
+    }
+
+    try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartArray();
+      for (Iterator<?> iter = elements.iterator(); iter.hasNext();) {
+        writer.writeValue(generator, iter.next());
+      }
+      generator.writeEndArray();
+    }
+    catch (IOException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
   /**
    * Maps the given throwable to a JSON string.
    *
@@ -80,13 +189,20 @@ public class JsonBinder {
   public String toJson(Throwable t)
       throws IllegalStateException {
     try {
-      return objectMapper
-          .writerWithDefaultPrettyPrinter()
-          .writeValueAsString(objectMapper.createArrayNode().add(t.getMessage()));
+      return objectWriter.writeValueAsString(objectMapper.createArrayNode().add(t.getMessage()));
     }
     catch (JsonProcessingException exc) {
       throw new IllegalStateException("Could not produce JSON output", exc);
     }
   }
 
+  private ObjectWriter writerFor(
+      @Nullable
+      Object object
+  ) {
+    if (object == null) {
+      return objectWriter;
+    }
+    return writersByType.computeIfAbsent(object.getClass(), objectWriter::forType);
+  }
 }
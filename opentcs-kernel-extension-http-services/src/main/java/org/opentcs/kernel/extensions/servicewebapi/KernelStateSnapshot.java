@@ -0,0 +1,273 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.PlantModel;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Provides read-only snapshots of the kernel state that requests only reading it are served from.
+ * <p>
+ * Objects are fetched from the object service on the requesting thread, i.e. not via the kernel
+ * executor. The objects of a class (and the plant model) are kept as a snapshot which is reused
+ * while the kernel state did not change since it was taken or while it is not older than the
+ * configured maximum age. This way, frequent polling of the kernel state neither queues work on
+ * the kernel executor nor fetches objects for every request.
+ * </p>
+ * <p>
+ * Since snapshots may be slightly outdated, they are meant for requests for all objects of a class
+ * only. Requests for single objects should be served by the object service directly, so that e.g.
+ * a client requesting an object it has just created does not get an outdated or no result.
+ * </p>
+ */
+public class KernelStateSnapshot
+    implements
+      Lifecycle,
+      EventHandler {
+
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The plant model service.
+   */
+  private final PlantModelService plantModelService;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The interface configuration.
+   */
+  private final ServiceWebApiConfiguration configuration;
+  /**
+   * The current snapshots, mapped to the classes of the objects they contain.
+   */
+  private final Map<Class<?>, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+  /**
+   * The number of modifications of the kernel state so far.
+   */
+  private final AtomicLong modificationCount = new AtomicLong();
+  /**
+   * Whether this instance is initialized.
+   */
+  private volatile boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param plantModelService The plant model service.
+   * @param eventSource Where this instance registers for application events.
+   * @param configuration The interface configuration.
+   */
+  @Inject
+  public KernelStateSnapshot(
+      TCSObjectService objectService,
+      PlantModelService plantModelService,
+      @ApplicationEventBus
+      EventSource eventSource,
+      ServiceWebApiConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.plantModelService = requireNonNull(plantModelService, "plantModelService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    snapshots.clear();
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    // Called on the thread emitting the event (usually the kernel executor), so keep this cheap.
+    if (event instanceof TCSObjectEvent || event instanceof KernelStateTransitionEvent) {
+      modificationCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns all objects of the given class that satisfy the given predicate.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects.
+   * @param predicate The predicate that must be satisfied.
+   * @return The objects.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> fetchObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    return objectsByName(clazz).values().stream()
+        .filter(predicate)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the objects of the given class that satisfy the given predicate, sorted by their names.
+   * <p>
+   * The returned stream is backed by a snapshot and may be consumed lazily, e.g. while writing a
+   * response.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects.
+   * @param predicate The predicate that must be satisfied.
+   * @param afterName If not {@code null}, only objects whose names are (lexicographically) greater
+   * than this name are returned.
+   * @return The objects.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate,
+      @Nullable
+      String afterName
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    NavigableMap<String, T> objects = objectsByName(clazz);
+    return (afterName == null ? objects : objects.tailMap(afterName, false)).values().stream()
+        .filter(predicate);
+  }
+
+  /**
+   * Returns the plant model.
+   *
+   * @return The plant model.
+   */
+  @Nonnull
+  public PlantModel getPlantModel() {
+    return snapshotOf(PlantModel.class, plantModelService::getPlantModel);
+  }
+
+  private <T extends TCSObject<T>> NavigableMap<String, T> objectsByName(Class<T> clazz) {
+    // Keep the objects sorted by name, so that they can be paged through without sorting them.
+    return snapshotOf(
+        clazz,
+        () -> Collections.unmodifiableNavigableMap(
+            objectService.fetchObjects(clazz).stream()
+                .collect(
+                    Collectors.toMap(
+                        TCSObject::getName,
+                        Function.identity(),
+                        (object1, object2) -> object1,
+                        TreeMap::new
+                    )
+                )
+        )
+    );
+  }
+
+  private <C> C snapshotOf(Class<?> key, Supplier<C> contentSupplier) {
+    @SuppressWarnings("unchecked")
+    Snapshot<C> snapshot = (Snapshot<C>) snapshots.get(key);
+    if (isReusable(snapshot)) {
+      return snapshot.content();
+    }
+
+    // Take the snapshot without holding any lock of the map, so that requests for other classes
+    // are not blocked while it is taken. If snapshots are taken concurrently, keep the latest one.
+    Snapshot<C> newSnapshot = takeSnapshot(contentSupplier);
+    snapshots.merge(
+        key,
+        newSnapshot,
+        (current, taken) -> current.modificationCount() > taken.modificationCount()
+            ? current
+            : taken
+    );
+    return newSnapshot.content();
+  }
+
+  private boolean isReusable(
+      @Nullable
+      Snapshot<?> snapshot
+  ) {
+    // Without receiving events, we cannot tell whether the kernel state changed.
+    return snapshot != null
+        && isInitialized()
+        && (snapshot.modificationCount() == modificationCount.get()
+            || System.currentTimeMillis() - snapshot.creationTime()
+                <= configuration.readSnapshotMaxAge());
+  }
+
+  private <C> Snapshot<C> takeSnapshot(Supplier<C> contentSupplier) {
+    // Remember the modification count before fetching the content, so that modifications
+    // happening while fetching it are not missed.
+    long currentModificationCount = modificationCount.get();
+    long creationTime = System.currentTimeMillis();
+    return new Snapshot<>(contentSupplier.get(), creationTime, currentModificationCount);
+  }
+
+  /**
+   * A snapshot of (a part of) the kernel state.
+   *
+   * @param <C> The type of the snapshot's content.
+   * @param content The snapshot's content.
+   * @param creationTime The point of time (in ms) the snapshot was taken at.
+   * @param modificationCount The number of modifications of the kernel state when the snapshot was
+   * taken.
+   */
+  private record Snapshot<C>(C content, long creationTime, long modificationCount) {
+  }
+}
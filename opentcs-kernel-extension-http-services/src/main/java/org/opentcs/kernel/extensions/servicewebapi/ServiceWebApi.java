@@ -33,6 +33,10 @@ public class ServiceWebApi
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(ServiceWebApi.class);
+  /**
+   * The level of the gzip compression of responses used with an invalid configured level.
+   */
+  private static final int DEFAULT_COMPRESSION_LEVEL = 6;
   /**
    * The interface configuration.
    */
@@ -41,6 +45,10 @@ public class ServiceWebApi
    * Authenticates incoming requests.
    */
   private final Authenticator authenticator;
+  /**
+   * Provides the kernel state that read requests are served from.
+   */
+  private final KernelStateSnapshot stateSnapshot;
   /**
    * Handles requests for API version 1.
    */
@@ -73,6 +81,7 @@ public class ServiceWebApi
    * @param sslParamSet The SSL parameter set.
    * @param authenticator Authenticates incoming requests.
    * @param jsonBinder Binds JSON data to objects and vice versa.
+   * @param stateSnapshot Provides the kernel state that read requests are served from.
    * @param v1RequestHandler Handles requests for API version 1.
    * @param v1SseHandler Handles connections to the Server-Sent Events API version 1.
    */
@@ -82,6 +91,7 @@ public class ServiceWebApi
       SslParameterSet sslParamSet,
       Authenticator authenticator,
       JsonBinder jsonBinder,
+      KernelStateSnapshot stateSnapshot,
       V1RequestHandler v1RequestHandler,
       V1SseHandler v1SseHandler
   ) {
@@ -89,6 +99,7 @@ public class ServiceWebApi
     this.sslParamSet = requireNonNull(sslParamSet, "sslParamSet");
     this.authenticator = requireNonNull(authenticator, "authenticator");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.stateSnapshot = requireNonNull(stateSnapshot, "stateSnapshot");
     this.v1RequestHandler = requireNonNull(v1RequestHandler, "v1RequestHandler");
     this.v1SseHandler = requireNonNull(v1SseHandler, "sseHandler");
   }
@@ -99,6 +110,7 @@ public class ServiceWebApi
       return;
     }
 
+    stateSnapshot.initialize();
     v1RequestHandler.initialize();
     v1SseHandler.initialize();
 
@@ -115,6 +127,22 @@ public class ServiceWebApi
         cfg.http.maxRequestSize = configuration.maxRequestBodySize() * 1024L * 1024L;
       }
 
+      if (configuration.responseCompressionLevel() == 0) {
+        cfg.http.disableCompression();
+      }
+      else if (configuration.responseCompressionLevel() < 0
+          || configuration.responseCompressionLevel() > 9) {
+        LOG.warn(
+            "Response compression level must be between 0 and 9, but is {}. Using level {}.",
+            configuration.responseCompressionLevel(),
+            DEFAULT_COMPRESSION_LEVEL
+        );
+        cfg.http.gzipOnlyCompression(DEFAULT_COMPRESSION_LEVEL);
+      }
+      else {
+        cfg.http.gzipOnlyCompression(configuration.responseCompressionLevel());
+      }
+
       if (configuration.useSsl()) {
         cfg.registerPlugin(
             new SslPlugin(ssl -> {
@@ -141,6 +169,7 @@ public class ServiceWebApi
     app = Javalin.create(config).start();
 
     app.sse("/v1/sse", v1SseHandler::handleSseConnection);
+    app.get("/v1/sse/connections", v1SseHandler::handleGetConnections);
 
     app.beforeMatched(ctx -> {
       if (!authenticator.isAuthenticated(ctx)) {
@@ -206,6 +235,7 @@ public class ServiceWebApi
     v1SseHandler.terminate();
     v1RequestHandler.terminate();
     app.stop();
+    stateSnapshot.terminate();
 
     initialized = false;
   }
@@ -71,4 +71,74 @@ public interface ServiceWebApiConfiguration {
       orderKey = "6"
   )
   int maxRequestBodySize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum age (in ms) of the kernel state snapshots GET requests for all objects of "
+              + "a type are served from.",
+          "A snapshot is reused while the kernel state did not change since it was taken or while "
+              + "it is not older than this.",
+          "GET requests for single objects are always served with their current state."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7"
+  )
+  int readSnapshotMaxAge();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to pretty-print JSON responses and events, i.e. to indent them for readability.",
+          "Pretty-printed JSON is considerably larger and takes more time to produce."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "8"
+  )
+  boolean prettyPrintJson();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The level (1-9) of the gzip compression of responses to clients accepting it.",
+          "0 disables the compression of responses."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "9"
+  )
+  int responseCompressionLevel();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events queued for being sent to an SSE client.",
+          "Clients for which more events are queued lag too far behind and are disconnected."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "9_sse_0"
+  )
+  int sseQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of latest events kept for replaying them to SSE clients reconnecting.",
+          "Clients that missed more events are requested to retrieve the current state again.",
+          "0 disables replaying events."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "9_sse_1"
+  )
+  int sseReplayBufferSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of threads sending events to SSE clients.",
+          "A thread sending an event to a slow client is blocked until the event is sent."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "9_sse_2"
+  )
+  int sseSenderThreads();
 }
@@ -3,6 +3,7 @@
 package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import jakarta.annotation.Nullable;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Predicate;
 import org.opentcs.data.TCSObjectReference;
@@ -40,6 +41,75 @@ public class Filters {
         : order -> Objects.equals(vehicleRef, order.getIntendedVehicle());
   }
 
+  /**
+   * Returns a predicate that is true only for transport orders whose processing vehicle is the
+   * given one.
+   * In case the given vehicle reference is null, all transport orders are accepted.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @return A predicate that is true only for transport orders whose processing vehicle is the
+   * given one.
+   */
+  public static Predicate<TransportOrder> transportOrderWithProcessingVehicle(
+      @Nullable
+      TCSObjectReference<Vehicle> vehicleRef
+  ) {
+    return vehicleRef == null
+        ? order -> true
+        : order -> Objects.equals(vehicleRef, order.getProcessingVehicle());
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders in the given state.
+   * In case the given state is null, all transport orders are accepted.
+   *
+   * @param state The state.
+   * @return A predicate that is true only for transport orders in the given state.
+   */
+  public static Predicate<TransportOrder> transportOrderWithState(
+      @Nullable
+      TransportOrder.State state
+  ) {
+    return state == null
+        ? order -> true
+        : order -> order.hasState(state);
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders with the given type.
+   * In case the given type is null, all transport orders are accepted.
+   *
+   * @param type The type.
+   * @return A predicate that is true only for transport orders with the given type.
+   */
+  public static Predicate<TransportOrder> transportOrderWithType(
+      @Nullable
+      String type
+  ) {
+    return type == null
+        ? order -> true
+        : order -> Objects.equals(type, order.getType());
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders created within the given time
+   * range.
+   * In case a bound of the time range is null, the time range is not limited in that direction.
+   *
+   * @param after The (exclusive) lower bound of the time range.
+   * @param before The (exclusive) upper bound of the time range.
+   * @return A predicate that is true only for transport orders created within the given time
+   * range.
+   */
+  public static Predicate<TransportOrder> transportOrderCreatedBetween(
+      @Nullable
+      Instant after,
+      @Nullable
+      Instant before
+  ) {
+    return order -> isBetween(order.getCreationTime(), after, before);
+  }
+
   /**
    * Returns a predicate that is true only for order sequences whose intended vehicle is the given
    * one.
@@ -58,6 +128,59 @@ public class Filters {
         : sequence -> Objects.equals(vehicleRef, sequence.getIntendedVehicle());
   }
 
+  /**
+   * Returns a predicate that is true only for order sequences with the given type.
+   * In case the given type is null, all order sequences are accepted.
+   *
+   * @param type The type.
+   * @return A predicate that is true only for order sequences with the given type.
+   */
+  public static Predicate<OrderSequence> orderSequenceWithType(
+      @Nullable
+      String type
+  ) {
+    return type == null
+        ? sequence -> true
+        : sequence -> Objects.equals(type, sequence.getType());
+  }
+
+  /**
+   * Returns a predicate that is true only for order sequences whose finished flag is the given
+   * one.
+   * In case the given flag is null, all order sequences are accepted.
+   *
+   * @param finished The finished flag.
+   * @return A predicate that is true only for order sequences whose finished flag is the given
+   * one.
+   */
+  public static Predicate<OrderSequence> orderSequenceWithFinished(
+      @Nullable
+      Boolean finished
+  ) {
+    return finished == null
+        ? sequence -> true
+        : sequence -> sequence.isFinished() == finished;
+  }
+
+  /**
+   * Returns a predicate that is true only for order sequences created within the given time
+   * range.
+   * In case a bound of the time range is null, the time range is not limited in that direction.
+   *
+   * @param after The (exclusive) lower bound of the time range.
+   * @param before The (exclusive) upper bound of the time range.
+   * @return A predicate that is true only for order sequences created within the given time
+   * range.
+   */
+  public static Predicate<OrderSequence> orderSequenceCreatedBetween(
+      @Nullable
+      Instant after,
+      @Nullable
+      Instant before
+  ) {
+    return sequence -> isBetween(sequence.getCreationTime(), after, before);
+  }
+
   /**
    * Returns a predicate that is true only for peripheral jobs whose related vehicle is the given
    * one.
@@ -109,4 +232,15 @@ public class Filters {
         ? vehicle -> true
         : vehicle -> Objects.equals(procState, vehicle.getProcState());
   }
+
+  private static boolean isBetween(
+      Instant instant,
+      @Nullable
+      Instant after,
+      @Nullable
+      Instant before
+  ) {
+    return (after == null || instant.isAfter(after))
+        && (before == null || instant.isBefore(before));
+  }
 }
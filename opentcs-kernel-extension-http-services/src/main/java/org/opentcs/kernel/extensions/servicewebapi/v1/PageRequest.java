@@ -0,0 +1,72 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Describes which page of a collection of objects sorted by their names is requested.
+ * <p>
+ * Pages are addressed by a cursor, i.e. the name of the last object of the previous page, so that
+ * objects being added to or removed from the collection do not shift the following pages.
+ * </p>
+ *
+ * @param after The name of the last object of the previous page, or {@code null} for the first
+ * page.
+ * @param limit The maximum number of objects on the page.
+ */
+public record PageRequest(
+    @Nullable
+    String after,
+    int limit
+) {
+
+  /**
+   * A request for a single page containing all objects.
+   */
+  public static final PageRequest ALL = new PageRequest(null, Integer.MAX_VALUE);
+
+  /**
+   * Creates a new instance.
+   *
+   * @param after The name of the last object of the previous page, or {@code null} for the first
+   * page.
+   * @param limit The maximum number of objects on the page.
+   * @throws IllegalArgumentException If the limit is less than 1.
+   */
+  public PageRequest {
+    checkArgument(limit >= 1, "limit < 1: %s", limit);
+  }
+
+  /**
+   * Creates a page request from the given request parameters.
+   *
+   * @param after The name of the last object of the previous page, or {@code null} for the first
+   * page.
+   * @param limit The maximum number of objects on the page, or {@code null} for no limit.
+   * @return The page request.
+   * @throws IllegalArgumentException If the limit could not be parsed or is less than 1.
+   */
+  @Nonnull
+  public static PageRequest fromParameters(
+      @Nullable
+      String after,
+      @Nullable
+      String limit
+  )
+      throws IllegalArgumentException {
+    if (limit == null) {
+      return new PageRequest(after, Integer.MAX_VALUE);
+    }
+
+    try {
+      return new PageRequest(after, Integer.parseInt(limit));
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed limit: " + limit);
+    }
+  }
+}
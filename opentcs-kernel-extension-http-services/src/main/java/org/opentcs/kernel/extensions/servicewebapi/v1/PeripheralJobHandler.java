@@ -22,6 +22,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralJobConverter;
@@ -34,6 +35,7 @@ public class PeripheralJobHandler {
   private final PeripheralJobService jobService;
   private final PeripheralDispatcherService jobDispatcherService;
   private final KernelExecutorWrapper executorWrapper;
+  private final KernelStateSnapshot stateSnapshot;
   private final PeripheralJobConverter peripheralJobConverter;
 
   /**
@@ -42,17 +44,20 @@ public class PeripheralJobHandler {
    * @param jobService Used to create peripheral jobs.
    * @param jobDispatcherService Used to dispatch peripheral jobs.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param stateSnapshot Provides the kernel state that requests for all objects are served from.
    */
   @Inject
   public PeripheralJobHandler(
       PeripheralJobService jobService,
       PeripheralDispatcherService jobDispatcherService,
       KernelExecutorWrapper executorWrapper,
+      KernelStateSnapshot stateSnapshot,
       PeripheralJobConverter peripheralJobConverter
   ) {
     this.jobService = requireNonNull(jobService, "jobService");
     this.jobDispatcherService = requireNonNull(jobDispatcherService, "jobDispatcherService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.stateSnapshot = requireNonNull(stateSnapshot, "stateSnapshot");
     this.peripheralJobConverter = requireNonNull(peripheralJobConverter, "peripheralJobConverter");
   }
 
@@ -135,39 +140,37 @@ public class PeripheralJobHandler {
       @Nullable
       String relatedTransportOrder
   ) {
-    return executorWrapper.callAndWait(() -> {
-      // If a related vehicle is set, make sure it exists.
-      TCSObjectReference<Vehicle> relatedVehicleRef
-          = Optional.ofNullable(relatedVehicle)
-              .map(name -> jobService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (relatedVehicle != null && relatedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
-      }
-
-      // If a related transport order is set, make sure it exists.
-      TCSObjectReference<TransportOrder> relatedOrderRef
-          = Optional.ofNullable(relatedTransportOrder)
-              .map(name -> jobService.fetchObject(TransportOrder.class, name))
-              .map(TransportOrder::getReference)
-              .orElse(null);
-
-      if (relatedTransportOrder != null && relatedOrderRef == null) {
-        throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
-      }
-
-      return jobService.fetchObjects(
-          PeripheralJob.class,
-          Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-              .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-      )
-          .stream()
-          .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
-          .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    // If a related vehicle is set, make sure it exists.
+    TCSObjectReference<Vehicle> relatedVehicleRef
+        = Optional.ofNullable(relatedVehicle)
+            .map(name -> jobService.fetchObject(Vehicle.class, name))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (relatedVehicle != null && relatedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
+    }
+
+    // If a related transport order is set, make sure it exists.
+    TCSObjectReference<TransportOrder> relatedOrderRef
+        = Optional.ofNullable(relatedTransportOrder)
+            .map(name -> jobService.fetchObject(TransportOrder.class, name))
+            .map(TransportOrder::getReference)
+            .orElse(null);
+
+    if (relatedTransportOrder != null && relatedOrderRef == null) {
+      throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
+    }
+
+    return stateSnapshot.fetchObjects(
+        PeripheralJob.class,
+        Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
+            .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
+    )
+        .stream()
+        .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
+        .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -182,13 +185,11 @@ public class PeripheralJobHandler {
   ) {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
-      if (job == null) {
-        throw new ObjectUnknownException("Unknown peripheral job: " + name);
-      }
+    PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
+    if (job == null) {
+      throw new ObjectUnknownException("Unknown peripheral job: " + name);
+    }
 
-      return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
-    });
+    return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
   }
 }
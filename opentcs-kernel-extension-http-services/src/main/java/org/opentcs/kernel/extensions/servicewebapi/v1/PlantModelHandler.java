@@ -16,6 +16,7 @@ import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.PlantModel;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.BlockConverter;
@@ -40,6 +41,10 @@ public class PlantModelHandler {
    * Executes calls via the kernel executor and waits for the outcome.
    */
   private final KernelExecutorWrapper executorWrapper;
+  /**
+   * Provides the kernel state that read requests are served from.
+   */
+  private final KernelStateSnapshot stateSnapshot;
 
   private final PointConverter pointConverter;
   private final PathConverter pathConverter;
@@ -56,6 +61,7 @@ public class PlantModelHandler {
    *
    * @param plantModelService Used to set or retrieve plant models.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param stateSnapshot Provides the kernel state that read requests are served from.
    * @param pointConverter Converts point instances.
    * @param pathConverter Converts path instances.
    * @param locationTypeConverter Converts location type instances.
@@ -70,6 +76,7 @@ public class PlantModelHandler {
   public PlantModelHandler(
       PlantModelService plantModelService,
       KernelExecutorWrapper executorWrapper,
+      KernelStateSnapshot stateSnapshot,
       PointConverter pointConverter,
       PathConverter pathConverter,
       LocationTypeConverter locationTypeConverter,
@@ -82,6 +89,7 @@ public class PlantModelHandler {
   ) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.stateSnapshot = requireNonNull(stateSnapshot, "stateSnapshot");
     this.pointConverter = requireNonNull(pointConverter, "pointConverter");
     this.pathConverter = requireNonNull(pathConverter, "pathConverter");
     this.locationTypeConverter = requireNonNull(locationTypeConverter, "locationTypeConverter");
@@ -116,7 +124,7 @@ public class PlantModelHandler {
   }
 
   public PlantModelTO getPlantModel() {
-    PlantModel plantModel = plantModelService.getPlantModel();
+    PlantModel plantModel = stateSnapshot.getPlantModel();
     return new PlantModelTO(plantModel.getName())
         .setPoints(pointConverter.toPointTOs(plantModel.getPoints()))
         .setPaths(pathConverter.toPathTOs(plantModel.getPaths()))
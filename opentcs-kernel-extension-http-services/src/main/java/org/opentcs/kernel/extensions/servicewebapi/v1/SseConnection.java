@@ -0,0 +1,280 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import io.javalin.http.sse.SseClient;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a connection to an SSE client.
+ * <p>
+ * Events are not sent to the client directly, but queued and sent by a task on the given sender
+ * executor, so that a slow client does not delay sending events to other clients. While events are
+ * queued, a modification of an object replaces any queued (and not yet sent) modification of the
+ * same object, i.e. clients lagging behind receive the latest state of an object only. If the
+ * number of queued events exceeds the given capacity nevertheless, the client is considered to lag
+ * too far behind and the connection is closed.
+ * </p>
+ */
+class SseConnection {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SseConnection.class);
+  /**
+   * The client this connection is associated with.
+   */
+  private final SseClient client;
+  /**
+   * The event types the associated client is interested in.
+   */
+  private final Set<String> eventTypes;
+  /**
+   * Executes the tasks sending queued events to the client.
+   */
+  private final Executor senderExecutor;
+  /**
+   * The events queued for being sent to the client, in the order they are to be sent.
+   * Modifications of objects are mapped to an {@link ObjectKey} so that they can be replaced by
+   * later modifications of the same object, all other events are mapped to themselves.
+   */
+  private final Map<Object, SseEvent> queuedEvents = new LinkedHashMap<>();
+  /**
+   * Whether a task sending queued events to the client is currently scheduled or running.
+   */
+  private boolean sending;
+  /**
+   * Whether this connection is closed.
+   */
+  private boolean closed;
+  /**
+   * The ID of the last event sent to the client, or 0, if no event has been sent, yet.
+   */
+  private long lastSentEventId;
+  /**
+   * The number of events that were replaced by later events before being sent to the client.
+   */
+  private long conflatedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param client The client this connection is associated with.
+   * @param eventTypes The event types the associated client is interested in.
+   * @param senderExecutor Executes the tasks sending queued events to the client.
+   */
+  SseConnection(SseClient client, Set<String> eventTypes, Executor senderExecutor) {
+    this.client = requireNonNull(client, "client");
+    this.eventTypes = requireNonNull(eventTypes, "eventTypes");
+    this.senderExecutor = requireNonNull(senderExecutor, "senderExecutor");
+  }
+
+  /**
+   * Returns the client this connection is associated with.
+   *
+   * @return The client this connection is associated with.
+   */
+  public SseClient getClient() {
+    return client;
+  }
+
+  /**
+   * Returns the event types the associated client is interested in.
+   *
+   * @return The event types the associated client is interested in.
+   */
+  public Set<String> getEventTypes() {
+    return eventTypes;
+  }
+
+  /**
+   * Checks whether the associated client is interested in events of the given type.
+   *
+   * @param eventType The event type.
+   * @return {@code true} if, and only if, the client is interested in events of the given type.
+   */
+  public boolean isSubscribedTo(String eventType) {
+    return eventTypes.contains(eventType);
+  }
+
+  /**
+   * Queues the given event for being sent to the client.
+   * <p>
+   * This method does not block. If the number of queued events exceeds the given capacity, the
+   * connection is closed asynchronously.
+   * </p>
+   *
+   * @param event The event.
+   * @param capacity The maximum number of events that may be queued.
+   */
+  public void enqueue(SseEvent event, int capacity) {
+    requireNonNull(event, "event");
+
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+
+      Object key = event.modification() ? new ObjectKey(event.type(), event.objectName()) : event;
+      // Remove a replaced event first, so that the replacing one is sent after all earlier events.
+      if (queuedEvents.remove(key) != null) {
+        conflatedEventCount++;
+      }
+      queuedEvents.put(key, event);
+
+      if (queuedEvents.size() > capacity) {
+        LOG.warn(
+            "Client {} lags too far behind ({} queued events), closing connection.",
+            client,
+            queuedEvents.size()
+        );
+        markClosed();
+        // Closing the connection may block while an event is being sent, so do it asynchronously.
+        senderExecutor.execute(client::close);
+        return;
+      }
+
+      if (sending) {
+        return;
+      }
+      sending = true;
+    }
+
+    senderExecutor.execute(this::sendQueuedEvents);
+  }
+
+  /**
+   * Closes this connection.
+   */
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      markClosed();
+    }
+
+    client.close();
+  }
+
+  /**
+   * Discards any queued events after the client disconnected.
+   */
+  public synchronized void discard() {
+    markClosed();
+  }
+
+  /**
+   * Checks whether this connection is closed.
+   *
+   * @return {@code true} if, and only if, this connection is closed.
+   */
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns the ID of the last event sent to the client.
+   *
+   * @return The ID of the last event sent to the client, or 0, if no event has been sent, yet.
+   */
+  public synchronized long getLastSentEventId() {
+    return lastSentEventId;
+  }
+
+  /**
+   * Returns the number of events currently queued for being sent to the client.
+   *
+   * @return The number of events currently queued for being sent to the client.
+   */
+  public synchronized int getQueuedEventCount() {
+    return queuedEvents.size();
+  }
+
+  /**
+   * Returns the number of events that were replaced by later events before being sent to the
+   * client.
+   *
+   * @return The number of events that were replaced by later events.
+   */
+  public synchronized long getConflatedEventCount() {
+    return conflatedEventCount;
+  }
+
+  /**
+   * Returns how far the client lags behind, i.e. the age of the oldest event queued for it.
+   *
+   * @param currentTime The current point of time (in ms).
+   * @return The age (in ms) of the oldest event queued for the client, or 0, if no events are
+   * queued.
+   */
+  public synchronized long getLag(long currentTime) {
+    return queuedEvents.values().stream()
+        .mapToLong(event -> currentTime - event.creationTime())
+        .max()
+        .orElse(0);
+  }
+
+  @Override
+  public String toString() {
+    return "SseConnection{" + "client=" + client + ", eventTypes=" + eventTypes + '}';
+  }
+
+  private void sendQueuedEvents() {
+    while (true) {
+      SseEvent event;
+      synchronized (this) {
+        Iterator<SseEvent> iter = queuedEvents.values().iterator();
+        if (closed || !iter.hasNext()) {
+          sending = false;
+          return;
+        }
+        event = iter.next();
+        iter.remove();
+      }
+
+      try {
+        client.sendEvent(
+            event.type(),
+            event.data(),
+            event.hasId() ? Long.toString(event.id()) : null
+        );
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to send event to client {}: {}", client, e.getMessage());
+        close();
+        return;
+      }
+
+      if (event.hasId()) {
+        synchronized (this) {
+          lastSentEventId = event.id();
+        }
+      }
+    }
+  }
+
+  private void markClosed() {
+    closed = true;
+    sending = false;
+    queuedEvents.clear();
+  }
+
+  /**
+   * Identifies the object an event is about.
+   *
+   * @param eventType The event's type.
+   * @param objectName The name of the object.
+   */
+  private record ObjectKey(String eventType, String objectName) {
+  }
+}
@@ -25,6 +25,12 @@ public abstract class SseConstants {
    * The event type for events regarding peripheral jobs.
    */
   public static final String EVENT_TYPE_PERIPHERAL_JOBS = "/events/peripheralJobs";
+  /**
+   * The event type for events signalling that events a client missed cannot be replayed, i.e. that
+   * the client needs to retrieve the current state again.
+   * Events of this type are sent to all clients regardless of the event types they selected.
+   */
+  public static final String EVENT_TYPE_RESYNC_REQUIRED = "/events/resyncRequired";
   /**
    * A set of all event types supported by the SSE API.
    */
@@ -0,0 +1,170 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.function.Supplier;
+
+/**
+ * An event to be sent to SSE clients.
+ * <p>
+ * The event's data is encoded lazily, i.e. only when it is first requested (when the event is sent
+ * to a client or replayed to a client reconnecting), and only once. Instances are shared by all
+ * connections the event is sent to, so that the event's data is encoded only once for all of them.
+ * Events that are never sent (e.g. events only kept for replaying them) are never encoded.
+ * </p>
+ */
+class SseEvent {
+
+  /**
+   * The ID of events that do not have an ID.
+   */
+  public static final long NO_ID = 0;
+  /**
+   * The event's ID.
+   */
+  private final long id;
+  /**
+   * The event's type.
+   */
+  private final String type;
+  /**
+   * The name of the object the event is about.
+   */
+  private final String objectName;
+  /**
+   * Whether the event is about a modification of the object.
+   */
+  private final boolean modification;
+  /**
+   * The point of time (in ms) the event was created at.
+   */
+  private final long creationTime;
+  /**
+   * Encodes the event's data, or {@code null}, if the data has already been encoded.
+   * Guarded by {@code this}.
+   */
+  private Supplier<String> dataEncoder;
+  /**
+   * The event's encoded data, or {@code null}, if it has not been encoded, yet.
+   * Guarded by {@code this}.
+   */
+  private String data;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param id The event's ID, or {@link #NO_ID}, if the event does not have an ID. IDs of later
+   * events are greater than those of earlier ones.
+   * @param type The event's type (one of the event types in {@link SseConstants}).
+   * @param objectName The name of the object the event is about, or an empty string, if the event
+   * is not about an object.
+   * @param modification Whether the event is about a modification of the object, i.e. neither
+   * about its creation nor its removal.
+   * @param dataEncoder Encodes the event's data. Called at most once.
+   * @param creationTime The point of time (in ms) the event was created at.
+   */
+  SseEvent(
+      long id,
+      @Nonnull
+      String type,
+      @Nonnull
+      String objectName,
+      boolean modification,
+      @Nonnull
+      Supplier<String> dataEncoder,
+      long creationTime
+  ) {
+    this.id = id;
+    this.type = requireNonNull(type, "type");
+    this.objectName = requireNonNull(objectName, "objectName");
+    this.modification = modification;
+    this.dataEncoder = requireNonNull(dataEncoder, "dataEncoder");
+    this.creationTime = creationTime;
+  }
+
+  /**
+   * Returns the event's ID.
+   *
+   * @return The event's ID, or {@link #NO_ID}, if the event does not have an ID.
+   */
+  public long id() {
+    return id;
+  }
+
+  /**
+   * Checks whether the event has an ID.
+   *
+   * @return {@code true} if, and only if, the event has an ID.
+   */
+  public boolean hasId() {
+    return id != NO_ID;
+  }
+
+  /**
+   * Returns the event's type.
+   *
+   * @return The event's type (one of the event types in {@link SseConstants}).
+   */
+  @Nonnull
+  public String type() {
+    return type;
+  }
+
+  /**
+   * Returns the name of the object the event is about.
+   *
+   * @return The name of the object, or an empty string, if the event is not about an object.
+   */
+  @Nonnull
+  public String objectName() {
+    return objectName;
+  }
+
+  /**
+   * Checks whether the event is about a modification of the object.
+   *
+   * @return {@code true} if, and only if, the event is neither about the object's creation nor its
+   * removal.
+   */
+  public boolean modification() {
+    return modification;
+  }
+
+  /**
+   * Returns the event's encoded data, encoding it if that has not been done, yet.
+   *
+   * @return The event's encoded data.
+   */
+  @Nonnull
+  public synchronized String data() {
+    if (data == null) {
+      data = requireNonNull(dataEncoder.get(), "data");
+      // Let go of what the data was encoded from.
+      dataEncoder = null;
+    }
+    return data;
+  }
+
+  /**
+   * Returns the point of time the event was created at.
+   *
+   * @return The point of time (in ms) the event was created at.
+   */
+  public long creationTime() {
+    return creationTime;
+  }
+
+  @Override
+  public String toString() {
+    return "SseEvent{"
+        + "id=" + id
+        + ", type=" + type
+        + ", objectName=" + objectName
+        + ", modification=" + modification
+        + ", creationTime=" + creationTime
+        + '}';
+  }
+}
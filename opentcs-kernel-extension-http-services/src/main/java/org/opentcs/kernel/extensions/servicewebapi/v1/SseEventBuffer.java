@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed-size ring buffer of the latest events sent to SSE clients, used for replaying events to
+ * clients that reconnect.
+ * <p>
+ * Events are kept in a preallocated array and overwritten when the buffer is full, i.e. adding an
+ * event does not allocate any memory. This class is not thread-safe.
+ * </p>
+ */
+class SseEventBuffer {
+
+  /**
+   * The buffered events.
+   */
+  private final SseEvent[] events;
+  /**
+   * The index at which the next event is to be stored.
+   */
+  private int nextIndex;
+  /**
+   * The number of buffered events.
+   */
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of events to be buffered. If 0, no events are buffered.
+   */
+  SseEventBuffer(int capacity) {
+    checkArgument(capacity >= 0, "capacity < 0: %s", capacity);
+
+    this.events = new SseEvent[capacity];
+  }
+
+  /**
+   * Returns the maximum number of events buffered.
+   *
+   * @return The maximum number of events buffered.
+   */
+  public int getCapacity() {
+    return events.length;
+  }
+
+  /**
+   * Adds the given event to the buffer, replacing the oldest one if the buffer is full.
+   *
+   * @param event The event. Its ID must directly follow the ID of the event added before.
+   */
+  public void add(SseEvent event) {
+    requireNonNull(event, "event");
+    if (events.length == 0) {
+      return;
+    }
+
+    events[nextIndex] = event;
+    nextIndex = (nextIndex + 1) % events.length;
+    size = Math.min(size + 1, events.length);
+  }
+
+  /**
+   * Returns all buffered events with IDs greater than the given one.
+   *
+   * @param eventId The event ID.
+   * @return The buffered events with IDs greater than the given one, sorted by their IDs, or
+   * {@code null}, if not all events following the event with the given ID are buffered (any
+   * more).
+   */
+  @Nullable
+  public List<SseEvent> getEventsAfter(long eventId) {
+    if (size == 0) {
+      return null;
+    }
+
+    int oldestIndex = (nextIndex - size + events.length) % events.length;
+    int newestIndex = (nextIndex - 1 + events.length) % events.length;
+    if (eventId < events[oldestIndex].id() - 1 || eventId > events[newestIndex].id()) {
+      return null;
+    }
+
+    List<SseEvent> result = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      SseEvent event = events[(oldestIndex + i) % events.length];
+      if (event.id() > eventId) {
+        result.add(event);
+      }
+    }
+    return result;
+  }
+}
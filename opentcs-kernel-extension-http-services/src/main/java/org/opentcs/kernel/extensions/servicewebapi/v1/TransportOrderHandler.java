@@ -4,18 +4,20 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
@@ -29,6 +31,7 @@ import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
@@ -45,6 +48,7 @@ public class TransportOrderHandler {
 
   private final TransportOrderService orderService;
   private final KernelExecutorWrapper executorWrapper;
+  private final KernelStateSnapshot stateSnapshot;
   private final OrderSequenceConverter orderSequenceConverter;
   private final TransportOrderConverter transportOrderConverter;
 
@@ -53,16 +57,19 @@ public class TransportOrderHandler {
    *
    * @param orderService The service we use to get the transport orders.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param stateSnapshot Provides the kernel state that requests for all objects are served from.
    */
   @Inject
   public TransportOrderHandler(
       TransportOrderService orderService,
       KernelExecutorWrapper executorWrapper,
+      KernelStateSnapshot stateSnapshot,
       OrderSequenceConverter orderSequenceConverter,
       TransportOrderConverter transportOrderConverter
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.stateSnapshot = requireNonNull(stateSnapshot, "stateSnapshot");
     this.orderSequenceConverter
         = requireNonNull(orderSequenceConverter, "orderSequenceConverter");
     this.transportOrderConverter
@@ -128,32 +135,60 @@ public class TransportOrderHandler {
    * @param intendedVehicle The filter parameter for the name of the
    * intended vehicle for the transport order. The filtering is disabled for this parameter if the
    * value is null.
-   * @return A list of transport orders that match the filter.
+   * @param processingVehicle The filter parameter for the name of the processing vehicle for the
+   * transport order. The filtering is disabled for this parameter if the value is null.
+   * @param state The filter parameter for the state of the transport order. The filtering is
+   * disabled for this parameter if the value is null.
+   * @param type The filter parameter for the type of the transport order. The filtering is
+   * disabled for this parameter if the value is null.
+   * @param createdAfter The filter parameter for the (ISO 8601) point of time after which the
+   * transport order was created. The filtering is disabled for this parameter if the value is null.
+   * @param createdBefore The filter parameter for the (ISO 8601) point of time before which the
+   * transport order was created. The filtering is disabled for this parameter if the value is null.
+   * @param page The page of transport orders to be returned.
+   * @return The transport orders that match the filter, sorted by their names.
+   * @throws ObjectUnknownException If a given vehicle does not exist.
+   * @throws IllegalArgumentException If a filter parameter could not be parsed.
    */
-  public List<GetTransportOrderResponseTO> getTransportOrders(
+  public Stream<GetTransportOrderResponseTO> getTransportOrders(
       @Nullable
-      String intendedVehicle
-  ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
-
-      return orderService.fetchObjects(
-          TransportOrder.class,
-          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+      String intendedVehicle,
+      @Nullable
+      String processingVehicle,
+      @Nullable
+      String state,
+      @Nullable
+      String type,
+      @Nullable
+      String createdAfter,
+      @Nullable
+      String createdBefore,
+      @Nonnull
+      PageRequest page
+  )
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    requireNonNull(page, "page");
+
+    Predicate<TransportOrder> filter
+        = Filters.transportOrderWithIntendedVehicle(vehicleReference(intendedVehicle))
+            .and(Filters.transportOrderWithProcessingVehicle(vehicleReference(processingVehicle)))
+            .and(
+                Filters.transportOrderWithState(
+                    state == null ? null : TransportOrder.State.valueOf(state)
+                )
+            )
+            .and(Filters.transportOrderWithType(type))
+            .and(
+                Filters.transportOrderCreatedBetween(
+                    parseInstant(createdAfter),
+                    parseInstant(createdBefore)
+                )
+            );
+
+    return stateSnapshot.streamObjects(TransportOrder.class, filter, page.after())
+        .limit(page.limit())
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order));
   }
 
   /**
@@ -167,11 +202,9 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   public OrderSequence createOrderSequence(String name, PostOrderSequenceRequestTO sequence)
@@ -208,41 +241,104 @@ public class TransportOrderHandler {
     });
   }
 
-  public List<GetOrderSequenceResponseTO> getOrderSequences(
+  /**
+   * Find all order sequences and filters depending on the given parameters.
+   *
+   * @param intendedVehicle The filter parameter for the name of the intended vehicle for the order
+   * sequence. The filtering is disabled for this parameter if the value is null.
+   * @param type The filter parameter for the type of the order sequence. The filtering is disabled
+   * for this parameter if the value is null.
+   * @param finished The filter parameter for whether the order sequence is finished. The filtering
+   * is disabled for this parameter if the value is null.
+   * @param createdAfter The filter parameter for the (ISO 8601) point of time after which the
+   * order sequence was created. The filtering is disabled for this parameter if the value is null.
+   * @param createdBefore The filter parameter for the (ISO 8601) point of time before which the
+   * order sequence was created. The filtering is disabled for this parameter if the value is null.
+   * @param page The page of order sequences to be returned.
+   * @return The order sequences that match the filter, sorted by their names.
+   * @throws ObjectUnknownException If the given vehicle does not exist.
+   * @throws IllegalArgumentException If a filter parameter could not be parsed.
+   */
+  public Stream<GetOrderSequenceResponseTO> getOrderSequences(
       @Nullable
-      String intendedVehicle
-  ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
-
-      return orderService.fetchObjects(
-          OrderSequence.class,
-          Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+      String intendedVehicle,
+      @Nullable
+      String type,
+      @Nullable
+      String finished,
+      @Nullable
+      String createdAfter,
+      @Nullable
+      String createdBefore,
+      @Nonnull
+      PageRequest page
+  )
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    requireNonNull(page, "page");
+
+    Predicate<OrderSequence> filter
+        = Filters.orderSequenceWithIntendedVehicle(vehicleReference(intendedVehicle))
+            .and(Filters.orderSequenceWithType(type))
+            .and(
+                Filters.orderSequenceWithFinished(
+                    finished == null ? null : Boolean.parseBoolean(finished)
+                )
+            )
+            .and(
+                Filters.orderSequenceCreatedBetween(
+                    parseInstant(createdAfter),
+                    parseInstant(createdBefore)
+                )
+            );
+
+    return stateSnapshot.streamObjects(OrderSequence.class, filter, page.after())
+        .limit(page.limit())
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence));
   }
 
   public GetOrderSequenceResponseTO getOrderSequenceByName(String name)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
+  }
+
+  @Nullable
+  private TCSObjectReference<Vehicle> vehicleReference(
+      @Nullable
+      String vehicleName
+  )
+      throws ObjectUnknownException {
+    if (vehicleName == null) {
+      return null;
+    }
+
+    Vehicle vehicle = orderService.fetchObject(Vehicle.class, vehicleName);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + vehicleName);
+    }
+    return vehicle.getReference();
+  }
+
+  @Nullable
+  private Instant parseInstant(
+      @Nullable
+      String instant
+  )
+      throws IllegalArgumentException {
+    if (instant == null) {
+      return null;
+    }
+
+    try {
+      return Instant.parse(instant);
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Could not parse point of time: " + instant, exc);
+    }
   }
 
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
@@ -10,9 +10,14 @@ import static java.util.Objects.requireNonNull;
 
 import io.javalin.apibuilder.EndpointGroup;
 import io.javalin.http.Context;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -225,10 +230,9 @@ public class V1RequestHandler
       throws IllegalArgumentException,
         IllegalStateException {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            statusEventDispatcher.fetchEvents(minSequenceNo(ctx), maxSequenceNo(ctx), timeout(ctx))
-        )
+    jsonBinder.writeJson(
+        statusEventDispatcher.fetchEvents(minSequenceNo(ctx), maxSequenceNo(ctx), timeout(ctx)),
+        ctx.outputStream()
     );
   }
 
@@ -335,14 +339,21 @@ public class V1RequestHandler
     );
   }
 
-  private void handleGetOrderSequences(Context ctx) {
+  private void handleGetOrderSequences(Context ctx)
+      throws ObjectUnknownException,
+        IllegalArgumentException {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getOrderSequences(
-                ctx.queryParam("intendedVehicle")
-            )
-        )
+    jsonBinder.writeJsonArray(
+        transportOrderHandler.getOrderSequences(
+            ctx.queryParam("intendedVehicle"),
+            ctx.queryParam("type"),
+            ctx.queryParam("finished"),
+            ctx.queryParam("createdAfter"),
+            ctx.queryParam("createdBefore"),
+            PageRequest.fromParameters(ctx.queryParam("after"), ctx.queryParam("limit"))
+        ),
+        requestedProperties(ctx),
+        ctx.outputStream()
     );
   }
 
@@ -405,14 +416,22 @@ public class V1RequestHandler
     ctx.result("");
   }
 
-  private void handleGetTransportOrders(Context ctx) {
+  private void handleGetTransportOrders(Context ctx)
+      throws ObjectUnknownException,
+        IllegalArgumentException {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getTransportOrders(
-                ctx.queryParam("intendedVehicle")
-            )
-        )
+    jsonBinder.writeJsonArray(
+        transportOrderHandler.getTransportOrders(
+            ctx.queryParam("intendedVehicle"),
+            ctx.queryParam("processingVehicle"),
+            ctx.queryParam("state"),
+            ctx.queryParam("type"),
+            ctx.queryParam("createdAfter"),
+            ctx.queryParam("createdBefore"),
+            PageRequest.fromParameters(ctx.queryParam("after"), ctx.queryParam("limit"))
+        ),
+        requestedProperties(ctx),
+        ctx.outputStream()
     );
   }
 
@@ -426,7 +445,7 @@ public class V1RequestHandler
 
   private void handleGetPlantModel(Context ctx) {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(jsonBinder.toJson(plantModelHandler.getPlantModel()));
+    jsonBinder.writeJson(plantModelHandler.getPlantModel(), ctx.outputStream());
   }
 
   private void handlePostUpdateTopology(Context ctx)
@@ -472,10 +491,9 @@ public class V1RequestHandler
   private void handleGetVehicles(Context ctx)
       throws IllegalArgumentException {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            vehicleHandler.getVehiclesState(ctx.queryParam("procState"))
-        )
+    jsonBinder.writeJson(
+        vehicleHandler.getVehiclesState(ctx.queryParam("procState")),
+        ctx.outputStream()
     );
   }
 
@@ -587,13 +605,12 @@ public class V1RequestHandler
 
   private void handleGetPeripheralJobs(Context ctx) {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            peripheralJobHandler.getPeripheralJobs(
-                ctx.queryParam("relatedVehicle"),
-                ctx.queryParam("relatedTransportOrder")
-            )
-        )
+    jsonBinder.writeJson(
+        peripheralJobHandler.getPeripheralJobs(
+            ctx.queryParam("relatedVehicle"),
+            ctx.queryParam("relatedTransportOrder")
+        ),
+        ctx.outputStream()
     );
   }
 
@@ -684,6 +701,22 @@ public class V1RequestHandler
     }
   }
 
+  @Nullable
+  private Set<String> requestedProperties(Context ctx) {
+    String param = ctx.queryParam("fields");
+    if (param == null) {
+      return null;
+    }
+
+    Set<String> result = Arrays.stream(param.split(","))
+        .map(String::trim)
+        .filter(property -> !property.isEmpty())
+        .collect(Collectors.toCollection(HashSet::new));
+    // Always include the name, which clients need for requesting the next page.
+    result.add("name");
+    return result;
+  }
+
   private boolean immediate(Context ctx) {
     return Boolean.parseBoolean(ctx.queryParam("immediate"));
   }
@@ -4,7 +4,9 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import static java.util.Objects.requireNonNull;
 
+import io.javalin.http.Context;
 import io.javalin.http.sse.SseClient;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +14,8 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.Lifecycle;
@@ -22,7 +26,11 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetSseConnectionResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.ResyncRequiredEventTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.EventConverter;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
@@ -34,7 +42,10 @@ import org.slf4j.LoggerFactory;
  * Handles connections to the Server-Sent Events API version 1.
  * <p>
  * This class listens for application events and broadcasts them to connected clients based on their
- * "subscription" preferences.
+ * "subscription" preferences. Each event is encoded once, and then queued for every connection
+ * that is interested in it (see {@link SseConnection}). The latest events are kept in a buffer, so
+ * that events a client missed can be replayed to it when it reconnects, providing the ID of the
+ * last event it received. Buffered events are encoded only if they are actually sent or replayed.
  */
 public class V1SseHandler
     implements
@@ -49,21 +60,33 @@ public class V1SseHandler
   private final EventSource eventSource;
   private final EventConverter eventConverter;
   private final JsonBinder jsonBinder;
+  private final ServiceWebApiConfiguration configuration;
   /**
    * The executor service used for precessing kernel events.
+   * Created on initialization.
    */
-  private final ExecutorService executor = new LoggingScheduledThreadPoolExecutor(
-      1,
-      runnable -> {
-        Thread thread = new Thread(runnable, "sseExecutor");
-        thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-        return thread;
-      }
-  );
+  private ExecutorService executor;
+  /**
+   * The executor service used for sending events to clients.
+   * Clients lagging behind block only the thread sending events to them.
+   * Created on initialization.
+   */
+  private ExecutorService senderExecutor;
+  /**
+   * The latest events created, for replaying them to clients reconnecting.
+   * Accessed by the executor's thread only.
+   */
+  private final SseEventBuffer eventBuffer;
+  /**
+   * The ID of the last event created. Accessed by the executor's thread only.
+   * IDs start at a value derived from the time this instance was created, so that IDs of events
+   * sent before a restart of the kernel are not mistaken for IDs of current ones.
+   */
+  private long lastEventId = System.currentTimeMillis() * 1000;
   /**
    * Indicates whether this handler is initialized.
    */
-  private boolean initialized = false;
+  private volatile boolean initialized = false;
 
   /**
    * Creates a new instance.
@@ -71,17 +94,21 @@ public class V1SseHandler
    * @param eventSource Where we register for application events.
    * @param eventConverter Converts application events to events to be sent via SSE.
    * @param jsonBinder Converts objects to JSON.
+   * @param configuration The interface configuration.
    */
   @Inject
   public V1SseHandler(
       @ApplicationEventBus
       EventSource eventSource,
       EventConverter eventConverter,
-      JsonBinder jsonBinder
+      JsonBinder jsonBinder,
+      ServiceWebApiConfiguration configuration
   ) {
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.eventConverter = requireNonNull(eventConverter, "eventConverter");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.eventBuffer = new SseEventBuffer(Math.max(configuration.sseReplayBufferSize(), 0));
   }
 
   @Override
@@ -90,6 +117,26 @@ public class V1SseHandler
       return;
     }
 
+    executor = new LoggingScheduledThreadPoolExecutor(
+        1,
+        runnable -> {
+          Thread thread = new Thread(runnable, "sseExecutor");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
+    // Bound the number of sender threads, so that many (slow) clients do not exhaust resources.
+    // With all sender threads busy, events are still queued per connection, and connections
+    // lagging too far behind are closed.
+    senderExecutor = Executors.newFixedThreadPool(
+        Math.max(configuration.sseSenderThreads(), 1),
+        runnable -> {
+          Thread thread = new Thread(runnable, "sseSender");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
+
     eventSource.subscribe(this);
 
     initialized = true;
@@ -108,21 +155,27 @@ public class V1SseHandler
 
     eventSource.unsubscribe(this);
 
+    initialized = false;
+
+    // Stop processing events first, then interrupt senders possibly blocked by slow clients, so
+    // that closing the remaining connections does not have to wait for them.
+    executor.shutdownNow();
+    senderExecutor.shutdownNow();
     for (SseConnection connection : connections) {
-      connection.client().close();
+      connection.close();
     }
     connections.clear();
-
-    initialized = false;
   }
 
   @Override
   public void onEvent(Object event) {
-    executor.submit(() -> {
-      if (event instanceof TCSObjectEvent tcsObjectEvent) {
-        handleObjectEvent(tcsObjectEvent);
-      }
-    });
+    if (!isInitialized()
+        || !(event instanceof TCSObjectEvent tcsObjectEvent)
+        || (connections.isEmpty() && eventBuffer.getCapacity() == 0)) {
+      return;
+    }
+
+    executor.submit(() -> handleObjectEvent(tcsObjectEvent));
   }
 
   /**
@@ -131,21 +184,56 @@ public class V1SseHandler
    * @param client The client that connected.
    */
   public void handleSseConnection(SseClient client) {
+    if (!isInitialized()) {
+      LOG.debug("Not initialized, closing connection to client: {}", client);
+      client.close();
+      return;
+    }
+
     LOG.info("Client connected: {}", client);
 
-    // Add the client to the queue of connections.
     SseConnection sseConnection = new SseConnection(
         client,
-        queryParamsToEventTypes(client.ctx().queryParamMap())
+        queryParamsToEventTypes(client.ctx().queryParamMap()),
+        senderExecutor
     );
-    connections.add(sseConnection);
+    String lastReceivedEventId = client.ctx().header(HttpConstants.HEADER_NAME_LAST_EVENT_ID);
     // Keep the connection alive to be able to continuously broadcast events to connected clients.
     client.keepAlive();
     // Forget the client when the connection is closed.
     client.onClose(() -> {
       LOG.info("Connection to client closed: {}", client);
       connections.remove(sseConnection);
+      sseConnection.discard();
     });
+    // Add the client to the queue of connections on the executor's thread, so that no events are
+    // missed or sent twice between replaying missed events and sending new ones.
+    executor.submit(() -> addConnection(sseConnection, lastReceivedEventId));
+  }
+
+  /**
+   * Handles a request for the states of the current SSE connections.
+   *
+   * @param ctx The request context.
+   */
+  public void handleGetConnections(Context ctx) {
+    long currentTime = System.currentTimeMillis();
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(
+        jsonBinder.toJson(
+            connections.stream()
+                .map(
+                    connection -> new GetSseConnectionResponseTO()
+                        .setClientAddress(clientAddress(connection.getClient()))
+                        .setEventTypes(connection.getEventTypes().stream().sorted().toList())
+                        .setLastSentEventId(connection.getLastSentEventId())
+                        .setQueuedEvents(connection.getQueuedEventCount())
+                        .setConflatedEvents(connection.getConflatedEventCount())
+                        .setLag(connection.getLag(currentTime))
+                )
+                .toList()
+        )
+    );
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
@@ -153,40 +241,145 @@ public class V1SseHandler
     if (object instanceof Vehicle) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_VEHICLES,
-          jsonBinder.toJson(eventConverter.convertVehicleEvent(event))
+          event,
+          () -> eventConverter.convertVehicleEvent(event)
       );
     }
     else if (object instanceof TransportOrder) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_TRANSPORT_ORDERS,
-          jsonBinder.toJson(eventConverter.convertTransportOrderEvent(event))
+          event,
+          () -> eventConverter.convertTransportOrderEvent(event)
       );
     }
     else if (object instanceof OrderSequence) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_ORDER_SEQUENCES,
-          jsonBinder.toJson(eventConverter.convertOrderSequenceEvent(event))
+          event,
+          () -> eventConverter.convertOrderSequenceEvent(event)
       );
     }
     else if (object instanceof PeripheralJob) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_PERIPHERAL_JOBS,
-          jsonBinder.toJson(eventConverter.convertPeripheralJobEvent(event))
+          event,
+          () -> eventConverter.convertPeripheralJobEvent(event)
       );
     }
   }
 
-  private void sendEventToClients(String eventType, String data) {
-    for (SseConnection connection : connections) {
-      try {
-        if (connection.eventTypes().contains(eventType)) {
-          connection.client().sendEvent(eventType, data);
+  private void sendEventToClients(
+      String eventType,
+      TCSObjectEvent event,
+      Supplier<Object> eventData
+  ) {
+    List<SseConnection> subscribers = connections.stream()
+        .filter(connection -> connection.isSubscribedTo(eventType))
+        .toList();
+    if (subscribers.isEmpty() && eventBuffer.getCapacity() == 0) {
+      return;
+    }
+
+    // Keep the raw event, and encode it only when it is sent or replayed, as most buffered events
+    // are never replayed.
+    SseEvent sseEvent = new SseEvent(
+        ++lastEventId,
+        eventType,
+        event.getCurrentOrPreviousObjectState().getName(),
+        event.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED,
+        () -> jsonBinder.toJson(eventData.get()),
+        System.currentTimeMillis()
+    );
+    eventBuffer.add(sseEvent);
+    if (subscribers.isEmpty()) {
+      return;
+    }
+
+    // Encode the event here, i.e. on the executor's thread and only once for all subscribers.
+    sseEvent.data();
+    for (SseConnection connection : subscribers) {
+      connection.enqueue(sseEvent, configuration.sseQueueCapacity());
+    }
+  }
+
+  private void addConnection(
+      SseConnection connection,
+      @Nullable
+      String lastReceivedEventId
+  ) {
+    if (lastReceivedEventId != null) {
+      replayMissedEvents(connection, lastReceivedEventId);
+    }
+
+    connections.add(connection);
+    // The client may have disconnected in the meantime.
+    if (connection.isClosed()) {
+      connections.remove(connection);
+    }
+  }
+
+  private void replayMissedEvents(SseConnection connection, String lastReceivedEventId) {
+    List<SseEvent> missedEvents = missedEvents(lastReceivedEventId);
+    if (missedEvents != null) {
+      List<SseEvent> subscribedEvents = missedEvents.stream()
+          .filter(event -> connection.isSubscribedTo(event.type()))
+          .toList();
+      // Replaying more events than may be queued would only get the client disconnected again.
+      if (subscribedEvents.size() <= configuration.sseQueueCapacity()) {
+        LOG.debug(
+            "Replaying {} events after ID {} to {}.",
+            subscribedEvents.size(),
+            lastReceivedEventId,
+            connection
+        );
+        for (SseEvent event : subscribedEvents) {
+          // Encode buffered events here, i.e. on the executor's thread.
+          event.data();
+          connection.enqueue(event, configuration.sseQueueCapacity());
         }
-      }
-      catch (Exception e) {
-        LOG.warn("Failed to send event to client {}: {}", connection.client(), e.getMessage());
+        return;
       }
     }
+
+    LOG.info(
+        "Cannot replay events after ID {} to {}, requesting resync.",
+        lastReceivedEventId,
+        connection
+    );
+    // The event is not part of the sequence of buffered events, so do not give it an ID. This way,
+    // the client keeps referring to the last event it actually received when reconnecting again.
+    String data = jsonBinder.toJson(new ResyncRequiredEventTO(lastReceivedEventId));
+    connection.enqueue(
+        new SseEvent(
+            SseEvent.NO_ID,
+            SseConstants.EVENT_TYPE_RESYNC_REQUIRED,
+            "",
+            false,
+            () -> data,
+            System.currentTimeMillis()
+        ),
+        configuration.sseQueueCapacity()
+    );
+  }
+
+  @Nullable
+  private List<SseEvent> missedEvents(String lastReceivedEventId) {
+    long eventId;
+    try {
+      eventId = Long.parseLong(lastReceivedEventId.trim());
+    }
+    catch (NumberFormatException e) {
+      return null;
+    }
+
+    if (eventId == lastEventId) {
+      return List.of();
+    }
+    return eventBuffer.getEventsAfter(eventId);
+  }
+
+  private String clientAddress(SseClient client) {
+    return client.ctx().req().getRemoteAddr() + ":" + client.ctx().req().getRemotePort();
   }
 
   private Set<String> queryParamsToEventTypes(Map<String, List<String>> queryParamMap) {
@@ -207,24 +400,4 @@ public class V1SseHandler
         .map(Map.Entry::getKey)
         .collect(Collectors.toSet());
   }
-
-  /**
-   * Represents a connection to a client.
-   *
-   * @param client The client this connection is associated with.
-   * @param eventTypes The event types the associated client is interested in.
-   */
-  private record SseConnection(SseClient client, Set<String> eventTypes) {
-
-    /**
-     * Creates a new instance.
-     *
-     * @param client The client this connection is associated with.
-     * @param eventTypes The event types the associated client is interested in.
-     */
-    private SseConnection(SseClient client, Set<String> eventTypes) {
-      this.client = requireNonNull(client, "client");
-      this.eventTypes = requireNonNull(eventTypes, "eventTypes");
-    }
-  }
 }
@@ -4,16 +4,19 @@ package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.time.Instant;
 import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.OrderConstantsTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 
 /**
  * The current state of an order sequence.
  */
+@JsonFilter(JsonBinder.PROPERTY_FILTER_ID)
 public class GetOrderSequenceResponseTO {
 
   @Nonnull
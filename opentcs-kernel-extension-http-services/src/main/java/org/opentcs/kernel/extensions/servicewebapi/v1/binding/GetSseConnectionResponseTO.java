@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * Arranges the data describing a connection to an SSE client for transferring.
+ */
+public class GetSseConnectionResponseTO {
+
+  /**
+   * The address of the client.
+   */
+  private String clientAddress;
+  /**
+   * The event types the client is interested in.
+   */
+  private List<String> eventTypes;
+  /**
+   * The ID of the last event sent to the client.
+   */
+  private long lastSentEventId;
+  /**
+   * The number of events queued for being sent to the client.
+   */
+  private int queuedEvents;
+  /**
+   * The number of events that were replaced by later events before being sent to the client.
+   */
+  private long conflatedEvents;
+  /**
+   * The age (in ms) of the oldest event queued for the client.
+   */
+  private long lag;
+
+  public GetSseConnectionResponseTO() {
+  }
+
+  public String getClientAddress() {
+    return clientAddress;
+  }
+
+  public GetSseConnectionResponseTO setClientAddress(String clientAddress) {
+    this.clientAddress = requireNonNull(clientAddress, "clientAddress");
+    return this;
+  }
+
+  public List<String> getEventTypes() {
+    return eventTypes;
+  }
+
+  public GetSseConnectionResponseTO setEventTypes(List<String> eventTypes) {
+    this.eventTypes = requireNonNull(eventTypes, "eventTypes");
+    return this;
+  }
+
+  public long getLastSentEventId() {
+    return lastSentEventId;
+  }
+
+  public GetSseConnectionResponseTO setLastSentEventId(long lastSentEventId) {
+    this.lastSentEventId = lastSentEventId;
+    return this;
+  }
+
+  public int getQueuedEvents() {
+    return queuedEvents;
+  }
+
+  public GetSseConnectionResponseTO setQueuedEvents(int queuedEvents) {
+    this.queuedEvents = queuedEvents;
+    return this;
+  }
+
+  public long getConflatedEvents() {
+    return conflatedEvents;
+  }
+
+  public GetSseConnectionResponseTO setConflatedEvents(long conflatedEvents) {
+    this.conflatedEvents = conflatedEvents;
+    return this;
+  }
+
+  public long getLag() {
+    return lag;
+  }
+
+  public GetSseConnectionResponseTO setLag(long lag) {
+    this.lag = lag;
+    return this;
+  }
+}
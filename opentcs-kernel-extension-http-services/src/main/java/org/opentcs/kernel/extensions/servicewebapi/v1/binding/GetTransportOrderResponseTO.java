@@ -4,14 +4,17 @@ package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.DestinationState;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 
 /**
  */
+@JsonFilter(JsonBinder.PROPERTY_FILTER_ID)
 public class GetTransportOrderResponseTO {
 
   private boolean dispensable;
@@ -0,0 +1,22 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A transfer object (to be used with the SSE API) signalling that the events a client missed cannot
+ * be replayed, i.e. that the client needs to retrieve the current state again.
+ */
+public class ResyncRequiredEventTO {
+
+  private final String lastEventId;
+
+  public ResyncRequiredEventTO(String lastEventId) {
+    this.lastEventId = requireNonNull(lastEventId, "lastEventId");
+  }
+
+  public String getLastEventId() {
+    return lastEventId;
+  }
+}
@@ -6,6 +6,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.approvaltests.Approvals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,7 +24,7 @@ class JsonBinderTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
@@ -38,6 +43,45 @@ class JsonBinderTest {
     Approvals.verify(jsonBinder.toJson(new TestException("some-message")));
   }
 
+  @Test
+  void writeCompactJsonByDefault() {
+    assertThat(
+        new JsonBinder().toJson(new TestObject().setName("some-name")),
+        is(equalTo("{\"name\":\"some-name\"}"))
+    );
+  }
+
+  @Test
+  void writeJsonToOutputStream() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    jsonBinder.writeJson(new TestObject().setName("some-name"), outputStream);
+
+    assertThat(
+        outputStream.toString(StandardCharsets.UTF_8),
+        is(equalTo(jsonBinder.toJson(new TestObject().setName("some-name"))))
+    );
+  }
+
+  @Test
+  void writeJsonArrayWithRequestedPropertiesOnly() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    new JsonBinder().writeJsonArray(
+        Stream.of(
+            new FilteredTestObject().setName("some-name").setType("some-type"),
+            new FilteredTestObject().setName("some-other-name").setType("some-other-type")
+        ),
+        Set.of("name"),
+        outputStream
+    );
+
+    assertThat(
+        outputStream.toString(StandardCharsets.UTF_8),
+        is(equalTo("[{\"name\":\"some-name\"},{\"name\":\"some-other-name\"}]"))
+    );
+  }
+
   private static class TestObject {
 
     private String name;
@@ -52,6 +96,31 @@ class JsonBinderTest {
     }
   }
 
+  @JsonFilter(JsonBinder.PROPERTY_FILTER_ID)
+  private static class FilteredTestObject {
+
+    private String name;
+    private String type;
+
+    public String getName() {
+      return name;
+    }
+
+    public FilteredTestObject setName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public FilteredTestObject setType(String type) {
+      this.type = type;
+      return this;
+    }
+  }
+
   private static class TestException
       extends
         Exception {
@@ -0,0 +1,164 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.theInstance;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.PlantModel;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link KernelStateSnapshot}.
+ */
+class KernelStateSnapshotTest {
+
+  private TCSObjectService objectService;
+  private PlantModelService plantModelService;
+  private EventSource eventSource;
+  private ServiceWebApiConfiguration configuration;
+  private KernelStateSnapshot stateSnapshot;
+  private Vehicle vehicle1;
+  private Vehicle vehicle2;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock();
+    plantModelService = mock();
+    eventSource = mock();
+    configuration = mock();
+    stateSnapshot = new KernelStateSnapshot(
+        objectService,
+        plantModelService,
+        eventSource,
+        configuration
+    );
+
+    vehicle1 = new Vehicle("vehicle-1");
+    vehicle2 = new Vehicle("vehicle-2").withProcState(Vehicle.ProcState.PROCESSING_ORDER);
+    given(objectService.fetchObjects(Vehicle.class)).willReturn(Set.of(vehicle1, vehicle2));
+  }
+
+  @Test
+  void provideObjectsByPredicate() {
+    stateSnapshot.initialize();
+
+    assertThat(
+        stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true),
+        containsInAnyOrder(vehicle1, vehicle2)
+    );
+    assertThat(
+        stateSnapshot.fetchObjects(
+            Vehicle.class,
+            vehicle -> vehicle.hasProcState(Vehicle.ProcState.PROCESSING_ORDER)
+        ),
+        containsInAnyOrder(vehicle2)
+    );
+    verify(objectService, times(1)).fetchObjects(Vehicle.class);
+  }
+
+  @Test
+  void streamObjectsSortedByNameAfterGivenName() {
+    Vehicle vehicle3 = new Vehicle("vehicle-3");
+    given(objectService.fetchObjects(Vehicle.class))
+        .willReturn(Set.of(vehicle3, vehicle1, vehicle2));
+    stateSnapshot.initialize();
+
+    assertThat(
+        stateSnapshot.streamObjects(Vehicle.class, vehicle -> true, null).toList(),
+        contains(vehicle1, vehicle2, vehicle3)
+    );
+    assertThat(
+        stateSnapshot.streamObjects(Vehicle.class, vehicle -> true, "vehicle-1").toList(),
+        contains(vehicle2, vehicle3)
+    );
+    assertThat(
+        stateSnapshot.streamObjects(
+            Vehicle.class,
+            vehicle -> !vehicle.hasProcState(Vehicle.ProcState.PROCESSING_ORDER),
+            "vehicle-0"
+        ).toList(),
+        contains(vehicle1, vehicle3)
+    );
+  }
+
+  @Test
+  void reuseSnapshotWhileKernelStateUnmodified() {
+    given(configuration.readSnapshotMaxAge()).willReturn(0);
+    stateSnapshot.initialize();
+
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+    stateSnapshot.onEvent(new Object());
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+
+    verify(objectService, times(1)).fetchObjects(Vehicle.class);
+  }
+
+  @Test
+  void refreshSnapshotWhenKernelStateModified() {
+    given(configuration.readSnapshotMaxAge()).willReturn(-1);
+    stateSnapshot.initialize();
+
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+    stateSnapshot.onEvent(objectModifiedEvent());
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+
+    verify(objectService, times(2)).fetchObjects(Vehicle.class);
+  }
+
+  @Test
+  void reuseSnapshotNotExceedingMaxAgeWhenKernelStateModified() {
+    given(configuration.readSnapshotMaxAge()).willReturn(60000);
+    stateSnapshot.initialize();
+
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+    stateSnapshot.onEvent(objectModifiedEvent());
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+
+    verify(objectService, times(1)).fetchObjects(Vehicle.class);
+  }
+
+  @Test
+  void reusePlantModelSnapshot() {
+    PlantModel plantModel = new PlantModel("some-plant-model");
+    given(plantModelService.getPlantModel()).willReturn(plantModel);
+    stateSnapshot.initialize();
+
+    assertThat(stateSnapshot.getPlantModel(), is(theInstance(plantModel)));
+    assertThat(stateSnapshot.getPlantModel(), is(theInstance(plantModel)));
+
+    verify(plantModelService, times(1)).getPlantModel();
+  }
+
+  @Test
+  void alwaysFetchObjectsWhenNotInitialized() {
+    given(configuration.readSnapshotMaxAge()).willReturn(60000);
+
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+    stateSnapshot.fetchObjects(Vehicle.class, vehicle -> true);
+
+    verify(objectService, times(2)).fetchObjects(Vehicle.class);
+  }
+
+  private TCSObjectEvent objectModifiedEvent() {
+    return new TCSObjectEvent(
+        vehicle1.withProcState(Vehicle.ProcState.AWAITING_ORDER),
+        vehicle1,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+}
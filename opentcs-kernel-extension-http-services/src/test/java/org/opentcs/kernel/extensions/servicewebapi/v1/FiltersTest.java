@@ -5,6 +5,7 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -283,4 +284,89 @@ class FiltersTest {
         is(false)
     );
   }
+
+  @Test
+  void acceptTransportOrdersWithGivenProcessingVehicleStateAndTypeOnly() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Vehicle otherVehicle = new Vehicle("some-other-vehicle");
+    TransportOrder order = new TransportOrder("some-order", List.of())
+        .withProcessingVehicle(vehicle.getReference())
+        .withState(TransportOrder.State.BEING_PROCESSED)
+        .withType("some-type");
+
+    assertThat(
+        Filters.transportOrderWithProcessingVehicle(vehicle.getReference()).test(order),
+        is(true)
+    );
+    assertThat(
+        Filters.transportOrderWithProcessingVehicle(otherVehicle.getReference()).test(order),
+        is(false)
+    );
+    assertThat(
+        Filters.transportOrderWithState(TransportOrder.State.BEING_PROCESSED).test(order),
+        is(true)
+    );
+    assertThat(
+        Filters.transportOrderWithState(TransportOrder.State.FINISHED).test(order),
+        is(false)
+    );
+    assertThat(Filters.transportOrderWithType("some-type").test(order), is(true));
+    assertThat(Filters.transportOrderWithType("some-other-type").test(order), is(false));
+    assertThat(Filters.transportOrderWithState(null).test(order), is(true));
+    assertThat(Filters.transportOrderWithType(null).test(order), is(true));
+  }
+
+  @Test
+  void acceptTransportOrdersCreatedWithinGivenTimeRangeOnly() {
+    TransportOrder order = new TransportOrder("some-order", List.of())
+        .withCreationTime(Instant.parse("2024-01-01T12:00:00Z"));
+
+    assertThat(Filters.transportOrderCreatedBetween(null, null).test(order), is(true));
+    assertThat(
+        Filters.transportOrderCreatedBetween(Instant.parse("2024-01-01T11:00:00Z"), null)
+            .test(order),
+        is(true)
+    );
+    assertThat(
+        Filters.transportOrderCreatedBetween(Instant.parse("2024-01-01T12:00:00Z"), null)
+            .test(order),
+        is(false)
+    );
+    assertThat(
+        Filters.transportOrderCreatedBetween(null, Instant.parse("2024-01-01T13:00:00Z"))
+            .test(order),
+        is(true)
+    );
+    assertThat(
+        Filters.transportOrderCreatedBetween(null, Instant.parse("2024-01-01T12:00:00Z"))
+            .test(order),
+        is(false)
+    );
+  }
+
+  @Test
+  void acceptOrderSequencesWithGivenTypeAndFinishedFlagOnly() {
+    OrderSequence sequence = new OrderSequence("some-sequence")
+        .withType("some-type")
+        .withFinished(true)
+        .withCreationTime(Instant.parse("2024-01-01T12:00:00Z"));
+
+    assertThat(Filters.orderSequenceWithType("some-type").test(sequence), is(true));
+    assertThat(Filters.orderSequenceWithType("some-other-type").test(sequence), is(false));
+    assertThat(Filters.orderSequenceWithFinished(true).test(sequence), is(true));
+    assertThat(Filters.orderSequenceWithFinished(false).test(sequence), is(false));
+    assertThat(Filters.orderSequenceWithFinished(null).test(sequence), is(true));
+    assertThat(
+        Filters.orderSequenceCreatedBetween(
+            Instant.parse("2024-01-01T11:00:00Z"),
+            Instant.parse("2024-01-01T13:00:00Z")
+        ).test(sequence),
+        is(true)
+    );
+    assertThat(
+        Filters.orderSequenceCreatedBetween(Instant.parse("2024-01-01T13:00:00Z"), null)
+            .test(sequence),
+        is(false)
+    );
+  }
 }
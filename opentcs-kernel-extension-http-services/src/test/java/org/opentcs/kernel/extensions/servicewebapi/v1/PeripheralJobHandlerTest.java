@@ -30,6 +30,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.plantmodel.PeripheralOperationTO;
@@ -46,6 +47,7 @@ class PeripheralJobHandlerTest {
   private PeripheralJobService jobService;
   private PeripheralDispatcherService jobDispatcherService;
   private KernelExecutorWrapper executorWrapper;
+  private KernelStateSnapshot stateSnapshot;
   private PeripheralJobConverter peripheralJobConverter;
 
   private PeripheralJobHandler handler;
@@ -55,12 +57,14 @@ class PeripheralJobHandlerTest {
     jobService = mock();
     jobDispatcherService = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
+    stateSnapshot = mock();
     peripheralJobConverter = new PeripheralJobConverter(new PeripheralOperationConverter());
 
     handler = new PeripheralJobHandler(
         jobService,
         jobDispatcherService,
         executorWrapper,
+        stateSnapshot,
         peripheralJobConverter
     );
   }
@@ -143,7 +147,7 @@ class PeripheralJobHandlerTest {
         )
     );
     given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
+        stateSnapshot.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
     )
         .willReturn(Set.of(job1, job2));
 
@@ -152,7 +156,7 @@ class PeripheralJobHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    then(stateSnapshot).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
   }
 
   @Test
@@ -184,7 +188,7 @@ class PeripheralJobHandlerTest {
     given(jobService.fetchObject(Vehicle.class, "some-vehicle"))
         .willReturn(vehicle);
     given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
+        stateSnapshot.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
     )
         .willReturn(Set.of(job1, job2));
 
@@ -192,7 +196,7 @@ class PeripheralJobHandlerTest {
     List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs("some-vehicle", null);
 
     assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    then(stateSnapshot).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -228,7 +232,7 @@ class PeripheralJobHandlerTest {
     given(jobService.fetchObject(TransportOrder.class, "some-order"))
         .willReturn(transportOrder);
     given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
+        stateSnapshot.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
     )
         .willReturn(Set.of(job1, job2));
 
@@ -236,7 +240,7 @@ class PeripheralJobHandlerTest {
     List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs(null, "some-order");
 
     assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    then(stateSnapshot).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
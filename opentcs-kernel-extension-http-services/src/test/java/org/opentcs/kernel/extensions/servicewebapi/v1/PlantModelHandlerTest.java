@@ -26,6 +26,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.visualization.VisualLayout;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.plantmodel.BlockTO;
@@ -56,6 +57,7 @@ class PlantModelHandlerTest {
 
   private PlantModelService orderService;
   private KernelExecutorWrapper executorWrapper;
+  private KernelStateSnapshot stateSnapshot;
   private PlantModelHandler handler;
   private RouterService routerService;
 
@@ -63,6 +65,7 @@ class PlantModelHandlerTest {
   void setUp() {
     orderService = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
+    stateSnapshot = mock();
     EnvelopeConverter envelopeConverter = new EnvelopeConverter();
     PropertyConverter propertyConverter = new PropertyConverter();
     AcceptableOrderTypeConverter orderTypeConverter = new AcceptableOrderTypeConverter();
@@ -71,6 +74,7 @@ class PlantModelHandlerTest {
     handler = new PlantModelHandler(
         orderService,
         executorWrapper,
+        stateSnapshot,
         new PointConverter(propertyConverter, envelopeConverter),
         new PathConverter(
             propertyConverter,
@@ -209,14 +213,14 @@ class PlantModelHandlerTest {
             .withProperties(
                 Map.of("some-key", "some-value")
             );
-    given(orderService.getPlantModel())
+    given(stateSnapshot.getPlantModel())
         .willReturn(plantModel);
 
     // Act
     PlantModelTO to = handler.getPlantModel();
 
     // Assert
-    then(orderService).should().getPlantModel();
+    then(stateSnapshot).should().getPlantModel();
     assertThat(to)
         .returns("some-plant-model", PlantModelTO::getName);
     assertThat(to.getPoints()).hasSize(2);
@@ -0,0 +1,167 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.javalin.http.sse.SseClient;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link SseConnection}.
+ */
+class SseConnectionTest {
+
+  private SseClient client;
+  private Queue<Runnable> senderTasks;
+  private SseConnection connection;
+
+  @BeforeEach
+  void setUp() {
+    client = mock();
+    senderTasks = new ArrayDeque<>();
+    connection = new SseConnection(
+        client,
+        Set.of(SseConstants.EVENT_TYPE_VEHICLES),
+        senderTasks::add
+    );
+  }
+
+  @Test
+  void sendQueuedEventsInOrder() {
+    connection.enqueue(modification(1, "vehicle-1"), 10);
+    connection.enqueue(modification(2, "vehicle-2"), 10);
+    runSenderTasks();
+
+    InOrder inOrder = inOrder(client);
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-1", "1");
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-2", "2");
+    assertThat(connection.getLastSentEventId(), is(2L));
+    assertThat(connection.getQueuedEventCount(), is(0));
+  }
+
+  @Test
+  void replaceQueuedModificationsOfSameObject() {
+    connection.enqueue(modification(1, "vehicle-1"), 10);
+    connection.enqueue(modification(2, "vehicle-2"), 10);
+    connection.enqueue(modification(3, "vehicle-1"), 10);
+
+    assertThat(connection.getQueuedEventCount(), is(2));
+    assertThat(connection.getConflatedEventCount(), is(1L));
+
+    runSenderTasks();
+
+    InOrder inOrder = inOrder(client);
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-2", "2");
+    inOrder.verify(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-3", "3");
+    verify(client, never()).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-1", "1");
+  }
+
+  @Test
+  void keepQueuedCreationsAndRemovals() {
+    connection.enqueue(creationOrRemoval(1, "vehicle-1"), 10);
+    connection.enqueue(modification(2, "vehicle-1"), 10);
+    connection.enqueue(creationOrRemoval(3, "vehicle-1"), 10);
+
+    assertThat(connection.getQueuedEventCount(), is(3));
+    assertThat(connection.getConflatedEventCount(), is(0L));
+  }
+
+  @Test
+  void closeConnectionWhenCapacityExceeded() {
+    connection.enqueue(modification(1, "vehicle-1"), 2);
+    connection.enqueue(modification(2, "vehicle-2"), 2);
+    connection.enqueue(modification(3, "vehicle-3"), 2);
+    runSenderTasks();
+
+    verify(client).close();
+    verify(client, never()).sendEvent(anyString(), any(), anyString());
+    assertThat(connection.getQueuedEventCount(), is(0));
+  }
+
+  @Test
+  void closeConnectionWhenSendingFails() {
+    willThrow(new IllegalStateException("Connection reset"))
+        .given(client).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-1", "1");
+
+    connection.enqueue(modification(1, "vehicle-1"), 10);
+    connection.enqueue(modification(2, "vehicle-2"), 10);
+    runSenderTasks();
+
+    verify(client).close();
+    verify(client, never()).sendEvent(SseConstants.EVENT_TYPE_VEHICLES, "data-2", "2");
+  }
+
+  @Test
+  void sendEventsWithoutId() {
+    connection.enqueue(modification(1, "vehicle-1"), 10);
+    connection.enqueue(
+        new SseEvent(
+            SseEvent.NO_ID,
+            SseConstants.EVENT_TYPE_RESYNC_REQUIRED,
+            "",
+            false,
+            () -> "resync-data",
+            2
+        ),
+        10
+    );
+    runSenderTasks();
+
+    verify(client).sendEvent(SseConstants.EVENT_TYPE_RESYNC_REQUIRED, "resync-data", null);
+    assertThat(connection.getLastSentEventId(), is(1L));
+  }
+
+  @Test
+  void reportAgeOfOldestQueuedEventAsLag() {
+    connection.enqueue(modification(1, "vehicle-1"), 10);
+    connection.enqueue(modification(2, "vehicle-2"), 10);
+
+    assertThat(connection.getLag(1500), is(1499L));
+
+    runSenderTasks();
+
+    assertThat(connection.getLag(1500), is(0L));
+  }
+
+  private void runSenderTasks() {
+    while (!senderTasks.isEmpty()) {
+      senderTasks.poll().run();
+    }
+  }
+
+  private SseEvent modification(long id, String objectName) {
+    return new SseEvent(
+        id,
+        SseConstants.EVENT_TYPE_VEHICLES,
+        objectName,
+        true,
+        () -> "data-" + id,
+        id
+    );
+  }
+
+  private SseEvent creationOrRemoval(long id, String objectName) {
+    return new SseEvent(
+        id,
+        SseConstants.EVENT_TYPE_VEHICLES,
+        objectName,
+        false,
+        () -> "data-" + id,
+        id
+    );
+  }
+}
@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SseEventBuffer}.
+ */
+class SseEventBufferTest {
+
+  @Test
+  void provideEventsAfterGivenId() {
+    SseEventBuffer buffer = new SseEventBuffer(5);
+    SseEvent event1 = event(1);
+    SseEvent event2 = event(2);
+    SseEvent event3 = event(3);
+    buffer.add(event1);
+    buffer.add(event2);
+    buffer.add(event3);
+
+    assertThat(buffer.getEventsAfter(0), contains(event1, event2, event3));
+    assertThat(buffer.getEventsAfter(2), contains(event3));
+    assertThat(buffer.getEventsAfter(3), is(empty()));
+  }
+
+  @Test
+  void overwriteOldestEventsWhenFull() {
+    SseEventBuffer buffer = new SseEventBuffer(3);
+    for (long id = 1; id <= 5; id++) {
+      buffer.add(event(id));
+    }
+
+    assertThat(buffer.getEventsAfter(1), is(nullValue()));
+    assertThat(buffer.getEventsAfter(2).stream().map(SseEvent::id).toList(), contains(3L, 4L, 5L));
+    assertThat(buffer.getEventsAfter(4).stream().map(SseEvent::id).toList(), contains(5L));
+  }
+
+  @Test
+  void provideNoEventsForUnknownIds() {
+    SseEventBuffer buffer = new SseEventBuffer(3);
+
+    assertThat(buffer.getEventsAfter(1), is(nullValue()));
+
+    buffer.add(event(10));
+
+    assertThat(buffer.getEventsAfter(8), is(nullValue()));
+    assertThat(buffer.getEventsAfter(11), is(nullValue()));
+  }
+
+  @Test
+  void bufferNoEventsWithZeroCapacity() {
+    SseEventBuffer buffer = new SseEventBuffer(0);
+    buffer.add(event(1));
+
+    assertThat(buffer.getEventsAfter(0), is(nullValue()));
+  }
+
+  private SseEvent event(long id) {
+    return new SseEvent(
+        id,
+        SseConstants.EVENT_TYPE_VEHICLES,
+        "vehicle-" + id,
+        true,
+        () -> "data-" + id,
+        id
+    );
+  }
+}
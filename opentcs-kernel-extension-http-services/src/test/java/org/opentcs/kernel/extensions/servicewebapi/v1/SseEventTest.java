@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SseEvent}.
+ */
+class SseEventTest {
+
+  @Test
+  void encodeDataOnlyWhenRequested() {
+    AtomicInteger encodingCount = new AtomicInteger();
+
+    SseEvent event = event(() -> "data-" + encodingCount.incrementAndGet());
+
+    assertThat(encodingCount.get(), is(0));
+    assertThat(event.data(), is("data-1"));
+  }
+
+  @Test
+  void encodeDataOnlyOnce() {
+    AtomicInteger encodingCount = new AtomicInteger();
+    SseEvent event = event(() -> "data-" + encodingCount.incrementAndGet());
+
+    assertThat(event.data(), is("data-1"));
+    assertThat(event.data(), is("data-1"));
+    assertThat(encodingCount.get(), is(1));
+  }
+
+  private SseEvent event(Supplier<String> dataEncoder) {
+    return new SseEvent(
+        1,
+        SseConstants.EVENT_TYPE_VEHICLES,
+        "vehicle-1",
+        true,
+        dataEncoder,
+        1
+    );
+  }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -33,6 +34,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
@@ -49,6 +51,7 @@ class TransportOrderHandlerTest {
 
   private TransportOrderService orderService;
   private KernelExecutorWrapper executorWrapper;
+  private KernelStateSnapshot stateSnapshot;
   private TransportOrderHandler handler;
   private OrderSequenceConverter orderSequenceConverter;
   private TransportOrderConverter transportOrderConverter;
@@ -57,11 +60,16 @@ class TransportOrderHandlerTest {
   void setUp() {
     orderService = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
+    stateSnapshot = mock();
     orderSequenceConverter = new OrderSequenceConverter();
     transportOrderConverter = new TransportOrderConverter();
 
     handler = new TransportOrderHandler(
-        orderService, executorWrapper, orderSequenceConverter, transportOrderConverter
+        orderService,
+        executorWrapper,
+        stateSnapshot,
+        orderSequenceConverter,
+        transportOrderConverter
     );
   }
 
@@ -167,16 +175,18 @@ class TransportOrderHandlerTest {
     TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
     given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
+        stateSnapshot.streamObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any(), any())
     )
-        .willReturn(Set.of(transportOrder1, transportOrder2));
+        .willAnswer(invocation -> Stream.of(transportOrder1, transportOrder2));
 
     // Act
-    List<GetTransportOrderResponseTO> result = handler.getTransportOrders(null);
+    List<GetTransportOrderResponseTO> result
+        = handler.getTransportOrders(null, null, null, null, null, null, PageRequest.ALL).toList();
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    then(stateSnapshot).should()
+        .streamObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any(), any());
   }
 
   @Test
@@ -191,18 +201,96 @@ class TransportOrderHandlerTest {
     )
         .willReturn(vehicle);
     given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
+        stateSnapshot.streamObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any(), any())
     )
-        .willReturn(Set.of(transportOrder1, transportOrder2));
+        .willAnswer(invocation -> Stream.of(transportOrder1, transportOrder2));
 
     // Act & Assert: happy path
-    List<GetTransportOrderResponseTO> result = handler.getTransportOrders("some-vehicle");
+    List<GetTransportOrderResponseTO> result = handler.getTransportOrders(
+        "some-vehicle",
+        null,
+        null,
+        null,
+        null,
+        null,
+        PageRequest.ALL
+    ).toList();
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    then(stateSnapshot).should()
+        .streamObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any(), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getTransportOrders("some-other-vehicle"));
+        .isThrownBy(
+            () -> handler.getTransportOrders(
+                "some-other-vehicle",
+                null,
+                null,
+                null,
+                null,
+                null,
+                PageRequest.ALL
+            )
+        );
+  }
+
+  @Test
+  void retrieveTransportOrdersPage() {
+    // Arrange
+    TransportOrder transportOrder1 = new TransportOrder("some-order-2", List.of());
+    TransportOrder transportOrder2 = new TransportOrder("some-order-3", List.of());
+
+    given(
+        stateSnapshot.streamObjects(
+            ArgumentMatchers.<Class<TransportOrder>>any(),
+            any(),
+            ArgumentMatchers.eq("some-order-1")
+        )
+    )
+        .willAnswer(invocation -> Stream.of(transportOrder1, transportOrder2));
+
+    // Act
+    List<GetTransportOrderResponseTO> result = handler.getTransportOrders(
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new PageRequest("some-order-1", 1)
+    ).toList();
+
+    // Assert
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0).getName(), is("some-order-2"));
+  }
+
+  @Test
+  void throwOnRetrieveTransportOrdersWithMalformedFilterParameters() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(
+            () -> handler.getTransportOrders(
+                null,
+                null,
+                "some-unknown-state",
+                null,
+                null,
+                null,
+                PageRequest.ALL
+            )
+        );
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(
+            () -> handler.getTransportOrders(
+                null,
+                null,
+                null,
+                null,
+                "some-malformed-time",
+                null,
+                PageRequest.ALL
+            )
+        );
   }
 
   @Test
@@ -288,16 +376,18 @@ class TransportOrderHandlerTest {
     OrderSequence sequence2 = new OrderSequence("some-sequence-2");
 
     given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any())
+        stateSnapshot.streamObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any(), any())
     )
-        .willReturn(Set.of(sequence1, sequence2));
+        .willAnswer(invocation -> Stream.of(sequence1, sequence2));
 
     // Act
-    List<GetOrderSequenceResponseTO> result = handler.getOrderSequences(null);
+    List<GetOrderSequenceResponseTO> result
+        = handler.getOrderSequences(null, null, null, null, null, PageRequest.ALL).toList();
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any());
+    then(stateSnapshot).should()
+        .streamObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any(), any());
   }
 
   @Test
@@ -312,18 +402,35 @@ class TransportOrderHandlerTest {
     )
         .willReturn(vehicle);
     given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any())
+        stateSnapshot.streamObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any(), any())
     )
-        .willReturn(Set.of(sequence1, sequence2));
+        .willAnswer(invocation -> Stream.of(sequence1, sequence2));
 
     // Act & Assert: happy path
-    List<GetOrderSequenceResponseTO> result = handler.getOrderSequences("some-vehicle");
+    List<GetOrderSequenceResponseTO> result = handler.getOrderSequences(
+        "some-vehicle",
+        null,
+        null,
+        null,
+        null,
+        PageRequest.ALL
+    ).toList();
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any());
+    then(stateSnapshot).should()
+        .streamObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any(), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getOrderSequences("some-other-vehicle"));
+        .isThrownBy(
+            () -> handler.getOrderSequences(
+                "some-other-vehicle",
+                null,
+                null,
+                null,
+                null,
+                PageRequest.ALL
+            )
+        );
   }
 
   @Test
@@ -37,6 +37,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterDescription;
 import org.opentcs.drivers.vehicle.management.VehicleAttachmentInformation;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelStateSnapshot;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAcceptableOrderTypesTO;
@@ -53,6 +54,7 @@ class VehicleHandlerTest {
   private RouterService routerService;
   private VehicleConverter vehicleConverter;
   private KernelExecutorWrapper executorWrapper;
+  private KernelStateSnapshot stateSnapshot;
 
   private VehicleHandler handler;
 
@@ -66,8 +68,15 @@ class VehicleHandlerTest {
     routerService = mock();
     vehicleConverter = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
-
-    handler = new VehicleHandler(vehicleService, routerService, executorWrapper, vehicleConverter);
+    stateSnapshot = mock();
+
+    handler = new VehicleHandler(
+        vehicleService,
+        routerService,
+        executorWrapper,
+        stateSnapshot,
+        vehicleConverter
+    );
 
     vehicle = new Vehicle("some-vehicle");
     adapterDescriptionMock = new MockVehicleCommAdapterDescription();
@@ -161,13 +170,13 @@ class VehicleHandlerTest {
   void retrieveVehiclesByProcState(Vehicle.ProcState procState) {
     // Arrange
     Vehicle vehicleWithProcState = vehicle.withProcState(procState);
-    given(vehicleService.fetchObjects(ArgumentMatchers.<Class<Vehicle>>any(), any()))
+    given(stateSnapshot.fetchObjects(ArgumentMatchers.<Class<Vehicle>>any(), any()))
         .willReturn(Set.of(vehicleWithProcState));
 
     // Act & Assert
     List<GetVehicleResponseTO> result = handler.getVehiclesState(procState.name());
     MatcherAssert.assertThat(result, hasSize(1));
-    then(vehicleService).should().fetchObjects(ArgumentMatchers.<Class<Vehicle>>any(), any());
+    then(stateSnapshot).should().fetchObjects(ArgumentMatchers.<Class<Vehicle>>any(), any());
   }
 
   @Test
@@ -181,6 +190,8 @@ class VehicleHandlerTest {
     when(vehicleConverter.toGetVehicleResponseTO(any(Vehicle.class))).thenReturn(
         new GetVehicleResponseTO()
     );
+    given(vehicleService.fetchObject(Vehicle.class, "some-vehicle"))
+        .willReturn(vehicle);
 
     // Act & Assert: happy path
     GetVehicleResponseTO result = handler.getVehicleStateByName("some-vehicle");
@@ -31,7 +31,7 @@ class GetEventsResponseTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @ParameterizedTest
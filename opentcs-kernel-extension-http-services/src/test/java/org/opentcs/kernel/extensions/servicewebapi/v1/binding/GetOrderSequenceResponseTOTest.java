@@ -18,7 +18,7 @@ class GetOrderSequenceResponseTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
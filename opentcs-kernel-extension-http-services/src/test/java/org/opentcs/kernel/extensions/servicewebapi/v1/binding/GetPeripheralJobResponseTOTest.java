@@ -22,7 +22,7 @@ class GetPeripheralJobResponseTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
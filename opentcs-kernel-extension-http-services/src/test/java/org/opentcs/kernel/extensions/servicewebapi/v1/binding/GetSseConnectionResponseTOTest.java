@@ -0,0 +1,37 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.util.List;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+
+/**
+ * Unit tests for {@link GetSseConnectionResponseTO}.
+ */
+class GetSseConnectionResponseTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder(true);
+  }
+
+  @Test
+  void jsonSample() {
+    GetSseConnectionResponseTO to
+        = new GetSseConnectionResponseTO()
+            .setClientAddress("192.168.0.10:51234")
+            .setEventTypes(List.of("/events/transportOrders", "/events/vehicles"))
+            .setLastSentEventId(4711)
+            .setQueuedEvents(3)
+            .setConflatedEvents(12)
+            .setLag(250);
+
+    Approvals.verify(jsonBinder.toJson(to));
+  }
+
+}
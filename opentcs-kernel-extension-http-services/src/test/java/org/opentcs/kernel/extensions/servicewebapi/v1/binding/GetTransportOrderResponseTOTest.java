@@ -19,7 +19,7 @@ class GetTransportOrderResponseTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
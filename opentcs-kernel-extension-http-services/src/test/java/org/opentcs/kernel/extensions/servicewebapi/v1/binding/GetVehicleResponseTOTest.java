@@ -25,7 +25,7 @@ class GetVehicleResponseTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @ParameterizedTest
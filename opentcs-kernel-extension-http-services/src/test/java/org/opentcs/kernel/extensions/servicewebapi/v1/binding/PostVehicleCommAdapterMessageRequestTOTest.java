@@ -18,7 +18,7 @@ class PostVehicleCommAdapterMessageRequestTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
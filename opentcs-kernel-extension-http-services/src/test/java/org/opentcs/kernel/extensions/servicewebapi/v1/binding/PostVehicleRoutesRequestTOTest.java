@@ -17,7 +17,7 @@ class PostVehicleRoutesRequestTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
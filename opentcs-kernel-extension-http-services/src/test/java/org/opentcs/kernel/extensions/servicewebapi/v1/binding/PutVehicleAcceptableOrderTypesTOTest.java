@@ -18,7 +18,7 @@ class PutVehicleAcceptableOrderTypesTOTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
   }
 
   @Test
@@ -0,0 +1,26 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse;
+
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+
+/**
+ * Tests for {@link ResyncRequiredEventTO}.
+ */
+class ResyncRequiredEventTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder(true);
+  }
+
+  @Test
+  void jsonSample() {
+    Approvals.verify(jsonBinder.toJson(new ResyncRequiredEventTO("1760000000000123")));
+  }
+}
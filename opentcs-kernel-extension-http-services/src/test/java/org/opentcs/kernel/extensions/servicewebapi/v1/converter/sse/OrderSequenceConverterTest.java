@@ -33,7 +33,7 @@ class OrderSequenceConverterTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
     converter = new OrderSequenceConverter();
   }
 
@@ -39,7 +39,7 @@ class PeripheralJobConverterTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
     converter = new PeripheralJobConverter();
   }
 
@@ -45,7 +45,7 @@ class TransportOrderConverterTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
     converter = new TransportOrderConverter();
   }
 
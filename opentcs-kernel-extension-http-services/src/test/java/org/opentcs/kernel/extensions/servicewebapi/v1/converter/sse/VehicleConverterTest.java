@@ -42,7 +42,7 @@ class VehicleConverterTest {
 
   @BeforeEach
   void setUp() {
-    jsonBinder = new JsonBinder();
+    jsonBinder = new JsonBinder(true);
     converter = new VehicleConverter();
   }
 
@@ -8,6 +8,7 @@ import jakarta.inject.Singleton;
 import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
@@ -36,6 +37,7 @@ import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
@@ -78,6 +80,7 @@ import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.PartitionedEventBus;
 import org.opentcs.util.event.SimpleEventBus;
 import org.opentcs.util.logging.UncaughtExceptionLogger;
 
@@ -238,7 +241,28 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(
+            KernelApplicationConfiguration.PREFIX,
+            KernelApplicationConfiguration.class
+        );
+    EventBus newEventBus = switch (configuration.eventBusType()) {
+      case PARTITIONED -> new PartitionedEventBus(
+          Executors.newFixedThreadPool(
+              configuration.eventBusThreadCount(),
+              runnable -> {
+                Thread thread = new Thread(runnable, "eventBusExecutor");
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+                return thread;
+              }
+          ),
+          event -> event instanceof TCSObjectEvent objectEvent
+              ? objectEvent.getCurrentOrPreviousObjectState().getName()
+              : null
+      );
+      case SIMPLE -> new SimpleEventBus();
+    };
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -268,6 +292,8 @@ public class DefaultKernelInjectionModule
 
     bind(CreationTimeThreshold.class)
         .in(Singleton.class);
+    bind(DispatchRequestScheduler.class)
+        .in(Singleton.class);
 
     transportOrderCleanupApprovalBinder();
     orderSequenceCleanupApprovalBinder();
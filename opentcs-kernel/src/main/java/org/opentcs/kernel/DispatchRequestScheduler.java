@@ -0,0 +1,262 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules dispatch runs on the kernel executor on request, coalescing requests.
+ * <p>
+ * At most one dispatch run is queued at any time. Requests arriving while a run is already queued
+ * are merged into that run. Additionally, successive runs are started at least
+ * {@link KernelApplicationConfiguration#dispatchMinInterval()} milliseconds apart, so that bursts
+ * of requests (e.g. from many vehicles finishing their drive orders at the same time) result in a
+ * single dispatch run.
+ * </p>
+ */
+public class DispatchRequestScheduler
+    implements
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchRequestScheduler.class);
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The dispatcher service.
+   */
+  private final DispatcherService dispatcher;
+  /**
+   * The app configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
+  /**
+   * The number of dispatch runs requested.
+   */
+  private final AtomicLong requestedCount = new AtomicLong();
+  /**
+   * The number of requests merged into an already queued dispatch run.
+   */
+  private final AtomicLong coalescedCount = new AtomicLong();
+  /**
+   * The number of dispatch runs executed.
+   */
+  private final AtomicLong executedCount = new AtomicLong();
+  /**
+   * The accumulated duration of all dispatch runs (in ns).
+   */
+  private final AtomicLong totalRunDuration = new AtomicLong();
+  /**
+   * The duration of the longest dispatch run (in ns).
+   */
+  private final AtomicLong maxRunDuration = new AtomicLong();
+  /**
+   * The currently queued dispatch run, or <code>null</code>, if there is none.
+   * Guarded by <code>this</code>.
+   */
+  private ScheduledFuture<?> queuedRun;
+  /**
+   * Whether a dispatch run is queued.
+   * Guarded by <code>this</code>.
+   */
+  private boolean runQueued;
+  /**
+   * The time (according to {@link System#nanoTime()}) the last dispatch run was started at.
+   * Guarded by <code>this</code>.
+   */
+  private long lastRunStart;
+  /**
+   * Whether any dispatch run has been started, yet.
+   * Guarded by <code>this</code>.
+   */
+  private boolean runStarted;
+  /**
+   * This instance's <em>initialized</em> flag.
+   */
+  private volatile boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor to schedule dispatch runs on.
+   * @param dispatcher The dispatcher service.
+   * @param configuration The application configuration.
+   */
+  @Inject
+  public DispatchRequestScheduler(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      DispatcherService dispatcher,
+      KernelApplicationConfiguration configuration
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+    initialized = false;
+    synchronized (this) {
+      if (queuedRun != null) {
+        queuedRun.cancel(false);
+        queuedRun = null;
+      }
+      runQueued = false;
+    }
+    LOG.debug(
+        "Dispatch requests: {} requested, {} coalesced, {} executed, {} ms total run duration.",
+        getRequestedCount(),
+        getCoalescedCount(),
+        getExecutedCount(),
+        getTotalRunDuration()
+    );
+  }
+
+  /**
+   * Requests a dispatch run.
+   * <p>
+   * If a dispatch run is already queued, the request is merged into it. Otherwise, a new dispatch
+   * run is queued on the kernel executor, delayed as necessary to respect the configured minimum
+   * interval between dispatch runs.
+   * </p>
+   */
+  public void requestDispatch() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    requestedCount.incrementAndGet();
+
+    synchronized (this) {
+      if (runQueued) {
+        coalescedCount.incrementAndGet();
+        return;
+      }
+      runQueued = true;
+      queuedRun = kernelExecutor.schedule(
+          this::executeDispatchRun,
+          computeDelay(),
+          TimeUnit.MILLISECONDS
+      );
+    }
+  }
+
+  /**
+   * Returns the number of dispatch runs requested.
+   *
+   * @return The number of dispatch runs requested.
+   */
+  public long getRequestedCount() {
+    return requestedCount.get();
+  }
+
+  /**
+   * Returns the number of requests that were merged into an already queued dispatch run.
+   *
+   * @return The number of requests that were merged into an already queued dispatch run.
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  /**
+   * Returns the number of dispatch runs executed.
+   *
+   * @return The number of dispatch runs executed.
+   */
+  public long getExecutedCount() {
+    return executedCount.get();
+  }
+
+  /**
+   * Returns the accumulated duration of all executed dispatch runs (in ms).
+   *
+   * @return The accumulated duration of all executed dispatch runs (in ms).
+   */
+  public long getTotalRunDuration() {
+    return TimeUnit.NANOSECONDS.toMillis(totalRunDuration.get());
+  }
+
+  /**
+   * Returns the duration of the longest executed dispatch run (in ms).
+   *
+   * @return The duration of the longest executed dispatch run (in ms).
+   */
+  public long getMaxRunDuration() {
+    return TimeUnit.NANOSECONDS.toMillis(maxRunDuration.get());
+  }
+
+  private long computeDelay() {
+    long minInterval = configuration.dispatchMinInterval();
+    if (minInterval <= 0 || !runStarted) {
+      return 0;
+    }
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastRunStart);
+    return Math.max(0, minInterval - elapsed);
+  }
+
+  private void executeDispatchRun() {
+    long start = System.nanoTime();
+    synchronized (this) {
+      // Requests arriving from now on may be caused by changes this run has not seen, yet, so they
+      // need to result in another run.
+      runQueued = false;
+      queuedRun = null;
+      runStarted = true;
+      lastRunStart = start;
+    }
+
+    if (!isInitialized()) {
+      return;
+    }
+
+    try {
+      dispatcher.dispatch();
+    }
+    finally {
+      long duration = System.nanoTime() - start;
+      executedCount.incrementAndGet();
+      totalRunDuration.addAndGet(duration);
+      maxRunDuration.accumulateAndGet(duration, Math::max);
+      LOG.debug(
+          "Dispatch run took {} ms ({} requested, {} coalesced, {} executed so far).",
+          TimeUnit.NANOSECONDS.toMillis(duration),
+          getRequestedCount(),
+          getCoalescedCount(),
+          getExecutedCount()
+      );
+    }
+  }
+}
@@ -92,6 +92,44 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The type of the kernel's application event bus.",
+          "Possible values:",
+          "SIMPLE: Events are delivered to all handlers synchronously, on the emitting thread.",
+          "PARTITIONED: Events are delivered to handlers that declare asynchronous delivery via "
+              + "bounded, partitioned queues on a separate thread pool. All other handlers still "
+              + "receive events synchronously."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "6_event_bus_1"
+  )
+  EventBusType eventBusType();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of threads used for asynchronous delivery of events with the "
+          + "PARTITIONED event bus.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "6_event_bus_2"
+  )
+  int eventBusThreadCount();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The minimum time (in ms) between the starts of two dispatch runs triggered by vehicle "
+              + "state changes.",
+          "Requests for dispatch runs are always coalesced into at most one queued run. With a "
+              + "value greater than 0, requests arriving within this interval after the start of "
+              + "the previous run are additionally delayed and merged into a single run."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7_dispatch_trigger_1"
+  )
+  long dispatchMinInterval();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
@@ -118,4 +156,19 @@ public interface KernelApplicationConfiguration {
      */
     LENGTH_RESPECTED;
   }
+
+  /**
+   * Defines the available types of the kernel's application event bus.
+   */
+  enum EventBusType {
+    /**
+     * Events are delivered to all handlers synchronously, on the emitting thread.
+     */
+    SIMPLE,
+    /**
+     * Events are delivered to handlers that declare asynchronous delivery via bounded, partitioned
+     * queues on a separate thread pool.
+     */
+    PARTITIONED;
+  }
 }
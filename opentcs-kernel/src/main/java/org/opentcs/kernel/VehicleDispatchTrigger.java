@@ -5,11 +5,9 @@ package org.opentcs.kernel;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.concurrent.Executor;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
@@ -43,9 +41,9 @@ public class VehicleDispatchTrigger
    */
   private final KernelApplicationConfiguration configuration;
   /**
-   * The kernel executor.
+   * Schedules dispatch runs.
    */
-  private final Executor kernelExecutor;
+  private final DispatchRequestScheduler dispatchRequestScheduler;
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -54,21 +52,21 @@ public class VehicleDispatchTrigger
   /**
    * Creates a new instance.
    *
-   * @param kernelExecutor The kernel executor to use.
+   * @param dispatchRequestScheduler Schedules dispatch runs.
    * @param eventBus The event bus.
    * @param dispatcher The dispatcher in use.
    * @param configuration The application configuration.
    */
   @Inject
   public VehicleDispatchTrigger(
-      @KernelExecutor
-      Executor kernelExecutor,
+      DispatchRequestScheduler dispatchRequestScheduler,
       @ApplicationEventBus
       EventBus eventBus,
       DispatcherService dispatcher,
       KernelApplicationConfiguration configuration
   ) {
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatchRequestScheduler
+        = requireNonNull(dispatchRequestScheduler, "dispatchRequestScheduler");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
     this.configuration = requireNonNull(configuration, "configuration");
@@ -79,6 +77,7 @@ public class VehicleDispatchTrigger
     if (isInitialized()) {
       return;
     }
+    dispatchRequestScheduler.initialize();
     initialized = true;
     eventBus.subscribe(this);
   }
@@ -95,6 +94,7 @@ public class VehicleDispatchTrigger
     }
     initialized = false;
     eventBus.unsubscribe(this);
+    dispatchRequestScheduler.terminate();
   }
 
   @Override
@@ -127,8 +127,9 @@ public class VehicleDispatchTrigger
       // Dispatching may result in changes to the vehicle and thus trigger this code, which would
       // then lead to a second dispatch run before the first one is completed. To avoid this, we
       // ensure dispatching is done at some later point by scheduling it to be executed on the
-      // kernel executor (so it does not trigger itself in a loop).
-      kernelExecutor.execute(() -> dispatcher.dispatch());
+      // kernel executor (so it does not trigger itself in a loop). Requests for the same run are
+      // coalesced by the scheduler.
+      dispatchRequestScheduler.requestDispatch();
     }
   }
 
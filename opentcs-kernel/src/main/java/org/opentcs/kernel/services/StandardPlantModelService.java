@@ -113,6 +113,15 @@ public class StandardPlantModelService
     }
   }
 
+  @Override
+  public Set<Block> fetchBlocksContaining(TCSResourceReference<?> resource) {
+    requireNonNull(resource, "resource");
+
+    synchronized (globalSyncObject) {
+      return plantModelManager.getBlocksContaining(resource);
+    }
+  }
+
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
@@ -7,7 +7,6 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -21,6 +20,10 @@ import org.opentcs.kernel.workingset.TCSObjectRepository;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * Objects are fetched from the latest snapshot published by the object repository, i.e. without
+ * synchronizing on the kernel's global synchronization object. Modifications are synchronized.
+ * </p>
  */
 public class StandardTCSObjectService
     implements
@@ -56,32 +59,21 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, ref);
-    }
+    return getObjectRepo().getSnapshot().getObjectOrNull(clazz, ref);
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, name);
-    }
+    return getObjectRepo().getSnapshot().getObjectOrNull(clazz, name);
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getObjectRepo().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(object);
-      }
-      return copies;
-    }
+    return getObjectRepo().getSnapshot().getObjects(clazz);
   }
 
   @Override
@@ -94,9 +86,7 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjects(clazz, predicate);
-    }
+    return getObjectRepo().getSnapshot().getObjects(clazz, predicate);
   }
 
   @Override
@@ -5,7 +5,7 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
+import java.util.Set;
 import org.opentcs.components.kernel.TransportOrderCleanupApproval;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
@@ -65,11 +65,7 @@ public class DefaultTransportOrderCleanupApproval
   }
 
   private boolean isRelatedToJobWithNonFinalState(TransportOrder order) {
-    return peripheralJobPoolManager.getObjectRepo()
-        .getObjects(
-            PeripheralJob.class,
-            job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-        )
+    return getRelatedJobs(order)
         .stream()
         .filter(job -> !job.getState().isFinalState())
         .findAny()
@@ -77,11 +73,15 @@ public class DefaultTransportOrderCleanupApproval
   }
 
   private boolean isRelatedToUnapprovedJob(TransportOrder order) {
-    return !(peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-    )
+    return !(getRelatedJobs(order)
         .stream()
         .allMatch(defaultPeripheralJobCleanupApproval));
   }
+
+  private Set<PeripheralJob> getRelatedJobs(TransportOrder order) {
+    return peripheralJobPoolManager.getObjectRepo().getObjects(
+        TCSObjectIndexes.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+        order.getReference()
+    );
+  }
 }
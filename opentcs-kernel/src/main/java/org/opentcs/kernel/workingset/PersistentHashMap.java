@@ -0,0 +1,420 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * An immutable, persistent hash map implemented as a hash array mapped trie.
+ * <p>
+ * Modifying operations do not change the map they are called on but return a new map that shares
+ * all unmodified parts of its structure with the original one. A modification thus only costs a
+ * number of node copies logarithmic (to the base of 32) in the size of the map, and any number of
+ * threads may read any version of the map concurrently without synchronization.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class PersistentHashMap<K, V> {
+
+  /**
+   * The number of hash bits consumed per trie level.
+   */
+  private static final int BITS_PER_LEVEL = 5;
+  /**
+   * The mask for extracting the hash bits of one trie level.
+   */
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+  /**
+   * The empty map.
+   */
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+  /**
+   * The root node, or <code>null</code>, if this map is empty.
+   */
+  private final Node root;
+  /**
+   * The number of entries in this map.
+   */
+  private final int size;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the empty map.
+   *
+   * @param <K> The type of the keys.
+   * @param <V> The type of the values.
+   * @return The empty map.
+   */
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns the number of entries in this map.
+   *
+   * @return The number of entries in this map.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the value mapped to the given key.
+   *
+   * @param key The key.
+   * @return The value mapped to the given key, or <code>null</code>, if there is none.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  V get(
+      @Nonnull
+      Object key
+  ) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return null;
+    }
+    return (V) root.get(key, hash(key), 0);
+  }
+
+  /**
+   * Returns a map containing the entries of this one plus the given mapping.
+   * An existing mapping for the given key is replaced.
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return A map containing the entries of this one plus the given mapping.
+   */
+  @Nonnull
+  PersistentHashMap<K, V> plus(
+      @Nonnull
+      K key,
+      @Nonnull
+      V value
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+
+    Leaf leaf = new Leaf(hash(key), key, value);
+    if (root == null) {
+      return new PersistentHashMap<>(leaf, 1);
+    }
+    boolean[] added = new boolean[1];
+    Node newRoot = root.put(leaf, 0, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map containing the entries of this one except for the mapping for the given key.
+   *
+   * @param key The key.
+   * @return A map containing the entries of this one except for the mapping for the given key.
+   */
+  @Nonnull
+  PersistentHashMap<K, V> minus(
+      @Nonnull
+      Object key
+  ) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return this;
+    }
+    Node newRoot = root.remove(key, hash(key), 0);
+    if (newRoot == root) {
+      return this;
+    }
+    if (newRoot == null) {
+      return empty();
+    }
+    return new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * Passes every value in this map to the given consumer, in no particular order.
+   *
+   * @param consumer The consumer.
+   */
+  @SuppressWarnings("unchecked")
+  void forEachValue(
+      @Nonnull
+      Consumer<? super V> consumer
+  ) {
+    requireNonNull(consumer, "consumer");
+
+    if (root != null) {
+      root.forEachValue((Consumer<Object>) consumer);
+    }
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static int fragment(int hash, int shift) {
+    return (hash >>> shift) & LEVEL_MASK;
+  }
+
+  /**
+   * Creates a node containing the two given nodes, which must have different hashes.
+   */
+  private static Node merge(Node node1, int hash1, Node node2, int hash2, int shift) {
+    int fragment1 = fragment(hash1, shift);
+    int fragment2 = fragment(hash2, shift);
+    if (fragment1 == fragment2) {
+      return new BitmapNode(
+          1 << fragment1,
+          new Node[]{merge(node1, hash1, node2, hash2, shift + BITS_PER_LEVEL)}
+      );
+    }
+    return fragment1 < fragment2
+        ? new BitmapNode((1 << fragment1) | (1 << fragment2), new Node[]{node1, node2})
+        : new BitmapNode((1 << fragment1) | (1 << fragment2), new Node[]{node2, node1});
+  }
+
+  /**
+   * A node in the trie.
+   * Leaves and collision nodes do not depend on the level they are located at, which allows them
+   * to be moved up when their parent's other children are removed.
+   */
+  private abstract static class Node {
+
+    abstract Object get(Object key, int hash, int shift);
+
+    abstract Node put(Leaf leaf, int shift, boolean[] added);
+
+    abstract Node remove(Object key, int hash, int shift);
+
+    abstract void forEachValue(Consumer<Object> consumer);
+  }
+
+  /**
+   * A single mapping.
+   */
+  private static final class Leaf
+      extends
+        Node {
+
+    private final int hash;
+    private final Object key;
+    private final Object value;
+
+    Leaf(int hash, Object key, Object value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      return (this.hash == hash && this.key.equals(key)) ? value : null;
+    }
+
+    @Override
+    Node put(Leaf leaf, int shift, boolean[] added) {
+      if (hash == leaf.hash) {
+        if (key.equals(leaf.key)) {
+          return value == leaf.value ? this : leaf;
+        }
+        added[0] = true;
+        return new CollisionNode(hash, new Leaf[]{this, leaf});
+      }
+      added[0] = true;
+      return merge(this, hash, leaf, leaf.hash, shift);
+    }
+
+    @Override
+    Node remove(Object key, int hash, int shift) {
+      return (this.hash == hash && this.key.equals(key)) ? null : this;
+    }
+
+    @Override
+    void forEachValue(Consumer<Object> consumer) {
+      consumer.accept(value);
+    }
+  }
+
+  /**
+   * Mappings for different keys with the same hash.
+   */
+  private static final class CollisionNode
+      extends
+        Node {
+
+    private final int hash;
+    private final Leaf[] leaves;
+
+    CollisionNode(int hash, Leaf[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      if (this.hash != hash) {
+        return null;
+      }
+      for (Leaf leaf : leaves) {
+        if (leaf.key.equals(key)) {
+          return leaf.value;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    Node put(Leaf leaf, int shift, boolean[] added) {
+      if (hash != leaf.hash) {
+        added[0] = true;
+        return merge(this, hash, leaf, leaf.hash, shift);
+      }
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].key.equals(leaf.key)) {
+          if (leaves[i].value == leaf.value) {
+            return this;
+          }
+          Leaf[] newLeaves = leaves.clone();
+          newLeaves[i] = leaf;
+          return new CollisionNode(hash, newLeaves);
+        }
+      }
+      added[0] = true;
+      Leaf[] newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+      newLeaves[leaves.length] = leaf;
+      return new CollisionNode(hash, newLeaves);
+    }
+
+    @Override
+    Node remove(Object key, int hash, int shift) {
+      if (this.hash != hash) {
+        return this;
+      }
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].key.equals(key)) {
+          if (leaves.length == 2) {
+            return leaves[1 - i];
+          }
+          Leaf[] newLeaves = new Leaf[leaves.length - 1];
+          System.arraycopy(leaves, 0, newLeaves, 0, i);
+          System.arraycopy(leaves, i + 1, newLeaves, i, leaves.length - i - 1);
+          return new CollisionNode(hash, newLeaves);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    void forEachValue(Consumer<Object> consumer) {
+      for (Leaf leaf : leaves) {
+        consumer.accept(leaf.value);
+      }
+    }
+  }
+
+  /**
+   * An inner node with up to 32 children, one per hash fragment.
+   */
+  private static final class BitmapNode
+      extends
+        Node {
+
+    private final int bitmap;
+    private final Node[] children;
+
+    BitmapNode(int bitmap, Node[] children) {
+      this.bitmap = bitmap;
+      this.children = children;
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      return children[index(bit)].get(key, hash, shift + BITS_PER_LEVEL);
+    }
+
+    @Override
+    Node put(Leaf leaf, int shift, boolean[] added) {
+      int bit = 1 << fragment(leaf.hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        Node[] newChildren = new Node[children.length + 1];
+        System.arraycopy(children, 0, newChildren, 0, index);
+        newChildren[index] = leaf;
+        System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+        return new BitmapNode(bitmap | bit, newChildren);
+      }
+      Node child = children[index];
+      Node newChild = child.put(leaf, shift + BITS_PER_LEVEL, added);
+      if (newChild == child) {
+        return this;
+      }
+      Node[] newChildren = children.clone();
+      newChildren[index] = newChild;
+      return new BitmapNode(bitmap, newChildren);
+    }
+
+    @Override
+    Node remove(Object key, int hash, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Node child = children[index];
+      Node newChild = child.remove(key, hash, shift + BITS_PER_LEVEL);
+      if (newChild == child) {
+        return this;
+      }
+      if (newChild != null) {
+        if (children.length == 1 && !(newChild instanceof BitmapNode)) {
+          return newChild;
+        }
+        Node[] newChildren = children.clone();
+        newChildren[index] = newChild;
+        return new BitmapNode(bitmap, newChildren);
+      }
+      if (children.length == 1) {
+        return null;
+      }
+      if (children.length == 2 && !(children[1 - index] instanceof BitmapNode)) {
+        return children[1 - index];
+      }
+      Node[] newChildren = new Node[children.length - 1];
+      System.arraycopy(children, 0, newChildren, 0, index);
+      System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+      return new BitmapNode(bitmap & ~bit, newChildren);
+    }
+
+    @Override
+    void forEachValue(Consumer<Object> consumer) {
+      for (Node child : children) {
+        child.forEachValue(consumer);
+      }
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+}
@@ -1064,6 +1064,23 @@ public class PlantModelManager
         .withVisualLayout(getVisualLayout());
   }
 
+  /**
+   * Returns the blocks that contain the given resource as a member.
+   *
+   * @param resource A reference to the resource.
+   * @return The blocks that contain the given resource as a member. If there are no such blocks,
+   * the returned set is empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resource
+  ) {
+    requireNonNull(resource, "resource");
+
+    return getObjectRepo().getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, resource);
+  }
+
   /**
    * Expands a set of resources <em>A</em> to a set of resources <em>B</em>.
    * <em>B</em> contains the resources in <em>A</em> with blocks expanded to
@@ -1082,8 +1099,6 @@ public class PlantModelManager
       throws ObjectUnknownException {
     requireNonNull(resources, "resources");
 
-    Set<Block> blocks = getObjectRepo().getObjects(Block.class);
-
     // First, collect the given references plus references to all members of blocks that contain the
     // given references in a set.
     // We could look up all resources and add them to the result immediately, but by first
@@ -1092,8 +1107,7 @@ public class PlantModelManager
     for (TCSResourceReference<?> resourceRef : resources) {
       refsToLookUp.add(resourceRef);
 
-      blocks.stream()
-          .filter(block -> block.getMembers().contains(resourceRef))
+      getBlocksContaining(resourceRef).stream()
           .flatMap(block -> block.getMembers().stream())
           .forEach(memberRef -> refsToLookUp.add(memberRef));
     }
@@ -0,0 +1,173 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Describes a secondary index on objects of a specific class in a {@link TCSObjectRepository}.
+ * <p>
+ * An index maps a key, extracted from each object of the indexed class, to the set of objects with
+ * that key. Objects for which the key extractor returns <code>null</code> are not indexed.
+ * Alternatively, an index may map multiple keys to each object (see
+ * {@link #withMultipleKeys(String, Class, Function)}), e.g. to index blocks by their members.
+ * </p>
+ * <p>
+ * Instances of this class merely describe an index and do not hold any data themselves. The index
+ * data is maintained by every repository the index is registered with. Indexes are compared by
+ * identity.
+ * </p>
+ *
+ * @param <T> The type of the indexed objects.
+ * @param <K> The type of the index keys.
+ */
+public class TCSObjectIndex<T extends TCSObject<T>, K> {
+
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> objectClass;
+  /**
+   * Extracts the index keys from an object.
+   */
+  private final Function<? super T, ? extends Collection<? extends K>> keysExtractor;
+  /**
+   * A descriptive name of this index.
+   */
+  private final String name;
+  /**
+   * Whether this index maps multiple keys to each object.
+   */
+  private final boolean multipleKeys;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name A descriptive name of this index.
+   * @param objectClass The class of the indexed objects.
+   * @param keyExtractor Extracts the index key from an object. Keys must implement
+   * {@link Object#equals(Object)} and {@link Object#hashCode()} consistently, and the function must
+   * return the same key for the same object state.
+   */
+  public TCSObjectIndex(
+      @Nonnull
+      String name,
+      @Nonnull
+      Class<T> objectClass,
+      @Nonnull
+      Function<? super T, ? extends K> keyExtractor
+  ) {
+    this(
+        name,
+        objectClass,
+        singleKeyExtractor(requireNonNull(keyExtractor, "keyExtractor")),
+        false
+    );
+  }
+
+  private TCSObjectIndex(
+      String name,
+      Class<T> objectClass,
+      Function<? super T, ? extends Collection<? extends K>> keysExtractor,
+      boolean multipleKeys
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.keysExtractor = requireNonNull(keysExtractor, "keysExtractor");
+    this.multipleKeys = multipleKeys;
+  }
+
+  /**
+   * Creates a new index that maps multiple keys to each object.
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index keys.
+   * @param name A descriptive name of the index.
+   * @param objectClass The class of the indexed objects.
+   * @param keysExtractor Extracts the index keys from an object. Keys must implement
+   * {@link Object#equals(Object)} and {@link Object#hashCode()} consistently, and the function must
+   * return the same keys for the same object state. <code>null</code> keys are ignored.
+   * @return The new index.
+   */
+  @Nonnull
+  public static <T extends TCSObject<T>, K> TCSObjectIndex<T, K> withMultipleKeys(
+      @Nonnull
+      String name,
+      @Nonnull
+      Class<T> objectClass,
+      @Nonnull
+      Function<? super T, ? extends Collection<? extends K>> keysExtractor
+  ) {
+    return new TCSObjectIndex<>(name, objectClass, keysExtractor, true);
+  }
+
+  /**
+   * Returns the class of the indexed objects.
+   *
+   * @return The class of the indexed objects.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the index keys for the given object.
+   *
+   * @param object The object.
+   * @return The index keys for the given object. If empty, the object is not to be indexed.
+   */
+  @Nonnull
+  public Set<K> getKeys(
+      @Nonnull
+      T object
+  ) {
+    Collection<? extends K> keys = keysExtractor.apply(object);
+    if (keys == null) {
+      return Set.of();
+    }
+    return keys.stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Returns the index keys for the given object, which must be an instance of the indexed class.
+   *
+   * @param object The object.
+   * @return The index keys for the given object.
+   */
+  @Nonnull
+  Set<K> getKeysUnchecked(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    return getKeys(objectClass.cast(object));
+  }
+
+  private static <T, K> Function<T, Collection<K>> singleKeyExtractor(
+      Function<? super T, ? extends K> keyExtractor
+  ) {
+    return object -> {
+      K key = keyExtractor.apply(object);
+      return key == null ? Set.of() : Set.of(key);
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectIndex{"
+        + "name=" + name
+        + ", objectClass=" + objectClass.getName()
+        + ", multipleKeys=" + multipleKeys
+        + '}';
+  }
+}
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import java.util.List;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * The secondary indexes registered with every {@link TCSObjectRepository} by default.
+ */
+public final class TCSObjectIndexes {
+
+  /**
+   * Transport orders by their state.
+   */
+  public static final TCSObjectIndex<TransportOrder, TransportOrder.State> TRANSPORT_ORDERS_BY_STATE
+      = new TCSObjectIndex<>(
+          "transportOrdersByState",
+          TransportOrder.class,
+          TransportOrder::getState
+      );
+  /**
+   * Transport orders by their intended vehicle.
+   */
+  public static final TCSObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDERS_BY_INTENDED_VEHICLE
+      = new TCSObjectIndex<>(
+          "transportOrdersByIntendedVehicle",
+          TransportOrder.class,
+          TransportOrder::getIntendedVehicle
+      );
+  /**
+   * Transport orders by their wrapping sequence.
+   */
+  public static final TCSObjectIndex<TransportOrder, TCSObjectReference<OrderSequence>>
+      TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE
+      = new TCSObjectIndex<>(
+          "transportOrdersByWrappingSequence",
+          TransportOrder.class,
+          TransportOrder::getWrappingSequence
+      );
+  /**
+   * Peripheral jobs by their related transport order.
+   */
+  public static final TCSObjectIndex<PeripheralJob, TCSObjectReference<TransportOrder>>
+      PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER
+      = new TCSObjectIndex<>(
+          "peripheralJobsByRelatedTransportOrder",
+          PeripheralJob.class,
+          PeripheralJob::getRelatedTransportOrder
+      );
+  /**
+   * Points by their occupying vehicle.
+   */
+  public static final TCSObjectIndex<Point, TCSObjectReference<Vehicle>> POINTS_BY_OCCUPYING_VEHICLE
+      = new TCSObjectIndex<>(
+          "pointsByOccupyingVehicle",
+          Point.class,
+          Point::getOccupyingVehicle
+      );
+  /**
+   * Blocks by their members.
+   */
+  public static final TCSObjectIndex<Block, TCSResourceReference<?>> BLOCKS_BY_MEMBER
+      = TCSObjectIndex.withMultipleKeys(
+          "blocksByMember",
+          Block.class,
+          Block::getMembers
+      );
+
+  /**
+   * Prevents instantiation.
+   */
+  private TCSObjectIndexes() {
+  }
+
+  /**
+   * Returns all default indexes.
+   *
+   * @return All default indexes.
+   */
+  public static List<TCSObjectIndex<?, ?>> defaultIndexes() {
+    return List.of(
+        TRANSPORT_ORDERS_BY_STATE,
+        TRANSPORT_ORDERS_BY_INTENDED_VEHICLE,
+        TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE,
+        PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+        POINTS_BY_OCCUPYING_VEHICLE,
+        BLOCKS_BY_MEMBER
+    );
+  }
+}
@@ -7,11 +7,14 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
@@ -22,18 +25,94 @@ import org.opentcs.data.TCSObjectReference;
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
  * </p>
+ * <p>
+ * In addition to the lookup by class and name, objects are kept in a global index by name and in
+ * any number of secondary indexes (see {@link TCSObjectIndex}). All indexes are updated whenever
+ * an object is added, replaced or removed.
+ * </p>
+ * <p>
+ * With every modification, the repository publishes an immutable {@link TCSObjectSnapshot} of its
+ * contents. All methods returning objects by class, name or reference read from the latest
+ * snapshot and may thus be called by any thread without synchronization. Modifications and queries
+ * of secondary indexes, however, must be synchronized externally.
+ * </p>
  */
 public class TCSObjectRepository {
 
   /**
-   * The objects contained in this pool, mapped by their names, grouped by their classes.
+   * The latest snapshot of the objects contained in this pool.
+   */
+  private volatile TCSObjectSnapshot snapshot = TCSObjectSnapshot.EMPTY;
+  /**
+   * The secondary indexes registered with this pool, grouped by the classes they index.
+   */
+  private final Map<Class<?>, List<TCSObjectIndex<?, ?>>> indexesByClass = new HashMap<>();
+  /**
+   * The data of the registered secondary indexes: the names of indexed objects, mapped by their
+   * index keys.
    */
-  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  private final Map<TCSObjectIndex<?, ?>, Map<Object, Set<String>>> indexData = new HashMap<>();
 
   /**
-   * Creates a new instance.
+   * Creates a new instance with the default indexes (see {@link TCSObjectIndexes}) registered.
    */
   public TCSObjectRepository() {
+    // The pool is still empty, so there are no objects to be indexed, yet.
+    for (TCSObjectIndex<?, ?> index : TCSObjectIndexes.defaultIndexes()) {
+      indexesByClass.computeIfAbsent(index.getObjectClass(), clazz -> new ArrayList<>()).add(index);
+      indexData.put(index, new HashMap<>());
+    }
+  }
+
+  /**
+   * Registers a secondary index with this pool.
+   * If the pool already contains objects of the indexed class, they are indexed immediately.
+   * Registering an index that is already registered has no effect.
+   *
+   * @param index The index to be registered.
+   */
+  public void registerIndex(
+      @Nonnull
+      TCSObjectIndex<?, ?> index
+  ) {
+    requireNonNull(index, "index");
+
+    if (indexData.containsKey(index)) {
+      return;
+    }
+
+    indexesByClass.computeIfAbsent(index.getObjectClass(), clazz -> new ArrayList<>()).add(index);
+    indexData.put(index, new HashMap<>());
+    snapshot.forEachObject(
+        index.getObjectClass(),
+        object -> addToIndex(index, index.getKeysUnchecked(object), object.getName())
+    );
+  }
+
+  /**
+   * Checks whether the given index is registered with this pool.
+   *
+   * @param index The index.
+   * @return <code>true</code> if, and only if, the given index is registered with this pool.
+   */
+  public boolean isIndexRegistered(
+      @Nonnull
+      TCSObjectIndex<?, ?> index
+  ) {
+    requireNonNull(index, "index");
+
+    return indexData.containsKey(index);
+  }
+
+  /**
+   * Returns the latest snapshot of the objects contained in this pool.
+   * The returned snapshot is immutable and does not reflect subsequent modifications of this pool.
+   *
+   * @return The latest snapshot of the objects contained in this pool.
+   */
+  @Nonnull
+  public TCSObjectSnapshot getSnapshot() {
+    return snapshot;
   }
 
   /**
@@ -50,16 +129,14 @@ public class TCSObjectRepository {
       throws ObjectExistsException {
     requireNonNull(newObject, "newObject");
 
-    if (containsName(newObject.getName())) {
+    if (snapshot.getObjectOrNull(newObject.getName()) != null) {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
+    snapshot = snapshot.withObject(newObject);
+    for (TCSObjectIndex<?, ?> index : indexesOf(newObject)) {
+      addToIndex(index, index.getKeysUnchecked(newObject), newObject.getName());
     }
-    objectsByName.put(newObject.getName(), newObject);
   }
 
   /**
@@ -91,7 +168,15 @@ public class TCSObjectRepository {
         oldObject.getClass().getName()
     );
 
-    objects.get(object.getClass()).put(object.getName(), object);
+    snapshot = snapshot.withObject(object);
+    for (TCSObjectIndex<?, ?> index : indexesOf(object)) {
+      Set<?> oldKeys = index.getKeysUnchecked(oldObject);
+      Set<?> newKeys = index.getKeysUnchecked(object);
+      if (!Objects.equals(oldKeys, newKeys)) {
+        removeFromIndex(index, oldKeys, object.getName());
+        addToIndex(index, newKeys, object.getName());
+      }
+    }
   }
 
   /**
@@ -107,7 +192,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(ref);
 
-    return objects.getOrDefault(ref.getReferentClass(), Map.of()).get(ref.getName());
+    return snapshot.getObjectOrNull(ref);
   }
 
   /**
@@ -150,13 +235,7 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    TCSObject<?> result = objects.getOrDefault(clazz, Map.of()).get(ref.getName());
-    if (clazz.isInstance(result)) {
-      return clazz.cast(result);
-    }
-    else {
-      return null;
-    }
+    return snapshot.getObjectOrNull(clazz, ref);
   }
 
   /**
@@ -198,11 +277,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return snapshot.getObjectOrNull(name);
   }
 
   /**
@@ -245,13 +320,7 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(name, "name");
 
-    TCSObject<?> result = objects.getOrDefault(clazz, Map.of()).get(name);
-    if (clazz.isInstance(result)) {
-      return clazz.cast(result);
-    }
-    else {
-      return null;
-    }
+    return snapshot.getObjectOrNull(clazz, name);
   }
 
   /**
@@ -291,9 +360,7 @@ public class TCSObjectRepository {
       @Nonnull
       Class<T> clazz
   ) {
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .collect(Collectors.toSet());
+    return snapshot.getObjects(clazz);
   }
 
   /**
@@ -312,13 +379,70 @@ public class TCSObjectRepository {
       @Nonnull
       Predicate<? super T> predicate
   ) {
-    requireNonNull(clazz, "clazz");
+    return snapshot.getObjects(clazz, predicate);
+  }
+
+  /**
+   * Returns the set of objects with the given key in the given index.
+   *
+   * @param <T> The objects' type.
+   * @param <K> The index keys' type.
+   * @param index The index to be queried.
+   * @param key The key of the objects to be returned.
+   * @return The set of objects with the given key in the given index. If no such objects exist,
+   * the returned set is empty.
+   * @throws IllegalArgumentException If the given index is not registered with this pool.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  )
+      throws IllegalArgumentException {
+    return getObjects(index, key, object -> true);
+  }
+
+  /**
+   * Returns the set of objects with the given key in the given index for which the given predicate
+   * is true.
+   *
+   * @param <T> The objects' type.
+   * @param <K> The index keys' type.
+   * @param index The index to be queried.
+   * @param key The key of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return The set of objects with the given key in the given index for which the given predicate
+   * is true. If no such objects exist, the returned set is empty.
+   * @throws IllegalArgumentException If the given index is not registered with this pool.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key,
+      @Nonnull
+      Predicate<? super T> predicate
+  )
+      throws IllegalArgumentException {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
     requireNonNull(predicate, "predicate");
 
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .filter(predicate)
-        .collect(Collectors.toSet());
+    Map<Object, Set<String>> entries = indexData.get(index);
+    checkArgument(entries != null, "Index not registered: %s", index);
+
+    TCSObjectSnapshot currentSnapshot = snapshot;
+    Set<T> result = new HashSet<>();
+    for (String name : entries.getOrDefault(key, Set.of())) {
+      T object = currentSnapshot.getObjectOrNull(index.getObjectClass(), name);
+      if (predicate.test(object)) {
+        result.add(object);
+      }
+    }
+    return result;
   }
 
   /**
@@ -336,15 +460,39 @@ public class TCSObjectRepository {
       throws ObjectUnknownException {
     requireNonNull(ref, "ref");
 
-    Map<String, TCSObject<?>> map = objects.get(ref.getReferentClass());
-    TCSObject<?> obj = (map == null) ? null : map.remove(ref.getName());
+    TCSObject<?> obj = snapshot.getObjectOrNull(ref);
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    snapshot = snapshot.withoutObject(obj);
+    for (TCSObjectIndex<?, ?> index : indexesOf(obj)) {
+      removeFromIndex(index, index.getKeysUnchecked(obj), obj.getName());
+    }
     return obj;
   }
 
-  private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+  private List<TCSObjectIndex<?, ?>> indexesOf(TCSObject<?> object) {
+    return indexesByClass.getOrDefault(object.getClass(), List.of());
+  }
+
+  private void addToIndex(TCSObjectIndex<?, ?> index, Set<?> keys, String name) {
+    Map<Object, Set<String>> entries = indexData.get(index);
+    for (Object key : keys) {
+      entries.computeIfAbsent(key, k -> new HashSet<>()).add(name);
+    }
+  }
+
+  private void removeFromIndex(TCSObjectIndex<?, ?> index, Set<?> keys, String name) {
+    Map<Object, Set<String>> entries = indexData.get(index);
+    for (Object key : keys) {
+      Set<String> names = entries.get(key);
+      if (names == null) {
+        continue;
+      }
+      names.remove(name);
+      if (names.isEmpty()) {
+        entries.remove(key);
+      }
+    }
   }
 }
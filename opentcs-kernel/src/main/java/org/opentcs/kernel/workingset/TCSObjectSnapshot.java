@@ -0,0 +1,246 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable, versioned view of the contents of a {@link TCSObjectRepository}.
+ * <p>
+ * Snapshots are published by the repository with every modification. Since both the snapshots and
+ * the objects they contain are immutable, snapshots can be read by any number of threads without
+ * any synchronization. Successive snapshots share all unmodified parts of their internal structure.
+ * </p>
+ */
+public final class TCSObjectSnapshot {
+
+  /**
+   * The empty snapshot, with version 0.
+   */
+  static final TCSObjectSnapshot EMPTY
+      = new TCSObjectSnapshot(0, PersistentHashMap.empty(), Map.of());
+  /**
+   * The version of this snapshot.
+   */
+  private final long version;
+  /**
+   * All objects, mapped by their names.
+   */
+  private final PersistentHashMap<String, TCSObject<?>> objectsByName;
+  /**
+   * All objects, mapped by their names, grouped by their classes.
+   */
+  private final Map<Class<?>, PersistentHashMap<String, TCSObject<?>>> objectsByClass;
+
+  private TCSObjectSnapshot(
+      long version,
+      PersistentHashMap<String, TCSObject<?>> objectsByName,
+      Map<Class<?>, PersistentHashMap<String, TCSObject<?>>> objectsByClass
+  ) {
+    this.version = version;
+    this.objectsByName = objectsByName;
+    this.objectsByClass = objectsByClass;
+  }
+
+  /**
+   * Returns the version of this snapshot.
+   * Every modification of the repository increments the version of the published snapshot by one.
+   *
+   * @return The version of this snapshot.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns the number of objects in this snapshot.
+   *
+   * @return The number of objects in this snapshot.
+   */
+  public int size() {
+    return objectsByName.size();
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param name The name of the object to return.
+   * @return The object with the given name, or <code>null</code>, if no such object exists.
+   */
+  @Nullable
+  public TCSObject<?> getObjectOrNull(
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(name, "name");
+
+    return objectsByName.get(name);
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param ref A reference to the object to return.
+   * @return The referenced object, or <code>null</code>, if no such object exists.
+   */
+  @Nullable
+  public TCSObject<?> getObjectOrNull(
+      @Nonnull
+      TCSObjectReference<?> ref
+  ) {
+    requireNonNull(ref, "ref");
+
+    return objectsOf(ref.getReferentClass()).get(ref.getName());
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or <code>null</code>, if no such object exists or if an object exists
+   * but is not an instance of the given class.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    TCSObject<?> result = objectsOf(clazz).get(name);
+    return clazz.isInstance(result) ? clazz.cast(result) : null;
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or <code>null</code>, if no such object exists or if an object
+   * exists but is not an instance of the given class.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      TCSObjectReference<T> ref
+  ) {
+    requireNonNull(ref, "ref");
+
+    return getObjectOrNull(clazz, ref.getName());
+  }
+
+  /**
+   * Returns a set of objects belonging to the given class.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return A set of objects belonging to the given class.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    return getObjects(clazz, object -> true);
+  }
+
+  /**
+   * Returns a set of objects of the given class for which the given predicate is true.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return A set of objects of the given class for which the given predicate is true. If no such
+   * objects exist, the returned set is empty.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    Set<T> result = new HashSet<>();
+    objectsOf(clazz).forEachValue(object -> {
+      T castObject = clazz.cast(object);
+      if (predicate.test(castObject)) {
+        result.add(castObject);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Passes every object of the given class to the given consumer.
+   *
+   * @param clazz The class of the objects.
+   * @param consumer The consumer.
+   */
+  void forEachObject(Class<?> clazz, Consumer<TCSObject<?>> consumer) {
+    objectsOf(clazz).forEachValue(consumer);
+  }
+
+  /**
+   * Returns a new snapshot with the given object added, or replacing an object with the same name.
+   *
+   * @param object The object.
+   * @return The new snapshot.
+   */
+  TCSObjectSnapshot withObject(TCSObject<?> object) {
+    Map<Class<?>, PersistentHashMap<String, TCSObject<?>>> newObjectsByClass
+        = new HashMap<>(objectsByClass);
+    newObjectsByClass.put(
+        object.getClass(),
+        objectsOf(object.getClass()).plus(object.getName(), object)
+    );
+    return new TCSObjectSnapshot(
+        version + 1,
+        objectsByName.plus(object.getName(), object),
+        Collections.unmodifiableMap(newObjectsByClass)
+    );
+  }
+
+  /**
+   * Returns a new snapshot with the given object removed.
+   *
+   * @param object The object.
+   * @return The new snapshot.
+   */
+  TCSObjectSnapshot withoutObject(TCSObject<?> object) {
+    Map<Class<?>, PersistentHashMap<String, TCSObject<?>>> newObjectsByClass
+        = new HashMap<>(objectsByClass);
+    newObjectsByClass.put(object.getClass(), objectsOf(object.getClass()).minus(object.getName()));
+    return new TCSObjectSnapshot(
+        version + 1,
+        objectsByName.minus(object.getName()),
+        Collections.unmodifiableMap(newObjectsByClass)
+    );
+  }
+
+  private PersistentHashMap<String, TCSObject<?>> objectsOf(Class<?> clazz) {
+    return objectsByClass.getOrDefault(clazz, PersistentHashMap.empty());
+  }
+}
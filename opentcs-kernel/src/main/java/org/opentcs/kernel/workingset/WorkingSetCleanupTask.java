@@ -5,7 +5,6 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
 import java.util.function.Predicate;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.TCSObjectReference;
@@ -152,8 +151,8 @@ public class WorkingSetCleanupTask
 
   private void removeRelatedPeripheralJobs(TCSObjectReference<TransportOrder> transportOrderRef) {
     for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), transportOrderRef)
+        TCSObjectIndexes.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+        transportOrderRef
     )) {
       peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
     }
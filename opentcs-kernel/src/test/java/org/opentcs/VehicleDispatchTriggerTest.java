@@ -9,12 +9,12 @@ import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.opentcs.common.SameThreadExecutorService;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.ReroutingType;
+import org.opentcs.kernel.DispatchRequestScheduler;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.VehicleDispatchTrigger;
 import org.opentcs.util.event.EventBus;
@@ -27,6 +27,7 @@ public class VehicleDispatchTriggerTest {
   private EventBus eventBus;
   private KernelApplicationConfiguration config;
   private DispatcherService dispatcher;
+  private DispatchRequestScheduler dispatchRequestScheduler;
 
   private VehicleDispatchTrigger trigger;
 
@@ -34,10 +35,11 @@ public class VehicleDispatchTriggerTest {
   public void setUp() {
     eventBus = mock(EventBus.class);
     dispatcher = mock(DispatcherService.class);
+    dispatchRequestScheduler = mock(DispatchRequestScheduler.class);
     config = mock(KernelApplicationConfiguration.class);
     when(config.rerouteOnDriveOrderFinished()).thenReturn(false);
     trigger = new VehicleDispatchTrigger(
-        new SameThreadExecutorService(),
+        dispatchRequestScheduler,
         eventBus,
         dispatcher,
         config
@@ -61,7 +63,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatchRequestScheduler).requestDispatch();
   }
 
   @Test
@@ -81,7 +83,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher, never()).dispatch();
+    verify(dispatchRequestScheduler, never()).requestDispatch();
   }
 
   @Test
@@ -101,7 +103,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatchRequestScheduler).requestDispatch();
   }
 
   @Test
@@ -119,7 +121,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatchRequestScheduler).requestDispatch();
   }
 
   @Test
@@ -137,7 +139,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatchRequestScheduler).requestDispatch();
   }
 
   @Test
@@ -157,7 +159,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatchRequestScheduler).requestDispatch();
     verify(dispatcher).reroute(vehicleNew.getReference(), ReroutingType.REGULAR);
   }
 
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.services.DispatcherService;
+
+/**
+ * Unit tests for {@link DispatchRequestScheduler}.
+ */
+class DispatchRequestSchedulerTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private DispatcherService dispatcher;
+  private KernelApplicationConfiguration configuration;
+  private DispatchRequestScheduler scheduler;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    when(kernelExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> mock(ScheduledFuture.class));
+    dispatcher = mock(DispatcherService.class);
+    configuration = mock(KernelApplicationConfiguration.class);
+    when(configuration.dispatchMinInterval()).thenReturn(0L);
+    scheduler = new DispatchRequestScheduler(kernelExecutor, dispatcher, configuration);
+    scheduler.initialize();
+  }
+
+  @Test
+  void coalesceRequestsIntoSingleQueuedRun() {
+    scheduler.requestDispatch();
+    scheduler.requestDispatch();
+    scheduler.requestDispatch();
+
+    verify(kernelExecutor, times(1))
+        .schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    assertThat(scheduler.getRequestedCount(), is(3L));
+    assertThat(scheduler.getCoalescedCount(), is(2L));
+    assertThat(scheduler.getExecutedCount(), is(0L));
+
+    capturedRuns(1).run();
+
+    verify(dispatcher).dispatch();
+    assertThat(scheduler.getExecutedCount(), is(1L));
+  }
+
+  @Test
+  void queueNewRunForRequestsAfterRunStarted() {
+    scheduler.requestDispatch();
+    capturedRuns(1).run();
+
+    scheduler.requestDispatch();
+
+    verify(kernelExecutor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    assertThat(scheduler.getCoalescedCount(), is(0L));
+  }
+
+  @Test
+  void delayRunToRespectMinInterval() {
+    when(configuration.dispatchMinInterval()).thenReturn(10000L);
+
+    // The first run is not delayed.
+    scheduler.requestDispatch();
+    capturedRuns(1).run();
+
+    scheduler.requestDispatch();
+
+    ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(kernelExecutor, times(2))
+        .schedule(any(Runnable.class), delayCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+    assertThat(delayCaptor.getAllValues().get(0), is(0L));
+    assertThat(delayCaptor.getAllValues().get(1), is(greaterThan(0L)));
+    assertThat(delayCaptor.getAllValues().get(1), is(lessThanOrEqualTo(10000L)));
+  }
+
+  @Test
+  void ignoreRequestsAndQueuedRunsWhenTerminated() {
+    scheduler.requestDispatch();
+    Runnable queuedRun = capturedRuns(1);
+
+    scheduler.terminate();
+    queuedRun.run();
+    scheduler.requestDispatch();
+
+    verify(dispatcher, never()).dispatch();
+    verify(kernelExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  private Runnable capturedRuns(int expectedCount) {
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor, times(expectedCount))
+        .schedule(captor.capture(), anyLong(), any(TimeUnit.class));
+    return captor.getValue();
+  }
+}
@@ -15,8 +15,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.components.kernel.services.NotificationService;
-import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -29,7 +29,7 @@ public class BlockConsistencyCheckTest {
 
   private BlockConsistencyCheck blockCheck;
   private NotificationService notificationService;
-  private TCSObjectService objectService;
+  private InternalPlantModelService objectService;
   private Vehicle vehicle1;
   private Vehicle vehicle2;
   private Vehicle vehicle3;
@@ -40,7 +40,7 @@ public class BlockConsistencyCheckTest {
   @BeforeEach
   void setup() {
     notificationService = mock(NotificationService.class);
-    objectService = mock(TCSObjectService.class);
+    objectService = mock(InternalPlantModelService.class);
     // Setup the object service with 1 block with 2 points and a third point outside of the block.
     vehicle1 = new Vehicle("vehicle 1")
         .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED);
@@ -69,6 +69,7 @@ public class BlockConsistencyCheckTest {
     when(objectService.fetchObject(Point.class, pointOutSideBlock.getReference()))
         .thenReturn(pointOutSideBlock);
     when(objectService.fetchObjects(Block.class)).thenReturn(Set.of(block));
+    when(objectService.fetchBlocksContaining(point.getReference())).thenReturn(Set.of(block));
   }
 
   @Test
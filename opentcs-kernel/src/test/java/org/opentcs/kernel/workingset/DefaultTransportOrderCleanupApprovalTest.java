@@ -4,8 +4,6 @@ package org.opentcs.kernel.workingset;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -85,7 +83,12 @@ class DefaultTransportOrderCleanupApprovalTest {
     PeripheralJob job = createPeripheralJob()
         .withState(PeripheralJob.State.BEING_PROCESSED)
         .withRelatedTransportOrder(order.getReference());
-    given(objectRepo.getObjects(eq(PeripheralJob.class), any())).willReturn(Set.of(job));
+    given(
+        objectRepo.getObjects(
+            TCSObjectIndexes.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+            order.getReference()
+        )
+    ).willReturn(Set.of(job));
 
     assertFalse(approval.test(order));
   }
@@ -98,7 +101,12 @@ class DefaultTransportOrderCleanupApprovalTest {
     PeripheralJob job = createPeripheralJob()
         .withState(PeripheralJob.State.FAILED)
         .withRelatedTransportOrder(order.getReference());
-    given(objectRepo.getObjects(eq(PeripheralJob.class), any())).willReturn(Set.of(job));
+    given(
+        objectRepo.getObjects(
+            TCSObjectIndexes.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+            order.getReference()
+        )
+    ).willReturn(Set.of(job));
     given(defaultPeripheralJobCleanupApproval.test(job)).willReturn(false);
 
     assertFalse(approval.test(order));
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistentHashMap}.
+ */
+class PersistentHashMapTest {
+
+  @Test
+  void returnAddedValues() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1)
+        .plus("b", 2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get("a"), is(1));
+    assertThat(map.get("b"), is(2));
+    assertThat(map.get("c"), is(nullValue()));
+  }
+
+  @Test
+  void leaveOriginalMapUnmodified() {
+    PersistentHashMap<String, Integer> map1 = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1);
+    PersistentHashMap<String, Integer> map2 = map1.plus("a", 2).plus("b", 3);
+    PersistentHashMap<String, Integer> map3 = map2.minus("a");
+
+    assertThat(map1.size(), is(1));
+    assertThat(map1.get("a"), is(1));
+    assertThat(map1.get("b"), is(nullValue()));
+    assertThat(map2.size(), is(2));
+    assertThat(map2.get("a"), is(2));
+    assertThat(map3.size(), is(1));
+    assertThat(map3.get("a"), is(nullValue()));
+    assertThat(map3.get("b"), is(3));
+  }
+
+  @Test
+  void returnSameMapForNoOpModifications() {
+    Integer value = 1;
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", value);
+
+    assertThat(map.plus("a", value), is(sameInstance(map)));
+    assertThat(map.minus("b"), is(sameInstance(map)));
+  }
+
+  @Test
+  void handleHashCollisions() {
+    CollidingKey key1 = new CollidingKey("key1");
+    CollidingKey key2 = new CollidingKey("key2");
+    CollidingKey key3 = new CollidingKey("key3");
+
+    PersistentHashMap<CollidingKey, String> map = PersistentHashMap.<CollidingKey, String>empty()
+        .plus(key1, "value1")
+        .plus(key2, "value2")
+        .plus(key3, "value3")
+        .minus(key2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get(key1), is("value1"));
+    assertThat(map.get(key2), is(nullValue()));
+    assertThat(map.get(key3), is("value3"));
+  }
+
+  @Test
+  void behaveLikeHashMapForRandomModifications() {
+    Random random = new Random(42);
+    Map<Integer, Integer> expected = new HashMap<>();
+    PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+
+    for (int i = 0; i < 10000; i++) {
+      Integer key = random.nextInt(2000);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        map = map.minus(key);
+      }
+      else {
+        expected.put(key, i);
+        map = map.plus(key, i);
+      }
+    }
+
+    assertThat(map.size(), is(expected.size()));
+    for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertThat(map.get(entry.getKey()), is(entry.getValue()));
+    }
+    List<Integer> values = new ArrayList<>();
+    map.forEachValue(values::add);
+    assertThat(values, containsInAnyOrder(expected.values().toArray()));
+  }
+
+  private static class CollidingKey {
+
+    private final String name;
+
+    CollidingKey(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CollidingKey other && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+  }
+}
@@ -10,14 +10,18 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -228,4 +232,178 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void returnObjectByNameAfterRemoval() {
+    Point point = new Point("some-point");
+
+    pool.addObject(point);
+    pool.removeObject(point.getReference());
+
+    assertThat(pool.getObjectOrNull("some-point"), is(nullValue()));
+    pool.addObject(new LocationType("some-point"));
+    assertThat(pool.getObject("some-point"), is(new LocationType("some-point")));
+  }
+
+  @Test
+  void returnObjectsByIndexKey() {
+    TransportOrder order1 = new TransportOrder("Order-00001", List.of());
+    TransportOrder order2 = new TransportOrder("Order-00002", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+    TransportOrder order3 = new TransportOrder("Order-00003", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.RAW),
+        contains(order1)
+    );
+    assertThat(
+        pool.getObjects(
+            TCSObjectIndexes.TRANSPORT_ORDERS_BY_STATE,
+            TransportOrder.State.DISPATCHABLE
+        ),
+        containsInAnyOrder(order2, order3)
+    );
+    assertThat(
+        pool.getObjects(
+            TCSObjectIndexes.TRANSPORT_ORDERS_BY_STATE,
+            TransportOrder.State.DISPATCHABLE,
+            order -> order.getName().equals("Order-00003")
+        ),
+        contains(order3)
+    );
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.FAILED),
+        is(empty())
+    );
+  }
+
+  @Test
+  void updateIndexOnReplaceAndRemove() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.replaceObject(point1.withOccupyingVehicle(vehicle.getReference()));
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.POINTS_BY_OCCUPYING_VEHICLE, vehicle.getReference()),
+        contains(point1.withOccupyingVehicle(vehicle.getReference()))
+    );
+
+    pool.replaceObject(point1);
+    pool.replaceObject(point2.withOccupyingVehicle(vehicle.getReference()));
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.POINTS_BY_OCCUPYING_VEHICLE, vehicle.getReference()),
+        contains(point2.withOccupyingVehicle(vehicle.getReference()))
+    );
+
+    pool.removeObject(point2.getReference());
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.POINTS_BY_OCCUPYING_VEHICLE, vehicle.getReference()),
+        is(empty())
+    );
+  }
+
+  @Test
+  void updateMultipleKeysIndexOnReplaceAndRemove() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    Point point3 = new Point("Point-00003");
+    Block block1 = new Block("Block-00001")
+        .withMembers(Set.of(point1.getReference(), point2.getReference()));
+    Block block2 = new Block("Block-00002")
+        .withMembers(Set.of(point2.getReference()));
+
+    pool.addObject(block1);
+    pool.addObject(block2);
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point1.getReference()),
+        contains(block1)
+    );
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point2.getReference()),
+        containsInAnyOrder(block1, block2)
+    );
+
+    Block block1Modified = block1
+        .withMembers(Set.of(point2.getReference(), point3.getReference()));
+    pool.replaceObject(block1Modified);
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point1.getReference()),
+        is(empty())
+    );
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point2.getReference()),
+        containsInAnyOrder(block1Modified, block2)
+    );
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point3.getReference()),
+        contains(block1Modified)
+    );
+
+    pool.removeObject(block2.getReference());
+
+    assertThat(
+        pool.getObjects(TCSObjectIndexes.BLOCKS_BY_MEMBER, point2.getReference()),
+        contains(block1Modified)
+    );
+  }
+
+  @Test
+  void indexExistingObjectsOnRegistration() {
+    Point point = new Point("some-point").withType(Point.Type.PARK_POSITION);
+    TCSObjectIndex<Point, Point.Type> pointsByType
+        = new TCSObjectIndex<>("pointsByType", Point.class, Point::getType);
+
+    pool.addObject(point);
+    pool.registerIndex(pointsByType);
+
+    assertThat(pool.getObjects(pointsByType, Point.Type.PARK_POSITION), contains(point));
+    assertThat(pool.getObjects(pointsByType, Point.Type.HALT_POSITION), is(empty()));
+  }
+
+  @Test
+  void throwOnQueryOfUnregisteredIndex() {
+    TCSObjectIndex<Point, Point.Type> pointsByType
+        = new TCSObjectIndex<>("pointsByType", Point.class, Point::getType);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> pool.getObjects(pointsByType, Point.Type.PARK_POSITION)
+    );
+  }
+
+  @Test
+  void keepPublishedSnapshotUnmodified() {
+    Point pointV1 = new Point("some-point").withType(Point.Type.HALT_POSITION);
+    Point pointV2 = pointV1.withType(Point.Type.PARK_POSITION);
+
+    pool.addObject(pointV1);
+    TCSObjectSnapshot snapshot = pool.getSnapshot();
+    pool.replaceObject(pointV2);
+    pool.addObject(new Point("some-other-point"));
+
+    assertThat(
+        snapshot.getObjectOrNull(Point.class, "some-point").getType(),
+        is(Point.Type.HALT_POSITION)
+    );
+    assertThat(snapshot.getObjects(Point.class).size(), is(1));
+    assertThat(pool.getSnapshot().getVersion(), is(snapshot.getVersion() + 2));
+    assertThat(
+        pool.getSnapshot().getObjectOrNull(Point.class, "some-point").getType(),
+        is(Point.Type.PARK_POSITION)
+    );
+    assertThat(pool.getSnapshot().getObjects(Point.class).size(), is(2));
+  }
 }
@@ -114,6 +114,10 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(DispatchChangeTracker.class)
+        .in(Singleton.class);
+    bind(CandidateComputationPool.class)
+        .in(Singleton.class);
 
     bind(ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
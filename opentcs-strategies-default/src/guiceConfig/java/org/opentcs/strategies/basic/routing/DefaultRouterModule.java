@@ -6,19 +6,26 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionTracker;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorBoundingBox;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorExplicitProperties;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorTravelTime;
 import org.opentcs.strategies.basic.routing.edgeevaluator.ExplicitPropertiesConfiguration;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactDijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
 import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.RouteCacheProvider;
 import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.routing.spacetime.SpaceTimeRouter;
+import org.opentcs.strategies.basic.routing.spacetime.SpaceTimeRouterConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +50,20 @@ public class DefaultRouterModule
   @Override
   protected void configure() {
     configureRouterDependencies();
-    bindRouter(DefaultRouter.class);
+
+    SpaceTimeRouterConfiguration spaceTimeConfiguration
+        = getConfigBindingProvider().get(
+            SpaceTimeRouterConfiguration.PREFIX,
+            SpaceTimeRouterConfiguration.class
+        );
+    if (spaceTimeConfiguration.enable()) {
+      bind(SpaceTimeRouterConfiguration.class)
+          .toInstance(spaceTimeConfiguration);
+      bindRouter(SpaceTimeRouter.class);
+    }
+    else {
+      bindRouter(DefaultRouter.class);
+    }
   }
 
   private void configureRouterDependencies() {
@@ -67,12 +87,18 @@ public class DefaultRouterModule
 
     bind(GraphProvider.class)
         .in(Singleton.class);
+    bind(RouteCacheProvider.class)
+        .in(Singleton.class);
 
     switch (spConfiguration.algorithm()) {
       case DIJKSTRA:
         bind(PointRouterFactory.class)
             .to(DijkstraPointRouterFactory.class);
         break;
+      case COMPACT_DIJKSTRA:
+        bind(PointRouterFactory.class)
+            .to(CompactDijkstraPointRouterFactory.class);
+        break;
       case BELLMAN_FORD:
         bind(PointRouterFactory.class)
             .to(BellmanFordPointRouterFactory.class);
@@ -105,6 +131,9 @@ public class DefaultRouterModule
     edgeEvaluatorBinder()
         .addBinding(EdgeEvaluatorBoundingBox.CONFIGURATION_KEY)
         .to(EdgeEvaluatorBoundingBox.class);
+    edgeEvaluatorBinder()
+        .addBinding(EdgeEvaluatorCongestion.CONFIGURATION_KEY)
+        .to(EdgeEvaluatorCongestion.class);
 
     bind(EdgeEvaluatorComposite.class)
         .in(Singleton.class);
@@ -117,6 +146,20 @@ public class DefaultRouterModule
             )
         );
 
+    bind(CongestionConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                CongestionConfiguration.PREFIX,
+                CongestionConfiguration.class
+            )
+        );
+    bind(CongestionTracker.class)
+        .in(Singleton.class);
+    if (spConfiguration.edgeEvaluators().contains(EdgeEvaluatorCongestion.CONFIGURATION_KEY)) {
+      extensionsBinderOperating().addBinding()
+          .to(CongestionTracker.class);
+    }
+
     bind(DefaultRoutingGroupMapper.class)
         .in(Singleton.class);
     bind(GroupMapper.class)
@@ -33,7 +33,16 @@ public class DefaultSchedulerModule
   }
 
   private void configureSchedulerDependencies() {
+    bind(DefaultSchedulerConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                DefaultSchedulerConfiguration.PREFIX,
+                DefaultSchedulerConfiguration.class
+            )
+        );
+
     bind(ReservationPool.class).in(Singleton.class);
+    bind(DeadlockReporter.class).in(Singleton.class);
 
     Multibinder<Scheduler.Module> moduleBinder = schedulerModuleBinder();
     moduleBinder.addBinding().to(SingleVehicleBlockModule.class);
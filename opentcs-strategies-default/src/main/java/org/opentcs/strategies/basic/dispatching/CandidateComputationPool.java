@@ -0,0 +1,152 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import org.opentcs.components.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies (expensive, read-only) computations like the computation of assignment candidates to a
+ * number of elements, optionally in parallel.
+ * <p>
+ * If the configured parallelism is greater than 1, computations are distributed to a dedicated
+ * fork/join pool and the calling thread waits for all of them to finish. Otherwise, they are
+ * applied sequentially on the calling thread. In either case, results are returned in the order of
+ * the given elements, so that any subsequent (serial) processing of them yields the same outcome.
+ * </p>
+ * <p>
+ * Computations run in parallel must not modify any shared state. Since the calling thread is
+ * usually the kernel executor holding the kernel's global synchronization object while it waits
+ * for the computations, they must also never call a method synchronizing on that object (e.g. any
+ * modifying kernel service method), as this would deadlock the kernel. Computations of assignment
+ * candidates satisfy this:
+ * </p>
+ * <ul>
+ * <li>All data not related to routing (e.g. vehicle positions) is fetched before forking.</li>
+ * <li>Routes are computed by the router, which only synchronizes on itself while looking up the
+ * point router to use and computes the routes with the (immutable) point router without holding
+ * any lock.</li>
+ * <li>The router and the routing graphs read kernel objects only via the read methods of the
+ * kernel's object service, which work on immutable snapshots and do not synchronize on the global
+ * synchronization object.</li>
+ * </ul>
+ */
+public class CandidateComputationPool
+    implements
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CandidateComputationPool.class);
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The pool to run parallel computations in, or <code>null</code>, if computations are to be
+   * applied sequentially.
+   */
+  private volatile ForkJoinPool pool;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public CandidateComputationPool(DefaultDispatcherConfiguration configuration) {
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    int parallelism = configuration.candidateComputationParallelism();
+    if (parallelism > 1) {
+      LOG.debug("Computing assignment candidates with a parallelism of {}.", parallelism);
+      pool = new ForkJoinPool(
+          parallelism,
+          forkJoinPool -> {
+            ForkJoinWorkerThread thread
+                = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("candidateComputationPool-" + thread.getPoolIndex());
+            return thread;
+          },
+          null,
+          false
+      );
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pool != null) {
+      pool.shutdown();
+      pool = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Applies the given computation to all of the given elements.
+   *
+   * @param <T> The type of the elements.
+   * @param <R> The type of the results.
+   * @param elements The elements.
+   * @param computation The computation.
+   * @return The results of the computation, in the order of the given elements.
+   */
+  @Nonnull
+  public <T, R> List<R> computeAll(
+      @Nonnull
+      List<T> elements,
+      @Nonnull
+      Function<? super T, ? extends R> computation
+  ) {
+    requireNonNull(elements, "elements");
+    requireNonNull(computation, "computation");
+
+    ForkJoinPool currentPool = pool;
+    if (currentPool == null || elements.size() < 2) {
+      return elements.stream()
+          .<R>map(computation)
+          .toList();
+    }
+
+    return currentPool.submit(
+        () -> elements.parallelStream()
+            .<R>map(computation)
+            .toList()
+    )
+        .join();
+  }
+}
@@ -52,6 +52,10 @@ public class DefaultDispatcher
   private final ScheduledExecutorService kernelExecutor;
 
   private final FullDispatchTask fullDispatchTask;
+  /**
+   * Keeps track of changes relevant for dispatching.
+   */
+  private final DispatchChangeTracker changeTracker;
 
   private final Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider;
 
@@ -63,6 +67,8 @@ public class DefaultDispatcher
 
   private final TransportOrderAssignmentChecker transportOrderAssignmentChecker;
 
+  private final CandidateComputationPool candidateComputationPool;
+
   private ScheduledFuture<?> periodicDispatchTaskFuture;
   /**
    * Indicates whether this component is enabled.
@@ -77,12 +83,14 @@ public class DefaultDispatcher
    * @param vehicleService The vehicle service.
    * @param kernelExecutor Executes dispatching tasks.
    * @param fullDispatchTask The full dispatch task.
+   * @param changeTracker Keeps track of changes relevant for dispatching.
    * @param periodicDispatchTaskProvider Provides the periodic vehicle redospatching task.
    * @param configuration The dispatcher configuration.
    * @param rerouteUtil The reroute util.
    * @param orderAssigner Handles assignments of transport orders to vehicles.
    * @param transportOrderAssignmentChecker Checks whether the assignment of transport orders to
    * vehicles is possible.
+   * @param candidateComputationPool Computes assignment candidates, optionally in parallel.
    */
   @Inject
   public DefaultDispatcher(
@@ -92,17 +100,20 @@ public class DefaultDispatcher
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       FullDispatchTask fullDispatchTask,
+      DispatchChangeTracker changeTracker,
       Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
       OrderAssigner orderAssigner,
-      TransportOrderAssignmentChecker transportOrderAssignmentChecker
+      TransportOrderAssignmentChecker transportOrderAssignmentChecker,
+      CandidateComputationPool candidateComputationPool
   ) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
     this.periodicDispatchTaskProvider = requireNonNull(
         periodicDispatchTaskProvider,
         "periodicDispatchTaskProvider"
@@ -114,6 +125,8 @@ public class DefaultDispatcher
         transportOrderAssignmentChecker,
         "transportOrderAssignmentChecker"
     );
+    this.candidateComputationPool
+        = requireNonNull(candidateComputationPool, "candidateComputationPool");
   }
 
   @Override
@@ -126,8 +139,12 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    candidateComputationPool.initialize();
 
     fullDispatchTask.initialize();
+    if (configuration.incrementalDispatching()) {
+      changeTracker.initialize();
+    }
 
     LOG.debug(
         "Scheduling periodic dispatch task with interval of {} ms...",
@@ -154,7 +171,9 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture.cancel(false);
     periodicDispatchTaskFuture = null;
 
+    changeTracker.terminate();
     fullDispatchTask.terminate();
+    candidateComputationPool.terminate();
 
     initialized = false;
   }
@@ -167,7 +186,12 @@ public class DefaultDispatcher
   @Override
   public void dispatch() {
     LOG.debug("Executing dispatch task...");
-    fullDispatchTask.run();
+    if (changeTracker.isInitialized()) {
+      fullDispatchTask.run(changeTracker.fetchChanges());
+    }
+    else {
+      fullDispatchTask.run();
+    }
   }
 
   @Override
@@ -75,6 +75,20 @@ public interface DefaultDispatcherConfiguration {
   )
   List<String> orderCandidatePriorities();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {"The strategy used for assigning transport orders to vehicles.",
+          "Possible values:",
+          "GREEDY: Assign each vehicle/transport order the best candidate according to the "
+              + "configured priorities, one after the other.",
+          "MIN_COST_MATCHING: Assign transport orders to vehicles such that the total routing "
+              + "costs to the orders' first destinations are minimal. Transport orders are "
+              + "considered in tiers according to the configured order priorities."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_1"
+  )
+  AssignmentStrategy assignmentStrategy();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The time window (in ms) before its deadline in which an order becomes urgent.",
@@ -92,6 +106,20 @@ public interface DefaultDispatcherConfiguration {
   )
   int maxRoutesToConsider();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of threads used for computing assignment candidates (i.e. routes for "
+              + "pairs of vehicles and transport orders) in parallel.",
+          "With a value of 1, assignment candidates are computed sequentially on the kernel "
+              + "executor. The final selection and assignment of candidates is always done "
+              + "sequentially."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "0_assign_special_2"
+  )
+  int candidateComputationParallelism();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -190,6 +218,37 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether dispatch runs should only consider vehicles, transport orders and order "
+              + "sequences that changed since the previous run.",
+          "Periodic redispatching of idle vehicles, changes to paths, locations and blocks, "
+              + "dispatch runs without any changed objects and dispatch runs with too many changed "
+              + "objects always result in full dispatch runs."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "9_misc"
+  )
+  boolean incrementalDispatching();
+
+  /**
+   * The available strategies for assigning transport orders to vehicles.
+   */
+  enum AssignmentStrategy {
+    /**
+     * Assign each vehicle/transport order the best candidate according to the configured
+     * priorities, one after the other.
+     */
+    GREEDY,
+    /**
+     * Assign transport orders to vehicles such that the total routing costs to the orders' first
+     * destinations are minimal, considering transport orders in tiers according to the configured
+     * order priorities.
+     */
+    MIN_COST_MATCHING;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Keeps track of changes to objects relevant for dispatching, so that dispatch runs can be limited
+ * to the objects that actually changed since the previous run.
+ * <p>
+ * Changes to vehicles, transport orders and order sequences are recorded by name. Changes to other
+ * objects that may affect the assignability of transport orders (e.g. locked paths or locations)
+ * cannot be attributed to specific vehicles or orders and thus require a full dispatch run. If more
+ * objects changed than {@link #MAX_CHANGED_OBJECTS}, a full dispatch run is required, too, as it is
+ * not more expensive than an incremental one any more.
+ * </p>
+ */
+public class DispatchChangeTracker
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * The maximum number of changed objects to be recorded before a full dispatch run is required.
+   */
+  public static final int MAX_CHANGED_OBJECTS = 1000;
+  /**
+   * The event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The names of the vehicles that have changed.
+   * Guarded by <code>this</code>.
+   */
+  private Set<String> vehicleNames = new HashSet<>();
+  /**
+   * The names of the transport orders that have changed.
+   * Guarded by <code>this</code>.
+   */
+  private Set<String> transportOrderNames = new HashSet<>();
+  /**
+   * The names of the order sequences that have changed.
+   * Guarded by <code>this</code>.
+   */
+  private Set<String> orderSequenceNames = new HashSet<>();
+  /**
+   * Whether a full dispatch run is required.
+   * Guarded by <code>this</code>.
+   */
+  private boolean fullRunRequired = true;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventBus The event bus to receive object events from.
+   */
+  @Inject
+  public DispatchChangeTracker(
+      @ApplicationEventBus
+      EventBus eventBus
+  ) {
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    requestFullRun();
+    eventBus.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventBus.unsubscribe(this);
+    fetchChanges();
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    synchronized (this) {
+      if (fullRunRequired) {
+        return;
+      }
+
+      if (object instanceof Vehicle) {
+        vehicleNames.add(object.getName());
+      }
+      else if (object instanceof TransportOrder) {
+        transportOrderNames.add(object.getName());
+      }
+      else if (object instanceof OrderSequence) {
+        orderSequenceNames.add(object.getName());
+      }
+      else if (object instanceof Path
+          || object instanceof Location
+          || object instanceof LocationType
+          || object instanceof Block) {
+        requestFullRun();
+      }
+
+      if (vehicleNames.size() + transportOrderNames.size() + orderSequenceNames.size()
+          > MAX_CHANGED_OBJECTS) {
+        requestFullRun();
+      }
+    }
+  }
+
+  /**
+   * Marks the next dispatch run as a full one.
+   */
+  public synchronized void requestFullRun() {
+    fullRunRequired = true;
+    // The names of changed objects are irrelevant for a full dispatch run.
+    vehicleNames.clear();
+    transportOrderNames.clear();
+    orderSequenceNames.clear();
+  }
+
+  /**
+   * Returns the changes recorded since the previous call of this method and resets them.
+   *
+   * @return The changes recorded since the previous call of this method.
+   */
+  @Nonnull
+  public synchronized DispatchChanges fetchChanges() {
+    DispatchChanges result = fullRunRequired
+        ? DispatchChanges.FULL
+        : new DispatchChanges(false, vehicleNames, transportOrderNames, orderSequenceNames);
+
+    vehicleNames = new HashSet<>();
+    transportOrderNames = new HashSet<>();
+    orderSequenceNames = new HashSet<>();
+    fullRunRequired = false;
+
+    return result;
+  }
+}
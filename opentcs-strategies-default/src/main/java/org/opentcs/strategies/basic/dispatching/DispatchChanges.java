@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Describes the changes relevant for dispatching that happened since the previous dispatch run.
+ */
+public class DispatchChanges {
+
+  /**
+   * Changes requiring a full dispatch run.
+   */
+  public static final DispatchChanges FULL
+      = new DispatchChanges(true, Set.of(), Set.of(), Set.of());
+  /**
+   * Whether a full dispatch run is required.
+   */
+  private final boolean fullRunRequired;
+  /**
+   * The names of the vehicles that have changed.
+   */
+  private final Set<String> vehicleNames;
+  /**
+   * The names of the transport orders that have changed.
+   */
+  private final Set<String> transportOrderNames;
+  /**
+   * The names of the order sequences that have changed.
+   */
+  private final Set<String> orderSequenceNames;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param fullRunRequired Whether a full dispatch run is required.
+   * @param vehicleNames The names of the vehicles that have changed.
+   * @param transportOrderNames The names of the transport orders that have changed.
+   * @param orderSequenceNames The names of the order sequences that have changed.
+   */
+  public DispatchChanges(
+      boolean fullRunRequired,
+      @Nonnull
+      Set<String> vehicleNames,
+      @Nonnull
+      Set<String> transportOrderNames,
+      @Nonnull
+      Set<String> orderSequenceNames
+  ) {
+    this.fullRunRequired = fullRunRequired;
+    this.vehicleNames = Set.copyOf(requireNonNull(vehicleNames, "vehicleNames"));
+    this.transportOrderNames
+        = Set.copyOf(requireNonNull(transportOrderNames, "transportOrderNames"));
+    this.orderSequenceNames = Set.copyOf(requireNonNull(orderSequenceNames, "orderSequenceNames"));
+  }
+
+  /**
+   * Indicates whether a full dispatch run is required, i.e. whether changes happened that are not
+   * covered by the sets of changed objects.
+   *
+   * @return <code>true</code> if, and only if, a full dispatch run is required.
+   */
+  public boolean isFullRunRequired() {
+    return fullRunRequired;
+  }
+
+  /**
+   * Indicates whether no changes happened at all, i.e. neither a full dispatch run is required nor
+   * has any vehicle, transport order or order sequence changed.
+   *
+   * @return <code>true</code> if, and only if, no changes happened.
+   */
+  public boolean isEmpty() {
+    return !fullRunRequired
+        && vehicleNames.isEmpty()
+        && transportOrderNames.isEmpty()
+        && orderSequenceNames.isEmpty();
+  }
+
+  /**
+   * Returns the names of the vehicles that have changed.
+   *
+   * @return The names of the vehicles that have changed.
+   */
+  @Nonnull
+  public Set<String> getVehicleNames() {
+    return vehicleNames;
+  }
+
+  /**
+   * Returns the names of the transport orders that have changed.
+   *
+   * @return The names of the transport orders that have changed.
+   */
+  @Nonnull
+  public Set<String> getTransportOrderNames() {
+    return transportOrderNames;
+  }
+
+  /**
+   * Returns the names of the order sequences that have changed.
+   *
+   * @return The names of the order sequences that have changed.
+   */
+  @Nonnull
+  public Set<String> getOrderSequenceNames() {
+    return orderSequenceNames;
+  }
+
+  @Override
+  public String toString() {
+    return "DispatchChanges{"
+        + "fullRunRequired=" + fullRunRequired
+        + ", vehicleNames=" + vehicleNames.size()
+        + ", transportOrderNames=" + transportOrderNames.size()
+        + ", orderSequenceNames=" + orderSequenceNames.size()
+        + '}';
+  }
+}
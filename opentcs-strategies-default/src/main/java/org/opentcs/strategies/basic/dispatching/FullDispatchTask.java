@@ -149,6 +149,44 @@ public class FullDispatchTask
     LOG.debug("Finished full dispatch run.");
   }
 
+  /**
+   * Performs a dispatch run that only considers candidates affected by the given changes.
+   * <p>
+   * If the given changes require a full dispatch run or are empty (i.e. the dispatch run was
+   * requested for a reason not reflected by changed objects), a full run is performed instead.
+   * Otherwise, new and free transport orders are only checked if they or the vehicles they could
+   * be assigned to have changed, and recharging and parking of vehicles is only checked if any
+   * vehicle has changed.
+   * </p>
+   *
+   * @param changes The changes since the previous dispatch run.
+   */
+  public final void run(DispatchChanges changes) {
+    requireNonNull(changes, "changes");
+
+    if (changes.isFullRunRequired() || changes.isEmpty()) {
+      run();
+      return;
+    }
+
+    LOG.debug("Starting incremental dispatch run for {}...", changes);
+
+    checkNewOrdersPhase.run(changes);
+    // Check what vehicles involved in a process should do.
+    finishWithdrawalsPhase.run();
+    assignNextDriveOrdersPhase.run();
+    assignSequenceSuccessorsPhase.run();
+    // Check what vehicles not already in a process should do.
+    assignReservedOrdersPhase.run();
+    assignFreeOrdersPhase.run(changes);
+    if (!changes.getVehicleNames().isEmpty()) {
+      rechargeVehicles();
+      parkVehicles();
+    }
+
+    LOG.debug("Finished incremental dispatch run.");
+  }
+
   /**
    * Assignment of orders to vehicles.
    * <p>
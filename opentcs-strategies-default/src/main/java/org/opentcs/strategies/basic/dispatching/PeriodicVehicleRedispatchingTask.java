@@ -32,19 +32,24 @@ public class PeriodicVehicleRedispatchingTask
 
   private final TCSObjectService objectService;
 
+  private final DispatchChangeTracker changeTracker;
+
   /**
    * Creates a new instance.
    *
    * @param dispatcherService The dispatcher service used to dispatch vehicles.
    * @param objectService The object service.
+   * @param changeTracker Keeps track of changes relevant for dispatching.
    */
   @Inject
   public PeriodicVehicleRedispatchingTask(
       DispatcherService dispatcherService,
-      TCSObjectService objectService
+      TCSObjectService objectService,
+      DispatchChangeTracker changeTracker
   ) {
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.objectService = requireNonNull(objectService, "objectService");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -55,6 +60,8 @@ public class PeriodicVehicleRedispatchingTask
         .findAny()
         .ifPresent(vehicle -> {
           LOG.debug("Vehicle {} could process transport order, triggering dispatcher ...", vehicle);
+          // As a safety net for incremental dispatching, periodic runs always consider everything.
+          changeTracker.requestFullRun();
           dispatcherService.dispatch();
         });
   }
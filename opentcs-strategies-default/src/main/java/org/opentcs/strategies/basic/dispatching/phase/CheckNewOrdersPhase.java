@@ -9,6 +9,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChanges;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 
@@ -78,6 +79,25 @@ public class CheckNewOrdersPhase
         .forEach(order -> checkRawTransportOrder(order));
   }
 
+  /**
+   * Checks only the transport orders that have changed according to the given changes.
+   *
+   * @param changes The changes since the previous dispatch run.
+   */
+  public void run(DispatchChanges changes) {
+    requireNonNull(changes, "changes");
+
+    if (changes.isFullRunRequired()) {
+      run();
+      return;
+    }
+
+    changes.getTransportOrderNames().stream()
+        .map(name -> objectService.fetchObject(TransportOrder.class, name))
+        .filter(order -> order != null && inRawState(order))
+        .forEach(order -> checkRawTransportOrder(order));
+  }
+
   private void checkRawTransportOrder(TransportOrder order) {
     requireNonNull(order, "order");
 
@@ -6,13 +6,17 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchChanges;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
@@ -122,15 +126,7 @@ public class AssignFreeOrdersPhase
 
   @Override
   public void run() {
-    Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
-        = objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder)
-            .stream()
-            .map(vehicle -> new VehicleFilterResult(vehicle, vehicleSelectionFilter.apply(vehicle)))
-            .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
-
-    Collection<Vehicle> availableVehicles = vehiclesSplitByFilter.get(Boolean.TRUE).stream()
-        .map(VehicleFilterResult::getVehicle)
-        .collect(Collectors.toList());
+    Collection<Vehicle> availableVehicles = fetchAvailableVehicles(vehicle -> true);
 
     if (availableVehicles.isEmpty()) {
       LOG.debug("No vehicles available, skipping potentially expensive fetching of orders.");
@@ -140,14 +136,94 @@ public class AssignFreeOrdersPhase
     //Make sure all order sequences have their first really dispatchable order
     //marked as such and skip all skippable orders.
     markFirstDispatchableOrderInUnassignedSequences();
-    // Select only dispatchable orders first, then apply the composite filter, handle
-    // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
-    Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+    tryAssignments(
+        availableVehicles,
+        objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+    );
+  }
+
+  /**
+   * Assigns transport orders to vehicles, considering only candidates affected by the given
+   * changes.
+   * <p>
+   * Pairs of vehicles and transport orders that have both not changed since the previous dispatch
+   * run have already been considered in that run and are not considered again. Depending on which
+   * of them changed, either only the changed vehicles are matched against all transport orders,
+   * or all vehicles are matched against only the changed transport orders. If the given changes
+   * require a full dispatch run or are empty, all candidates are considered.
+   * </p>
+   *
+   * @param changes The changes since the previous dispatch run.
+   */
+  public void run(DispatchChanges changes) {
+    requireNonNull(changes, "changes");
+
+    if (changes.isFullRunRequired() || changes.isEmpty()) {
+      run();
+      return;
+    }
+
+    Collection<Vehicle> changedVehicles
+        = fetchAvailableVehicles(vehicle -> changes.getVehicleNames().contains(vehicle.getName()));
+
+    markFirstDispatchableOrderInChangedSequences(changes);
+    Set<TransportOrder> changedOrders = changes.getTransportOrderNames().stream()
+        .map(name -> objectService.fetchObject(TransportOrder.class, name))
+        .filter(order -> order != null && isFreelyDispatchableToAnyVehicle.test(order))
+        .collect(Collectors.toSet());
+
+    if (changedVehicles.isEmpty() && changedOrders.isEmpty()) {
+      LOG.debug("No changed vehicles or transport orders available, skipping assignment.");
+      return;
+    }
+
+    if (changedOrders.isEmpty()) {
+      tryAssignments(
+          changedVehicles,
+          objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+      );
+      return;
+    }
+
+    Collection<Vehicle> availableVehicles = fetchAvailableVehicles(vehicle -> true);
+    if (availableVehicles.isEmpty()) {
+      LOG.debug("No vehicles available, skipping assignment.");
+      return;
+    }
+
+    tryAssignments(
+        availableVehicles,
+        changedVehicles.isEmpty()
+            ? changedOrders
+            : objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+    );
+  }
+
+  private Collection<Vehicle> fetchAvailableVehicles(Predicate<Vehicle> predicate) {
+    Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
+        = objectService.fetchObjects(
+            Vehicle.class,
+            vehicle -> predicate.test(vehicle) && isAvailableForAnyOrder.test(vehicle)
+        )
             .stream()
-            .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
+            .map(vehicle -> new VehicleFilterResult(vehicle, vehicleSelectionFilter.apply(vehicle)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
+    return vehiclesSplitByFilter.get(Boolean.TRUE).stream()
+        .map(VehicleFilterResult::getVehicle)
+        .collect(Collectors.toList());
+  }
+
+  private void tryAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> dispatchableOrders
+  ) {
+    // Apply the composite filter to the dispatchable orders, handle the orders that can be tried
+    // as usual and mark the others as filtered (if they aren't, yet).
+    Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter = dispatchableOrders.stream()
+        .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
+        .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
+
     markNewlyFilteredOrders(ordersSplitByFilter.get(Boolean.FALSE));
 
     orderAssigner.tryAssignments(
@@ -173,6 +249,26 @@ public class AssignFreeOrdersPhase
         );
   }
 
+  private void markFirstDispatchableOrderInChangedSequences(DispatchChanges changes) {
+    Set<String> sequenceNames = new HashSet<>(changes.getOrderSequenceNames());
+    changes.getTransportOrderNames().stream()
+        .map(name -> objectService.fetchObject(TransportOrder.class, name))
+        .filter(order -> order != null && order.getWrappingSequence() != null)
+        .forEach(order -> sequenceNames.add(order.getWrappingSequence().getName()));
+
+    sequenceNames.stream()
+        .map(name -> objectService.fetchObject(OrderSequence.class, name))
+        .filter(seq -> seq != null && seq.getProcessingVehicle() == null)
+        .filter(this::containsDispatchableOrder)
+        .forEach(seq -> transportOrderUtil.nextDispatchableOrderInSequence(seq.getReference()));
+  }
+
+  private boolean containsDispatchableOrder(OrderSequence seq) {
+    return seq.getOrders().stream()
+        .map(orderRef -> objectService.fetchObject(TransportOrder.class, orderRef))
+        .anyMatch(order -> order != null && order.hasState(TransportOrder.State.DISPATCHABLE));
+  }
+
   private void markNewlyFilteredOrders(Collection<OrderFilterResult> filterResults) {
     filterResults.stream()
         .filter(
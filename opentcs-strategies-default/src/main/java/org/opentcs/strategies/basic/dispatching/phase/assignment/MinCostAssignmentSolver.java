@@ -0,0 +1,163 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Solves the assignment problem (i.e. computes a min-cost matching in a bipartite graph) using the
+ * Hungarian method, in O(n<sup>2</sup> * m) for a matrix with n rows and m columns (n &lt;= m).
+ */
+final class MinCostAssignmentSolver {
+
+  /**
+   * Marks a pair of row and column that must not be assigned to each other.
+   */
+  static final long INFEASIBLE = -1;
+  /**
+   * Marks a row that is not assigned to any column.
+   */
+  static final int UNASSIGNED = -1;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostAssignmentSolver() {
+  }
+
+  /**
+   * Computes an assignment of rows to columns with minimal total costs.
+   * <p>
+   * The assignment maximizes the number of assigned rows first, and minimizes the total costs of
+   * the assigned pairs second.
+   * </p>
+   *
+   * @param costs The costs of assigning a row (first index) to a column (second index). All rows
+   * must have the same length. Costs must be non-negative or {@link #INFEASIBLE}.
+   * @return For every row, the index of the column it is assigned to, or {@link #UNASSIGNED}.
+   */
+  static int[] solve(long[][] costs) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNASSIGNED);
+    if (rowCount == 0 || columnCount == 0) {
+      return result;
+    }
+
+    // Infeasible pairs get costs higher than those of any combination of feasible pairs, so that
+    // a feasible pair is never replaced by an infeasible one.
+    long maxCosts = 0;
+    for (long[] row : costs) {
+      for (long cost : row) {
+        maxCosts = Math.max(maxCosts, cost);
+      }
+    }
+    long infeasibleCosts = saturatedMultiply(maxCosts + 1, Math.min(rowCount, columnCount) + 1);
+
+    boolean transposed = rowCount > columnCount;
+    int n = transposed ? columnCount : rowCount;
+    int m = transposed ? rowCount : columnCount;
+    long[][] matrix = new long[n][m];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < m; j++) {
+        long cost = transposed ? costs[j][i] : costs[i][j];
+        matrix[i][j] = cost == INFEASIBLE ? infeasibleCosts : cost;
+      }
+    }
+
+    int[] columnAssignment = hungarian(matrix, n, m);
+
+    for (int j = 0; j < m; j++) {
+      int i = columnAssignment[j];
+      if (i == UNASSIGNED || matrix[i][j] == infeasibleCosts) {
+        continue;
+      }
+      if (transposed) {
+        result[j] = i;
+      }
+      else {
+        result[i] = j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Assigns every row of the given matrix to a distinct column.
+   *
+   * @return For every column, the row assigned to it, or {@link #UNASSIGNED}.
+   */
+  private static int[] hungarian(long[][] matrix, int n, int m) {
+    // Potentials and assignments are 1-based, with row/column 0 being a virtual one.
+    long[] rowPotentials = new long[n + 1];
+    long[] columnPotentials = new long[m + 1];
+    int[] rowOfColumn = new int[m + 1];
+    int[] way = new int[m + 1];
+    long[] minSlack = new long[m + 1];
+    boolean[] used = new boolean[m + 1];
+
+    for (int i = 1; i <= n; i++) {
+      rowOfColumn[0] = i;
+      int currentColumn = 0;
+      Arrays.fill(minSlack, Long.MAX_VALUE);
+      Arrays.fill(used, false);
+      do {
+        used[currentColumn] = true;
+        int currentRow = rowOfColumn[currentColumn];
+        long delta = Long.MAX_VALUE;
+        int nextColumn = 0;
+        for (int j = 1; j <= m; j++) {
+          if (used[j]) {
+            continue;
+          }
+          long slack = matrix[currentRow - 1][j - 1] - rowPotentials[currentRow]
+              - columnPotentials[j];
+          if (slack < minSlack[j]) {
+            minSlack[j] = slack;
+            way[j] = currentColumn;
+          }
+          if (minSlack[j] < delta) {
+            delta = minSlack[j];
+            nextColumn = j;
+          }
+        }
+        for (int j = 0; j <= m; j++) {
+          if (used[j]) {
+            rowPotentials[rowOfColumn[j]] += delta;
+            columnPotentials[j] -= delta;
+          }
+          else {
+            minSlack[j] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowOfColumn[currentColumn] != 0);
+
+      // Augment along the alternating path found.
+      do {
+        int previousColumn = way[currentColumn];
+        rowOfColumn[currentColumn] = rowOfColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] result = new int[m];
+    for (int j = 1; j <= m; j++) {
+      result[j - 1] = rowOfColumn[j] == 0 ? UNASSIGNED : rowOfColumn[j] - 1;
+    }
+    return result;
+  }
+
+  private static long saturatedMultiply(long a, long b) {
+    // Leave enough headroom for the sums of potentials computed by the algorithm.
+    long limit = Long.MAX_VALUE / 4;
+    return a > limit / b ? limit : a * b;
+  }
+}
@@ -5,6 +5,8 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -12,12 +14,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -78,6 +83,14 @@ public class OrderAssigner {
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Computes assignment candidates, optionally in parallel.
+   */
+  private final CandidateComputationPool candidateComputationPool;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
 
   @Inject
   public OrderAssigner(
@@ -90,7 +103,9 @@ public class OrderAssigner {
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DispatchingStatusMarker dispatchingStatusMarker,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      CandidateComputationPool candidateComputationPool,
+      DefaultDispatcherConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -117,6 +132,11 @@ public class OrderAssigner {
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.candidateComputationPool = requireNonNull(
+        candidateComputationPool,
+        "candidateComputationPool"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
@@ -136,7 +156,11 @@ public class OrderAssigner {
     );
 
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
+    if (configuration.assignmentStrategy()
+        == DefaultDispatcherConfiguration.AssignmentStrategy.MIN_COST_MATCHING) {
+      tryAssignByMatching(availableVehicles, availableOrders, assignmentState);
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
       availableVehicles.stream()
           .sorted(vehicleComparator)
           .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
@@ -170,14 +194,20 @@ public class OrderAssigner {
 
     Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    List<TransportOrder> assignableOrders = availableOrders.stream()
+        .filter(
+            order -> (!assignmentState.wasAssignedToVehicle(order)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableOrders.stream()
-            .filter(
-                order -> (!assignmentState.wasAssignedToVehicle(order)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
+        = candidateComputationPool.computeAll(
+            assignableOrders,
+            order -> computeCandidate(vehicle, vehiclePosition, order)
+        )
+            .stream()
             .filter(optCandidate -> optCandidate.isPresent())
             .map(optCandidate -> optCandidate.get())
             .map(
@@ -206,20 +236,28 @@ public class OrderAssigner {
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
+    List<Vehicle> assignableVehicles = availableVehicles.stream()
+        .filter(
+            vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
+    // Fetch the vehicles' positions before forking, see CandidateComputationPool.
+    List<Point> vehiclePositions = assignableVehicles.stream()
+        .map(vehicle -> objectService.fetchObject(Point.class, vehicle.getCurrentPosition()))
+        .toList();
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableVehicles.stream()
-            .filter(
-                vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
-                    order
-                )
+        = candidateComputationPool.computeAll(
+            IntStream.range(0, assignableVehicles.size()).boxed().toList(),
+            index -> computeCandidate(
+                assignableVehicles.get(index),
+                vehiclePositions.get(index),
+                order
             )
+        )
+            .stream()
             .filter(optCandidate -> optCandidate.isPresent())
             .map(optCandidate -> optCandidate.get())
             .map(
@@ -241,6 +279,108 @@ public class OrderAssigner {
         .ifPresent(candidate -> assignOrder(candidate, assignmentState));
   }
 
+  /**
+   * Assigns transport orders to vehicles such that the total initial routing costs (i.e. the costs
+   * of the vehicles' empty travel to the orders' first destinations) are minimal.
+   * <p>
+   * Transport orders are sorted by priority and split into tiers of as many orders as there are
+   * vehicles left. The orders of each tier are assigned optimally to the vehicles left before any
+   * orders of the next tier are considered, so that a less important order never takes a vehicle
+   * away from a more important one.
+   * </p>
+   */
+  private void tryAssignByMatching(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState
+  ) {
+    List<Vehicle> sortedVehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .toList();
+    List<TransportOrder> sortedOrders = availableOrders.stream()
+        .sorted(orderComparator)
+        .toList();
+
+    int tierStart = 0;
+    while (tierStart < sortedOrders.size()) {
+      List<Vehicle> tierVehicles = sortedVehicles.stream()
+          .filter(vehicle -> !assignmentState.wasAssignedToOrder(vehicle))
+          .toList();
+      if (tierVehicles.isEmpty()) {
+        return;
+      }
+      int tierEnd = Math.min(sortedOrders.size(), tierStart + tierVehicles.size());
+      assignTier(tierVehicles, sortedOrders.subList(tierStart, tierEnd), assignmentState);
+      tierStart = tierEnd;
+    }
+  }
+
+  private void assignTier(
+      List<Vehicle> vehicles,
+      List<TransportOrder> orders,
+      AssignmentState assignmentState
+  ) {
+    LOG.debug(
+        "Computing min-cost assignment for {} vehicles and {} transport orders...",
+        vehicles.size(),
+        orders.size()
+    );
+
+    List<Point> vehiclePositions = vehicles.stream()
+        .map(vehicle -> objectService.fetchObject(Point.class, vehicle.getCurrentPosition()))
+        .toList();
+    List<CandidatePair> pairs = new ArrayList<>();
+    for (int vehicleIndex = 0; vehicleIndex < vehicles.size(); vehicleIndex++) {
+      for (int orderIndex = 0; orderIndex < orders.size(); orderIndex++) {
+        Vehicle vehicle = vehicles.get(vehicleIndex);
+        TransportOrder order = orders.get(orderIndex);
+        if (vehicleCanTakeOrder(vehicle, order) && orderAssignableToVehicle(order, vehicle)) {
+          pairs.add(new CandidatePair(vehicleIndex, orderIndex));
+        }
+      }
+    }
+
+    List<Optional<AssignmentCandidate>> computedCandidates = candidateComputationPool.computeAll(
+        pairs,
+        pair -> computeCandidate(
+            vehicles.get(pair.vehicleIndex()),
+            vehiclePositions.get(pair.vehicleIndex()),
+            orders.get(pair.orderIndex())
+        )
+    );
+
+    long[][] costs = new long[vehicles.size()][orders.size()];
+    for (long[] row : costs) {
+      Arrays.fill(row, MinCostAssignmentSolver.INFEASIBLE);
+    }
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    for (int i = 0; i < pairs.size(); i++) {
+      if (computedCandidates.get(i).isEmpty()) {
+        continue;
+      }
+      AssignmentCandidate candidate = computedCandidates.get(i).get();
+      CandidateFilterResult filterResult = new CandidateFilterResult(
+          candidate,
+          assignmentCandidateSelectionFilter.apply(candidate)
+      );
+      if (filterResult.isFiltered()) {
+        assignmentState.addFilteredOrder(filterResult.toFilterResult());
+        continue;
+      }
+      CandidatePair pair = pairs.get(i);
+      costs[pair.vehicleIndex()][pair.orderIndex()]
+          = Math.max(0, candidate.getInitialRoutingCosts());
+      candidates[pair.vehicleIndex()][pair.orderIndex()] = candidate;
+    }
+
+    int[] assignment = MinCostAssignmentSolver.solve(costs);
+    for (int vehicleIndex = 0; vehicleIndex < assignment.length; vehicleIndex++) {
+      if (assignment[vehicleIndex] != MinCostAssignmentSolver.UNASSIGNED) {
+        assignOrder(candidates[vehicleIndex][assignment[vehicleIndex]], assignmentState);
+      }
+    }
+  }
+
   private void assignOrder(AssignmentCandidate candidate, AssignmentState assignmentState) {
     // If the vehicle currently has a (dispensable) order, we may not assign the new one here
     // directly, but must abort the old one (DefaultDispatcher.abortOrder()) and wait for the
@@ -308,4 +448,10 @@ public class OrderAssigner {
                     || orderType.getName().equals(OrderConstants.TYPE_ANY)
             ));
   }
+
+  /**
+   * A pair of a vehicle and a transport order, identified by their indices.
+   */
+  private record CandidatePair(int vehicleIndex, int orderIndex) {
+  }
 }
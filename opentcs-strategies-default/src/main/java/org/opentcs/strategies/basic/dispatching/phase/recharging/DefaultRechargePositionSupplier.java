@@ -23,6 +23,7 @@ import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
@@ -144,9 +145,19 @@ public class DefaultRechargePositionSupplier
   @Nullable
   private Location findCheapestLocation(Map<Location, Set<Point>> locations, Vehicle vehicle) {
     Point curPos = plantModelService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    // Look up the routes to the access points of all locations at once.
+    Map<Point, Set<Route>> routesByPoint = router.getRoutes(
+        vehicle,
+        curPos,
+        locations.values().stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet()),
+        Set.of(),
+        configuration.maxRoutesToConsider()
+    );
 
     return locations.entrySet().stream()
-        .map(entry -> bestAccessPointCandidate(vehicle, curPos, entry.getKey(), entry.getValue()))
+        .map(entry -> bestAccessPointCandidate(entry.getKey(), entry.getValue(), routesByPoint))
         .filter(candidate -> candidate.isPresent())
         .map(candidate -> candidate.get())
         .min(Comparator.comparingLong(candidate -> candidate.costs))
@@ -233,25 +244,16 @@ public class DefaultRechargePositionSupplier
   }
 
   private Optional<LocationCandidate> bestAccessPointCandidate(
-      Vehicle vehicle,
-      Point srcPosition,
       Location location,
-      Set<Point> destPositions
+      Set<Point> destPositions,
+      Map<Point, Set<Route>> routesByPoint
   ) {
     return destPositions.stream()
         .map(
             point -> new LocationCandidate(
                 location,
                 routeSelector
-                    .select(
-                        router.getRoutes(
-                            vehicle,
-                            srcPosition,
-                            point,
-                            Set.of(),
-                            configuration.maxRoutesToConsider()
-                        )
-                    )
+                    .select(routesByPoint.getOrDefault(point, Set.of()))
                     .map(route -> route.getCosts())
                     .orElse(Long.MAX_VALUE)
             )
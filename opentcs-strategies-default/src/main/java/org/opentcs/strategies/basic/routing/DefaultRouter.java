@@ -234,22 +234,20 @@ public class DefaultRouter
     requireNonNull(transportOrder, "transportOrder");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
+    // TODO: Once maxRouteCount is actually used, ensure to cap it at
+    //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
+    List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+    DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    PointRouter pointRouter;
     synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
-          vehicle,
-          transportOrder
-      );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
+      pointRouter = pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder);
     }
+    // Point routers are not modified after they have been created (topology updates result in new
+    // ones), so the actual route computation does not need to hold the lock. This allows routes to
+    // be computed for multiple assignment candidates in parallel.
+    List<Route> routes
+        = new OrderRouteSearch(driveOrders, pointRouter).computeCheapestOrderRoute(sourcePoint);
+    return (routes == null) ? Set.of() : Set.of(routes);
   }
 
   @Override
@@ -291,6 +289,53 @@ public class DefaultRouter
     }
   }
 
+  @Override
+  public Map<Point, Set<Route>> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(resourcesToAvoid, "resourcesToAvoid");
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    PointRouter pointRouter;
+    synchronized (this) {
+      pointRouter = pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+    }
+    RoutesFromPoint routes = pointRouter.getRoutesFromPoint(sourcePoint, destinationPoints);
+
+    Map<Point, Set<Route>> result = new HashMap<>();
+    for (Point destinationPoint : destinationPoints) {
+      List<Route.Step> steps = routes.getRouteSteps(destinationPoint);
+      if (steps == null) {
+        result.put(destinationPoint, Set.of());
+      }
+      else if (steps.isEmpty()) {
+        // If the list of steps is empty, we're already at the destination point create a single
+        // step without a path.
+        result.put(
+            destinationPoint,
+            Set.of(
+                new Route(
+                    List.of(
+                        new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
+                    )
+                )
+            )
+        );
+      }
+      else {
+        result.put(destinationPoint, Set.of(new Route(steps)));
+      }
+    }
+    return result;
+  }
+
   @Deprecated
   @Override
   public long getCosts(
@@ -391,76 +436,6 @@ public class DefaultRouter
     }
   }
 
-  /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
-   *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
-   */
-  private void computeCheapestOrderRoute(
-      Point startPoint,
-      OrderRouteParameterStruct params,
-      int hopIndex,
-      OrderRouteResultStruct result
-  ) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
-        }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
-        }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
-      }
-    }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
-      }
-  }
-
   /**
    * Returns all points at which a vehicle could process the given drive order.
    *
@@ -537,69 +512,167 @@ public class DefaultRouter
   }
 
   /**
-   * Contains parameters for a route to be computed.
+   * Computes the cheapest route along a list of drive orders/checkpoints.
+   * <p>
+   * The destination points of the drive orders form the stages of a layered graph, with the costs
+   * of the shortest routes between the points of consecutive stages as the weights of its edges.
+   * The cheapest chain of destination points is determined by dynamic programming over these
+   * stages, which needs the costs of each hop only once instead of once for every combination of
+   * destination points of the preceding drive orders. In addition, a first chain is determined
+   * greedily (taking the cheapest hop at every stage), and points that cannot be reached at lower
+   * costs than this chain's are not considered any further. The route steps are only looked up for
+   * the hops of the cheapest chain.
+   * </p>
    */
-  private static final class OrderRouteParameterStruct {
+  private final class OrderRouteSearch {
 
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
     /**
      * The point router for the vehicle type.
      */
     private final PointRouter pointRouter;
+    /**
+     * The destination points of the drive orders, by drive order index.
+     */
+    private final List<Set<Point>> destinationPoints = new ArrayList<>();
+    /**
+     * The routes looked up for the drive orders, by drive order index and the points they start at.
+     */
+    private final List<Map<Point, RoutesFromPoint>> hopRoutes = new ArrayList<>();
 
     /**
-     * Creates a new OrderRouteParameterStruct.
+     * Creates a new instance.
      *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
+     * @param driveOrders The drive orders to be processed as checkpoints of the route to be
+     * computed.
      * @param pointRouter The point router for the vehicle type.
      */
-    OrderRouteParameterStruct(
-        DriveOrder[] driveOrders,
-        PointRouter pointRouter
-    ) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
+    OrderRouteSearch(DriveOrder[] driveOrders, PointRouter pointRouter) {
       this.pointRouter = requireNonNull(pointRouter, "pointRouter");
+      for (DriveOrder driveOrder : driveOrders) {
+        destinationPoints.add(getDestinationPoints(driveOrder));
+        hopRoutes.add(new HashMap<>());
+      }
     }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
 
     /**
-     * The (possibly partial) route currently being examined.
-     */
-    private Route[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private Route[] bestRoute;
-    /**
-     * The costs of the best route found so far.
+     * Computes the cheapest route along the drive orders.
+     *
+     * @param startPoint The point at which the route is supposed to start.
+     * @return The routes for the individual drive orders, or {@code null}, if there is no route
+     * along all of the drive orders.
      */
-    private long bestCosts;
+    List<Route> computeCheapestOrderRoute(Point startPoint) {
+      long costsBound = computeGreedyCosts(startPoint);
+
+      // The costs of the cheapest chains to the points of the current stage.
+      Map<Point, Long> stageCosts = Map.of(startPoint, 0L);
+      // For every stage, the start points of the hops on the cheapest chains to its points.
+      List<Map<Point, Point>> predecessors = new ArrayList<>(destinationPoints.size());
+      for (int hopIndex = 0; hopIndex < destinationPoints.size(); hopIndex++) {
+        Map<Point, Long> nextStageCosts = new HashMap<>();
+        Map<Point, Point> nextPredecessors = new HashMap<>();
+        for (Map.Entry<Point, Long> entry : stageCosts.entrySet()) {
+          Point hopStart = entry.getKey();
+          RoutesFromPoint routes = getHopRoutes(hopIndex, hopStart);
+          for (Point hopDest : getHopDestinationPoints(hopIndex, hopStart)) {
+            long hopCosts = routes.getCosts(hopDest);
+            if (hopCosts == INFINITE_COSTS) {
+              continue;
+            }
+            long costs = entry.getValue() + hopCosts;
+            Long knownCosts = nextStageCosts.get(hopDest);
+            // As costs are never negative, chains exceeding the bound cannot become the cheapest.
+            if (costs <= costsBound && (knownCosts == null || costs < knownCosts)) {
+              nextStageCosts.put(hopDest, costs);
+              nextPredecessors.put(hopDest, hopStart);
+            }
+          }
+        }
+        if (nextStageCosts.isEmpty()) {
+          return null;
+        }
+        stageCosts = nextStageCosts;
+        predecessors.add(nextPredecessors);
+      }
+
+      Point hopDest = stageCosts.entrySet().stream()
+          .min(Map.Entry.comparingByValue())
+          .map(Map.Entry::getKey)
+          .orElseThrow();
+      Route[] routes = new Route[destinationPoints.size()];
+      for (int hopIndex = destinationPoints.size() - 1; hopIndex >= 0; hopIndex--) {
+        Point hopStart = predecessors.get(hopIndex).get(hopDest);
+        routes[hopIndex]
+            = toRoute(hopStart, getHopRoutes(hopIndex, hopStart).getRouteSteps(hopDest));
+        hopDest = hopStart;
+      }
+      return List.of(routes);
+    }
 
     /**
-     * Creates a new OrderRouteResultStruct.
+     * Returns the costs of the chain of destination points resulting from taking the cheapest hop
+     * at every stage.
      *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
+     * @param startPoint The point at which the route is supposed to start.
+     * @return The costs of the chain, or {@link PointRouter#INFINITE_COSTS INFINITE_COSTS}, if it
+     * reaches a point from which none of the next drive order's destination points is reachable.
      */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new Route[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
+    private long computeGreedyCosts(Point startPoint) {
+      long costs = 0;
+      Point hopStart = startPoint;
+      for (int hopIndex = 0; hopIndex < destinationPoints.size(); hopIndex++) {
+        RoutesFromPoint routes = getHopRoutes(hopIndex, hopStart);
+        Point cheapestHopDest = null;
+        long cheapestHopCosts = INFINITE_COSTS;
+        for (Point hopDest : getHopDestinationPoints(hopIndex, hopStart)) {
+          long hopCosts = routes.getCosts(hopDest);
+          if (hopCosts < cheapestHopCosts) {
+            cheapestHopDest = hopDest;
+            cheapestHopCosts = hopCosts;
+          }
+        }
+        if (cheapestHopDest == null) {
+          return INFINITE_COSTS;
+        }
+        costs += cheapestHopCosts;
+        hopStart = cheapestHopDest;
+      }
+      return costs;
+    }
+
+    private Set<Point> getHopDestinationPoints(int hopIndex, Point hopStart) {
+      Set<Point> destPoints = destinationPoints.get(hopIndex);
+      // If the set of destination points contains the starting point, keep only that one. This is
+      // just a shortcut - it is the cheapest way to go.
+      if (!configuration.routeToCurrentPosition() && destPoints.contains(hopStart)) {
+        return Set.of(hopStart);
+      }
+      return destPoints;
+    }
+
+    private RoutesFromPoint getHopRoutes(int hopIndex, Point hopStart) {
+      return hopRoutes.get(hopIndex).computeIfAbsent(
+          hopStart,
+          point -> {
+            Set<Point> destPoints = getHopDestinationPoints(hopIndex, point);
+            if (destPoints.size() == 1 && destPoints.contains(point)) {
+              LOG.debug("Shortcutting route to {}", point);
+            }
+            // Look up the routes to all destination points at once.
+            return pointRouter.getRoutesFromPoint(point, destPoints);
+          }
+      );
+    }
+
+    private Route toRoute(Point hopStart, List<Route.Step> steps) {
+      if (steps.isEmpty()) {
+        // If the list of steps returned is empty, we're already at the destination point of the
+        // drive order - create a single step without a path.
+        return new Route(
+            List.of(new Route.Step(null, null, hopStart, Vehicle.Orientation.UNDEFINED, 0, 0))
+        );
+      }
+      return new Route(steps);
     }
   }
 }
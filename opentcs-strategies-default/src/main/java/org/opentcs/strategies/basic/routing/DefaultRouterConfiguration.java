@@ -30,4 +30,15 @@ public interface DefaultRouterConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   boolean routeToCurrentPosition();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of routes cached per point router, i.e. per routing group (and set of "
+              + "resources to avoid).",
+          "Cached routes are discarded whenever the routing topology changes.",
+          "A value of 0 disables caching."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int routeCacheSize();
 }
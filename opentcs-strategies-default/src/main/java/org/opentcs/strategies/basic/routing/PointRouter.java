@@ -3,8 +3,10 @@
 package org.opentcs.strategies.basic.routing;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import java.util.List;
+import java.util.Set;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route;
@@ -61,4 +63,35 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the shortest routes from one point to a number of others.
+   * <p>
+   * This default implementation looks up the route to each of the destination points
+   * individually (and only when it is requested). Implementations are encouraged to override it
+   * with one computing the routes to all destination points at once.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @param destPoints The destination points.
+   * @return The shortest routes from the source point to the destination points.
+   */
+  default RoutesFromPoint getRoutesFromPoint(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    return new RoutesFromPoint() {
+      @Override
+      public long getCosts(Point destPoint) {
+        checkArgument(destPoints.contains(destPoint), "Not a destination point: %s", destPoint);
+        return PointRouter.this.getCosts(srcPoint, destPoint);
+      }
+
+      @Override
+      public List<Route.Step> getRouteSteps(Point destPoint) {
+        checkArgument(destPoints.contains(destPoint), "Not a destination point: %s", destPoint);
+        return PointRouter.this.getRouteSteps(srcPoint, destPoint);
+      }
+    };
+  }
 }
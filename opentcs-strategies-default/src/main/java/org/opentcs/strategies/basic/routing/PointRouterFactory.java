@@ -27,6 +27,26 @@ public interface PointRouterFactory {
       Set<Path> pathsToExclude
   );
 
+  /**
+   * Returns a point router for the given vehicle that reflects the current state of the vehicle's
+   * routing graph, after the routing topology has been updated with respect to some paths.
+   * <p>
+   * Implementations may reuse whatever the given (outdated) point router computed for parts of the
+   * routing graph that did not change. The given point router should not be used any more after
+   * calling this method. By default, a new point router is created.
+   * </p>
+   *
+   * @param pointRouter The point router for the vehicle's routing graph before the update.
+   * @param vehicle The vehicle.
+   * @return The point router.
+   */
+  default PointRouter updatePointRouter(
+      PointRouter pointRouter,
+      Vehicle vehicle
+  ) {
+    return createPointRouter(vehicle, Set.of(), Set.of());
+  }
+
   /**
    * Creates a general point router while excluding the given set of points and paths from it.
    * <p>
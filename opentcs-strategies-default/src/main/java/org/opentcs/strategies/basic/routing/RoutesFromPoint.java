@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+
+/**
+ * Provides the shortest routes from a single source point to a set of destination points, as
+ * computed by {@link PointRouter#getRoutesFromPoint(Point, java.util.Set)}.
+ * <p>
+ * Implementations may compute the routes to all destination points at once and only materialize
+ * the steps of a route when they are requested.
+ * </p>
+ */
+public interface RoutesFromPoint {
+
+  /**
+   * Returns the costs for travelling the shortest route from the source point to the given
+   * destination point.
+   *
+   * @param destPoint The destination point. Must be one of the destination points the routes
+   * were requested for.
+   * @return The costs for travelling the shortest route from the source point to the given
+   * destination point.
+   * If no route exists, {@link PointRouter#INFINITE_COSTS INFINITE_COSTS} will be returned.
+   * @throws IllegalArgumentException If routes were not requested for the given destination point.
+   */
+  long getCosts(
+      @Nonnull
+      Point destPoint
+  )
+      throws IllegalArgumentException;
+
+  /**
+   * Returns a list of route steps to travel from the source point to the given destination point.
+   *
+   * @param destPoint The destination point. Must be one of the destination points the routes
+   * were requested for.
+   * @return A list of steps in the order they are to be travelled from the source point to the
+   * destination point, with the same semantics as the result of
+   * {@link PointRouter#getRouteSteps(Point, Point)}.
+   * If no route exists, <code>null</code> will be returned.
+   * @throws IllegalArgumentException If routes were not requested for the given destination point.
+   */
+  @Nullable
+  List<Route.Step> getRouteSteps(
+      @Nonnull
+      Point destPoint
+  )
+      throws IllegalArgumentException;
+}
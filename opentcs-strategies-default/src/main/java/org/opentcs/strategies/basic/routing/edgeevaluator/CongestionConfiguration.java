@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure {@link EdgeEvaluatorCongestion}.
+ */
+@ConfigurationPrefix(CongestionConfiguration.PREFIX)
+public interface CongestionConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultrouter.edgeevaluator.congestion";
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The interval (in ms) in which the congestion of paths is determined and the "
+          + "weights of edges whose congestion changed are updated in the routing graphs. "
+          + "Congestion is only determined again if vehicles' allocations, claims or positions "
+          + "changed since it was last determined.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int updateInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The weight added to an edge for every vehicle that has allocated the "
+          + "corresponding path.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int occupancyPenalty();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The weight added to an edge for every vehicle that has claimed (but not yet "
+          + "allocated) the corresponding path.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int claimPenalty();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The weight added to an edge for every second by which the recently measured "
+          + "traversal times of the corresponding path exceed its expected traversal time.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int delayPenalty();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The minimum change of a path's congestion weight for the corresponding edges "
+          + "to be updated in the routing graphs.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int minPenaltyChange();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of paths whose edges are updated in the routing graphs per "
+          + "update interval. Paths whose congestion weight changed most are updated first.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int maxPathsPerUpdate();
+}
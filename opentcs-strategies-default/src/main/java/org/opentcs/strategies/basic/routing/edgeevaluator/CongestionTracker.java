@@ -0,0 +1,430 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.components.kernel.services.RouterService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the congestion of paths and updates the routing graphs accordingly.
+ * <p>
+ * A path's congestion is determined from the number of vehicles that have allocated or claimed it
+ * and from the times vehicles recently needed for travelling along it. It is expressed as a
+ * penalty, i.e. a weight that is added to the corresponding edges by
+ * {@link EdgeEvaluatorCongestion}. The penalty is the same for all vehicles, i.e. it includes a
+ * vehicle's own allocations and claims, as routing graphs are shared by all vehicles in a routing
+ * group.
+ * </p>
+ * <p>
+ * Penalties are checked periodically, but only determined again if vehicles' allocations, claims
+ * or positions changed since they were last determined. The edges of paths whose penalties changed
+ * significantly are then updated in the routing graphs, which is done incrementally as with paths
+ * being locked or unlocked. To keep routing cheap, the number of paths updated per interval is
+ * limited.
+ * </p>
+ */
+public class CongestionTracker
+    implements
+      KernelExtension,
+      EventHandler,
+      Runnable {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CongestionTracker.class);
+  /**
+   * The weight of a new traversal time measurement in a path's average delay.
+   */
+  private static final double DELAY_SMOOTHING = 0.25;
+  /**
+   * The factor by which paths' average delays decay per update interval, so that delays measured
+   * long ago do not affect routing forever.
+   */
+  private static final double DELAY_DECAY = 0.9;
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Provides the router service used for updating the routing graphs.
+   * (Injecting the service itself would result in a circular dependency, as the router depends on
+   * the edge evaluators.)
+   */
+  private final Provider<RouterService> routerServiceProvider;
+  /**
+   * The application's event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * This class's configuration.
+   */
+  private final CongestionConfiguration configuration;
+  /**
+   * The penalties currently applied to the edges of paths, mapped to the paths' names.
+   */
+  private final Map<String, Double> penalties = new ConcurrentHashMap<>();
+  /**
+   * The average delays (in ms) with which vehicles recently travelled along paths, mapped to the
+   * paths' names.
+   */
+  private final Map<String, Double> delays = new HashMap<>();
+  /**
+   * The points vehicles were last reported at, mapped to the vehicles' names.
+   */
+  private final Map<String, PositionReport> lastPositions = new HashMap<>();
+  /**
+   * Whether penalties may have changed since they were last determined.
+   * Guarded by {@code this}.
+   */
+  private boolean penaltiesOutdated = true;
+  /**
+   * The number of update intervals that passed since penalties were last determined.
+   * Guarded by {@code this}.
+   */
+  private int intervalsSinceLastUpdate;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+  /**
+   * The future for the periodic update task.
+   */
+  private ScheduledFuture<?> scheduledFuture;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param routerServiceProvider Provides the router service used for updating the routing
+   * graphs.
+   * @param eventBus The application's event bus.
+   * @param kernelExecutor The kernel executor.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public CongestionTracker(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      Provider<RouterService> routerServiceProvider,
+      @Nonnull
+      @ApplicationEventBus
+      EventBus eventBus,
+      @Nonnull
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      @Nonnull
+      CongestionConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.routerServiceProvider = requireNonNull(routerServiceProvider, "routerServiceProvider");
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventBus.subscribe(this);
+    scheduledFuture = kernelExecutor.scheduleWithFixedDelay(
+        this,
+        configuration.updateInterval(),
+        configuration.updateInterval(),
+        TimeUnit.MILLISECONDS
+    );
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (scheduledFuture != null) {
+      scheduledFuture.cancel(false);
+      scheduledFuture = null;
+    }
+    eventBus.unsubscribe(this);
+
+    synchronized (this) {
+      penalties.clear();
+      delays.clear();
+      lastPositions.clear();
+      penaltiesOutdated = true;
+      intervalsSinceLastUpdate = 0;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Returns the penalty currently applied to the edges of the given path.
+   *
+   * @param pathName The name of the path.
+   * @return The penalty.
+   */
+  public double getPenalty(
+      @Nonnull
+      String pathName
+  ) {
+    requireNonNull(pathName, "pathName");
+
+    return penalties.getOrDefault(pathName, 0.0);
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
+        || !(objectEvent.getCurrentObjectState() instanceof Vehicle currentState)
+        || !(objectEvent.getPreviousObjectState() instanceof Vehicle previousState)) {
+      return;
+    }
+
+    if (!Objects.equals(currentState.getCurrentPosition(), previousState.getCurrentPosition())) {
+      vehicleMoved(
+          currentState.getName(),
+          currentState.getCurrentPosition(),
+          System.currentTimeMillis()
+      );
+    }
+    else if (resourcesChanged(currentState, previousState)) {
+      markPenaltiesOutdated();
+    }
+  }
+
+  /**
+   * Determines the penalties of all paths, if they may have changed, and updates the edges of the
+   * paths whose penalties changed most.
+   */
+  @Override
+  public void run() {
+    Set<TCSObjectReference<Path>> updatedPaths = new HashSet<>();
+
+    synchronized (this) {
+      intervalsSinceLastUpdate++;
+      if (!penaltiesOutdated) {
+        return;
+      }
+
+      Map<String, Double> newPenalties = computePenalties();
+
+      Set<String> pathNames = new HashSet<>(penalties.keySet());
+      pathNames.addAll(newPenalties.keySet());
+      List<String> changedPathNames = pathNames.stream()
+          .filter(
+              pathName -> penaltyChange(pathName, newPenalties) >= configuration.minPenaltyChange()
+          )
+          .sorted(
+              Comparator.comparingDouble(
+                  (String pathName) -> penaltyChange(pathName, newPenalties)
+              ).reversed()
+          )
+          .toList();
+      int updateCount = Math.min(changedPathNames.size(), configuration.maxPathsPerUpdate());
+      // Paths not updated in this interval are updated in the next one.
+      penaltiesOutdated = updateCount < changedPathNames.size();
+
+      for (String pathName : changedPathNames.subList(0, updateCount)) {
+        Path path = objectService.fetchObject(Path.class, pathName);
+        if (path == null) {
+          penalties.remove(pathName);
+          continue;
+        }
+
+        Double penalty = newPenalties.get(pathName);
+        if (penalty == null || penalty == 0.0) {
+          penalties.remove(pathName);
+        }
+        else {
+          penalties.put(pathName, penalty);
+        }
+        updatedPaths.add(path.getReference());
+      }
+
+      // Let the delays decay for all intervals that passed since the penalties were last
+      // determined.
+      double decay = Math.pow(DELAY_DECAY, intervalsSinceLastUpdate);
+      delays.replaceAll((pathName, delay) -> delay * decay);
+      delays.values().removeIf(delay -> delay < 1.0);
+      intervalsSinceLastUpdate = 0;
+    }
+
+    if (updatedPaths.isEmpty()) {
+      return;
+    }
+
+    LOG.debug("Updating congestion penalties of {} paths.", updatedPaths.size());
+    routerServiceProvider.get().updateRoutingTopology(updatedPaths);
+  }
+
+  /**
+   * Records that the given vehicle was reported at the given point.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @param position The point the vehicle was reported at, or {@code null}.
+   * @param timestamp The point of time (in ms) the vehicle was reported at the point.
+   */
+  synchronized void vehicleMoved(
+      String vehicleName,
+      TCSObjectReference<Point> position,
+      long timestamp
+  ) {
+    penaltiesOutdated = true;
+
+    if (position == null) {
+      lastPositions.remove(vehicleName);
+      return;
+    }
+
+    PositionReport lastPosition = lastPositions.put(
+        vehicleName,
+        new PositionReport(position.getName(), timestamp)
+    );
+    if (lastPosition == null) {
+      return;
+    }
+
+    Path path = findPath(lastPosition.pointName(), position.getName());
+    if (path == null || path.getMaxVelocity() <= 0) {
+      return;
+    }
+
+    // The traversal time includes the time the vehicle waited before travelling along the path,
+    // e.g. for resources allocated by other vehicles.
+    long expectedTime = path.getLength() * 1000 / path.getMaxVelocity();
+    long delay = Math.max(0, timestamp - lastPosition.timestamp() - expectedTime);
+    delays.merge(
+        path.getName(),
+        DELAY_SMOOTHING * delay,
+        (oldDelay, newDelay) -> (1 - DELAY_SMOOTHING) * oldDelay + newDelay
+    );
+  }
+
+  private boolean resourcesChanged(Vehicle currentState, Vehicle previousState) {
+    return !Objects.equals(
+        currentState.getAllocatedResources(),
+        previousState.getAllocatedResources()
+    )
+        || !Objects.equals(currentState.getClaimedResources(), previousState.getClaimedResources());
+  }
+
+  private synchronized void markPenaltiesOutdated() {
+    penaltiesOutdated = true;
+  }
+
+  private Map<String, Double> computePenalties() {
+    Map<String, Double> result = new HashMap<>();
+
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
+      Set<String> allocatedPaths = pathNames(vehicle.getAllocatedResources());
+      for (String pathName : allocatedPaths) {
+        result.merge(pathName, (double) configuration.occupancyPenalty(), Double::sum);
+      }
+
+      Set<String> claimedPaths = pathNames(vehicle.getClaimedResources());
+      claimedPaths.removeAll(allocatedPaths);
+      for (String pathName : claimedPaths) {
+        result.merge(pathName, (double) configuration.claimPenalty(), Double::sum);
+      }
+    }
+
+    for (Map.Entry<String, Double> entry : delays.entrySet()) {
+      result.merge(
+          entry.getKey(),
+          entry.getValue() / 1000 * configuration.delayPenalty(),
+          Double::sum
+      );
+    }
+
+    return result;
+  }
+
+  private double penaltyChange(String pathName, Map<String, Double> newPenalties) {
+    return Math.abs(
+        newPenalties.getOrDefault(pathName, 0.0) - penalties.getOrDefault(pathName, 0.0)
+    );
+  }
+
+  private Set<String> pathNames(List<Set<TCSResourceReference<?>>> resources) {
+    return resources.stream()
+        .flatMap(Set::stream)
+        .filter(resource -> resource.getReferentClass() == Path.class)
+        .map(TCSResourceReference::getName)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private Path findPath(String sourcePointName, String destinationPointName) {
+    Point sourcePoint = objectService.fetchObject(Point.class, sourcePointName);
+    if (sourcePoint == null) {
+      return null;
+    }
+
+    Set<TCSObjectReference<Path>> candidates = new HashSet<>(sourcePoint.getOutgoingPaths());
+    candidates.addAll(sourcePoint.getIncomingPaths());
+    for (TCSObjectReference<Path> candidate : candidates) {
+      Path path = objectService.fetchObject(Path.class, candidate);
+      if (path != null
+          && (path.getDestinationPoint().getName().equals(destinationPointName)
+              || path.getSourcePoint().getName().equals(destinationPointName))) {
+        return path;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A vehicle's reported position.
+   *
+   * @param pointName The name of the point the vehicle was reported at.
+   * @param timestamp The point of time (in ms) the vehicle was reported at the point.
+   */
+  private record PositionReport(String pointName, long timestamp) {
+  }
+}
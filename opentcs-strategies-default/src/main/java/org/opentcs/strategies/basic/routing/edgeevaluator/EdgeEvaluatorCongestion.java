@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Uses the congestion penalty determined by the {@link CongestionTracker} for an edge's path as
+ * its weight.
+ * <p>
+ * The penalty is the same for all vehicles and includes the congestion caused by the vehicle the
+ * routing graph is computed for, as routing graphs are shared by all vehicles in a routing group.
+ * </p>
+ */
+public class EdgeEvaluatorCongestion
+    implements
+      EdgeEvaluator {
+
+  /**
+   * A key used for selecting this evaluator in a configuration setting.
+   * Should be unique among all keys.
+   */
+  public static final String CONFIGURATION_KEY = "CONGESTION";
+  /**
+   * Keeps track of the congestion of paths.
+   */
+  private final CongestionTracker congestionTracker;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param congestionTracker Keeps track of the congestion of paths.
+   */
+  @Inject
+  public EdgeEvaluatorCongestion(CongestionTracker congestionTracker) {
+    this.congestionTracker = requireNonNull(congestionTracker, "congestionTracker");
+  }
+
+  @Override
+  public void onGraphComputationStart(Vehicle vehicle) {
+  }
+
+  @Override
+  public void onGraphComputationEnd(Vehicle vehicle) {
+  }
+
+  @Override
+  public double computeWeight(Edge edge, Vehicle vehicle) {
+    return congestionTracker.getPenalty(edge.getPath().getName());
+  }
+}
@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -29,17 +30,35 @@ public abstract class AbstractPointRouterFactory
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractPointRouterFactory.class);
   private final GraphProvider graphProvider;
+  private final RouteCacheProvider routeCacheProvider;
 
   /**
-   * Creates a new instance.
+   * Creates a new instance that creates point routers without route caches.
    *
    * @param graphProvider Provides routing graphs for vehicles.
    */
   public AbstractPointRouterFactory(
       @Nonnull
       GraphProvider graphProvider
+  ) {
+    this(graphProvider, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routeCacheProvider Provides the route caches for created point routers. May be
+   * {@code null}, in which case point routers are created without route caches.
+   */
+  public AbstractPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nullable
+      RouteCacheProvider routeCacheProvider
   ) {
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.routeCacheProvider = routeCacheProvider;
   }
 
   @Override
@@ -106,6 +125,61 @@ public abstract class AbstractPointRouterFactory
     return router;
   }
 
+  @Override
+  public PointRouter updatePointRouter(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(vehicle, "vehicle");
+
+    if (!(pointRouter instanceof ShortestPathPointRouter shortestPathPointRouter)
+        || shortestPathPointRouter.getGraph() == null) {
+      return createPointRouter(vehicle, Set.of(), Set.of());
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphProvider.GraphResult graphResult = graphProvider.getGraphResult(vehicle);
+    Graph<Vertex, Edge> oldGraph = shortestPathPointRouter.getGraph();
+    Graph<Vertex, Edge> newGraph = graphResult.getGraph();
+
+    // Cached paths not containing any outdated edges remain the shortest ones as long as no edges
+    // were added and no edges' weights decreased (which could both result in cheaper paths). With
+    // decreased weights, cached paths that are cheaper than any path via the decreased edges remain
+    // the shortest ones, too. The cache is copied, as the outdated point router may still be in
+    // use.
+    GraphChanges changes = new GraphChanges(oldGraph, newGraph);
+    RouteCache routeCache;
+    if (!changes.getAddedEdges().isEmpty()
+        || !newGraph.vertexSet().equals(oldGraph.vertexSet())) {
+      routeCache = createRouteCache();
+    }
+    else {
+      double unaffectedCosts = changes.getUnaffectedCosts();
+      routeCache = shortestPathPointRouter.getRouteCache().copyWithout(
+          path -> path.getWeight() > unaffectedCosts
+              || path.getEdgeList().stream().anyMatch(changes::isOutdated)
+      );
+    }
+
+    PointRouter router = createPointRouter(
+        graphResult,
+        updateShortestPathAlgorithm(shortestPathPointRouter.getAlgorithm(), newGraph),
+        routeCache
+    );
+
+    LOG.debug(
+        "Updated point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
   /**
    * Returns a shortest path algorithm implementation working on the given graph.
    *
@@ -116,14 +190,52 @@ public abstract class AbstractPointRouterFactory
       Graph<Vertex, Edge> graph
   );
 
+  /**
+   * Returns a shortest path algorithm implementation working on the given graph, which is an
+   * updated version of the graph the given algorithm implementation works on.
+   * <p>
+   * Subclasses may override this method to update algorithm implementations incrementally. By
+   * default, a new algorithm implementation is created for the updated graph.
+   * </p>
+   *
+   * @param algorithm The algorithm implementation working on the graph before the update.
+   * @param updatedGraph The updated graph.
+   * @return A shortest path algorithm implementation working on the updated graph.
+   */
+  protected ShortestPathAlgorithm<Vertex, Edge> updateShortestPathAlgorithm(
+      ShortestPathAlgorithm<Vertex, Edge> algorithm,
+      Graph<Vertex, Edge> updatedGraph
+  ) {
+    return createShortestPathAlgorithm(updatedGraph);
+  }
+
   private PointRouter createPointRouter(GraphResult graphResult) {
+    return createPointRouter(
+        graphResult,
+        createShortestPathAlgorithm(graphResult.getGraph()),
+        createRouteCache()
+    );
+  }
+
+  private RouteCache createRouteCache() {
+    return routeCacheProvider == null
+        ? RouteCache.disabled()
+        : routeCacheProvider.createRouteCache();
+  }
+
+  private PointRouter createPointRouter(
+      GraphResult graphResult,
+      ShortestPathAlgorithm<Vertex, Edge> algorithm,
+      RouteCache routeCache
+  ) {
     Set<Point> points = new HashSet<>(graphResult.getPointBase());
     points.removeAll(graphResult.getExcludedPoints());
 
     PointRouter router = new ShortestPathPointRouter(
-        createShortestPathAlgorithm(graphResult.getGraph()),
+        algorithm,
         points,
-        graphResult.getGraph().vertexSet()
+        graphResult.getGraph(),
+        routeCache
     );
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
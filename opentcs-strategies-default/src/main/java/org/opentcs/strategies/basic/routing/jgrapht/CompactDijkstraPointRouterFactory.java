@@ -0,0 +1,50 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Creates {@link PointRouter} instances based on the Dijkstra algorithm working on a compact,
+ * array-based copy of the routing graph.
+ *
+ * @see CompactDijkstraShortestPath
+ */
+public class CompactDijkstraPointRouterFactory
+    extends
+      AbstractPointRouterFactory {
+
+  private final GraphProvider graphProvider;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routeCacheProvider Provides the route caches for created point routers.
+   */
+  @Inject
+  public CompactDijkstraPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      RouteCacheProvider routeCacheProvider
+  ) {
+    super(graphProvider, routeCacheProvider);
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+  }
+
+  @Override
+  protected ShortestPathAlgorithm<Vertex, Edge> createShortestPathAlgorithm(
+      Graph<Vertex, Edge> graph
+  ) {
+    return new CompactDijkstraShortestPath(graph, graphProvider.getPointIndex());
+  }
+
+}
@@ -0,0 +1,485 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.graph.GraphWalk;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * An implementation of Dijkstra's algorithm working on a compact copy of a routing graph.
+ * <p>
+ * The copy represents the graph's adjacency in compressed sparse row (CSR) format, i.e. as
+ * primitive arrays indexed by the integer IDs provided by a {@link PointIndex}: The outgoing edges
+ * of the vertex with ID {@code v} are the ones with indices {@code edgeOffsets[v]} (inclusive) to
+ * {@code edgeOffsets[v + 1]} (exclusive) in {@code edgeTargets} and {@code edgeWeights}.
+ * Searches use an indexed binary heap and work arrays that are reused for subsequent searches, so
+ * that searching does not allocate memory (apart from the resulting paths).
+ * </p>
+ * <p>
+ * Instances are immutable after creation and may be used by multiple threads concurrently.
+ * </p>
+ */
+public final class CompactDijkstraShortestPath
+    implements
+      ShortestPathAlgorithm<Vertex, Edge> {
+
+  /**
+   * Marks a vertex that was not reached or an edge index that does not exist.
+   */
+  private static final int NONE = -1;
+  /**
+   * The graph this algorithm works on.
+   */
+  private final Graph<Vertex, Edge> graph;
+  /**
+   * Maps points to vertex IDs.
+   */
+  private final PointIndex pointIndex;
+  /**
+   * The graph's vertices by ID. Contains {@code null} for points that are not part of the graph.
+   */
+  private final Vertex[] vertices;
+  /**
+   * For every vertex ID, the index of the vertex's first outgoing edge, plus the total number of
+   * edges at the end.
+   */
+  private final int[] edgeOffsets;
+  /**
+   * For every edge, the ID of the vertex it starts at.
+   */
+  private final int[] edgeSources;
+  /**
+   * For every edge, the ID of the vertex it leads to.
+   */
+  private final int[] edgeTargets;
+  /**
+   * For every edge, its weight.
+   */
+  private final double[] edgeWeights;
+  /**
+   * For every edge, the original one.
+   */
+  private final Edge[] edges;
+  /**
+   * Work arrays for searches that are currently not in use.
+   */
+  private final Queue<SearchState> idleSearchStates = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to work on.
+   * @param pointIndex Maps the points represented by the graph's vertices to vertex IDs. Must
+   * contain all of these points.
+   * @throws IllegalArgumentException If the point index does not contain all points represented by
+   * the graph's vertices.
+   */
+  public CompactDijkstraShortestPath(
+      @Nonnull
+      Graph<Vertex, Edge> graph,
+      @Nonnull
+      PointIndex pointIndex
+  )
+      throws IllegalArgumentException {
+    this.graph = requireNonNull(graph, "graph");
+    this.pointIndex = requireNonNull(pointIndex, "pointIndex");
+
+    vertices = new Vertex[pointIndex.size()];
+    for (Vertex vertex : graph.vertexSet()) {
+      int id = pointIndex.getId(vertex.getPoint().getName());
+      checkArgument(id != NONE, "Point index does not contain %s", vertex.getPoint().getName());
+      vertices[id] = vertex;
+    }
+
+    // Count the outgoing edges of every vertex first, then place the edges accordingly.
+    edgeOffsets = new int[vertices.length + 1];
+    for (Edge edge : graph.edgeSet()) {
+      edgeOffsets[idOf(graph.getEdgeSource(edge)) + 1]++;
+    }
+    for (int id = 0; id < vertices.length; id++) {
+      edgeOffsets[id + 1] += edgeOffsets[id];
+    }
+
+    int edgeCount = edgeOffsets[vertices.length];
+    edgeSources = new int[edgeCount];
+    edgeTargets = new int[edgeCount];
+    edgeWeights = new double[edgeCount];
+    edges = new Edge[edgeCount];
+    int[] nextEdgeIndex = Arrays.copyOf(edgeOffsets, vertices.length);
+    for (Edge edge : graph.edgeSet()) {
+      int sourceId = idOf(graph.getEdgeSource(edge));
+      int edgeIndex = nextEdgeIndex[sourceId]++;
+      edgeSources[edgeIndex] = sourceId;
+      edgeTargets[edgeIndex] = idOf(graph.getEdgeTarget(edge));
+      edgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+      edges[edgeIndex] = edge;
+    }
+  }
+
+  @Override
+  public GraphPath<Vertex, Edge> getPath(Vertex source, Vertex sink) {
+    int sourceId = requireVertexId(source, "source");
+    int sinkId = requireVertexId(sink, "sink");
+
+    if (sourceId == sinkId) {
+      return GraphWalk.singletonWalk(graph, source, 0.0);
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      state.search(sourceId, sinkId);
+      return state.isSettled(sinkId) ? state.toGraphPath(sinkId) : null;
+    }
+    finally {
+      idleSearchStates.add(state);
+    }
+  }
+
+  @Override
+  public double getPathWeight(Vertex source, Vertex sink) {
+    GraphPath<Vertex, Edge> path = getPath(source, sink);
+    return path == null ? Double.POSITIVE_INFINITY : path.getWeight();
+  }
+
+  @Override
+  public SingleSourcePaths<Vertex, Edge> getPaths(Vertex source) {
+    return getPaths(source, null);
+  }
+
+  /**
+   * Returns the shortest paths from the given source vertex to the given sink vertices.
+   * <p>
+   * The search stops as soon as the shortest paths to all of the given sink vertices are known.
+   * Paths to other vertices reached before that are contained in the result, too.
+   * </p>
+   *
+   * @param source The source vertex.
+   * @param sinks The sink vertices, or {@code null} to compute the paths to all vertices. Vertices
+   * that are not part of the graph are ignored.
+   * @return The shortest paths from the source vertex.
+   */
+  public SingleSourcePaths<Vertex, Edge> getPaths(Vertex source, Collection<Vertex> sinks) {
+    int sourceId = requireVertexId(source, "source");
+
+    int[] sinkIds = null;
+    if (sinks != null) {
+      sinkIds = sinks.stream()
+          .mapToInt(this::vertexIdOrNone)
+          .filter(id -> id != NONE)
+          .toArray();
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      state.search(sourceId, sinkIds);
+      return state.toSingleSourcePaths();
+    }
+    finally {
+      idleSearchStates.add(state);
+    }
+  }
+
+  private SearchState acquireSearchState() {
+    SearchState state = idleSearchStates.poll();
+    return state == null ? new SearchState() : state;
+  }
+
+  private int requireVertexId(Vertex vertex, String name) {
+    int id = vertexIdOrNone(vertex);
+    checkArgument(id != NONE, "Graph must contain the %s vertex!", name);
+    return id;
+  }
+
+  private int vertexIdOrNone(Vertex vertex) {
+    if (vertex == null) {
+      return NONE;
+    }
+    int id = pointIndex.getId(vertex.getPoint().getName());
+    return id != NONE && vertices[id] == vertex ? id : NONE;
+  }
+
+  private int idOf(Vertex vertex) {
+    return pointIndex.getId(vertex.getPoint().getName());
+  }
+
+  private GraphPath<Vertex, Edge> toGraphPath(int sourceId, int sinkId, int[] predecessorEdges) {
+    List<Edge> pathEdges = new ArrayList<>();
+    double weight = 0.0;
+    for (int edgeIndex = predecessorEdges[sinkId]; edgeIndex != NONE;) {
+      pathEdges.add(edges[edgeIndex]);
+      weight += edgeWeights[edgeIndex];
+      edgeIndex = predecessorEdges[edgeSources[edgeIndex]];
+    }
+    Collections.reverse(pathEdges);
+    return new GraphWalk<>(graph, vertices[sourceId], vertices[sinkId], pathEdges, weight);
+  }
+
+  /**
+   * The work arrays of a single search.
+   * <p>
+   * Instead of resetting all arrays before every search, entries are only considered valid if
+   * their vertex's stamp equals the one of the current search.
+   * </p>
+   */
+  private class SearchState {
+
+    /**
+     * Marks a vertex whose shortest path is known, i.e. that is not in the heap (anymore).
+     */
+    private static final int SETTLED = -1;
+    /**
+     * For every vertex, the stamp of the last search that reached it.
+     */
+    private final int[] reachedStamps = new int[vertices.length];
+    /**
+     * For every vertex, the stamp of the last search it was a sink for.
+     */
+    private final int[] sinkStamps = new int[vertices.length];
+    /**
+     * For every reached vertex, the costs of the shortest (known) path to it.
+     */
+    private final double[] costs = new double[vertices.length];
+    /**
+     * For every reached vertex, the index of the last edge of the shortest (known) path to it.
+     */
+    private final int[] predecessorEdges = new int[vertices.length];
+    /**
+     * For every reached vertex, its position in the heap, or {@link #SETTLED}.
+     */
+    private final int[] heapPositions = new int[vertices.length];
+    /**
+     * A binary min-heap of the IDs of reached vertices, ordered by their costs.
+     */
+    private final int[] heap = new int[vertices.length];
+    /**
+     * Holds the ID of the sink vertex for searches for a single path.
+     */
+    private final int[] singleSinkId = new int[1];
+    private int heapSize;
+    private int currentStamp;
+    private int currentSourceId;
+
+    /**
+     * Computes the shortest path from the given source vertex to the given sink vertex.
+     *
+     * @param sourceId The ID of the source vertex.
+     * @param sinkId The ID of the sink vertex.
+     */
+    void search(int sourceId, int sinkId) {
+      singleSinkId[0] = sinkId;
+      search(sourceId, singleSinkId);
+    }
+
+    /**
+     * Computes shortest paths from the given source vertex.
+     *
+     * @param sourceId The ID of the source vertex.
+     * @param sinkIds The IDs of the vertices to compute the shortest paths to, or {@code null} to
+     * compute the shortest paths to all vertices.
+     */
+    void search(int sourceId, int[] sinkIds) {
+      nextStamp();
+      currentSourceId = sourceId;
+
+      int unsettledSinks = Integer.MAX_VALUE;
+      if (sinkIds != null) {
+        unsettledSinks = 0;
+        for (int sinkId : sinkIds) {
+          if (sinkStamps[sinkId] != currentStamp) {
+            sinkStamps[sinkId] = currentStamp;
+            unsettledSinks++;
+          }
+        }
+      }
+
+      heapSize = 0;
+      reach(sourceId, 0.0, NONE);
+      while (heapSize > 0 && unsettledSinks > 0) {
+        int vertexId = poll();
+        if (sinkStamps[vertexId] == currentStamp) {
+          unsettledSinks--;
+        }
+
+        double vertexCosts = costs[vertexId];
+        for (int edgeIndex = edgeOffsets[vertexId];
+            edgeIndex < edgeOffsets[vertexId + 1];
+            edgeIndex++) {
+          int targetId = edgeTargets[edgeIndex];
+          double targetCosts = vertexCosts + edgeWeights[edgeIndex];
+          if (reachedStamps[targetId] != currentStamp) {
+            reach(targetId, targetCosts, edgeIndex);
+          }
+          else if (heapPositions[targetId] != SETTLED && targetCosts < costs[targetId]) {
+            costs[targetId] = targetCosts;
+            predecessorEdges[targetId] = edgeIndex;
+            siftUp(heapPositions[targetId]);
+          }
+        }
+      }
+    }
+
+    boolean isSettled(int vertexId) {
+      return reachedStamps[vertexId] == currentStamp && heapPositions[vertexId] == SETTLED;
+    }
+
+    GraphPath<Vertex, Edge> toGraphPath(int sinkId) {
+      return CompactDijkstraShortestPath.this.toGraphPath(
+          currentSourceId,
+          sinkId,
+          predecessorEdges
+      );
+    }
+
+    SingleSourcePaths<Vertex, Edge> toSingleSourcePaths() {
+      // Copy the results for the settled vertices, as the work arrays will be reused.
+      double[] settledCosts = new double[vertices.length];
+      int[] settledPredecessorEdges = new int[vertices.length];
+      for (int vertexId = 0; vertexId < vertices.length; vertexId++) {
+        if (isSettled(vertexId)) {
+          settledCosts[vertexId] = costs[vertexId];
+          settledPredecessorEdges[vertexId] = predecessorEdges[vertexId];
+        }
+        else {
+          settledCosts[vertexId] = Double.POSITIVE_INFINITY;
+          settledPredecessorEdges[vertexId] = NONE;
+        }
+      }
+      return new CompactSingleSourcePaths(currentSourceId, settledCosts, settledPredecessorEdges);
+    }
+
+    private void nextStamp() {
+      if (currentStamp == Integer.MAX_VALUE) {
+        Arrays.fill(reachedStamps, 0);
+        Arrays.fill(sinkStamps, 0);
+        currentStamp = 0;
+      }
+      currentStamp++;
+    }
+
+    private void reach(int vertexId, double vertexCosts, int predecessorEdge) {
+      reachedStamps[vertexId] = currentStamp;
+      costs[vertexId] = vertexCosts;
+      predecessorEdges[vertexId] = predecessorEdge;
+      heap[heapSize] = vertexId;
+      heapPositions[vertexId] = heapSize;
+      heapSize++;
+      siftUp(heapSize - 1);
+    }
+
+    private int poll() {
+      int result = heap[0];
+      heapPositions[result] = SETTLED;
+      heapSize--;
+      if (heapSize > 0) {
+        heap[0] = heap[heapSize];
+        heapPositions[heap[0]] = 0;
+        siftDown(0);
+      }
+      return result;
+    }
+
+    private void siftUp(int position) {
+      int vertexId = heap[position];
+      double vertexCosts = costs[vertexId];
+      while (position > 0) {
+        int parentPosition = (position - 1) >>> 1;
+        int parentId = heap[parentPosition];
+        if (costs[parentId] <= vertexCosts) {
+          break;
+        }
+        heap[position] = parentId;
+        heapPositions[parentId] = position;
+        position = parentPosition;
+      }
+      heap[position] = vertexId;
+      heapPositions[vertexId] = position;
+    }
+
+    private void siftDown(int position) {
+      int vertexId = heap[position];
+      double vertexCosts = costs[vertexId];
+      while (true) {
+        int childPosition = 2 * position + 1;
+        if (childPosition >= heapSize) {
+          break;
+        }
+        if (childPosition + 1 < heapSize
+            && costs[heap[childPosition + 1]] < costs[heap[childPosition]]) {
+          childPosition++;
+        }
+        int childId = heap[childPosition];
+        if (vertexCosts <= costs[childId]) {
+          break;
+        }
+        heap[position] = childId;
+        heapPositions[childId] = position;
+        position = childPosition;
+      }
+      heap[position] = vertexId;
+      heapPositions[vertexId] = position;
+    }
+  }
+
+  /**
+   * The shortest paths from a source vertex to the vertices settled by a search.
+   */
+  private class CompactSingleSourcePaths
+      implements
+        SingleSourcePaths<Vertex, Edge> {
+
+    private final int sourceId;
+    /**
+     * For every vertex, the costs of the shortest path to it, or infinity, if it was not settled.
+     */
+    private final double[] settledCosts;
+    private final int[] predecessorEdges;
+
+    CompactSingleSourcePaths(int sourceId, double[] settledCosts, int[] predecessorEdges) {
+      this.sourceId = sourceId;
+      this.settledCosts = settledCosts;
+      this.predecessorEdges = predecessorEdges;
+    }
+
+    @Override
+    public Graph<Vertex, Edge> getGraph() {
+      return graph;
+    }
+
+    @Override
+    public Vertex getSourceVertex() {
+      return vertices[sourceId];
+    }
+
+    @Override
+    public double getWeight(Vertex targetVertex) {
+      int targetId = vertexIdOrNone(targetVertex);
+      return targetId == NONE ? Double.POSITIVE_INFINITY : settledCosts[targetId];
+    }
+
+    @Override
+    public GraphPath<Vertex, Edge> getPath(Vertex targetVertex) {
+      int targetId = vertexIdOrNone(targetVertex);
+      if (targetId == NONE || settledCosts[targetId] == Double.POSITIVE_INFINITY) {
+        return null;
+      }
+      if (targetId == sourceId) {
+        return GraphWalk.singletonWalk(graph, targetVertex, 0.0);
+      }
+      return toGraphPath(sourceId, targetId, predecessorEdges);
+    }
+  }
+}
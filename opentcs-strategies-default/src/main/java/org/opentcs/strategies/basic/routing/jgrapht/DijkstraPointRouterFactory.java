@@ -21,13 +21,16 @@ public class DijkstraPointRouterFactory
    * Creates a new instance.
    *
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param routeCacheProvider Provides the route caches for created point routers.
    */
   @Inject
   public DijkstraPointRouterFactory(
       @Nonnull
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      @Nonnull
+      RouteCacheProvider routeCacheProvider
   ) {
-    super(graphProvider);
+    super(graphProvider, routeCacheProvider);
   }
 
   @Override
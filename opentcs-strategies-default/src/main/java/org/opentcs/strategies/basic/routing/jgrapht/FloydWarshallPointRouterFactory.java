@@ -6,12 +6,15 @@ import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
-import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.strategies.basic.routing.PointRouter;
 
 /**
  * Creates {@link PointRouter} instances based on the Floyd-Warshall algorithm.
+ * <p>
+ * When the routing topology is updated, the shortest paths computed are updated incrementally
+ * instead of being recomputed for all pairs of vertices.
+ * </p>
  */
 public class FloydWarshallPointRouterFactory
     extends
@@ -21,20 +24,34 @@ public class FloydWarshallPointRouterFactory
    * Creates a new instance.
    *
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param routeCacheProvider Provides the route caches for created point routers.
    */
   @Inject
   public FloydWarshallPointRouterFactory(
       @Nonnull
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      @Nonnull
+      RouteCacheProvider routeCacheProvider
   ) {
-    super(graphProvider);
+    super(graphProvider, routeCacheProvider);
   }
 
   @Override
   protected ShortestPathAlgorithm<Vertex, Edge> createShortestPathAlgorithm(
       Graph<Vertex, Edge> graph
   ) {
-    return new FloydWarshallShortestPaths<>(graph);
+    return new IncrementalFloydWarshallShortestPaths(graph);
+  }
+
+  @Override
+  protected ShortestPathAlgorithm<Vertex, Edge> updateShortestPathAlgorithm(
+      ShortestPathAlgorithm<Vertex, Edge> algorithm,
+      Graph<Vertex, Edge> updatedGraph
+  ) {
+    if (algorithm instanceof IncrementalFloydWarshallShortestPaths floydWarshall) {
+      return floydWarshall.updateGraph(updatedGraph);
+    }
+    return createShortestPathAlgorithm(updatedGraph);
   }
 
 }
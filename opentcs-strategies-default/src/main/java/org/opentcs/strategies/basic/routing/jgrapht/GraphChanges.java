@@ -0,0 +1,192 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * The changes of the edges of a routing graph that was updated.
+ * <p>
+ * Updated routing graphs contain new edge instances for all paths they were updated for (see
+ * {@link ModelGraphMapper#updateGraph(java.util.Collection, org.opentcs.data.model.Vehicle,
+ * Graph)}), even if their weights did not change. Edges that are not contained in both graphs are
+ * therefore matched by their paths and directions, and the weights of matching edges are compared:
+ * </p>
+ * <ul>
+ * <li>Edges of the original graph without a matching edge in the updated graph, or whose weights
+ * increased, are <em>removed</em>.</li>
+ * <li>Edges of the updated graph without a matching edge in the original graph are
+ * <em>added</em>.</li>
+ * <li>Edges of the original graph whose weights did not increase are <em>replaced</em> by the
+ * matching edges in the updated graph. Replacing edges whose weights decreased are
+ * <em>decreased</em>.</li>
+ * </ul>
+ */
+class GraphChanges {
+
+  /**
+   * The removed edges of the original graph.
+   */
+  private final Set<Edge> removedEdges = new HashSet<>();
+  /**
+   * The added edges of the updated graph.
+   */
+  private final Set<Edge> addedEdges = new HashSet<>();
+  /**
+   * The edges of the updated graph whose weights are lower than those of the edges they replace.
+   */
+  private final Set<Edge> decreasedEdges = new HashSet<>();
+  /**
+   * The replaced edges of the original graph, mapped to the edges of the updated graph replacing
+   * them.
+   */
+  private final Map<Edge, Edge> replacedEdges = new IdentityHashMap<>();
+  /**
+   * The lowest weight of the decreased edges.
+   */
+  private double lowestDecreasedWeight = Double.POSITIVE_INFINITY;
+  /**
+   * Whether the updated graph contains edges with negative weights.
+   */
+  private boolean negativeWeights;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The original graph.
+   * @param updatedGraph The updated graph.
+   */
+  GraphChanges(
+      @Nonnull
+      Graph<Vertex, Edge> graph,
+      @Nonnull
+      Graph<Vertex, Edge> updatedGraph
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(updatedGraph, "updatedGraph");
+
+    // Edges do not implement equals(), so the graphs' containsEdge() compares them by identity.
+    Map<EdgeKey, Edge> newEdges = new HashMap<>();
+    for (Edge edge : updatedGraph.edgeSet()) {
+      if (!graph.containsEdge(edge)) {
+        newEdges.put(new EdgeKey(edge), edge);
+      }
+      negativeWeights |= updatedGraph.getEdgeWeight(edge) < 0;
+    }
+
+    for (Edge edge : graph.edgeSet()) {
+      if (updatedGraph.containsEdge(edge)) {
+        continue;
+      }
+
+      Edge updatedEdge = newEdges.remove(new EdgeKey(edge));
+      if (updatedEdge == null
+          || updatedGraph.getEdgeWeight(updatedEdge) > graph.getEdgeWeight(edge)) {
+        removedEdges.add(edge);
+        continue;
+      }
+
+      replacedEdges.put(edge, updatedEdge);
+      double updatedWeight = updatedGraph.getEdgeWeight(updatedEdge);
+      if (updatedWeight < graph.getEdgeWeight(edge)) {
+        decreasedEdges.add(updatedEdge);
+        lowestDecreasedWeight = Math.min(lowestDecreasedWeight, updatedWeight);
+      }
+    }
+
+    addedEdges.addAll(newEdges.values());
+  }
+
+  /**
+   * Returns the removed edges of the original graph.
+   *
+   * @return The removed edges.
+   */
+  @Nonnull
+  public Set<Edge> getRemovedEdges() {
+    return Collections.unmodifiableSet(removedEdges);
+  }
+
+  /**
+   * Returns the added edges of the updated graph.
+   *
+   * @return The added edges.
+   */
+  @Nonnull
+  public Set<Edge> getAddedEdges() {
+    return Collections.unmodifiableSet(addedEdges);
+  }
+
+  /**
+   * Returns the edges of the updated graph whose weights are lower than those of the edges they
+   * replace.
+   *
+   * @return The decreased edges.
+   */
+  @Nonnull
+  public Set<Edge> getDecreasedEdges() {
+    return Collections.unmodifiableSet(decreasedEdges);
+  }
+
+  /**
+   * Returns the replaced edges of the original graph, mapped to the edges of the updated graph
+   * replacing them.
+   *
+   * @return The replaced edges.
+   */
+  @Nonnull
+  public Map<Edge, Edge> getReplacedEdges() {
+    return Collections.unmodifiableMap(replacedEdges);
+  }
+
+  /**
+   * Checks whether the given edge of the original graph is not contained in the updated graph.
+   *
+   * @param edge The edge.
+   * @return {@code true} if, and only if, the edge was removed or replaced.
+   */
+  public boolean isOutdated(Edge edge) {
+    return removedEdges.contains(edge) || replacedEdges.containsKey(edge);
+  }
+
+  /**
+   * Returns the costs up to which the shortest paths of the original graph not containing any
+   * outdated edges are still shortest paths in the updated graph, provided that no edges were
+   * added.
+   * <p>
+   * Any path that got cheaper due to decreased edges contains one of them, so with non-negative
+   * edge weights, its costs are at least the lowest weight of the decreased edges.
+   * </p>
+   *
+   * @return The costs, which are {@link Double#POSITIVE_INFINITY} if there are no decreased edges.
+   */
+  public double getUnaffectedCosts() {
+    if (decreasedEdges.isEmpty()) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return negativeWeights ? Double.NEGATIVE_INFINITY : lowestDecreasedWeight;
+  }
+
+  /**
+   * Identifies an edge by its path and direction.
+   *
+   * @param pathName The name of the edge's path.
+   * @param travellingReverse Whether the path is travelled in reverse direction.
+   */
+  private record EdgeKey(String pathName, boolean travellingReverse) {
+
+    EdgeKey(Edge edge) {
+      this(edge.getPath().getName(), edge.isTravellingReverse());
+    }
+  }
+}
@@ -56,6 +56,11 @@ public class GraphProvider {
    * The general {@link GraphResult}.
    */
   private GraphResult generalGraphResult;
+  /**
+   * The integer IDs of the points in the current point base.
+   * Guarded by <code>this</code>, as point routers may be created by concurrent route computations.
+   */
+  private PointIndex pointIndex;
 
   /**
    * Creates a new instance.
@@ -101,6 +106,27 @@ public class GraphProvider {
     graphResultsByRoutingGroup.clear();
     derivedGraphResults.clear();
     generalGraphResult = null;
+    synchronized (this) {
+      pointIndex = null;
+    }
+  }
+
+  /**
+   * Returns the mapping of the current point base's points to integer IDs.
+   * <p>
+   * The mapping is computed once and then used for all routing graphs until this provider is
+   * {@link #invalidate() invalidated}.
+   * </p>
+   *
+   * @return The mapping of the current point base's points to integer IDs.
+   */
+  @Nonnull
+  public synchronized PointIndex getPointIndex() {
+    if (pointIndex == null) {
+      pointIndex = new PointIndex(getCurrentPointBase().getResources());
+    }
+
+    return pointIndex;
   }
 
   /**
@@ -220,6 +246,9 @@ public class GraphProvider {
 
     // Ensure the path base is up-to-date.
     getCurrentPathBase().updateResources(paths);
+    // Derived graphs are cached by the path base's hash, which does not reflect changes of edge
+    // weights that are not caused by changes of the paths themselves (e.g. due to congestion).
+    derivedGraphResults.clear();
 
     for (Map.Entry<String, GraphResult> entry : Set.copyOf(graphResultsByRoutingGroup.entrySet())) {
       graphResultsByRoutingGroup.put(
@@ -0,0 +1,462 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.GraphWalk;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * An implementation of the Floyd-Warshall algorithm whose all-pairs shortest paths can be updated
+ * incrementally when edges are removed from or added to the graph.
+ * <p>
+ * The shortest paths are represented by a cost matrix and, for every pair of vertices, the last
+ * edge of the shortest path between them. For every source vertex, these last edges form a
+ * shortest path tree. When the graph is updated:
+ * </p>
+ * <ul>
+ * <li>Only the rows of source vertices whose shortest path trees contain removed edges are
+ * recomputed (using Dijkstra's algorithm).</li>
+ * <li>Added edges are inserted one after the other, relaxing the paths of all pairs of vertices
+ * via the respective edge in quadratic time.</li>
+ * </ul>
+ * <p>
+ * Edges are compared by their paths and weights (see {@link GraphChanges}), as the edges of updated
+ * paths are replaced in the routing graphs (see
+ * {@link ModelGraphMapper#updateGraph(java.util.Collection, org.opentcs.data.model.Vehicle,
+ * Graph)}). Edges whose weights increased are handled like removed edges. Edges whose weights
+ * decreased are inserted like added edges, without recomputing any rows. Edges whose weights did not
+ * change are merely replaced in the shortest path trees.
+ * </p>
+ * <p>
+ * Instances are not modified once they have been created - updating the shortest paths results in
+ * a new instance sharing the rows of the matrices that did not change. Instances may thus be used
+ * by multiple threads concurrently, even while an updated instance is being created.
+ * </p>
+ */
+public final class IncrementalFloydWarshallShortestPaths
+    implements
+      ShortestPathAlgorithm<Vertex, Edge> {
+
+  /**
+   * Marks a vertex that is not part of the graph.
+   */
+  private static final int NONE = -1;
+  /**
+   * The graph's vertices by index.
+   */
+  private final List<Vertex> vertices;
+  /**
+   * The indices of the graph's vertices, mapped to the names of the points they represent.
+   */
+  private final Map<String, Integer> indices;
+  /**
+   * For every pair of vertices, the costs of the shortest path between them.
+   */
+  private final double[][] costs;
+  /**
+   * For every pair of vertices, the last edge of the shortest path between them, or {@code null},
+   * if there is no such path.
+   */
+  private final Edge[][] lastEdges;
+  /**
+   * Indicates, for every row of the matrices, whether it is owned by this instance (and may thus be
+   * modified while this instance is being created) or shared with the instance it was updated from.
+   */
+  private final boolean[] ownedRows;
+  /**
+   * The graph this algorithm works on.
+   */
+  private final Graph<Vertex, Edge> graph;
+
+  /**
+   * Creates a new instance, computing the shortest paths between all pairs of vertices.
+   *
+   * @param graph The graph to work on.
+   */
+  public IncrementalFloydWarshallShortestPaths(
+      @Nonnull
+      Graph<Vertex, Edge> graph
+  ) {
+    this.graph = requireNonNull(graph, "graph");
+    this.vertices = new ArrayList<>(graph.vertexSet());
+    this.indices = new HashMap<>();
+    for (int index = 0; index < vertices.size(); index++) {
+      indices.put(vertices.get(index).getPoint().getName(), index);
+    }
+    this.costs = new double[vertices.size()][vertices.size()];
+    this.lastEdges = new Edge[vertices.size()][vertices.size()];
+    this.ownedRows = new boolean[vertices.size()];
+    Arrays.fill(ownedRows, true);
+
+    computeAllPaths();
+  }
+
+  /**
+   * Creates a new instance for an updated version of the given instance's graph, initially sharing
+   * all rows of the given instance's matrices.
+   *
+   * @param base The instance to create an updated version of.
+   * @param updatedGraph The updated graph, containing the same vertices.
+   */
+  private IncrementalFloydWarshallShortestPaths(
+      IncrementalFloydWarshallShortestPaths base,
+      Graph<Vertex, Edge> updatedGraph
+  ) {
+    this.graph = updatedGraph;
+    this.vertices = base.vertices;
+    this.indices = base.indices;
+    this.costs = base.costs.clone();
+    this.lastEdges = base.lastEdges.clone();
+    this.ownedRows = new boolean[vertices.size()];
+  }
+
+  /**
+   * Returns the graph this algorithm works on.
+   *
+   * @return The graph this algorithm works on.
+   */
+  @Nonnull
+  public Graph<Vertex, Edge> getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns an algorithm instance working on the given graph, which is an updated version of the
+   * one this instance works on.
+   * <p>
+   * If the updated graph contains the same vertices, the shortest paths of the returned instance
+   * are computed incrementally from the ones of this instance. Otherwise, the shortest paths are
+   * computed from scratch. In any case, this instance is not modified.
+   * </p>
+   *
+   * @param updatedGraph The updated graph.
+   * @return An algorithm instance working on the updated graph.
+   */
+  @Nonnull
+  public IncrementalFloydWarshallShortestPaths updateGraph(
+      @Nonnull
+      Graph<Vertex, Edge> updatedGraph
+  ) {
+    requireNonNull(updatedGraph, "updatedGraph");
+
+    if (!updatedGraph.vertexSet().equals(graph.vertexSet())) {
+      return new IncrementalFloydWarshallShortestPaths(updatedGraph);
+    }
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+    Set<Edge> insertedEdges = new HashSet<>(changes.getAddedEdges());
+    insertedEdges.addAll(changes.getDecreasedEdges());
+
+    IncrementalFloydWarshallShortestPaths result
+        = new IncrementalFloydWarshallShortestPaths(this, updatedGraph);
+    result.removeEdges(changes.getRemovedEdges(), insertedEdges);
+    result.replaceEdges(changes.getReplacedEdges());
+    for (Edge edge : insertedEdges) {
+      result.addEdge(edge);
+    }
+
+    return result;
+  }
+
+  @Override
+  public GraphPath<Vertex, Edge> getPath(Vertex source, Vertex sink) {
+    int sourceIndex = requireIndex(source, "source");
+    int sinkIndex = requireIndex(sink, "sink");
+
+    return toGraphPath(sourceIndex, sinkIndex, costs[sourceIndex], lastEdges[sourceIndex]);
+  }
+
+  @Override
+  public double getPathWeight(Vertex source, Vertex sink) {
+    return costs[requireIndex(source, "source")][requireIndex(sink, "sink")];
+  }
+
+  @Override
+  public SingleSourcePaths<Vertex, Edge> getPaths(Vertex source) {
+    int sourceIndex = requireIndex(source, "source");
+
+    return new RowSingleSourcePaths(sourceIndex, costs[sourceIndex], lastEdges[sourceIndex]);
+  }
+
+  private void computeAllPaths() {
+    int vertexCount = vertices.size();
+    for (int i = 0; i < vertexCount; i++) {
+      Arrays.fill(costs[i], Double.POSITIVE_INFINITY);
+      Arrays.fill(lastEdges[i], null);
+      costs[i][i] = 0.0;
+    }
+    for (Edge edge : graph.edgeSet()) {
+      int sourceIndex = indexOf(graph.getEdgeSource(edge));
+      int targetIndex = indexOf(graph.getEdgeTarget(edge));
+      double weight = graph.getEdgeWeight(edge);
+      if (weight < costs[sourceIndex][targetIndex]) {
+        costs[sourceIndex][targetIndex] = weight;
+        lastEdges[sourceIndex][targetIndex] = edge;
+      }
+    }
+
+    for (int k = 0; k < vertexCount; k++) {
+      double[] rowK = costs[k];
+      Edge[] lastEdgesK = lastEdges[k];
+      for (int i = 0; i < vertexCount; i++) {
+        double costsIK = costs[i][k];
+        if (costsIK == Double.POSITIVE_INFINITY) {
+          continue;
+        }
+        double[] rowI = costs[i];
+        Edge[] lastEdgesI = lastEdges[i];
+        for (int j = 0; j < vertexCount; j++) {
+          double viaK = costsIK + rowK[j];
+          if (viaK < rowI[j]) {
+            rowI[j] = viaK;
+            lastEdgesI[j] = lastEdgesK[j];
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Recomputes the rows of all source vertices whose shortest path trees contain any of the given
+   * removed edges.
+   *
+   * @param removedEdges The removed edges.
+   * @param ignoredEdges Edges of the (current) graph to be ignored, as they have not been inserted
+   * yet.
+   */
+  private void removeEdges(Set<Edge> removedEdges, Set<Edge> ignoredEdges) {
+    if (removedEdges.isEmpty()) {
+      return;
+    }
+
+    int[] targetIndices = removedEdges.stream()
+        .mapToInt(edge -> indices.get(edge.getTargetVertex()))
+        .toArray();
+    Edge[] edges = removedEdges.toArray(Edge[]::new);
+    for (int sourceIndex = 0; sourceIndex < vertices.size(); sourceIndex++) {
+      for (int k = 0; k < edges.length; k++) {
+        if (lastEdges[sourceIndex][targetIndices[k]] == edges[k]) {
+          recomputeRow(sourceIndex, ignoredEdges);
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the given edges in the shortest path trees.
+   * The costs of the shortest paths are not changed, i.e. edges whose weights decreased still need
+   * to be inserted afterwards.
+   *
+   * @param replacedEdges The replaced edges, mapped to the edges replacing them.
+   */
+  private void replaceEdges(Map<Edge, Edge> replacedEdges) {
+    if (replacedEdges.isEmpty()) {
+      return;
+    }
+
+    for (int i = 0; i < vertices.size(); i++) {
+      for (int j = 0; j < vertices.size(); j++) {
+        Edge replacement = replacedEdges.get(lastEdges[i][j]);
+        if (replacement != null) {
+          ownRow(i);
+          lastEdges[i][j] = replacement;
+        }
+      }
+    }
+  }
+
+  /**
+   * Inserts the given edge, relaxing the paths between all pairs of vertices via it.
+   *
+   * @param edge The edge.
+   */
+  private void addEdge(Edge edge) {
+    int u = indexOf(graph.getEdgeSource(edge));
+    int v = indexOf(graph.getEdgeTarget(edge));
+    double weight = graph.getEdgeWeight(edge);
+    double[] rowV = costs[v];
+    Edge[] lastEdgesV = lastEdges[v];
+
+    for (int i = 0; i < vertices.size(); i++) {
+      double costsIV = costs[i][u] + weight;
+      if (!(costsIV < costs[i][v])) {
+        // As the costs satisfy the triangle inequality, no path from i gets cheaper via the edge.
+        continue;
+      }
+      // (As the costs of the path from v to itself are zero, row v itself is never modified here.)
+      ownRow(i);
+      double[] rowI = costs[i];
+      Edge[] lastEdgesI = lastEdges[i];
+      for (int j = 0; j < vertices.size(); j++) {
+        double viaEdge = costsIV + rowV[j];
+        if (viaEdge < rowI[j]) {
+          rowI[j] = viaEdge;
+          lastEdgesI[j] = (j == v) ? edge : lastEdgesV[j];
+        }
+      }
+    }
+  }
+
+  private void recomputeRow(int sourceIndex, Set<Edge> ignoredEdges) {
+    double[] row = new double[vertices.size()];
+    Edge[] rowLastEdges = new Edge[vertices.size()];
+    costs[sourceIndex] = row;
+    lastEdges[sourceIndex] = rowLastEdges;
+    ownedRows[sourceIndex] = true;
+    Arrays.fill(row, Double.POSITIVE_INFINITY);
+    boolean[] settled = new boolean[vertices.size()];
+
+    PriorityQueue<QueueEntry> queue
+        = new PriorityQueue<>(Comparator.comparingDouble(QueueEntry::costs));
+    row[sourceIndex] = 0.0;
+    queue.add(new QueueEntry(sourceIndex, 0.0));
+    while (!queue.isEmpty()) {
+      QueueEntry entry = queue.poll();
+      if (settled[entry.index()]) {
+        continue;
+      }
+      settled[entry.index()] = true;
+
+      for (Edge edge : graph.outgoingEdgesOf(vertices.get(entry.index()))) {
+        if (ignoredEdges.contains(edge)) {
+          continue;
+        }
+        int targetIndex = indexOf(graph.getEdgeTarget(edge));
+        double targetCosts = entry.costs() + graph.getEdgeWeight(edge);
+        if (targetCosts < row[targetIndex]) {
+          row[targetIndex] = targetCosts;
+          rowLastEdges[targetIndex] = edge;
+          queue.add(new QueueEntry(targetIndex, targetCosts));
+        }
+      }
+    }
+  }
+
+  /**
+   * Makes sure the given row of the matrices is owned by this instance, copying it if necessary.
+   *
+   * @param index The index of the row.
+   */
+  private void ownRow(int index) {
+    if (!ownedRows[index]) {
+      costs[index] = costs[index].clone();
+      lastEdges[index] = lastEdges[index].clone();
+      ownedRows[index] = true;
+    }
+  }
+
+  private GraphPath<Vertex, Edge> toGraphPath(
+      int sourceIndex,
+      int sinkIndex,
+      double[] rowCosts,
+      Edge[] rowLastEdges
+  ) {
+    if (rowCosts[sinkIndex] == Double.POSITIVE_INFINITY) {
+      return null;
+    }
+    if (sourceIndex == sinkIndex) {
+      return GraphWalk.singletonWalk(graph, vertices.get(sourceIndex), 0.0);
+    }
+
+    List<Edge> pathEdges = new ArrayList<>();
+    for (int index = sinkIndex; index != sourceIndex;) {
+      Edge edge = rowLastEdges[index];
+      if (edge == null || pathEdges.size() >= vertices.size()) {
+        // With edges weighing zero, the last edges may (in rare cases) form a cycle of zero costs.
+        return new DijkstraShortestPath<>(graph)
+            .getPath(vertices.get(sourceIndex), vertices.get(sinkIndex));
+      }
+      pathEdges.add(edge);
+      index = indices.get(edge.getSourceVertex());
+    }
+    Collections.reverse(pathEdges);
+
+    return new GraphWalk<>(
+        graph,
+        vertices.get(sourceIndex),
+        vertices.get(sinkIndex),
+        pathEdges,
+        rowCosts[sinkIndex]
+    );
+  }
+
+  private int requireIndex(Vertex vertex, String name) {
+    int index = indexOfOrNone(vertex);
+    checkArgument(index != NONE, "Graph must contain the %s vertex!", name);
+    return index;
+  }
+
+  private int indexOfOrNone(Vertex vertex) {
+    Integer index = (vertex == null) ? null : indices.get(vertex.getPoint().getName());
+    return index != null && vertices.get(index) == vertex ? index : NONE;
+  }
+
+  private int indexOf(Vertex vertex) {
+    return indices.get(vertex.getPoint().getName());
+  }
+
+  private record QueueEntry(int index, double costs) {
+  }
+
+  /**
+   * The shortest paths from a source vertex, as contained in a row of the matrices.
+   */
+  private class RowSingleSourcePaths
+      implements
+        SingleSourcePaths<Vertex, Edge> {
+
+    private final int sourceIndex;
+    private final double[] rowCosts;
+    private final Edge[] rowLastEdges;
+
+    RowSingleSourcePaths(int sourceIndex, double[] rowCosts, Edge[] rowLastEdges) {
+      this.sourceIndex = sourceIndex;
+      this.rowCosts = rowCosts;
+      this.rowLastEdges = rowLastEdges;
+    }
+
+    @Override
+    public Graph<Vertex, Edge> getGraph() {
+      return graph;
+    }
+
+    @Override
+    public Vertex getSourceVertex() {
+      return vertices.get(sourceIndex);
+    }
+
+    @Override
+    public double getWeight(Vertex targetVertex) {
+      int targetIndex = indexOfOrNone(targetVertex);
+      return targetIndex == NONE ? Double.POSITIVE_INFINITY : rowCosts[targetIndex];
+    }
+
+    @Override
+    public GraphPath<Vertex, Edge> getPath(Vertex targetVertex) {
+      int targetIndex = indexOfOrNone(targetVertex);
+      if (targetIndex == NONE) {
+        return null;
+      }
+      return toGraphPath(sourceIndex, targetIndex, rowCosts, rowLastEdges);
+    }
+  }
+}
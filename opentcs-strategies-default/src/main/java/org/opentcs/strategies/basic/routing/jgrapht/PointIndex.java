@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.opentcs.data.model.Point;
+
+/**
+ * Maps the names of points to consecutive integer IDs (starting at 0), allowing routing graphs to
+ * be represented using primitive arrays indexed by these IDs.
+ * <p>
+ * Points are numbered in the lexicographic order of their names, so that the same set of points
+ * always results in the same mapping.
+ * </p>
+ */
+public final class PointIndex {
+
+  /**
+   * The point IDs by point name.
+   */
+  private final Map<String, Integer> idsByName;
+  /**
+   * The point names by point ID.
+   */
+  private final String[] namesById;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param points The points to be mapped.
+   */
+  public PointIndex(
+      @Nonnull
+      Collection<Point> points
+  ) {
+    requireNonNull(points, "points");
+
+    namesById = points.stream()
+        .map(Point::getName)
+        .distinct()
+        .sorted()
+        .toArray(String[]::new);
+    idsByName = new HashMap<>(namesById.length * 2);
+    for (int id = 0; id < namesById.length; id++) {
+      idsByName.put(namesById[id], id);
+    }
+  }
+
+  /**
+   * Returns the number of mapped points.
+   *
+   * @return The number of mapped points.
+   */
+  public int size() {
+    return namesById.length;
+  }
+
+  /**
+   * Returns the ID of the point with the given name.
+   *
+   * @param pointName The name of the point.
+   * @return The ID of the point, or -1, if no point with the given name is mapped.
+   */
+  public int getId(
+      @Nonnull
+      String pointName
+  ) {
+    requireNonNull(pointName, "pointName");
+
+    Integer id = idsByName.get(pointName);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Returns the name of the point with the given ID.
+   *
+   * @param id The ID of the point.
+   * @return The name of the point.
+   * @throws IndexOutOfBoundsException If no point with the given ID is mapped.
+   */
+  @Nonnull
+  public String getName(int id)
+      throws IndexOutOfBoundsException {
+    return namesById[id];
+  }
+}
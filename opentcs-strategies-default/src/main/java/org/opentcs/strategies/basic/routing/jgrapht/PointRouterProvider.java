@@ -9,12 +9,14 @@ import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
@@ -27,19 +29,39 @@ import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.Resources
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * If route caching is enabled, this includes a limited number of point routers for routing groups
+ * combined with sets of resources to avoid, so that the routes cached by these point routers can be
+ * reused, too.
  * </p>
  */
 public class PointRouterProvider {
 
+  /**
+   * The maximum number of cached point routers for sets of resources to avoid.
+   */
+  private static final int MAX_DERIVED_POINT_ROUTERS = 32;
   private final TCSObjectService objectService;
   private final ResourceAvoidanceExtractor resourceAvoidanceExtractor;
   private final GroupMapper routingGroupMapper;
   private final PointRouterFactory pointRouterFactory;
   private final GraphProvider graphProvider;
+  private final RouteCacheProvider routeCacheProvider;
   /**
    * The point routers by vehicle routing group.
    */
   private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  /**
+   * The point routers by vehicle routing group and resources to avoid, in access order.
+   */
+  private final Map<DerivedPointRouterKey, PointRouter> derivedPointRouters
+      = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<DerivedPointRouterKey, PointRouter> eldest
+        ) {
+          return size() > MAX_DERIVED_POINT_ROUTERS;
+        }
+      };
 
   /**
    * Creates a new instance.
@@ -49,6 +71,7 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param routeCacheProvider Provides the route caches for point routers.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +79,8 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      RouteCacheProvider routeCacheProvider
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,18 +90,24 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.routeCacheProvider = requireNonNull(routeCacheProvider, "routeCacheProvider");
   }
 
   /**
    * Invalidates any point routers that have already been constructed.
    */
   public void invalidate() {
-    pointRoutersByVehicleGroup.clear();
+    clearPointRouters();
     graphProvider.invalidate();
   }
 
   /**
    * Updates the routing topology with respect to the given paths.
+   * <p>
+   * Point routers for vehicle routing groups are updated (see
+   * {@link PointRouterFactory#updatePointRouter(PointRouter, Vehicle)}) rather than discarded, so
+   * that they can reuse what they computed for the unchanged parts of the routing graphs.
+   * </p>
    *
    * @param paths The paths to update in the routing topology. An empty set of paths results in any
    * constructed point routers to be invalidated.
@@ -88,14 +118,29 @@ public class PointRouterProvider {
   ) {
     requireNonNull(paths, "paths");
 
-    pointRoutersByVehicleGroup.clear();
-
     if (paths.isEmpty()) {
+      clearPointRouters();
       graphProvider.invalidate();
+      return;
     }
-    else {
-      graphProvider.updateGraphResults(paths);
+
+    synchronized (derivedPointRouters) {
+      derivedPointRouters.clear();
     }
+    graphProvider.updateGraphResults(paths);
+
+    Map<String, PointRouter> updatedPointRouters = new HashMap<>();
+    distinctRoutingGroups().forEach((routingGroup, vehicle) -> {
+      PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+      if (pointRouter != null) {
+        updatedPointRouters.put(
+            routingGroup,
+            pointRouterFactory.updatePointRouter(pointRouter, vehicle)
+        );
+      }
+    });
+    pointRoutersByVehicleGroup.clear();
+    pointRoutersByVehicleGroup.putAll(updatedPointRouters);
   }
 
   /**
@@ -177,24 +222,50 @@ public class PointRouterProvider {
   }
 
   private void createMissingPointRouters() {
+    // Lazily create point routers if they don't exist.
+    distinctRoutingGroups().forEach(
+        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
+    );
+  }
+
+  /**
+   * Returns one vehicle for each routing group, mapped to the routing group.
+   *
+   * @return One vehicle for each routing group, mapped to the routing group.
+   */
+  private Map<String, Vehicle> distinctRoutingGroups() {
     Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
     for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
       distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
     }
+    return distinctRoutingGroups;
+  }
 
-    // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach(
-        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
-    );
+  private void clearPointRouters() {
+    pointRoutersByVehicleGroup.clear();
+    synchronized (derivedPointRouters) {
+      derivedPointRouters.clear();
+    }
+    routeCacheProvider.invalidated();
   }
 
   private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
     if (!resourcesToAvoid.isEmpty()) {
-      return pointRouterFactory.createPointRouter(
-          vehicle,
+      if (!routeCacheProvider.isEnabled()) {
+        return createDerivedPointRouter(vehicle, resourcesToAvoid);
+      }
+
+      DerivedPointRouterKey key = new DerivedPointRouterKey(
+          routingGroupMapper.apply(vehicle),
           resourcesToAvoid.getPoints(),
           resourcesToAvoid.getPaths()
       );
+      synchronized (derivedPointRouters) {
+        return derivedPointRouters.computeIfAbsent(
+            key,
+            k -> createDerivedPointRouter(vehicle, resourcesToAvoid)
+        );
+      }
     }
 
     // In all other cases, create a point router if it does not yet exist for the vehicle's routing
@@ -204,4 +275,24 @@ public class PointRouterProvider {
         routingGroup -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
     );
   }
+
+  private PointRouter createDerivedPointRouter(
+      Vehicle vehicle,
+      ResourcesToAvoid resourcesToAvoid
+  ) {
+    return pointRouterFactory.createPointRouter(
+        vehicle,
+        resourcesToAvoid.getPoints(),
+        resourcesToAvoid.getPaths()
+    );
+  }
+
+  /**
+   * Identifies a point router for a routing group and a set of resources to avoid.
+   * <p>
+   * Note that points and paths are compared by their names.
+   * </p>
+   */
+  private record DerivedPointRouterKey(String routingGroup, Set<Point> points, Set<Path> paths) {
+  }
 }
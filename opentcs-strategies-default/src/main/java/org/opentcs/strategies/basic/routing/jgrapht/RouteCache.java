@@ -0,0 +1,173 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.jgrapht.GraphPath;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * A bounded cache for shortest paths computed by a single {@link ShortestPathPointRouter}, evicting
+ * the least recently used entries first.
+ * <p>
+ * Since a point router works on a fixed graph, cached entries usually don't need to be invalidated
+ * individually - the cache is discarded along with the point router when the routing topology
+ * changes. Only when a point router is updated incrementally, a copy of its cache without the
+ * cached paths that may no longer be valid is passed on to the updated point router. Instances are
+ * created by a {@link RouteCacheProvider}, which also collects statistics for all of them.
+ * </p>
+ */
+public final class RouteCache {
+
+  /**
+   * A cache that does not cache anything.
+   */
+  private static final RouteCache DISABLED = new RouteCache(0, new AtomicLong(), new AtomicLong());
+  /**
+   * The maximum number of cached paths.
+   */
+  private final int capacity;
+  /**
+   * The cached paths (or empty optionals for routes that do not exist), in access order.
+   */
+  private final Map<RouteKey, Optional<GraphPath<Vertex, Edge>>> paths;
+  /**
+   * Counts cache hits.
+   */
+  private final AtomicLong hitCount;
+  /**
+   * Counts cache misses.
+   */
+  private final AtomicLong missCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of cached paths.
+   * @param hitCount Counts cache hits.
+   * @param missCount Counts cache misses.
+   */
+  RouteCache(int capacity, AtomicLong hitCount, AtomicLong missCount) {
+    this.capacity = capacity;
+    this.hitCount = requireNonNull(hitCount, "hitCount");
+    this.missCount = requireNonNull(missCount, "missCount");
+    this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+          Map.Entry<RouteKey, Optional<GraphPath<Vertex, Edge>>> eldest
+      ) {
+        return size() > RouteCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns a cache that does not cache anything.
+   *
+   * @return A cache that does not cache anything.
+   */
+  @Nonnull
+  public static RouteCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns the shortest path between the given points, computing it if it is not cached, yet.
+   *
+   * @param srcPointName The name of the source point.
+   * @param destPointName The name of the destination point.
+   * @param pathComputation Computes the shortest path if it is not cached. May return
+   * {@code null} if there is no path.
+   * @return The shortest path, or {@code null}, if there is no path.
+   */
+  @Nullable
+  public GraphPath<Vertex, Edge> getPath(
+      @Nonnull
+      String srcPointName,
+      @Nonnull
+      String destPointName,
+      @Nonnull
+      Supplier<GraphPath<Vertex, Edge>> pathComputation
+  ) {
+    requireNonNull(srcPointName, "srcPointName");
+    requireNonNull(destPointName, "destPointName");
+    requireNonNull(pathComputation, "pathComputation");
+
+    if (capacity <= 0) {
+      return pathComputation.get();
+    }
+
+    RouteKey key = new RouteKey(srcPointName, destPointName);
+    Optional<GraphPath<Vertex, Edge>> cachedPath;
+    synchronized (paths) {
+      cachedPath = paths.get(key);
+    }
+    if (cachedPath != null) {
+      hitCount.incrementAndGet();
+      return cachedPath.orElse(null);
+    }
+
+    missCount.incrementAndGet();
+    // Compute the path without holding the lock, so that computations for different routes (e.g.
+    // for assignment candidates computed in parallel) don't block each other. Concurrent misses for
+    // the same route may result in redundant computations, but yield the same path.
+    GraphPath<Vertex, Edge> path = pathComputation.get();
+    synchronized (paths) {
+      paths.put(key, Optional.ofNullable(path));
+    }
+    return path;
+  }
+
+  /**
+   * Returns the number of currently cached paths.
+   *
+   * @return The number of currently cached paths.
+   */
+  public int size() {
+    synchronized (paths) {
+      return paths.size();
+    }
+  }
+
+  /**
+   * Returns a new cache with this cache's capacity and statistics, containing this cache's entries
+   * except for the cached paths that satisfy the given predicate.
+   * (Cached information about routes that do not exist is kept.)
+   *
+   * @param predicate The predicate.
+   * @return The new cache.
+   */
+  @Nonnull
+  public RouteCache copyWithout(
+      @Nonnull
+      Predicate<GraphPath<Vertex, Edge>> predicate
+  ) {
+    requireNonNull(predicate, "predicate");
+
+    if (capacity <= 0) {
+      return this;
+    }
+
+    RouteCache result = new RouteCache(capacity, hitCount, missCount);
+    synchronized (paths) {
+      paths.forEach((key, path) -> {
+        if (path.isEmpty() || !predicate.test(path.get())) {
+          result.paths.put(key, path);
+        }
+      });
+    }
+    return result;
+  }
+
+  private record RouteKey(String srcPointName, String destPointName) {
+  }
+}
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides {@link RouteCache}s for point routers and collects hit/miss statistics for all of them.
+ */
+public class RouteCacheProvider {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RouteCacheProvider.class);
+  /**
+   * The maximum number of paths cached per point router.
+   */
+  private final int capacity;
+  /**
+   * Counts cache hits.
+   */
+  private final AtomicLong hitCount = new AtomicLong();
+  /**
+   * Counts cache misses.
+   */
+  private final AtomicLong missCount = new AtomicLong();
+  /**
+   * Counts invalidations of cached point routers (and their caches).
+   */
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The router's configuration.
+   */
+  @Inject
+  public RouteCacheProvider(
+      @Nonnull
+      DefaultRouterConfiguration configuration
+  ) {
+    requireNonNull(configuration, "configuration");
+    this.capacity = configuration.routeCacheSize();
+  }
+
+  /**
+   * Indicates whether routes are to be cached.
+   *
+   * @return {@code true}, if routes are to be cached, otherwise {@code false}.
+   */
+  public boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * Creates a new (empty) cache for a point router.
+   *
+   * @return The new cache.
+   */
+  @Nonnull
+  public RouteCache createRouteCache() {
+    return isEnabled() ? new RouteCache(capacity, hitCount, missCount) : RouteCache.disabled();
+  }
+
+  /**
+   * Records that all existing caches have been discarded because the routing topology changed.
+   */
+  public void invalidated() {
+    invalidationCount.incrementAndGet();
+    LOG.debug(
+        "Discarding route caches. Statistics so far: {} hits, {} misses, {} invalidations.",
+        getHitCount(),
+        getMissCount(),
+        getInvalidationCount()
+    );
+  }
+
+  /**
+   * Returns the number of cache hits.
+   *
+   * @return The number of cache hits.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of cache misses.
+   *
+   * @return The number of cache misses.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the number of times all caches have been discarded.
+   *
+   * @return The number of times all caches have been discarded.
+   */
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+}
@@ -22,6 +22,8 @@ public interface ShortestPathConfiguration {
       description = {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
+          "'COMPACT_DIJKSTRA': Routes are computed using Dijkstra's algorithm on a compact, "
+              + "array-based representation of the routing graph.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
           "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
@@ -40,7 +42,11 @@ public interface ShortestPathConfiguration {
           "'HOPS': A route's cost equals the number of paths it consists of.",
           "'BOUNDING_BOX': A route's cost equals 0 if the vehicle's bounding box does not protrude "
               + "beyond _any_ bounding boxes of points along the route. Otherwise, a route's cost "
-              + "is considered infinitely high, resulting in the route to be effectively discarded."
+              + "is considered infinitely high, resulting in the route to be effectively "
+              + "discarded.",
+          "'CONGESTION': A route's cost equals the sum of penalties for the vehicles occupying or "
+              + "claiming its paths and for the delays recently measured when travelling along "
+              + "them."
       },
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
@@ -54,6 +60,10 @@ public interface ShortestPathConfiguration {
      * The Dijkstra algorithm.
      */
     DIJKSTRA(false),
+    /**
+     * The Dijkstra algorithm, working on a compact representation of the routing graph.
+     */
+    COMPACT_DIJKSTRA(false),
     /**
      * The Bellman-Ford algorithm.
      */
@@ -3,21 +3,31 @@
 package org.opentcs.strategies.basic.routing.jgrapht;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.GraphWalk;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.RoutesFromPoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +52,50 @@ public class ShortestPathPointRouter
 
   private final Map<String, Vertex> pointVertexMap = new HashMap<>();
 
+  private final RouteCache routeCache;
+  /**
+   * The graph the algorithm works on, or {@code null}, if unknown.
+   */
+  private final Graph<Vertex, Edge> graph;
+
   public ShortestPathPointRouter(
       ShortestPathAlgorithm<Vertex, Edge> algo,
       Collection<Point> points,
       Collection<Vertex> vertices
+  ) {
+    this(algo, points, vertices, null, RouteCache.disabled());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The shortest path algorithm to be used.
+   * @param points The points to compute routes between.
+   * @param graph The graph the given algorithm works on.
+   * @param routeCache Caches the paths computed, so that subsequent requests for the costs of or
+   * the steps for the same route do not have to compute the path again.
+   */
+  public ShortestPathPointRouter(
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      Collection<Point> points,
+      Graph<Vertex, Edge> graph,
+      RouteCache routeCache
+  ) {
+    this(algo, points, requireNonNull(graph, "graph").vertexSet(), graph, routeCache);
+  }
+
+  private ShortestPathPointRouter(
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      Collection<Point> points,
+      Collection<Vertex> vertices,
+      Graph<Vertex, Edge> graph,
+      RouteCache routeCache
   ) {
     this.algo = requireNonNull(algo, "algo");
     requireNonNull(points, "points");
     requireNonNull(vertices, "vertexSet");
+    this.graph = graph;
+    this.routeCache = requireNonNull(routeCache, "routeCache");
 
     for (Point point : points) {
       this.points.put(point.getName(), point);
@@ -60,6 +106,33 @@ public class ShortestPathPointRouter
     }
   }
 
+  /**
+   * Returns the shortest path algorithm used.
+   *
+   * @return The shortest path algorithm used.
+   */
+  ShortestPathAlgorithm<Vertex, Edge> getAlgorithm() {
+    return algo;
+  }
+
+  /**
+   * Returns the graph the algorithm works on.
+   *
+   * @return The graph the algorithm works on, or {@code null}, if unknown.
+   */
+  Graph<Vertex, Edge> getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the cache for the paths computed.
+   *
+   * @return The cache for the paths computed.
+   */
+  RouteCache getRouteCache() {
+    return routeCache;
+  }
+
   @Override
   public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
     requireNonNull(srcPoint, "srcPoint");
@@ -70,10 +143,7 @@ public class ShortestPathPointRouter
       return new ArrayList<>();
     }
 
-    GraphPath<Vertex, Edge> graphPath = algo.getPath(
-        pointVertexMap.get(srcPoint.getName()),
-        pointVertexMap.get(destPoint.getName())
-    );
+    GraphPath<Vertex, Edge> graphPath = getPath(srcPoint.getName(), destPoint.getName());
     if (graphPath == null) {
       return null;
     }
@@ -102,10 +172,7 @@ public class ShortestPathPointRouter
       return 0;
     }
 
-    GraphPath<Vertex, Edge> graphPath = algo.getPath(
-        pointVertexMap.get(srcPointRef.getName()),
-        pointVertexMap.get(destPointRef.getName())
-    );
+    GraphPath<Vertex, Edge> graphPath = getPath(srcPointRef.getName(), destPointRef.getName());
     if (graphPath == null) {
       return INFINITE_COSTS;
     }
@@ -113,6 +180,66 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation computes the routes to all destination points with a single search from
+   * the source point. With (either variant of) Dijkstra's algorithm, the search stops as soon as
+   * the shortest routes to all destination points are known. The steps of a route are only
+   * materialized when they are requested.
+   * </p>
+   */
+  @Override
+  public RoutesFromPoint getRoutesFromPoint(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    Vertex srcVertex = pointVertexMap.get(srcPoint.getName());
+    if (destPoints.size() < 2 || srcVertex == null) {
+      // Individual lookups are as good as a single search here, and they make use of the cache.
+      return PointRouter.super.getRoutesFromPoint(srcPoint, destPoints);
+    }
+
+    long timeBefore = System.currentTimeMillis();
+    AbstractRoutesFromPoint result;
+    if (algo instanceof CompactDijkstraShortestPath compactAlgo) {
+      result = new SingleSourceRoutes(
+          srcPoint,
+          destPoints,
+          compactAlgo.getPaths(
+              srcVertex,
+              destPoints.stream()
+                  .map(destPoint -> pointVertexMap.get(destPoint.getName()))
+                  .filter(Objects::nonNull)
+                  .toList()
+          )
+      );
+    }
+    else if (graph != null && algo instanceof DijkstraShortestPath<?, ?>) {
+      result = new ShortestPathTree(srcPoint, destPoints, srcVertex);
+    }
+    else {
+      result = new SingleSourceRoutes(srcPoint, destPoints, algo.getPaths(srcVertex));
+    }
+
+    LOG.debug(
+        "Looking up routes from {} to {} destination points took {} milliseconds.",
+        srcPoint.getName(),
+        destPoints.size(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
+  private GraphPath<Vertex, Edge> getPath(String srcPointName, String destPointName) {
+    return routeCache.getPath(
+        srcPointName,
+        destPointName,
+        () -> algo.getPath(pointVertexMap.get(srcPointName), pointVertexMap.get(destPointName))
+    );
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<Vertex, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
@@ -143,4 +270,178 @@ public class ShortestPathPointRouter
         ? Vehicle.Orientation.FORWARD
         : Vehicle.Orientation.BACKWARD;
   }
+
+  /**
+   * Base class for the shortest routes from a source point, with the paths looked up by
+   * subclasses.
+   */
+  private abstract class AbstractRoutesFromPoint
+      implements
+        RoutesFromPoint {
+
+    private final Point srcPoint;
+    private final Set<Point> destPoints;
+
+    AbstractRoutesFromPoint(Point srcPoint, Set<Point> destPoints) {
+      this.srcPoint = srcPoint;
+      this.destPoints = destPoints;
+    }
+
+    @Override
+    public long getCosts(Point destPoint) {
+      checkDestinationPoint(destPoint);
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return 0;
+      }
+
+      GraphPath<Vertex, Edge> graphPath = getPath(pointVertexMap.get(destPoint.getName()));
+      if (graphPath == null) {
+        return INFINITE_COSTS;
+      }
+
+      return (long) graphPath.getWeight();
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point destPoint) {
+      checkDestinationPoint(destPoint);
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return new ArrayList<>();
+      }
+
+      GraphPath<Vertex, Edge> graphPath = getPath(pointVertexMap.get(destPoint.getName()));
+      if (graphPath == null) {
+        return null;
+      }
+
+      return translateToSteps(graphPath);
+    }
+
+    /**
+     * Returns the shortest path from the source point's vertex to the given one.
+     *
+     * @param destVertex The destination vertex. May be {@code null}, e.g. if the destination point
+     * is excluded from the graph.
+     * @return The shortest path, or {@code null}, if there is no path.
+     */
+    protected abstract GraphPath<Vertex, Edge> getPath(Vertex destVertex);
+
+    private void checkDestinationPoint(Point destPoint) {
+      requireNonNull(destPoint, "destPoint");
+      checkArgument(destPoints.contains(destPoint), "Not a destination point: %s", destPoint);
+    }
+  }
+
+  /**
+   * Routes looked up from the single source shortest paths computed by the algorithm.
+   */
+  private class SingleSourceRoutes
+      extends
+        AbstractRoutesFromPoint {
+
+    private final ShortestPathAlgorithm.SingleSourcePaths<Vertex, Edge> paths;
+
+    SingleSourceRoutes(
+        Point srcPoint,
+        Set<Point> destPoints,
+        ShortestPathAlgorithm.SingleSourcePaths<Vertex, Edge> paths
+    ) {
+      super(srcPoint, destPoints);
+      this.paths = paths;
+    }
+
+    @Override
+    protected GraphPath<Vertex, Edge> getPath(Vertex destVertex) {
+      return destVertex == null ? null : paths.getPath(destVertex);
+    }
+  }
+
+  /**
+   * The shortest path tree from a source vertex, expanded (using Dijkstra's algorithm) until the
+   * shortest paths to all destination vertices are known.
+   */
+  private class ShortestPathTree
+      extends
+        AbstractRoutesFromPoint {
+
+    private final Vertex srcVertex;
+    /**
+     * The vertices the shortest paths to are known, mapped to the costs of these paths.
+     */
+    private final Map<Vertex, Double> settledCosts = new HashMap<>();
+    /**
+     * The last edge of the shortest (known) path to each reached vertex.
+     */
+    private final Map<Vertex, Edge> predecessorEdges = new HashMap<>();
+
+    ShortestPathTree(Point srcPoint, Set<Point> destPoints, Vertex srcVertex) {
+      super(srcPoint, destPoints);
+      this.srcVertex = srcVertex;
+
+      Set<Vertex> unsettledDestinations = new HashSet<>();
+      for (Point destPoint : destPoints) {
+        Vertex destVertex = pointVertexMap.get(destPoint.getName());
+        if (destVertex != null) {
+          unsettledDestinations.add(destVertex);
+        }
+      }
+
+      expand(unsettledDestinations);
+    }
+
+    @Override
+    protected GraphPath<Vertex, Edge> getPath(Vertex destVertex) {
+      Double costs = settledCosts.get(destVertex);
+      if (costs == null) {
+        return null;
+      }
+
+      List<Edge> edges = new ArrayList<>();
+      for (Vertex vertex = destVertex; !vertex.equals(srcVertex);) {
+        Edge edge = predecessorEdges.get(vertex);
+        edges.add(edge);
+        vertex = graph.getEdgeSource(edge);
+      }
+      Collections.reverse(edges);
+
+      return new GraphWalk<>(graph, srcVertex, destVertex, edges, costs);
+    }
+
+    private void expand(Set<Vertex> unsettledDestinations) {
+      Map<Vertex, Double> tentativeCosts = new HashMap<>();
+      PriorityQueue<QueueEntry> queue
+          = new PriorityQueue<>(Comparator.comparingDouble(QueueEntry::costs));
+      tentativeCosts.put(srcVertex, 0.0);
+      queue.add(new QueueEntry(srcVertex, 0.0));
+
+      while (!queue.isEmpty() && !unsettledDestinations.isEmpty()) {
+        QueueEntry entry = queue.poll();
+        if (settledCosts.containsKey(entry.vertex())) {
+          // A stale entry for a vertex that was reached via a cheaper path before.
+          continue;
+        }
+        settledCosts.put(entry.vertex(), entry.costs());
+        unsettledDestinations.remove(entry.vertex());
+
+        for (Edge edge : graph.outgoingEdgesOf(entry.vertex())) {
+          Vertex target = graph.getEdgeTarget(edge);
+          if (settledCosts.containsKey(target)) {
+            continue;
+          }
+          double costs = entry.costs() + graph.getEdgeWeight(edge);
+          Double knownCosts = tentativeCosts.get(target);
+          if (knownCosts == null || costs < knownCosts) {
+            tentativeCosts.put(target, costs);
+            predecessorEdges.put(target, edge);
+            queue.add(new QueueEntry(target, costs));
+          }
+        }
+      }
+    }
+  }
+
+  private record QueueEntry(Vertex vertex, double costs) {
+  }
 }
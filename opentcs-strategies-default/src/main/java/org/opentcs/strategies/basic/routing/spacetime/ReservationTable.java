@@ -0,0 +1,156 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the time intervals in which resources are expected to be occupied by vehicles.
+ * <p>
+ * Resources are identified by their names. Points of time are given in milliseconds, relative to
+ * an arbitrary point of time (usually the point of time the table was created at).
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ */
+public class ReservationTable {
+
+  /**
+   * A constant for points of time that are never reached.
+   */
+  public static final long NEVER = Long.MAX_VALUE;
+  /**
+   * The reserved intervals, mapped to the names of the respective resources.
+   */
+  private final Map<String, List<Interval>> reservations = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  public ReservationTable() {
+  }
+
+  /**
+   * Reserves the given resource for the given time interval.
+   *
+   * @param resourceName The name of the resource.
+   * @param from The start of the time interval (inclusive).
+   * @param to The end of the time interval (exclusive). May be {@link #NEVER}.
+   */
+  public void reserve(
+      @Nonnull
+      String resourceName,
+      long from,
+      long to
+  ) {
+    requireNonNull(resourceName, "resourceName");
+    checkArgument(from <= to, "from > to: %s > %s", from, to);
+
+    reservations.computeIfAbsent(resourceName, key -> new ArrayList<>())
+        .add(new Interval(from, to));
+  }
+
+  /**
+   * Checks whether the given resource is not reserved at any point of time in the given time
+   * interval.
+   *
+   * @param resourceName The name of the resource.
+   * @param from The start of the time interval (inclusive).
+   * @param to The end of the time interval (exclusive).
+   * @return <code>true</code> if, and only if, the resource is not reserved in the given time
+   * interval.
+   */
+  public boolean isFree(
+      @Nonnull
+      String resourceName,
+      long from,
+      long to
+  ) {
+    requireNonNull(resourceName, "resourceName");
+
+    return reservedUntil(resourceName, from, to) <= from;
+  }
+
+  /**
+   * Returns the earliest point of time at or after the given one at which all of the given
+   * resources are not reserved for the given duration.
+   *
+   * @param resourceNames The names of the resources.
+   * @param earliest The earliest point of time to be considered.
+   * @param duration The duration.
+   * @param latest The latest point of time to be considered.
+   * @return The earliest point of time, or {@link #NEVER}, if the resources are reserved at every
+   * point of time up to the latest one to be considered.
+   */
+  public long earliestFree(
+      @Nonnull
+      List<String> resourceNames,
+      long earliest,
+      long duration,
+      long latest
+  ) {
+    requireNonNull(resourceNames, "resourceNames");
+
+    long time = earliest;
+    while (time <= latest) {
+      long reservedUntil = time;
+      for (String resourceName : resourceNames) {
+        reservedUntil = Math.max(
+            reservedUntil,
+            reservedUntil(resourceName, time, saturatedAdd(time, duration))
+        );
+      }
+      if (reservedUntil <= time) {
+        return time;
+      }
+      time = reservedUntil;
+    }
+    return NEVER;
+  }
+
+  /**
+   * Returns the latest end of the intervals in which the given resource is reserved and that
+   * overlap with the given time interval.
+   *
+   * @param resourceName The name of the resource.
+   * @param from The start of the time interval (inclusive).
+   * @param to The end of the time interval (exclusive).
+   * @return The latest end of the overlapping intervals, or <code>from</code>, if there are none.
+   */
+  private long reservedUntil(String resourceName, long from, long to) {
+    long result = from;
+    for (Interval interval : reservations.getOrDefault(resourceName, List.of())) {
+      if (interval.overlaps(from, to)) {
+        result = Math.max(result, interval.to());
+      }
+    }
+    return result;
+  }
+
+  private static long saturatedAdd(long time, long duration) {
+    long result = time + duration;
+    return result < time ? NEVER : result;
+  }
+
+  /**
+   * A time interval.
+   *
+   * @param from The start of the time interval (inclusive).
+   * @param to The end of the time interval (exclusive).
+   */
+  private record Interval(long from, long to) {
+
+    boolean overlaps(long otherFrom, long otherTo) {
+      // Zero-length intervals (e.g. for waiting zero time) overlap with intervals containing them.
+      return from < Math.max(otherTo, otherFrom + 1) && otherFrom < to;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.strategies.basic.routing.spacetime.ReservationTable.NEVER;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
+
+/**
+ * Plans routes in space and time, i.e. routes on which a vehicle reaches its destination as early
+ * as possible considering the resources reserved by other vehicles in a {@link ReservationTable}.
+ * <p>
+ * A vehicle may wait at a point until the next path and point are no longer reserved, unless the
+ * point it waits at is reserved in the meantime. Routes are planned by a variant of Dijkstra's
+ * algorithm with the earliest arrival times at the points as the costs.
+ * </p>
+ */
+public class SpaceTimePlanner {
+
+  /**
+   * The routing graph.
+   */
+  private final Graph<Vertex, Edge> graph;
+  /**
+   * Provides the time (in ms) needed for travelling along an edge, or
+   * {@link ReservationTable#NEVER} for edges that cannot be travelled along.
+   */
+  private final ToLongFunction<Edge> travelTime;
+  /**
+   * The resources reserved by other vehicles.
+   */
+  private final ReservationTable reservationTable;
+  /**
+   * The latest point of time (in ms) considered when planning.
+   */
+  private final long horizon;
+  /**
+   * The graph's vertices, mapped to the names of the points they represent.
+   */
+  private final Map<String, Vertex> vertices = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The routing graph.
+   * @param travelTime Provides the time (in ms) needed for travelling along an edge, or
+   * {@link ReservationTable#NEVER} for edges that cannot be travelled along.
+   * @param reservationTable The resources reserved by other vehicles.
+   * @param horizon The latest point of time (in ms) considered when planning. Vehicles are not
+   * planned to wait for resources reserved beyond this point of time.
+   */
+  public SpaceTimePlanner(
+      @Nonnull
+      Graph<Vertex, Edge> graph,
+      @Nonnull
+      ToLongFunction<Edge> travelTime,
+      @Nonnull
+      ReservationTable reservationTable,
+      long horizon
+  ) {
+    this.graph = requireNonNull(graph, "graph");
+    this.travelTime = requireNonNull(travelTime, "travelTime");
+    this.reservationTable = requireNonNull(reservationTable, "reservationTable");
+    this.horizon = horizon;
+
+    for (Vertex vertex : graph.vertexSet()) {
+      vertices.put(vertex.getPoint().getName(), vertex);
+    }
+  }
+
+  /**
+   * Plans the route on which a vehicle reaches the destination point as early as possible.
+   *
+   * @param srcPointName The name of the point the vehicle starts at.
+   * @param destPointName The name of the destination point.
+   * @param startTime The point of time (in ms) the vehicle starts at.
+   * @return The planned route, or an empty optional, if the destination point cannot be reached
+   * within the planning horizon.
+   */
+  @Nonnull
+  public Optional<Plan> plan(
+      @Nonnull
+      String srcPointName,
+      @Nonnull
+      String destPointName,
+      long startTime
+  ) {
+    requireNonNull(srcPointName, "srcPointName");
+    requireNonNull(destPointName, "destPointName");
+
+    Vertex srcVertex = vertices.get(srcPointName);
+    Vertex destVertex = vertices.get(destPointName);
+    if (srcVertex == null || destVertex == null) {
+      return Optional.empty();
+    }
+
+    Map<Vertex, Long> arrivalTimes = new HashMap<>();
+    Map<Vertex, Edge> predecessorEdges = new HashMap<>();
+    PriorityQueue<QueueEntry> queue
+        = new PriorityQueue<>(Comparator.comparingLong(QueueEntry::arrivalTime));
+    arrivalTimes.put(srcVertex, startTime);
+    queue.add(new QueueEntry(srcVertex, startTime));
+
+    while (!queue.isEmpty()) {
+      QueueEntry entry = queue.poll();
+      if (entry.arrivalTime() > arrivalTimes.get(entry.vertex())) {
+        // A stale entry for a vertex that was reached earlier via another route.
+        continue;
+      }
+      if (entry.vertex().equals(destVertex)) {
+        return Optional.of(
+            new Plan(edgesTo(destVertex, srcVertex, predecessorEdges), entry.arrivalTime())
+        );
+      }
+
+      for (Edge edge : graph.outgoingEdgesOf(entry.vertex())) {
+        long arrivalTime = arrivalTime(edge, entry.arrivalTime(), entry.vertex() == srcVertex);
+        if (arrivalTime == NEVER) {
+          continue;
+        }
+        Vertex target = graph.getEdgeTarget(edge);
+        if (arrivalTime < arrivalTimes.getOrDefault(target, NEVER)) {
+          arrivalTimes.put(target, arrivalTime);
+          predecessorEdges.put(target, edge);
+          queue.add(new QueueEntry(target, arrivalTime));
+        }
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the point of time a vehicle reaches the end of the given sequence of edges, waiting
+   * for reserved resources where necessary.
+   *
+   * @param edges The edges.
+   * @param startTime The point of time (in ms) the vehicle starts at.
+   * @return The arrival time (in ms), or {@link ReservationTable#NEVER}, if the vehicle cannot
+   * reach the end of the edges within the planning horizon.
+   */
+  public long arrivalTime(
+      @Nonnull
+      List<Edge> edges,
+      long startTime
+  ) {
+    requireNonNull(edges, "edges");
+
+    long time = startTime;
+    boolean atStart = true;
+    for (Edge edge : edges) {
+      time = arrivalTime(edge, time, atStart);
+      if (time == NEVER) {
+        return NEVER;
+      }
+      atStart = false;
+    }
+    return time;
+  }
+
+  /**
+   * Returns the earliest point of time a vehicle reaches the end of the given edge.
+   *
+   * @param edge The edge.
+   * @param time The point of time the vehicle reaches the start of the edge.
+   * @param atStart Whether the start of the edge is where the vehicle starts. A vehicle may
+   * always wait there, as it already occupies the point.
+   * @return The arrival time, or {@link ReservationTable#NEVER}, if the vehicle cannot reach the
+   * end of the edge within the planning horizon.
+   */
+  private long arrivalTime(Edge edge, long time, boolean atStart) {
+    long duration = travelTime.applyAsLong(edge);
+    if (duration == NEVER) {
+      return NEVER;
+    }
+
+    long departureTime = reservationTable.earliestFree(
+        List.of(edge.getPath().getName(), edge.getTargetVertex()),
+        time,
+        duration,
+        horizon
+    );
+    if (departureTime == NEVER) {
+      return NEVER;
+    }
+    if (departureTime > time
+        && !atStart
+        && !reservationTable.isFree(edge.getSourceVertex(), time, departureTime)) {
+      // The vehicle would have to wait at a point that is reserved by another vehicle meanwhile.
+      return NEVER;
+    }
+    return departureTime + duration;
+  }
+
+  private List<Edge> edgesTo(Vertex destVertex, Vertex srcVertex, Map<Vertex, Edge> predecessors) {
+    List<Edge> edges = new ArrayList<>();
+    for (Vertex vertex = destVertex; !vertex.equals(srcVertex);) {
+      Edge edge = predecessors.get(vertex);
+      edges.add(edge);
+      vertex = graph.getEdgeSource(edge);
+    }
+    Collections.reverse(edges);
+    return edges;
+  }
+
+  /**
+   * A route planned in space and time.
+   *
+   * @param edges The edges to be travelled along.
+   * @param arrivalTime The point of time (in ms) the vehicle reaches the destination point.
+   */
+  public record Plan(List<Edge> edges, long arrivalTime) {
+  }
+
+  private record QueueEntry(Vertex vertex, long arrivalTime) {
+  }
+}
@@ -0,0 +1,436 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.strategies.basic.routing.spacetime.ReservationTable.NEVER;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Router} that plans the routes for transport orders in space and time.
+ * <p>
+ * The destination points for a transport order's drive orders are selected by the
+ * {@link DefaultRouter}. The route to each of them is then planned such that the vehicle reaches
+ * it as early as possible, considering the time intervals in which resources are expected to be
+ * occupied by other vehicles travelling along the routes of their transport orders (prioritized
+ * planning). Where waiting for another vehicle would take longer than taking a detour, the
+ * detour is taken.
+ * </p>
+ * <p>
+ * Travel times are estimated from the paths' lengths and the maximum velocities of the paths and
+ * vehicles. Costs of route steps are the same as with the {@link DefaultRouter}, i.e. they are
+ * determined by the configured edge evaluators. All other requests are handled by the
+ * {@link DefaultRouter}.
+ * </p>
+ */
+public class SpaceTimeRouter
+    implements
+      Router {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SpaceTimeRouter.class);
+  /**
+   * The router selecting destination points and handling all other requests.
+   */
+  private final DefaultRouter defaultRouter;
+  /**
+   * The object service providing the model data.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Provides the routing graphs.
+   */
+  private final GraphProvider graphProvider;
+  /**
+   * Extracts the resources to avoid from transport orders.
+   */
+  private final ResourceAvoidanceExtractor resourceAvoidanceExtractor;
+  /**
+   * This class's configuration.
+   */
+  private final SpaceTimeRouterConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param defaultRouter The router selecting destination points and handling all other requests.
+   * @param objectService The object service providing the model data.
+   * @param graphProvider Provides the routing graphs.
+   * @param resourceAvoidanceExtractor Extracts the resources to avoid from transport orders.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public SpaceTimeRouter(
+      DefaultRouter defaultRouter,
+      TCSObjectService objectService,
+      GraphProvider graphProvider,
+      ResourceAvoidanceExtractor resourceAvoidanceExtractor,
+      SpaceTimeRouterConfiguration configuration
+  ) {
+    this.defaultRouter = requireNonNull(defaultRouter, "defaultRouter");
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.resourceAvoidanceExtractor = requireNonNull(
+        resourceAvoidanceExtractor,
+        "resourceAvoidanceExtractor"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    defaultRouter.initialize();
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return defaultRouter.isInitialized();
+  }
+
+  @Override
+  public void terminate() {
+    defaultRouter.terminate();
+  }
+
+  @Override
+  public void updateRoutingTopology(Set<Path> paths) {
+    defaultRouter.updateRoutingTopology(paths);
+  }
+
+  @Override
+  public Set<Vehicle> checkRoutability(TransportOrder order) {
+    return defaultRouter.checkRoutability(order);
+  }
+
+  @Override
+  public boolean checkGeneralRoutability(TransportOrder order) {
+    return defaultRouter.checkGeneralRoutability(order);
+  }
+
+  @Deprecated
+  @Override
+  public Optional<List<DriveOrder>> getRoute(
+      Vehicle vehicle,
+      Point sourcePoint,
+      TransportOrder transportOrder
+  ) {
+    return defaultRouter.getRoute(vehicle, sourcePoint, transportOrder);
+  }
+
+  @Deprecated
+  @Override
+  public Optional<Route> getRoute(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Point destinationPoint,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    return defaultRouter.getRoute(vehicle, sourcePoint, destinationPoint, resourcesToAvoid);
+  }
+
+  @Override
+  public Set<List<Route>> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      TransportOrder transportOrder,
+      int maxRouteCount
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(transportOrder, "transportOrder");
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    Set<List<Route>> staticRoutes
+        = defaultRouter.getRoutes(vehicle, sourcePoint, transportOrder, maxRouteCount);
+    if (staticRoutes.isEmpty()) {
+      return staticRoutes;
+    }
+
+    ResourcesToAvoid resourcesToAvoid
+        = resourceAvoidanceExtractor.extractResourcesToAvoid(transportOrder);
+    Graph<Vertex, Edge> graph;
+    // The graph provider is not thread-safe and shared with the default router's point routers,
+    // which access it while holding the default router's lock. Graphs are not modified after they
+    // have been created (topology updates result in new ones), though.
+    synchronized (defaultRouter) {
+      graph = resourcesToAvoid.isEmpty()
+          ? graphProvider.getGraphResult(vehicle).getGraph()
+          : graphProvider.getDerivedGraphResult(
+              vehicle,
+              resourcesToAvoid.getPoints(),
+              resourcesToAvoid.getPaths()
+          ).getGraph();
+    }
+
+    SpaceTimePlanner planner = new SpaceTimePlanner(
+        graph,
+        edge -> travelTime(edge.getPath(), edge.isTravellingReverse(), vehicle),
+        createReservationTable(vehicle),
+        configuration.planningHorizon()
+    );
+    return Set.of(planInSpaceTime(planner, graph, staticRoutes.iterator().next()));
+  }
+
+  @Override
+  public Set<Route> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Point destinationPoint,
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    return defaultRouter.getRoutes(
+        vehicle,
+        sourcePoint,
+        destinationPoint,
+        resourcesToAvoid,
+        maxRouteCount
+    );
+  }
+
+  @Override
+  public Map<Point, Set<Route>> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    return defaultRouter.getRoutes(
+        vehicle,
+        sourcePoint,
+        destinationPoints,
+        resourcesToAvoid,
+        maxRouteCount
+    );
+  }
+
+  @Deprecated
+  @Override
+  public long getCosts(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Point destinationPoint,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    return defaultRouter.getCosts(vehicle, sourcePoint, destinationPoint, resourcesToAvoid);
+  }
+
+  @Deprecated
+  @Override
+  public void selectRoute(Vehicle vehicle, List<DriveOrder> driveOrders) {
+    defaultRouter.selectRoute(vehicle, driveOrders);
+  }
+
+  @Deprecated
+  @Override
+  public Map<Vehicle, List<DriveOrder>> getSelectedRoutes() {
+    return defaultRouter.getSelectedRoutes();
+  }
+
+  @Deprecated
+  @Override
+  public Set<Point> getTargetedPoints() {
+    return defaultRouter.getTargetedPoints();
+  }
+
+  /**
+   * Returns the time (in ms) a vehicle needs for travelling along a path.
+   *
+   * @param path The path.
+   * @param travellingReverse Whether the path is travelled in reverse direction.
+   * @param vehicle The vehicle.
+   * @return The time (in ms), or {@link ReservationTable#NEVER}, if the vehicle cannot travel along
+   * the path.
+   */
+  static long travelTime(Path path, boolean travellingReverse, Vehicle vehicle) {
+    int maxVelocity = travellingReverse
+        ? Math.min(vehicle.getMaxReverseVelocity(), path.getMaxReverseVelocity())
+        : Math.min(vehicle.getMaxVelocity(), path.getMaxVelocity());
+    return (maxVelocity <= 0) ? NEVER : path.getLength() * 1000 / maxVelocity;
+  }
+
+  /**
+   * Replaces the route to each destination point with the one on which the vehicle reaches it
+   * earliest, if that is earlier than on the given route.
+   *
+   * @param planner The planner.
+   * @param graph The routing graph.
+   * @param staticRoute The routes to the destination points of the drive orders.
+   * @return The routes planned in space and time.
+   */
+  private List<Route> planInSpaceTime(
+      SpaceTimePlanner planner,
+      Graph<Vertex, Edge> graph,
+      List<Route> staticRoute
+  ) {
+    List<Route> result = new ArrayList<>(staticRoute.size());
+    long time = 0;
+    for (Route route : staticRoute) {
+      Route.Step firstStep = route.getSteps().get(0);
+      if (firstStep.getPath() == null) {
+        // The vehicle is already at the destination point.
+        result.add(route);
+        continue;
+      }
+
+      List<Edge> staticEdges = route.getSteps().stream()
+          .map(step -> new Edge(step.getPath(), isTravellingReverse(step)))
+          .toList();
+      long staticArrivalTime = planner.arrivalTime(staticEdges, time);
+      Optional<SpaceTimePlanner.Plan> plan = planner.plan(
+          firstStep.getSourcePoint().getName(),
+          route.getFinalDestinationPoint().getName(),
+          time
+      );
+      if (plan.isEmpty() || plan.get().arrivalTime() >= staticArrivalTime) {
+        result.add(route);
+        time = staticArrivalTime;
+        continue;
+      }
+
+      LOG.debug(
+          "Planned route to {} arriving after {} ms instead of {} ms.",
+          route.getFinalDestinationPoint().getName(),
+          plan.get().arrivalTime(),
+          staticArrivalTime == NEVER ? "(never)" : staticArrivalTime
+      );
+      result.add(new Route(toSteps(plan.get().edges(), graph)));
+      time = plan.get().arrivalTime();
+    }
+    return result;
+  }
+
+  /**
+   * Creates a reservation table with the resources expected to be occupied by other vehicles
+   * travelling along the routes of their transport orders.
+   *
+   * @param vehicle The vehicle to plan for.
+   * @return The reservation table.
+   */
+  private ReservationTable createReservationTable(Vehicle vehicle) {
+    ReservationTable table = new ReservationTable();
+    long margin = configuration.reservationMargin();
+    for (Vehicle otherVehicle : objectService.fetchObjects(Vehicle.class)) {
+      if (otherVehicle.getName().equals(vehicle.getName())
+          || otherVehicle.getCurrentPosition() == null) {
+        continue;
+      }
+
+      List<Route.Step> steps = remainingSteps(otherVehicle);
+      long time = 0;
+      String pointName = otherVehicle.getCurrentPosition().getName();
+      for (Route.Step step : steps) {
+        long duration = travelTime(step.getPath(), isTravellingReverse(step), otherVehicle);
+        if (duration == NEVER) {
+          break;
+        }
+        table.reserve(pointName, Math.max(0, time - margin), time + margin);
+        table.reserve(
+            step.getPath().getName(),
+            Math.max(0, time - margin),
+            time + duration + margin
+        );
+        time += duration;
+        pointName = step.getDestinationPoint().getName();
+      }
+      // Without a transport order, a vehicle is expected to stay where it is.
+      table.reserve(
+          pointName,
+          Math.max(0, time - margin),
+          steps.isEmpty() ? NEVER : time + configuration.destinationOccupancyTime() + margin
+      );
+    }
+    return table;
+  }
+
+  /**
+   * Returns the route steps the given vehicle has yet to travel for its transport order.
+   *
+   * @param vehicle The vehicle.
+   * @return The route steps.
+   */
+  private List<Route.Step> remainingSteps(Vehicle vehicle) {
+    if (vehicle.getTransportOrder() == null) {
+      return List.of();
+    }
+    TransportOrder order = objectService.fetchObject(
+        TransportOrder.class,
+        vehicle.getTransportOrder()
+    );
+    if (order == null || order.getCurrentDriveOrder() == null) {
+      return List.of();
+    }
+
+    List<Route.Step> result = new ArrayList<>();
+    Route currentRoute = order.getCurrentDriveOrder().getRoute();
+    if (currentRoute != null) {
+      List<Route.Step> steps = currentRoute.getSteps();
+      result.addAll(
+          steps.subList(Math.min(order.getCurrentRouteStepIndex() + 1, steps.size()), steps.size())
+      );
+    }
+    for (DriveOrder driveOrder : order.getFutureDriveOrders()) {
+      if (driveOrder.getRoute() != null) {
+        result.addAll(driveOrder.getRoute().getSteps());
+      }
+    }
+    result.removeIf(step -> step.getPath() == null);
+    return result;
+  }
+
+  private List<Route.Step> toSteps(List<Edge> edges, Graph<Vertex, Edge> graph) {
+    List<Route.Step> result = new ArrayList<>(edges.size());
+    int routeIndex = 0;
+    for (Edge edge : edges) {
+      Point sourcePoint = objectService.fetchObject(Point.class, edge.getSourceVertex());
+      Point destPoint = objectService.fetchObject(Point.class, edge.getTargetVertex());
+      result.add(
+          new Route.Step(
+              edge.getPath(),
+              sourcePoint,
+              destPoint,
+              edge.isTravellingReverse()
+                  ? Vehicle.Orientation.BACKWARD
+                  : Vehicle.Orientation.FORWARD,
+              routeIndex,
+              (long) graph.getEdgeWeight(edge)
+          )
+      );
+      routeIndex++;
+    }
+    return result;
+  }
+
+  private static boolean isTravellingReverse(Route.Step step) {
+    return !Objects.equals(step.getPath().getSourcePoint(), step.getSourcePoint().getReference());
+  }
+}
@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the {@link SpaceTimeRouter}.
+ */
+@ConfigurationPrefix(SpaceTimeRouterConfiguration.PREFIX)
+public interface SpaceTimeRouterConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultrouter.spacetime";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to use the space-time router instead of the default router.",
+          "The space-time router plans transport orders' routes considering the time intervals in "
+              + "which resources are expected to be occupied by other vehicles travelling along "
+              + "their routes."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean enable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The time (in ms) by which the time intervals in which resources are expected "
+          + "to be occupied by other vehicles are extended at both ends, to account for "
+          + "inaccurately estimated travel times.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int reservationMargin();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The time (in ms) other vehicles are expected to stay at the destination "
+          + "points of their routes.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int destinationOccupancyTime();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The time (in ms) up to which routes are planned. Vehicles are not planned to "
+          + "wait for resources that are expected to be occupied beyond this time.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int planningHorizon();
+}
@@ -118,18 +118,48 @@ abstract class AllocatorCommand
         AllocatorCommand {
 
     /**
-     * Creates a new instance.
+     * The resources that were released, or {@code null}, if all deferred allocations should be
+     * retried.
+     */
+    private final Set<TCSResource<?>> releasedResources;
+
+    /**
+     * Creates a new instance that retries all deferred allocations.
      *
      * @param client The scheduler client this command is associated with.
      */
     RetryAllocates(Client client) {
       super(3, client);
+      this.releasedResources = null;
+    }
+
+    /**
+     * Creates a new instance that retries the deferred allocations that may be granted after the
+     * given resources have been released.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param releasedResources The resources that were released.
+     */
+    RetryAllocates(Client client, Set<TCSResource<?>> releasedResources) {
+      super(3, client);
+      this.releasedResources = requireNonNull(releasedResources, "releasedResources");
+    }
+
+    /**
+     * Returns the resources that were released.
+     *
+     * @return The resources that were released, or {@code null}, if all deferred allocations
+     * should be retried.
+     */
+    public Set<TCSResource<?>> getReleasedResources() {
+      return releasedResources;
     }
 
     @Override
     public String toString() {
       return "RetryAllocates{"
           + "client=" + getClient()
+          + ", releasedResources=" + releasedResources
           + '}';
     }
   }
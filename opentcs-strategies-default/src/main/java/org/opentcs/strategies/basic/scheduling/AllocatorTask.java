@@ -5,9 +5,11 @@ package org.opentcs.strategies.basic.scheduling;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.Queue;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
@@ -37,7 +39,11 @@ class AllocatorTask
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
+  /**
+   * Reports deadlocks detected when deferring allocations.
+   */
+  private final DeadlockReporter deadlockReporter;
   /**
    * Executes tasks.
    */
@@ -58,10 +64,12 @@ class AllocatorTask
       @Nonnull
       ReservationPool reservationPool,
       @Nonnull
-      Queue<AllocatorCommand.Allocate> deferredAllocations,
+      DeferredAllocations deferredAllocations,
       @Nonnull
       Scheduler.Module allocationAdvisor,
       @Nonnull
+      DeadlockReporter deadlockReporter,
+      @Nonnull
       ScheduledExecutorService kernelExecutor,
       @Nonnull
       @GlobalSyncObject
@@ -72,6 +80,7 @@ class AllocatorTask
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.deferredAllocations = requireNonNull(deferredAllocations, "deferredAllocations");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
+    this.deadlockReporter = requireNonNull(deadlockReporter, "deadlockReporter");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.command = requireNonNull(command, "command");
@@ -85,7 +94,7 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations((AllocatorCommand.RetryAllocates) command);
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -101,13 +110,36 @@ class AllocatorTask
   private void processAllocate(AllocatorCommand.Allocate command) {
     if (!tryAllocate(command)) {
       LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
+      synchronized (globalSyncObject) {
+        defer(command, blockingResources(command));
+      }
       return;
     }
 
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
 
+  /**
+   * Defers an allocation and reports a deadlock, if the allocation completes one.
+   * Must be called while holding the global sync object, so that the clients holding the blocking
+   * resources cannot release them before the allocation is deferred.
+   *
+   * @param command Describes the requested allocation.
+   * @param blockingResources The requested resources that are allocated by other clients.
+   */
+  private void defer(AllocatorCommand.Allocate command, Set<TCSResource<?>> blockingResources) {
+    Set<Client> blockingClients = blockingResources.stream()
+        .map(resource -> reservationPool.getReservationEntry(resource).getClient())
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    List<Client> deadlockedClients
+        = deferredAllocations.add(command, blockingResources, blockingClients);
+    if (!deadlockedClients.isEmpty()) {
+      deadlockReporter.deadlockDetected(deadlockedClients);
+    }
+  }
+
   private void checkAllocationsPrepared(AllocatorCommand.CheckAllocationsPrepared command) {
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
@@ -135,7 +167,7 @@ class AllocatorTask
       );
       undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(deferredAllocations.wakeUp(resources));
     }
     // Notify modules about the changes in claimed/allocated resources for this client.
     allocationAdvisor.setAllocationState(
@@ -193,6 +225,22 @@ class AllocatorTask
     }
   }
 
+  /**
+   * Returns the resources a deferred allocation is waiting for.
+   *
+   * @param command Describes the deferred allocation.
+   * @return The requested resources that are allocated by other clients. If empty, the allocation
+   * was deferred for other reasons.
+   */
+  private Set<TCSResource<?>> blockingResources(AllocatorCommand.Allocate command) {
+    synchronized (globalSyncObject) {
+      return reservationPool.unavailableResourcesForUser(
+          command.getResources(),
+          command.getClient()
+      );
+    }
+  }
+
   private void allocationsReleased(AllocatorCommand.AllocationsReleased command) {
     allocationAdvisor.allocationReleased(command.getClient(), command.getResources());
   }
@@ -211,22 +259,38 @@ class AllocatorTask
     }
   }
 
+  private void scheduleRetryWaitingAllocations(AllocatorCommand.RetryAllocates command) {
+    if (command.getReleasedResources() == null) {
+      scheduleRetryWaitingAllocations(deferredAllocations.wakeUpAll());
+    }
+    else {
+      scheduleRetryWaitingAllocations(deferredAllocations.wakeUp(command.getReleasedResources()));
+    }
+  }
+
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the given waiting allocations back into the incoming queue so they can be rechecked.
+   *
+   * @param allocates The waiting allocations, already removed from the deferred allocations.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
+  private void scheduleRetryWaitingAllocations(List<AllocatorCommand.Allocate> allocates) {
+    LOG.debug(
+        "Retrying {} deferred allocations, {} remaining deferred.",
+        allocates.size(),
+        deferredAllocations.size()
+    );
+    for (AllocatorCommand.Allocate allocate : allocates) {
       kernelExecutor.submit(
           new AllocatorTask(
               reservationPool,
               deferredAllocations,
               allocationAdvisor,
+              deadlockReporter,
               kernelExecutor,
               globalSyncObject,
               allocate
           )
       );
     }
-    deferredAllocations.clear();
   }
 }
@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.components.kernel.Scheduler.Client;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Maps clients to the resources they have allocated, kept in sync by the
+ * {@link ReservationEntry}s of a {@link ReservationPool}.
+ * <p>
+ * Additionally maintains an immutable snapshot of all allocations, which is updated only for the
+ * clients whose allocations changed since the last snapshot was requested.
+ * </p>
+ */
+final class ClientAllocationIndex
+    implements
+      ReservationEntry.AllocationListener {
+
+  /**
+   * The resources allocated by each client.
+   */
+  private final Map<Client, Set<TCSResource<?>>> resourcesByClient = new HashMap<>();
+  /**
+   * The clients whose allocations changed since the last snapshot was created.
+   */
+  private final Set<Client> changedClients = new HashSet<>();
+  /**
+   * The last snapshot of all allocations, mapped to client IDs.
+   */
+  private Map<String, Set<TCSResource<?>>> snapshot = Map.of();
+
+  /**
+   * Creates a new instance.
+   */
+  ClientAllocationIndex() {
+  }
+
+  @Override
+  public void resourceAllocated(TCSResource<?> resource, Client client) {
+    resourcesByClient.computeIfAbsent(client, key -> new HashSet<>()).add(resource);
+    changedClients.add(client);
+  }
+
+  @Override
+  public void resourceFreed(TCSResource<?> resource, Client client) {
+    Set<TCSResource<?>> resources = resourcesByClient.get(client);
+    if (resources == null) {
+      return;
+    }
+
+    resources.remove(resource);
+    if (resources.isEmpty()) {
+      resourcesByClient.remove(client);
+    }
+    changedClients.add(client);
+  }
+
+  /**
+   * Returns the resources allocated by the given client.
+   *
+   * @param client The client.
+   * @return The resources allocated by the given client (a live, unmodifiable view).
+   */
+  @Nonnull
+  public Set<TCSResource<?>> getResources(
+      @Nonnull
+      Client client
+  ) {
+    requireNonNull(client, "client");
+
+    Set<TCSResource<?>> resources = resourcesByClient.get(client);
+    return resources == null ? Set.of() : Collections.unmodifiableSet(resources);
+  }
+
+  /**
+   * Returns an immutable snapshot of all allocations.
+   *
+   * @return The resources allocated by all clients, mapped to client IDs.
+   */
+  @Nonnull
+  public Map<String, Set<TCSResource<?>>> getSnapshot() {
+    if (changedClients.isEmpty()) {
+      return snapshot;
+    }
+
+    Map<String, Set<TCSResource<?>>> result = new HashMap<>(snapshot);
+    for (Client client : changedClients) {
+      Set<TCSResource<?>> resources = resourcesByClient.get(client);
+      if (resources == null) {
+        result.remove(client.getId());
+      }
+      else {
+        result.put(client.getId(), Set.copyOf(resources));
+      }
+    }
+    changedClients.clear();
+    snapshot = Map.copyOf(result);
+    return snapshot;
+  }
+
+  /**
+   * Removes all allocations.
+   */
+  public void clear() {
+    resourcesByClient.clear();
+    changedClients.clear();
+    snapshot = Map.of();
+  }
+}
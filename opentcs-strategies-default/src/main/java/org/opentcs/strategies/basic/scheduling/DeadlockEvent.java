@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Emitted by the {@link DefaultScheduler} via the application event bus when scheduler clients
+ * are found to be waiting for each other's resources.
+ * <p>
+ * Strategies may react to this event e.g. by rerouting the vehicles involved.
+ * </p>
+ */
+public class DeadlockEvent {
+
+  /**
+   * The IDs of the clients waiting for each other.
+   */
+  private final List<String> clientIds;
+  /**
+   * The vehicles related to the clients waiting for each other.
+   */
+  private final List<TCSObjectReference<Vehicle>> vehicles;
+  /**
+   * Whether the deadlock is only predicted.
+   */
+  private final boolean predicted;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientIds The IDs of the clients waiting for each other, with each client waiting for
+   * the next one and the last one waiting for the first one.
+   * @param vehicles The vehicles related to the clients waiting for each other.
+   * @param predicted Whether the deadlock is only predicted, i.e. the clients' claims are waiting
+   * for each other, but not (yet) their allocations.
+   */
+  public DeadlockEvent(
+      @Nonnull
+      List<String> clientIds,
+      @Nonnull
+      List<TCSObjectReference<Vehicle>> vehicles,
+      boolean predicted
+  ) {
+    this.clientIds = List.copyOf(requireNonNull(clientIds, "clientIds"));
+    this.vehicles = List.copyOf(requireNonNull(vehicles, "vehicles"));
+    this.predicted = predicted;
+  }
+
+  /**
+   * Returns the IDs of the clients waiting for each other, with each client waiting for the next
+   * one and the last one waiting for the first one.
+   *
+   * @return The IDs of the clients waiting for each other.
+   */
+  @Nonnull
+  public List<String> getClientIds() {
+    return clientIds;
+  }
+
+  /**
+   * Returns the vehicles related to the clients waiting for each other.
+   *
+   * @return The vehicles related to the clients waiting for each other.
+   */
+  @Nonnull
+  public List<TCSObjectReference<Vehicle>> getVehicles() {
+    return vehicles;
+  }
+
+  /**
+   * Indicates whether the deadlock is only predicted, i.e. the clients' claims are waiting for
+   * each other, but not (yet) their allocations.
+   *
+   * @return <code>true</code> if, and only if, the deadlock is only predicted.
+   */
+  public boolean isPredicted() {
+    return predicted;
+  }
+
+  @Override
+  public String toString() {
+    return "DeadlockEvent{"
+        + "clientIds=" + clientIds
+        + ", vehicles=" + vehicles
+        + ", predicted=" + predicted
+        + '}';
+  }
+}
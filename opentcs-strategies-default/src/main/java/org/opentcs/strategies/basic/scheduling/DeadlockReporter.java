@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.Scheduler.Client;
+import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.notification.UserNotification;
+import org.opentcs.util.event.EventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports deadlocks of scheduler clients via user notifications and {@link DeadlockEvent}s.
+ * <p>
+ * Deadlocks are usually found while holding locks for allocations, so they are reported
+ * asynchronously on the kernel executor.
+ * </p>
+ */
+public class DeadlockReporter {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DeadlockReporter.class);
+  /**
+   * The source for user notifications.
+   */
+  private static final String NOTIFICATION_SOURCE = "Scheduler - Deadlock detection";
+  /**
+   * The service for publishing user notifications.
+   */
+  private final NotificationService notificationService;
+  /**
+   * The kernel's event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * Executes the reporting.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param notificationService The service for publishing user notifications.
+   * @param eventBus The kernel's event bus.
+   * @param kernelExecutor Executes the reporting.
+   */
+  @Inject
+  public DeadlockReporter(
+      NotificationService notificationService,
+      @ApplicationEventBus
+      EventBus eventBus,
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
+  ) {
+    this.notificationService = requireNonNull(notificationService, "notificationService");
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+  }
+
+  /**
+   * Reports clients whose deferred allocations are waiting for each other's resources.
+   *
+   * @param clients The clients, with each client waiting for the next one and the last one waiting
+   * for the first one.
+   */
+  public void deadlockDetected(
+      @Nonnull
+      List<Client> clients
+  ) {
+    requireNonNull(clients, "clients");
+
+    LOG.warn("Deadlock detected: {}", clientIds(clients));
+    report(clients, false, "Vehicles are deadlocked, waiting for each other's resources: %s");
+  }
+
+  /**
+   * Reports clients whose claims are waiting for each other's allocated resources.
+   *
+   * @param clients The clients, with each client waiting for the next one and the last one waiting
+   * for the first one.
+   */
+  public void deadlockPredicted(
+      @Nonnull
+      List<Client> clients
+  ) {
+    requireNonNull(clients, "clients");
+
+    LOG.info("Deadlock predicted: {}", clientIds(clients));
+    report(clients, true, "Vehicles may deadlock, claiming each other's resources: %s");
+  }
+
+  private void report(List<Client> clients, boolean predicted, String messageFormat) {
+    List<String> clientIds = clientIds(clients);
+    List<TCSObjectReference<Vehicle>> vehicles = clients.stream()
+        .map(Client::getRelatedVehicle)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+
+    kernelExecutor.submit(() -> {
+      notificationService.publishUserNotification(
+          new UserNotification(
+              NOTIFICATION_SOURCE,
+              String.format(messageFormat, clientIds),
+              predicted ? UserNotification.Level.NOTEWORTHY : UserNotification.Level.IMPORTANT
+          )
+      );
+      eventBus.onEvent(new DeadlockEvent(clientIds, vehicles, predicted));
+    });
+  }
+
+  private List<String> clientIds(List<Client> clients) {
+    return clients.stream()
+        .map(Client::getId)
+        .collect(Collectors.toList());
+  }
+}
@@ -12,10 +12,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
@@ -60,7 +58,16 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
+  /**
+   * The predicted deadlocks that have already been reported.
+   * Guarded by the global sync object.
+   */
+  private final ReportedDeadlocks reportedPredictedDeadlocks = new ReportedDeadlocks();
+  /**
+   * Reports deadlocks.
+   */
+  private final DeadlockReporter deadlockReporter;
   /**
    * Executes scheduling tasks.
    */
@@ -73,6 +80,10 @@ public class DefaultScheduler
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * The scheduler's configuration.
+   */
+  private final DefaultSchedulerConfiguration configuration;
   /**
    * Allocations that are scheduled for execution on the kernel executor.
    */
@@ -87,26 +98,32 @@ public class DefaultScheduler
    *
    * @param allocationAdvisor Takes care of modules.
    * @param reservationPool The reservation pool to be used.
+   * @param deadlockReporter Reports deadlocks.
    * @param kernelExecutor Executes scheduling tasks.
    * @param eventBus The kernel's event bus.
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param configuration The scheduler's configuration.
    */
   @Inject
   public DefaultScheduler(
       AllocationAdvisor allocationAdvisor,
       ReservationPool reservationPool,
+      DeadlockReporter deadlockReporter,
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       @ApplicationEventBus
       EventBus eventBus,
       @GlobalSyncObject
-      Object globalSyncObject
+      Object globalSyncObject,
+      DefaultSchedulerConfiguration configuration
   ) {
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
+    this.deadlockReporter = requireNonNull(deadlockReporter, "deadlockReporter");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -154,6 +171,15 @@ public class DefaultScheduler
           reservationPool.allocatedResources(client),
           resources
       );
+
+      if (configuration.predictDeadlocks()) {
+        List<Client> deadlockedClients
+            = WaitForGraph.findCycle(client, this::holdersOfClaimedResources);
+        if (!deadlockedClients.isEmpty()
+            && reportedPredictedDeadlocks.markReported(deadlockedClients)) {
+          deadlockReporter.deadlockPredicted(deadlockedClients);
+        }
+      }
     }
   }
 
@@ -170,14 +196,7 @@ public class DefaultScheduler
       );
 
       Future<?> allocateFuture = kernelExecutor.submit(
-          new AllocatorTask(
-              reservationPool,
-              deferredAllocations,
-              allocationAdvisor,
-              kernelExecutor,
-              globalSyncObject,
-              new Allocate(client, resources)
-          )
+          createAllocatorTask(new Allocate(client, resources))
       );
 
       // Remember the allocate future in case we need to cancel it.
@@ -230,32 +249,20 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
+    Set<TCSResource<?>> completelyFreeResources;
     synchronized (globalSyncObject) {
       LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
       reservationPool.free(client, resources);
+      resourcesReleased(client);
 
       // Check which resources are now completely free
-      Set<TCSResource<?>> completelyFreeResources = resources.stream()
+      completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
-      new AllocatorTask(
-          reservationPool,
-          deferredAllocations,
-          allocationAdvisor,
-          kernelExecutor,
-          globalSyncObject,
-          new AllocationsReleased(client, completelyFreeResources)
-      ).run();
+      createAllocatorTask(new AllocationsReleased(client, completelyFreeResources)).run();
     }
     kernelExecutor.submit(
-        new AllocatorTask(
-            reservationPool,
-            deferredAllocations,
-            allocationAdvisor,
-            kernelExecutor,
-            globalSyncObject,
-            new RetryAllocates(client)
-        )
+        createAllocatorTask(new RetryAllocates(client, completelyFreeResources))
     );
   }
 
@@ -263,31 +270,19 @@ public class DefaultScheduler
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> freedResources;
     synchronized (globalSyncObject) {
-      Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+      freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
+      resourcesReleased(client);
       clearPendingAllocations(client);
 
-      new AllocatorTask(
-          reservationPool,
-          deferredAllocations,
-          allocationAdvisor,
-          kernelExecutor,
-          globalSyncObject,
-          new AllocationsReleased(client, freedResources)
-      ).run();
+      createAllocatorTask(new AllocationsReleased(client, freedResources)).run();
     }
     kernelExecutor.submit(
-        new AllocatorTask(
-            reservationPool,
-            deferredAllocations,
-            allocationAdvisor,
-            kernelExecutor,
-            globalSyncObject,
-            new RetryAllocates(client)
-        )
+        createAllocatorTask(new RetryAllocates(client, freedResources))
     );
   }
 
@@ -296,21 +291,14 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     synchronized (globalSyncObject) {
       LOG.debug("{}: Clearing pending allocation requests...", client.getId());
-      deferredAllocations.removeIf(allocate -> client.equals(allocate.getClient()));
+      deferredAllocations.removeAll(client);
       cancelPendingAllocateFutures(client);
     }
   }
 
   @Override
   public void reschedule() {
-    new AllocatorTask(
-        reservationPool,
-        deferredAllocations,
-        allocationAdvisor,
-        kernelExecutor,
-        globalSyncObject,
-        new RetryAllocates(new DummyClient())
-    ).run();
+    createAllocatorTask(new RetryAllocates(new DummyClient())).run();
   }
 
   @Override
@@ -320,6 +308,20 @@ public class DefaultScheduler
     }
   }
 
+  /**
+   * Returns statistics about deferred allocations that were waiting for resources to be released.
+   * <p>
+   * When a resource is released, only the deferred allocations waiting for this resource (and
+   * those deferred for reasons other than unavailable resources) are retried.
+   * </p>
+   *
+   * @return The statistics, mapped to the names of the respective resources.
+   */
+  @Nonnull
+  public Map<String, ResourceWaitStatistics> getResourceWaitStatistics() {
+    return deferredAllocations.getStatistics();
+  }
+
   @Override
   public void preparationSuccessful(
       @Nonnull
@@ -333,14 +335,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    new AllocatorTask(
-        reservationPool,
-        deferredAllocations,
-        allocationAdvisor,
-        kernelExecutor,
-        globalSyncObject,
-        new CheckAllocationsPrepared(client, resources)
-    ).run();
+    createAllocatorTask(new CheckAllocationsPrepared(client, resources)).run();
   }
 
   @Override
@@ -363,6 +358,44 @@ public class DefaultScheduler
     }
   }
 
+  private AllocatorTask createAllocatorTask(AllocatorCommand command) {
+    return new AllocatorTask(
+        reservationPool,
+        deferredAllocations,
+        allocationAdvisor,
+        deadlockReporter,
+        kernelExecutor,
+        globalSyncObject,
+        command
+    );
+  }
+
+  /**
+   * Returns the clients holding resources claimed by the given client.
+   *
+   * @param client The client.
+   * @return The other clients holding resources claimed by the given client.
+   */
+  private Set<Client> holdersOfClaimedResources(Client client) {
+    return reservationPool.getClaim(client).stream()
+        .flatMap(Set::stream)
+        .map(resource -> reservationPool.getReservationEntry(resource).getClient())
+        .filter(holder -> holder != null && !holder.equals(client))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Forgets the reported deadlocks the given client is involved in, as releasing resources
+   * resolves them.
+   * Must be called while holding the global sync object.
+   *
+   * @param client The client that released resources.
+   */
+  private void resourcesReleased(Client client) {
+    deferredAllocations.resourcesReleased(client);
+    reportedPredictedDeadlocks.forget(client);
+  }
+
   private void addAllocateFuture(Client client, Future<?> allocateFuture) {
     if (!allocateFutures.containsKey(client)) {
       allocateFutures.put(client, new ArrayList<>());
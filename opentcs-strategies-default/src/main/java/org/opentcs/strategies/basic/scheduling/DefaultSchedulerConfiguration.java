@@ -0,0 +1,30 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the {@link DefaultScheduler}.
+ */
+@ConfigurationPrefix(DefaultSchedulerConfiguration.PREFIX)
+public interface DefaultSchedulerConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultscheduler";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to check for potential deadlocks whenever a vehicle claims resources.",
+          "If 'true', a deadlock is predicted if vehicles claim resources allocated by each other "
+              + "in a cycle. Deadlocks of vehicles whose allocations are waiting for each other "
+              + "are always detected."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  boolean predictDeadlocks();
+}
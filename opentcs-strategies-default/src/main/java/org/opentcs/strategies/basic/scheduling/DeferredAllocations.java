@@ -0,0 +1,304 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import org.opentcs.components.kernel.Scheduler.Client;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Allocations deferred because they couldn't be granted, yet, indexed by the resources they are
+ * waiting for.
+ * <p>
+ * An allocation that was deferred because some of its resources were allocated by other clients
+ * only needs to be retried when one of these resources is released. Allocations deferred for other
+ * reasons (e.g. because a scheduler module did not allow them) are retried whenever any resource
+ * is released.
+ * </p>
+ * <p>
+ * The clients waiting for resources held by other clients are kept in a wait-for graph, in which
+ * deadlocks are detected whenever an allocation is deferred. Each deadlock is reported only once,
+ * until one of the deadlocked clients releases resources.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+class DeferredAllocations {
+
+  /**
+   * The statistics for a resource no deferred allocation has waited for, yet.
+   */
+  private static final ResourceWaitStatistics NO_RETRIES = new ResourceWaitStatistics(0, 0, 0);
+  /**
+   * Provides the current time (in ms).
+   */
+  private final LongSupplier clock;
+  /**
+   * All deferred allocations, in the order they were deferred.
+   */
+  private final Map<AllocatorCommand.Allocate, DeferredAllocation> allocations
+      = new LinkedHashMap<>();
+  /**
+   * The deferred allocations waiting for a resource to be released, indexed by that resource.
+   */
+  private final Map<TCSResource<?>, Set<AllocatorCommand.Allocate>> allocationsByResource
+      = new HashMap<>();
+  /**
+   * The statistics about deferred allocations waiting for resources to be released.
+   */
+  private final Map<TCSResource<?>, ResourceWaitStatistics> statistics = new HashMap<>();
+  /**
+   * The clients of deferred allocations waiting for the clients holding the resources.
+   */
+  private final WaitForGraph waitForGraph = new WaitForGraph();
+  /**
+   * The deadlocks that have already been reported.
+   */
+  private final ReportedDeadlocks reportedDeadlocks = new ReportedDeadlocks();
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+    this(System::currentTimeMillis);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clock Provides the current time (in ms).
+   */
+  DeferredAllocations(
+      @Nonnull
+      LongSupplier clock
+  ) {
+    this.clock = requireNonNull(clock, "clock");
+  }
+
+  /**
+   * Adds a deferred allocation.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources the allocation is waiting for, i.e. the requested
+   * resources that are allocated by other clients. If empty, the allocation was deferred for other
+   * reasons and is retried whenever any resource is released.
+   */
+  public void add(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      @Nonnull
+      Set<TCSResource<?>> blockingResources
+  ) {
+    add(allocate, blockingResources, Set.of());
+  }
+
+  /**
+   * Adds a deferred allocation and checks whether it completes a deadlock.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources the allocation is waiting for, i.e. the requested
+   * resources that are allocated by other clients. If empty, the allocation was deferred for other
+   * reasons and is retried whenever any resource is released.
+   * @param blockingClients The clients holding the blocking resources.
+   * @return The clients that are deadlocked because of the allocation's client waiting for the
+   * blocking clients, starting with the allocation's client, or an empty list, if there is no
+   * deadlock or the deadlock has already been reported before.
+   */
+  @Nonnull
+  public synchronized List<Client> add(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      @Nonnull
+      Set<TCSResource<?>> blockingResources,
+      @Nonnull
+      Set<Client> blockingClients
+  ) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(blockingResources, "blockingResources");
+    requireNonNull(blockingClients, "blockingClients");
+
+    if (allocations.containsKey(allocate)) {
+      remove(List.of(allocate));
+    }
+    allocations.put(
+        allocate,
+        new DeferredAllocation(
+            Set.copyOf(blockingResources),
+            Set.copyOf(blockingClients),
+            clock.getAsLong()
+        )
+    );
+    for (TCSResource<?> resource : blockingResources) {
+      allocationsByResource.computeIfAbsent(resource, key -> new LinkedHashSet<>()).add(allocate);
+    }
+
+    if (blockingClients.isEmpty()) {
+      return List.of();
+    }
+    waitForGraph.addEdges(allocate.getClient(), blockingClients);
+    List<Client> deadlockedClients = waitForGraph.findCycle(allocate.getClient());
+    if (deadlockedClients.isEmpty() || !reportedDeadlocks.markReported(deadlockedClients)) {
+      return List.of();
+    }
+    return deadlockedClients;
+  }
+
+  /**
+   * Notes that the given client released resources, which resolves any deadlock it was involved
+   * in.
+   *
+   * @param client The client.
+   */
+  public synchronized void resourcesReleased(
+      @Nonnull
+      Client client
+  ) {
+    requireNonNull(client, "client");
+
+    reportedDeadlocks.forget(client);
+  }
+
+  /**
+   * Removes and returns the deferred allocations that should be retried after the given resources
+   * have been released.
+   * <p>
+   * These are the allocations waiting for any of the given resources and the allocations that were
+   * deferred for other reasons.
+   * </p>
+   *
+   * @param releasedResources The released resources.
+   * @return The allocations to be retried, ordered by their priority and age.
+   */
+  @Nonnull
+  public synchronized List<AllocatorCommand.Allocate> wakeUp(
+      @Nonnull
+      Set<TCSResource<?>> releasedResources
+  ) {
+    requireNonNull(releasedResources, "releasedResources");
+
+    long now = clock.getAsLong();
+    Set<AllocatorCommand.Allocate> result = new LinkedHashSet<>();
+    for (TCSResource<?> resource : releasedResources) {
+      Set<AllocatorCommand.Allocate> waiting = allocationsByResource.get(resource);
+      if (waiting == null) {
+        continue;
+      }
+      for (AllocatorCommand.Allocate allocate : waiting) {
+        long waitTime = now - allocations.get(allocate).since();
+        statistics.put(resource, statistics.getOrDefault(resource, NO_RETRIES).withRetry(waitTime));
+      }
+      result.addAll(waiting);
+    }
+    for (Map.Entry<AllocatorCommand.Allocate, DeferredAllocation> entry : allocations.entrySet()) {
+      if (entry.getValue().blockingResources().isEmpty()) {
+        result.add(entry.getKey());
+      }
+    }
+
+    return remove(result);
+  }
+
+  /**
+   * Removes and returns all deferred allocations.
+   *
+   * @return All deferred allocations, ordered by their priority and age.
+   */
+  @Nonnull
+  public synchronized List<AllocatorCommand.Allocate> wakeUpAll() {
+    return remove(new ArrayList<>(allocations.keySet()));
+  }
+
+  /**
+   * Removes all deferred allocations of the given client.
+   *
+   * @param client The client.
+   */
+  public synchronized void removeAll(
+      @Nonnull
+      Client client
+  ) {
+    requireNonNull(client, "client");
+
+    reportedDeadlocks.forget(client);
+    remove(
+        allocations.keySet().stream()
+            .filter(allocate -> client.equals(allocate.getClient()))
+            .toList()
+    );
+  }
+
+  /**
+   * Returns the number of deferred allocations.
+   *
+   * @return The number of deferred allocations.
+   */
+  public synchronized int size() {
+    return allocations.size();
+  }
+
+  /**
+   * Returns the statistics about deferred allocations waiting for resources to be released.
+   *
+   * @return The statistics, mapped to the names of the respective resources.
+   */
+  @Nonnull
+  public synchronized Map<String, ResourceWaitStatistics> getStatistics() {
+    Map<String, ResourceWaitStatistics> result = new HashMap<>();
+    for (Map.Entry<TCSResource<?>, ResourceWaitStatistics> entry : statistics.entrySet()) {
+      result.put(entry.getKey().getName(), entry.getValue());
+    }
+    return result;
+  }
+
+  /**
+   * Removes the given deferred allocations.
+   *
+   * @param allocates The allocations to be removed.
+   * @return The removed allocations, ordered by their priority and age.
+   */
+  private List<AllocatorCommand.Allocate> remove(
+      Iterable<AllocatorCommand.Allocate> allocates
+  ) {
+    List<AllocatorCommand.Allocate> result = new ArrayList<>();
+    for (AllocatorCommand.Allocate allocate : allocates) {
+      DeferredAllocation deferredAllocation = allocations.remove(allocate);
+      waitForGraph.removeEdges(allocate.getClient(), deferredAllocation.blockingClients());
+      for (TCSResource<?> resource : deferredAllocation.blockingResources()) {
+        Set<AllocatorCommand.Allocate> waiting = allocationsByResource.get(resource);
+        waiting.remove(allocate);
+        if (waiting.isEmpty()) {
+          allocationsByResource.remove(resource);
+        }
+      }
+      result.add(allocate);
+    }
+    Collections.sort(result);
+    return result;
+  }
+
+  /**
+   * A deferred allocation's data.
+   *
+   * @param blockingResources The resources the allocation is waiting for.
+   * @param blockingClients The clients holding the resources the allocation is waiting for.
+   * @param since The point of time (in ms) at which the allocation was deferred.
+   */
+  private record DeferredAllocation(
+      Set<TCSResource<?>> blockingResources,
+      Set<Client> blockingClients,
+      long since
+  ) {
+  }
+}
@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.opentcs.components.kernel.Scheduler.Client;
+
+/**
+ * Keeps track of the deadlocks that have already been reported, so that each deadlock is reported
+ * only once.
+ * <p>
+ * Deadlocked allocations remain deferred and are retried whenever resources are released, and
+ * every retry detects the same deadlock again. A deadlock is identified by the set of clients
+ * involved in it. It is forgotten as soon as any of these clients releases resources, as the
+ * deadlock is resolved then.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ */
+class ReportedDeadlocks {
+
+  /**
+   * The sets of clients involved in the reported deadlocks.
+   */
+  private final Set<Set<Client>> deadlocks = new HashSet<>();
+
+  /**
+   * Creates a new instance.
+   */
+  ReportedDeadlocks() {
+  }
+
+  /**
+   * Marks the deadlock of the given clients as reported.
+   *
+   * @param deadlockedClients The deadlocked clients.
+   * @return <code>true</code> if, and only if, the deadlock had not been reported before and
+   * should be reported now.
+   */
+  public boolean markReported(
+      @Nonnull
+      List<Client> deadlockedClients
+  ) {
+    requireNonNull(deadlockedClients, "deadlockedClients");
+
+    return deadlocks.add(Set.copyOf(deadlockedClients));
+  }
+
+  /**
+   * Forgets all reported deadlocks the given client is involved in.
+   *
+   * @param client The client.
+   */
+  public void forget(
+      @Nonnull
+      Client client
+  ) {
+    requireNonNull(client, "client");
+
+    deadlocks.removeIf(deadlockedClients -> deadlockedClients.contains(client));
+  }
+}
@@ -21,10 +21,26 @@ public class ReservationEntry {
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(ReservationEntry.class);
+  /**
+   * A listener that ignores all notifications.
+   */
+  private static final AllocationListener NO_LISTENER = new AllocationListener() {
+    @Override
+    public void resourceAllocated(TCSResource<?> resource, Client client) {
+    }
+
+    @Override
+    public void resourceFreed(TCSResource<?> resource, Client client) {
+    }
+  };
   /**
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * Gets notified when the resource is allocated or freed.
+   */
+  private final AllocationListener listener;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -42,7 +58,18 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, NO_LISTENER);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param listener Gets notified when the resource is allocated or freed.
+   */
+  ReservationEntry(TCSResource<?> reqResource, AllocationListener listener) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.listener = requireNonNull(listener, "listener");
   }
 
   /**
@@ -75,6 +102,7 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      listener.resourceAllocated(resource, client);
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -102,7 +130,9 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
+      Client formerClient = client;
       client = null;
+      listener.resourceFreed(resource, formerClient);
     }
   }
 
@@ -111,8 +141,12 @@ public class ReservationEntry {
    * to <code>null</code>.
    */
   void freeCompletely() {
+    Client formerClient = client;
     counter = 0;
     client = null;
+    if (formerClient != null) {
+      listener.resourceFreed(resource, formerClient);
+    }
   }
 
   /**
@@ -144,4 +178,26 @@ public class ReservationEntry {
         + ", counter=" + counter
         + '}';
   }
+
+  /**
+   * Gets notified when a resource becomes allocated by a client or free again.
+   */
+  interface AllocationListener {
+
+    /**
+     * Called when the given resource became allocated by the given client.
+     *
+     * @param resource The resource.
+     * @param client The client that allocated the resource.
+     */
+    void resourceAllocated(TCSResource<?> resource, Client client);
+
+    /**
+     * Called when the given resource, which was allocated by the given client, became free.
+     *
+     * @param resource The resource.
+     * @param client The client that had allocated the resource.
+     */
+    void resourceFreed(TCSResource<?> resource, Client client);
+  }
 }
@@ -37,6 +37,10 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The resources allocated by each client, kept in sync by the reservation entries.
+   */
+  private final ClientAllocationIndex allocationIndex = new ClientAllocationIndex();
 
   /**
    * Creates a new instance.
@@ -57,7 +61,7 @@ public class ReservationPool {
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, allocationIndex);
       reservations.put(resource, entry);
     }
     return entry;
@@ -176,10 +180,7 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toSet());
+    return new HashSet<>(allocationIndex.getResources(client));
   }
 
   /**
@@ -215,6 +216,32 @@ public class ReservationPool {
     return true;
   }
 
+  /**
+   * Returns the resources in the given set of resources that are not available for the given
+   * client, i.e. that are allocated by other clients.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return The resources in the given set that are not available for the given client.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> unavailableResourcesForUser(
+      @Nonnull
+      Set<TCSResource<?>> resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    return resources.stream()
+        .filter(resource -> {
+          ReservationEntry entry = getReservationEntry(resource);
+          return !entry.isFree() && !entry.isAllocatedBy(client);
+        })
+        .collect(Collectors.toSet());
+  }
+
   public void free(
       @Nonnull
       Scheduler.Client client,
@@ -236,32 +263,25 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    for (TCSResource<?> resource : Set.copyOf(allocationIndex.getResources(client))) {
+      reservations.get(resource).freeCompletely();
+    }
   }
 
+  /**
+   * Returns the resources allocated by all clients.
+   *
+   * @return An immutable snapshot of the resources allocated by all clients, mapped to client IDs.
+   */
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
-    final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
-      }
-    }
-    return result;
+    return allocationIndex.getSnapshot();
   }
 
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocationIndex.clear();
   }
 
   /**
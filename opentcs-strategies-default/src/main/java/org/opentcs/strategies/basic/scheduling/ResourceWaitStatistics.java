@@ -0,0 +1,98 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+/**
+ * Statistics about deferred allocations that were waiting for a single resource to be released.
+ */
+public class ResourceWaitStatistics {
+
+  /**
+   * The number of times a deferred allocation was retried because the resource was released.
+   */
+  private final long retryCount;
+  /**
+   * The total time (in ms) deferred allocations waited for the resource to be released.
+   */
+  private final long totalWaitTime;
+  /**
+   * The longest time (in ms) a deferred allocation waited for the resource to be released.
+   */
+  private final long maxWaitTime;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param retryCount The number of times a deferred allocation was retried because the resource
+   * was released.
+   * @param totalWaitTime The total time (in ms) deferred allocations waited for the resource to be
+   * released.
+   * @param maxWaitTime The longest time (in ms) a deferred allocation waited for the resource to be
+   * released.
+   */
+  public ResourceWaitStatistics(long retryCount, long totalWaitTime, long maxWaitTime) {
+    this.retryCount = retryCount;
+    this.totalWaitTime = totalWaitTime;
+    this.maxWaitTime = maxWaitTime;
+  }
+
+  /**
+   * Returns the number of times a deferred allocation was retried because the resource was
+   * released.
+   *
+   * @return The number of retries.
+   */
+  public long getRetryCount() {
+    return retryCount;
+  }
+
+  /**
+   * Returns the total time (in ms) deferred allocations waited for the resource to be released.
+   *
+   * @return The total wait time.
+   */
+  public long getTotalWaitTime() {
+    return totalWaitTime;
+  }
+
+  /**
+   * Returns the longest time (in ms) a deferred allocation waited for the resource to be released.
+   *
+   * @return The longest wait time.
+   */
+  public long getMaxWaitTime() {
+    return maxWaitTime;
+  }
+
+  /**
+   * Returns the average time (in ms) a deferred allocation waited for the resource to be released.
+   *
+   * @return The average wait time, or 0, if no deferred allocation was retried, yet.
+   */
+  public long getAverageWaitTime() {
+    return retryCount == 0 ? 0 : totalWaitTime / retryCount;
+  }
+
+  /**
+   * Creates a copy of this object, with the given wait time of another retry added.
+   *
+   * @param waitTime The time (in ms) the retried allocation waited.
+   * @return A copy of this object, with the given wait time of another retry added.
+   */
+  public ResourceWaitStatistics withRetry(long waitTime) {
+    return new ResourceWaitStatistics(
+        retryCount + 1,
+        totalWaitTime + waitTime,
+        Math.max(maxWaitTime, waitTime)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceWaitStatistics{"
+        + "retryCount=" + retryCount
+        + ", totalWaitTime=" + totalWaitTime
+        + ", maxWaitTime=" + maxWaitTime
+        + '}';
+  }
+}
@@ -0,0 +1,179 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import org.opentcs.components.kernel.Scheduler.Client;
+
+/**
+ * A directed graph of scheduler clients waiting for each other, i.e. with an edge from each client
+ * waiting for resources to each client holding any of these resources.
+ * <p>
+ * Every edge is counted, so that it may be added and removed for multiple deferred allocations of
+ * the same client independently. A cycle in this graph means that the clients on the cycle are
+ * deadlocked.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ */
+class WaitForGraph {
+
+  /**
+   * The edges, mapped to the waiting client, with the number of times each edge was added.
+   */
+  private final Map<Client, Map<Client, Integer>> edges = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  WaitForGraph() {
+  }
+
+  /**
+   * Adds edges from the given waiting client to the given holding clients.
+   *
+   * @param waiting The waiting client.
+   * @param holders The clients holding resources the waiting client is waiting for.
+   */
+  public void addEdges(
+      @Nonnull
+      Client waiting,
+      @Nonnull
+      Set<Client> holders
+  ) {
+    requireNonNull(waiting, "waiting");
+    requireNonNull(holders, "holders");
+
+    for (Client holder : holders) {
+      if (!holder.equals(waiting)) {
+        edges.computeIfAbsent(waiting, key -> new HashMap<>()).merge(holder, 1, Integer::sum);
+      }
+    }
+  }
+
+  /**
+   * Removes edges from the given waiting client to the given holding clients that were previously
+   * added.
+   *
+   * @param waiting The waiting client.
+   * @param holders The clients holding resources the waiting client was waiting for.
+   */
+  public void removeEdges(
+      @Nonnull
+      Client waiting,
+      @Nonnull
+      Set<Client> holders
+  ) {
+    requireNonNull(waiting, "waiting");
+    requireNonNull(holders, "holders");
+
+    Map<Client, Integer> successors = edges.get(waiting);
+    if (successors == null) {
+      return;
+    }
+    for (Client holder : holders) {
+      successors.computeIfPresent(holder, (key, count) -> count > 1 ? count - 1 : null);
+    }
+    if (successors.isEmpty()) {
+      edges.remove(waiting);
+    }
+  }
+
+  /**
+   * Returns the clients the given client is waiting for.
+   *
+   * @param client The client.
+   * @return The clients the given client is waiting for.
+   */
+  @Nonnull
+  public Set<Client> successors(
+      @Nonnull
+      Client client
+  ) {
+    requireNonNull(client, "client");
+
+    Map<Client, Integer> successors = edges.get(client);
+    return successors == null ? Set.of() : successors.keySet();
+  }
+
+  /**
+   * Returns a shortest cycle through the given client.
+   * <p>
+   * Adding an edge can only create cycles through the client the edge was added for, so only
+   * these need to be looked for after adding it. The graph may contain other cycles, though, as
+   * deadlocked allocations remain deferred, and these are found again whenever the allocations are
+   * retried.
+   * </p>
+   *
+   * @param start The client.
+   * @return The clients on the cycle, starting with the given client, or an empty list, if there
+   * is no cycle through the given client.
+   */
+  @Nonnull
+  public List<Client> findCycle(
+      @Nonnull
+      Client start
+  ) {
+    return findCycle(start, this::successors);
+  }
+
+  /**
+   * Returns a shortest cycle through the given client in the graph defined by the given function.
+   *
+   * @param start The client.
+   * @param successors Provides the clients a client is waiting for.
+   * @return The clients on the cycle, starting with the given client, or an empty list, if there
+   * is no cycle through the given client.
+   */
+  @Nonnull
+  public static List<Client> findCycle(
+      @Nonnull
+      Client start,
+      @Nonnull
+      Function<Client, Set<Client>> successors
+  ) {
+    requireNonNull(start, "start");
+    requireNonNull(successors, "successors");
+
+    Map<Client, Client> predecessors = new HashMap<>();
+    Queue<Client> queue = new ArrayDeque<>();
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      Client current = queue.remove();
+      for (Client successor : successors.apply(current)) {
+        if (successor.equals(start)) {
+          return pathTo(current, start, predecessors);
+        }
+        if (!predecessors.containsKey(successor)) {
+          predecessors.put(successor, current);
+          queue.add(successor);
+        }
+      }
+    }
+    return List.of();
+  }
+
+  private static List<Client> pathTo(
+      Client end,
+      Client start,
+      Map<Client, Client> predecessors
+  ) {
+    LinkedList<Client> path = new LinkedList<>();
+    for (Client client = end; !client.equals(start); client = predecessors.get(client)) {
+      path.addFirst(client);
+    }
+    path.addFirst(start);
+    return path;
+  }
+}
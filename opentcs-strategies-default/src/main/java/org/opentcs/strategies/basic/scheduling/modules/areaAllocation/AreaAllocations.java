@@ -2,24 +2,39 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The individual areas allocated by all vehicles are kept in a spatial index, so that checking a
+ * requested area only requires exact intersection tests with allocated areas whose envelopes
+ * (bounding boxes) intersect the requested area's envelope.
+ * </p>
  */
 public class AreaAllocations
     implements
       Lifecycle {
 
-  private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedArea>> allocatedAreasByVehicles
       = new HashMap<>();
+  private Quadtree allocatedAreasIndex = new Quadtree();
   private boolean initialized = false;
 
   @Inject
@@ -56,6 +71,7 @@ public class AreaAllocations
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    allocatedAreasIndex = new Quadtree();
   }
 
   /**
@@ -69,7 +85,20 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    clearAreaAllocation(vehicleRef);
+
+    List<AllocatedArea> areas = new ArrayList<>(allocatedAreas.getNumGeometries());
+    for (int i = 0; i < allocatedAreas.getNumGeometries(); i++) {
+      Geometry geometry = allocatedAreas.getGeometryN(i);
+      if (geometry.isEmpty()) {
+        continue;
+      }
+
+      AllocatedArea area = new AllocatedArea(vehicleRef, geometry);
+      allocatedAreasIndex.insert(area.getEnvelope(), area);
+      areas.add(area);
+    }
+    allocatedAreasByVehicles.put(vehicleRef, areas);
   }
 
   /**
@@ -78,7 +107,14 @@ public class AreaAllocations
    * @param vehicleRef The vehicle reference.
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
-    allocatedAreasByVehicles.remove(vehicleRef);
+    List<AllocatedArea> areas = allocatedAreasByVehicles.remove(vehicleRef);
+    if (areas == null) {
+      return;
+    }
+
+    for (AllocatedArea area : areas) {
+      allocatedAreasIndex.remove(area.getEnvelope(), area);
+    }
   }
 
   /**
@@ -94,9 +130,58 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
+    for (int i = 0; i < requestedAreas.getNumGeometries(); i++) {
+      Geometry requestedArea = requestedAreas.getGeometryN(i);
+      if (requestedArea.isEmpty()) {
+        continue;
+      }
+
+      Envelope requestedEnvelope = requestedArea.getEnvelopeInternal();
+      // The index query may also return areas whose envelopes do not intersect the requested one.
+      List<?> candidates = allocatedAreasIndex.query(requestedEnvelope);
+      for (Object candidate : candidates) {
+        AllocatedArea allocatedArea = (AllocatedArea) candidate;
         // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+        if (!Objects.equals(allocatedArea.getVehicleRef(), vehicleRef)
+            && allocatedArea.getEnvelope().intersects(requestedEnvelope)
+            && allocatedArea.getPreparedGeometry().intersects(requestedArea)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * A single area allocated by a vehicle.
+   */
+  private static class AllocatedArea {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private final PreparedGeometry preparedGeometry;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param vehicleRef The vehicle that allocated the area.
+     * @param geometry The area's geometry.
+     */
+    AllocatedArea(TCSObjectReference<Vehicle> vehicleRef, Geometry geometry) {
+      this.vehicleRef = requireNonNull(vehicleRef, "vehicleRef");
+      this.preparedGeometry = PreparedGeometryFactory.prepare(geometry);
+    }
+
+    public TCSObjectReference<Vehicle> getVehicleRef() {
+      return vehicleRef;
+    }
+
+    public PreparedGeometry getPreparedGeometry() {
+      return preparedGeometry;
+    }
+
+    public Envelope getEnvelope() {
+      return preparedGeometry.getGeometry().getEnvelopeInternal();
+    }
   }
 }
@@ -8,6 +8,7 @@ import static org.opentcs.strategies.basic.scheduling.modules.areaAllocation.Cus
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,14 +25,25 @@ import org.opentcs.data.model.TCSResource;
 /**
  * An {@link AreaProvider} implementation that, upon initialization, computes and caches the areas
  * for the {@link Envelope}s defined at all {@link Point}s and {@link Path}s.
+ * <p>
+ * Additionally, the areas provided for the most recently requested combinations of envelope keys
+ * and sets of resources are cached, as the same combinations are usually requested repeatedly
+ * (e.g. when allocations are retried).
+ * </p>
  */
 public class CachingAreaProvider
     implements
       AreaProvider {
 
+  /**
+   * The maximum number of cached combinations of envelope keys and sets of resources.
+   */
+  private static final int MERGED_AREAS_CACHE_SIZE = 1024;
   private final TCSObjectService objectService;
   private final CustomGeometryFactory geometryFactory = new CustomGeometryFactory();
   private final Map<CacheKey, Geometry> cache = new HashMap<>();
+  private final Map<MergedAreasKey, GeometryCollection> mergedAreasCache
+      = createMergedAreasCache();
   private boolean initialized;
 
   /**
@@ -67,6 +79,7 @@ public class CachingAreaProvider
     }
 
     cache.clear();
+    mergedAreasCache.clear();
 
     initialized = false;
   }
@@ -81,6 +94,19 @@ public class CachingAreaProvider
     requireNonNull(envelopeKey, "envelopeKey");
     requireNonNull(resources, "resources");
 
+    GeometryCollection cachedAreas
+        = mergedAreasCache.get(new MergedAreasKey(envelopeKey, resources));
+    if (cachedAreas != null) {
+      return cachedAreas;
+    }
+
+    GeometryCollection areas = mergeAreas(envelopeKey, resources);
+    // Copy the given set of resources, as it may be modified by the caller later.
+    mergedAreasCache.put(new MergedAreasKey(envelopeKey, Set.copyOf(resources)), areas);
+    return areas;
+  }
+
+  private GeometryCollection mergeAreas(String envelopeKey, Set<TCSResource<?>> resources) {
     Geometry[] computedAreas = resources.stream()
         .map(resource -> lookupArea(envelopeKey, resource))
         .filter(geometry -> geometry != EMPTY_GEOMETRY)
@@ -89,6 +115,16 @@ public class CachingAreaProvider
     return geometryFactory.createGeometryCollection(computedAreas);
   }
 
+  private static Map<MergedAreasKey, GeometryCollection> createMergedAreasCache() {
+    // Evict the least recently used entries first.
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<MergedAreasKey, GeometryCollection> eldest) {
+        return size() > MERGED_AREAS_CACHE_SIZE;
+      }
+    };
+  }
+
   private void populateCache() {
     Set<Point> points = objectService.fetchObjects(
         Point.class,
@@ -188,4 +224,14 @@ public class CachingAreaProvider
           && Objects.equals(this.resource, other.resource);
     }
   }
+
+  /**
+   * Combines the envelope key and the set of resources for which merged areas were provided to be
+   * used as the merged areas cache's key.
+   *
+   * @param envelopeKey The envelope key.
+   * @param resources The set of resources.
+   */
+  private record MergedAreasKey(String envelopeKey, Set<TCSResource<?>> resources) {
+  }
 }
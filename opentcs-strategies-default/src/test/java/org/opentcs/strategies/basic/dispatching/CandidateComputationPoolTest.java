@@ -0,0 +1,72 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CandidateComputationPool}.
+ */
+class CandidateComputationPoolTest {
+
+  private DefaultDispatcherConfiguration configuration;
+  private CandidateComputationPool pool;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    pool = new CandidateComputationPool(configuration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.terminate();
+  }
+
+  @Test
+  void computeSequentiallyOnCallingThreadWithParallelismOne() {
+    when(configuration.candidateComputationParallelism()).thenReturn(1);
+    pool.initialize();
+    Thread callingThread = Thread.currentThread();
+
+    List<Boolean> result = pool.computeAll(
+        List.of(1, 2, 3),
+        element -> Thread.currentThread() == callingThread
+    );
+
+    assertThat(result, contains(true, true, true));
+  }
+
+  @Test
+  void computeInPoolPreservingOrderWithParallelismGreaterOne() {
+    when(configuration.candidateComputationParallelism()).thenReturn(4);
+    pool.initialize();
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+
+    List<Integer> result = pool.computeAll(
+        elements,
+        element -> {
+          threadNames.add(Thread.currentThread().getName());
+          return element * 2;
+        }
+    );
+
+    assertThat(result, is(elements.stream().map(element -> element * 2).toList()));
+    assertThat(threadNames, everyItem(startsWith("candidateComputationPool-")));
+  }
+}
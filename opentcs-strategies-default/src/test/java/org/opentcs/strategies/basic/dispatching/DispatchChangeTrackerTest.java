@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Unit tests for {@link DispatchChangeTracker}.
+ */
+class DispatchChangeTrackerTest {
+
+  private EventBus eventBus;
+  private DispatchChangeTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    eventBus = mock(EventBus.class);
+    tracker = new DispatchChangeTracker(eventBus);
+    tracker.initialize();
+  }
+
+  @Test
+  void subscribeOnInitialization() {
+    verify(eventBus).subscribe(tracker);
+  }
+
+  @Test
+  void requireFullRunAfterInitialization() {
+    assertThat(tracker.fetchChanges().isFullRunRequired(), is(true));
+    assertThat(tracker.fetchChanges().isFullRunRequired(), is(false));
+  }
+
+  @Test
+  void recordChangedVehiclesOrdersAndSequences() {
+    tracker.fetchChanges();
+
+    tracker.onEvent(modified(new Vehicle("vehicle")));
+    tracker.onEvent(modified(new TransportOrder("order", List.of())));
+    tracker.onEvent(modified(new OrderSequence("sequence")));
+    tracker.onEvent(modified(new Point("point")));
+
+    DispatchChanges changes = tracker.fetchChanges();
+    assertThat(changes.isFullRunRequired(), is(false));
+    assertThat(changes.getVehicleNames(), contains("vehicle"));
+    assertThat(changes.getTransportOrderNames(), contains("order"));
+    assertThat(changes.getOrderSequenceNames(), contains("sequence"));
+
+    DispatchChanges nextChanges = tracker.fetchChanges();
+    assertThat(nextChanges.getVehicleNames(), is(empty()));
+    assertThat(nextChanges.getTransportOrderNames(), is(empty()));
+    assertThat(nextChanges.getOrderSequenceNames(), is(empty()));
+  }
+
+  @Test
+  void requireFullRunWhenPathChanged() {
+    tracker.fetchChanges();
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+
+    tracker.onEvent(modified(new Path("A--B", pointA.getReference(), pointB.getReference())));
+
+    assertThat(tracker.fetchChanges().isFullRunRequired(), is(true));
+  }
+
+  @Test
+  void requireFullRunWhenRequested() {
+    tracker.fetchChanges();
+
+    tracker.requestFullRun();
+
+    assertThat(tracker.fetchChanges().isFullRunRequired(), is(true));
+  }
+
+  @Test
+  void requireFullRunWhenTooManyObjectsChanged() {
+    tracker.fetchChanges();
+
+    for (int i = 0; i <= DispatchChangeTracker.MAX_CHANGED_OBJECTS; i++) {
+      tracker.onEvent(modified(new TransportOrder("order-" + i, List.of())));
+    }
+
+    DispatchChanges changes = tracker.fetchChanges();
+    assertThat(changes.isFullRunRequired(), is(true));
+    assertThat(changes.getTransportOrderNames(), is(empty()));
+  }
+
+  @Test
+  void reportEmptyChangesIfNothingChanged() {
+    tracker.fetchChanges();
+
+    assertThat(tracker.fetchChanges().isEmpty(), is(true));
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
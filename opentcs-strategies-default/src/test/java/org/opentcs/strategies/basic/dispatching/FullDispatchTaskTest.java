@@ -0,0 +1,104 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
+import org.opentcs.strategies.basic.dispatching.phase.CheckNewOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.FinishWithdrawalsPhase;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignFreeOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignNextDriveOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.ParkIdleVehiclesPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedParkingPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedReparkPhase;
+import org.opentcs.strategies.basic.dispatching.phase.recharging.RechargeIdleVehiclesPhase;
+
+/**
+ * Unit tests for {@link FullDispatchTask}.
+ */
+class FullDispatchTaskTest {
+
+  private CheckNewOrdersPhase checkNewOrdersPhase;
+  private AssignFreeOrdersPhase assignFreeOrdersPhase;
+  private RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase;
+  private ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  private FullDispatchTask task;
+
+  @BeforeEach
+  void setUp() {
+    checkNewOrdersPhase = mock();
+    assignFreeOrdersPhase = mock();
+    rechargeIdleVehiclesPhase = mock();
+    parkIdleVehiclesPhase = mock();
+
+    task = new FullDispatchTask(
+        checkNewOrdersPhase,
+        mock(FinishWithdrawalsPhase.class),
+        mock(AssignNextDriveOrdersPhase.class),
+        mock(AssignReservedOrdersPhase.class),
+        mock(AssignSequenceSuccessorsPhase.class),
+        assignFreeOrdersPhase,
+        rechargeIdleVehiclesPhase,
+        mock(PrioritizedReparkPhase.class),
+        mock(PrioritizedParkingPhase.class),
+        parkIdleVehiclesPhase
+    );
+  }
+
+  @Test
+  void limitPhasesToChangedOrders() {
+    DispatchChanges changes = new DispatchChanges(false, Set.of(), Set.of("order"), Set.of());
+
+    task.run(changes);
+
+    verify(checkNewOrdersPhase).run(changes);
+    verify(checkNewOrdersPhase, never()).run();
+    verify(assignFreeOrdersPhase).run(changes);
+    verify(assignFreeOrdersPhase, never()).run();
+    verify(rechargeIdleVehiclesPhase, never()).run();
+    verify(parkIdleVehiclesPhase, never()).run();
+  }
+
+  @Test
+  void limitPhasesToChangedVehicles() {
+    DispatchChanges changes = new DispatchChanges(false, Set.of("vehicle"), Set.of(), Set.of());
+
+    task.run(changes);
+
+    verify(assignFreeOrdersPhase).run(changes);
+    verify(assignFreeOrdersPhase, never()).run();
+    verify(rechargeIdleVehiclesPhase).run();
+    verify(parkIdleVehiclesPhase).run();
+  }
+
+  @Test
+  void performFullRunIfRequired() {
+    task.run(DispatchChanges.FULL);
+
+    verifyFullRun();
+  }
+
+  @Test
+  void performFullRunForEmptyChanges() {
+    task.run(new DispatchChanges(false, Set.of(), Set.of(), Set.of()));
+
+    verifyFullRun();
+  }
+
+  private void verifyFullRun() {
+    verify(checkNewOrdersPhase).run();
+    verify(checkNewOrdersPhase, never()).run(any());
+    verify(assignFreeOrdersPhase).run();
+    verify(assignFreeOrdersPhase, never()).run(any());
+    verify(rechargeIdleVehiclesPhase).run();
+    verify(parkIdleVehiclesPhase).run();
+  }
+}
@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchChanges;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.IsFreelyDispatchableToAnyVehicle;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeVehicleSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.IsAvailableForAnyOrder;
+
+/**
+ * Unit tests for {@link AssignFreeOrdersPhase}.
+ */
+class AssignFreeOrdersPhaseTest {
+
+  private Vehicle vehicle1;
+  private Vehicle vehicle2;
+  private TransportOrder order1;
+  private TransportOrder order2;
+  private OrderAssigner orderAssigner;
+  private AssignFreeOrdersPhase phase;
+
+  @BeforeEach
+  void setUp() {
+    vehicle1 = new Vehicle("vehicle-1");
+    vehicle2 = new Vehicle("vehicle-2");
+    order1 = new TransportOrder("order-1", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+    order2 = new TransportOrder("order-2", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+
+    TCSObjectService objectService = mock();
+    when(objectService.fetchObjects(eq(Vehicle.class), ArgumentMatchers.<Predicate<Vehicle>>any()))
+        .thenAnswer(invocation -> filter(Set.of(vehicle1, vehicle2), invocation.getArgument(1)));
+    when(
+        objectService.fetchObjects(
+            eq(TransportOrder.class),
+            ArgumentMatchers.<Predicate<TransportOrder>>any()
+        )
+    )
+        .thenAnswer(invocation -> filter(Set.of(order1, order2), invocation.getArgument(1)));
+    when(objectService.fetchObject(TransportOrder.class, order1.getName())).thenReturn(order1);
+    when(objectService.fetchObject(TransportOrder.class, order2.getName())).thenReturn(order2);
+
+    IsAvailableForAnyOrder isAvailableForAnyOrder = mock();
+    when(isAvailableForAnyOrder.test(any(Vehicle.class))).thenReturn(true);
+    IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle = mock();
+    when(isFreelyDispatchableToAnyVehicle.test(any(TransportOrder.class))).thenReturn(true);
+    orderAssigner = mock();
+
+    phase = new AssignFreeOrdersPhase(
+        objectService,
+        mock(CompositeVehicleSelectionFilter.class),
+        isAvailableForAnyOrder,
+        isFreelyDispatchableToAnyVehicle,
+        mock(CompositeTransportOrderSelectionFilter.class),
+        orderAssigner,
+        mock(DispatchingStatusMarker.class),
+        mock(TransportOrderUtil.class)
+    );
+    phase.initialize();
+  }
+
+  @Test
+  void matchOnlyChangedVehicleAgainstAllOrders() {
+    phase.run(changes(Set.of(vehicle1.getName()), Set.of()));
+
+    verifyAssignmentsTried(List.of(vehicle1), List.of(order1, order2));
+  }
+
+  @Test
+  void matchAllVehiclesAgainstOnlyChangedOrder() {
+    phase.run(changes(Set.of(), Set.of(order1.getName())));
+
+    verifyAssignmentsTried(List.of(vehicle1, vehicle2), List.of(order1));
+  }
+
+  @Test
+  void skipAssignmentsIfChangedObjectsAreUnavailable() {
+    phase.run(changes(Set.of("unknown-vehicle"), Set.of("unknown-order")));
+
+    verify(orderAssigner, never()).tryAssignments(any(), any());
+  }
+
+  @Test
+  void considerAllCandidatesForEmptyChanges() {
+    phase.run(changes(Set.of(), Set.of()));
+
+    verifyAssignmentsTried(List.of(vehicle1, vehicle2), List.of(order1, order2));
+  }
+
+  @Test
+  void considerAllCandidatesIfFullRunRequired() {
+    phase.run(DispatchChanges.FULL);
+
+    verifyAssignmentsTried(List.of(vehicle1, vehicle2), List.of(order1, order2));
+  }
+
+  private void verifyAssignmentsTried(
+      Collection<Vehicle> expectedVehicles,
+      Collection<TransportOrder> expectedOrders
+  ) {
+    ArgumentCaptor<Collection<Vehicle>> vehicleCaptor = ArgumentCaptor.forClass(Collection.class);
+    ArgumentCaptor<Collection<TransportOrder>> orderCaptor
+        = ArgumentCaptor.forClass(Collection.class);
+    verify(orderAssigner).tryAssignments(vehicleCaptor.capture(), orderCaptor.capture());
+
+    assertThat(
+        vehicleCaptor.getValue(),
+        containsInAnyOrder(expectedVehicles.toArray(Vehicle[]::new))
+    );
+    assertThat(
+        orderCaptor.getValue(),
+        containsInAnyOrder(expectedOrders.toArray(TransportOrder[]::new))
+    );
+  }
+
+  private DispatchChanges changes(Set<String> vehicleNames, Set<String> transportOrderNames) {
+    return new DispatchChanges(false, vehicleNames, transportOrderNames, Set.of());
+  }
+
+  private static <T> Set<T> filter(Set<T> objects, Predicate<T> predicate) {
+    return objects.stream().filter(predicate).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,128 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the total empty travel costs and solve times of greedy assignment and min-cost
+ * matching.
+ * <p>
+ * Vehicles and the first destinations of transport orders are placed randomly on a grid, with the
+ * costs of a vehicle's empty travel being the Manhattan distance to an order's first destination.
+ * Greedy assignment assigns orders (in random priority order) the cheapest vehicle left, which is
+ * what {@link OrderAssigner} does with candidates prioritized by initial routing costs.
+ * </p>
+ * <p>
+ * The benchmark is only run with the environment variable {@code OPENTCS_BENCHMARKS} set to
+ * {@code true}, e.g. via {@code OPENTCS_BENCHMARKS=true ./gradlew
+ * :opentcs-strategies-default:test --tests '*MinCostAssignmentBenchmark'}.
+ * </p>
+ */
+@EnabledIfEnvironmentVariable(named = "OPENTCS_BENCHMARKS", matches = "true")
+class MinCostAssignmentBenchmark {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MinCostAssignmentBenchmark.class);
+  private static final int GRID_SIZE = 1000;
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 5;
+
+  @ParameterizedTest
+  @ValueSource(ints = {50, 200, 500})
+  void compareGreedyAssignmentAndMinCostMatching(int vehicleCount) {
+    Random random = new Random(vehicleCount);
+    long[][] costs = createCosts(random, vehicleCount, vehicleCount);
+
+    long greedyCosts = 0;
+    long matchingCosts = 0;
+    long greedyNanos = 0;
+    long matchingNanos = 0;
+    for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+      long start = System.nanoTime();
+      greedyCosts = totalCosts(costs, assignGreedily(costs));
+      long greedyEnd = System.nanoTime();
+      matchingCosts = totalCosts(costs, MinCostAssignmentSolver.solve(costs));
+      long matchingEnd = System.nanoTime();
+      if (run >= WARMUP_RUNS) {
+        greedyNanos += greedyEnd - start;
+        matchingNanos += matchingEnd - greedyEnd;
+      }
+    }
+
+    LOG.info(
+        "{} vehicles x {} orders: greedy {} ({} ms), matching {} ({} ms), {}% less empty travel",
+        vehicleCount,
+        vehicleCount,
+        greedyCosts,
+        greedyNanos / MEASURED_RUNS / 1_000_000.0,
+        matchingCosts,
+        matchingNanos / MEASURED_RUNS / 1_000_000.0,
+        String.format("%.1f", 100.0 * (greedyCosts - matchingCosts) / greedyCosts)
+    );
+    assertThat(matchingCosts, lessThanOrEqualTo(greedyCosts));
+  }
+
+  private long[][] createCosts(Random random, int vehicleCount, int orderCount) {
+    int[][] vehiclePositions = randomPositions(random, vehicleCount);
+    int[][] orderPositions = randomPositions(random, orderCount);
+    long[][] costs = new long[vehicleCount][orderCount];
+    for (int i = 0; i < vehicleCount; i++) {
+      for (int j = 0; j < orderCount; j++) {
+        costs[i][j] = Math.abs(vehiclePositions[i][0] - orderPositions[j][0])
+            + Math.abs(vehiclePositions[i][1] - orderPositions[j][1]);
+      }
+    }
+    return costs;
+  }
+
+  private int[][] randomPositions(Random random, int count) {
+    int[][] result = new int[count][2];
+    for (int[] position : result) {
+      position[0] = random.nextInt(GRID_SIZE);
+      position[1] = random.nextInt(GRID_SIZE);
+    }
+    return result;
+  }
+
+  private int[] assignGreedily(long[][] costs) {
+    int[] result = new int[costs.length];
+    Arrays.fill(result, MinCostAssignmentSolver.UNASSIGNED);
+    boolean[] assignedVehicles = new boolean[costs.length];
+    for (int order = 0; order < costs[0].length; order++) {
+      int bestVehicle = -1;
+      for (int vehicle = 0; vehicle < costs.length; vehicle++) {
+        if (!assignedVehicles[vehicle]
+            && (bestVehicle == -1 || costs[vehicle][order] < costs[bestVehicle][order])) {
+          bestVehicle = vehicle;
+        }
+      }
+      if (bestVehicle != -1) {
+        assignedVehicles[bestVehicle] = true;
+        result[bestVehicle] = order;
+      }
+    }
+    return result;
+  }
+
+  private long totalCosts(long[][] costs, int[] assignment) {
+    long result = 0;
+    for (int vehicle = 0; vehicle < assignment.length; vehicle++) {
+      if (assignment[vehicle] != MinCostAssignmentSolver.UNASSIGNED) {
+        result += costs[vehicle][assignment[vehicle]];
+      }
+    }
+    return result;
+  }
+}
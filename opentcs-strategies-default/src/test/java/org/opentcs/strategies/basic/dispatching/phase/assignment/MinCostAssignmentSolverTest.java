@@ -0,0 +1,116 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignmentSolver.INFEASIBLE;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignmentSolver.UNASSIGNED;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MinCostAssignmentSolver}.
+ */
+class MinCostAssignmentSolverTest {
+
+  @Test
+  void returnEmptyAssignmentForEmptyMatrix() {
+    assertThat(MinCostAssignmentSolver.solve(new long[0][0]).length, is(0));
+  }
+
+  @Test
+  void preferGlobalOptimumOverGreedyChoice() {
+    // Greedily assigning row 0 to column 0 would force row 1 to take column 1 at high costs.
+    long[][] costs = {
+        {1, 2},
+        {1, 100}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void neverAssignInfeasiblePairs() {
+    long[][] costs = {
+        {INFEASIBLE, 5},
+        {INFEASIBLE, INFEASIBLE}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs), is(new int[]{1, UNASSIGNED}));
+  }
+
+  @Test
+  void maximizeNumberOfAssignedRows() {
+    // Assigning row 0 to column 0 would be cheapest, but would leave row 1 without a column.
+    long[][] costs = {
+        {1, 1000},
+        {2, INFEASIBLE}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void handleMoreRowsThanColumns() {
+    long[][] costs = {
+        {10},
+        {3},
+        {7}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs), is(new int[]{UNASSIGNED, 0, UNASSIGNED}));
+  }
+
+  @Test
+  void matchBruteForceResultsForRandomMatrices() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      long[][] costs = new long[1 + random.nextInt(5)][1 + random.nextInt(5)];
+      for (long[] row : costs) {
+        for (int j = 0; j < row.length; j++) {
+          row[j] = random.nextInt(4) == 0 ? INFEASIBLE : random.nextInt(100);
+        }
+      }
+
+      int[] assignment = MinCostAssignmentSolver.solve(costs);
+
+      long[] expected = bruteForce(costs, 0, new boolean[costs[0].length]);
+      long assignedCount = 0;
+      long totalCosts = 0;
+      for (int i = 0; i < assignment.length; i++) {
+        if (assignment[i] != UNASSIGNED) {
+          assignedCount++;
+          totalCosts += costs[i][assignment[i]];
+        }
+      }
+      assertThat(assignedCount, is(expected[0]));
+      assertThat(totalCosts, is(expected[1]));
+    }
+  }
+
+  /**
+   * Returns the maximum number of assignable rows and the minimum total costs for that number.
+   */
+  private long[] bruteForce(long[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return new long[]{0, 0};
+    }
+    long[] best = bruteForce(costs, row + 1, usedColumns);
+    for (int j = 0; j < usedColumns.length; j++) {
+      if (usedColumns[j] || costs[row][j] == INFEASIBLE) {
+        continue;
+      }
+      usedColumns[j] = true;
+      long[] rest = bruteForce(costs, row + 1, usedColumns);
+      usedColumns[j] = false;
+      long count = rest[0] + 1;
+      long total = rest[1] + costs[row][j];
+      if (count > best[0] || (count == best[0] && total < best[1])) {
+        best = new long[]{count, total};
+      }
+    }
+    return best;
+  }
+}
@@ -7,6 +7,8 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -46,6 +48,10 @@ class DefaultParkingPositionSupplierTest {
   void setUp() {
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
+    // Let routes to multiple destination points be looked up via the stubbed single-destination
+    // methods.
+    when(router.getRoutes(any(Vehicle.class), any(Point.class), anySet(), anySet(), anyInt()))
+        .thenCallRealMethod();
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
     configuration = mock(DefaultDispatcherConfiguration.class);
 
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -43,6 +45,10 @@ class PrioritizedParkingPositionSupplierTest {
   void setUp() {
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
+    // Let routes to multiple destination points be looked up via the stubbed single-destination
+    // methods.
+    when(router.getRoutes(any(Vehicle.class), any(Point.class), anySet(), anySet(), anyInt()))
+        .thenCallRealMethod();
     priorityFunction = new ParkingPositionToPriorityFunction();
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
     configuration = mock(DefaultDispatcherConfiguration.class);
@@ -7,6 +7,9 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.oneOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +81,10 @@ class DefaultRechargePositionSupplierTest {
 
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
+    // Let routes to multiple destination points be looked up via the stubbed single-destination
+    // methods.
+    when(router.getRoutes(any(Vehicle.class), any(Point.class), anySet(), anySet(), anyInt()))
+        .thenCallRealMethod();
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
     configuration = mock(DefaultDispatcherConfiguration.class);
 
@@ -7,28 +7,52 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.oneOf;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Location.Link;
 import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GeneralModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphMutator;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.PathEdgeMapper;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointVertexMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.RouteCacheProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
 
 /**
  * Tests for {@link DefaultRouter}.
@@ -57,6 +81,7 @@ class DefaultRouterTest {
     );
 
     pointRouter = mock();
+    when(pointRouter.getRoutesFromPoint(any(Point.class), anySet())).thenCallRealMethod();
     Point point1 = new Point("P1").withType(Point.Type.HALT_POSITION);
     Point point2 = new Point("P2").withType(Point.Type.HALT_POSITION);
     order = new TransportOrder(
@@ -161,6 +186,10 @@ class DefaultRouterTest {
               );
             }
         );
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Long.parseLong(invocation.<Point>getArgument(1).getProperty("cost"))
+        );
     when(objectService.fetchObject(Point.class, "D")).thenReturn(pointD);
     when(objectService.fetchObject(Point.class, pointB.getReference())).thenReturn(pointB);
     when(objectService.fetchObject(Point.class, pointC.getReference())).thenReturn(pointC);
@@ -174,4 +203,253 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  @Test
+  void provideCheapestRouteSequenceAcrossDriveOrders() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    Point pointD = new Point("D");
+    LocationType type1 = new LocationType("some-type");
+    Location locationBC = new Location("L1", type1.getReference());
+    locationBC = locationBC.withAttachedLinks(
+        Set.of(
+            new Link(locationBC.getReference(), pointB.getReference()),
+            new Link(locationBC.getReference(), pointC.getReference())
+        )
+    );
+    TransportOrder transportOrder = new TransportOrder(
+        "T-1",
+        List.of(
+            new DriveOrder("o1", new Destination(locationBC.getReference())),
+            new DriveOrder(
+                "o2",
+                new Destination(pointD.getReference()).withOperation(Destination.OP_MOVE)
+            )
+        )
+    );
+    // Going to B first is cheaper, but going to D from B is much more expensive than from C.
+    Map<String, Long> costs = Map.of(
+        "A->B", 10L,
+        "A->C", 20L,
+        "B->D", 100L,
+        "C->D", 10L
+    );
+
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
+        .thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> costs.get(
+                invocation.<Point>getArgument(0).getName()
+                    + "->" + invocation.<Point>getArgument(1).getName()
+            )
+        );
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> {
+              Point src = invocation.getArgument(0);
+              Point dest = invocation.getArgument(1);
+              return List.of(
+                  new Route.Step(
+                      null,
+                      src,
+                      dest,
+                      Vehicle.Orientation.UNDEFINED,
+                      0,
+                      costs.get(src.getName() + "->" + dest.getName())
+                  )
+              );
+            }
+        );
+    when(objectService.fetchObject(Point.class, "D")).thenReturn(pointD);
+    when(objectService.fetchObject(Point.class, pointB.getReference())).thenReturn(pointB);
+    when(objectService.fetchObject(Point.class, pointC.getReference())).thenReturn(pointC);
+    when(objectService.fetchObject(Location.class, "L1")).thenReturn(locationBC);
+    when(objectService.fetchObject(LocationType.class, type1.getReference())).thenReturn(type1);
+
+    Set<List<Route>> orderRoutes = defaultRouter.getRoutes(vehicle, pointA, transportOrder, 1);
+
+    assertThat(orderRoutes, hasSize(1));
+    List<Route> routes = orderRoutes.iterator().next();
+    assertThat(routes.get(0).getFinalDestinationPoint(), is(pointC));
+    assertThat(routes.get(0).getCosts(), is(20L));
+    assertThat(routes.get(1).getFinalDestinationPoint(), is(pointD));
+    assertThat(routes.get(1).getCosts(), is(10L));
+    // Route steps are only looked up for the hops of the cheapest route.
+    verify(pointRouter, times(2)).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  void provideNoRouteSequenceIfDriveOrderUnreachable() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class))).thenReturn(INFINITE_COSTS);
+
+    assertThat(defaultRouter.getRoutes(vehicle, pointA, order, 1), is(empty()));
+  }
+
+  @Test
+  void provideRoutesToMultipleDestinationPoints() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())).thenReturn(pointRouter);
+    when(pointRouter.getRouteSteps(pointA, pointA)).thenReturn(List.of());
+    when(pointRouter.getRouteSteps(pointA, pointB))
+        .thenReturn(
+            List.of(new Route.Step(null, pointA, pointB, Vehicle.Orientation.FORWARD, 0, 20))
+        );
+    when(pointRouter.getRouteSteps(pointA, pointC)).thenReturn(null);
+
+    Map<Point, Set<Route>> routes
+        = defaultRouter.getRoutes(vehicle, pointA, Set.of(pointA, pointB, pointC), Set.of(), 1);
+
+    assertThat(routes.get(pointA), hasSize(1));
+    assertThat(routes.get(pointA).iterator().next().getCosts(), is(0L));
+    assertThat(routes.get(pointB), hasSize(1));
+    assertThat(routes.get(pointB).iterator().next().getCosts(), is(20L));
+    assertThat(routes.get(pointC), is(empty()));
+  }
+
+  @Test
+  void computeConsistentRoutesWhileRoutingTopologyIsUpdated()
+      throws Exception {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    Point pointD = new Point("D");
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference())
+        .withMaxVelocity(1000);
+    Path pathBD = new Path("B-->D", pointB.getReference(), pointD.getReference())
+        .withMaxVelocity(1000);
+    Path pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference())
+        .withMaxVelocity(1000);
+    Path pathCD = new Path("C-->D", pointC.getReference(), pointD.getReference())
+        .withMaxVelocity(1000);
+    TransportOrder transportOrder = new TransportOrder(
+        "T-1",
+        List.of(
+            new DriveOrder(
+                "o1",
+                new Destination(pointD.getReference()).withOperation(Destination.OP_MOVE)
+            )
+        )
+    );
+    when(objectService.fetchObjects(Point.class))
+        .thenReturn(Set.of(pointA, pointB, pointC, pointD));
+    when(objectService.fetchObjects(Path.class))
+        .thenReturn(Set.of(pathAB, pathBD, pathAC, pathCD));
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle));
+    when(objectService.fetchObject(Point.class, "D")).thenReturn(pointD);
+
+    // The weight of the path from A to B alternates between making the route via B and the one via
+    // C the cheaper one.
+    Map<String, Double> weights = new ConcurrentHashMap<>(
+        Map.of(
+            pathAB.getName(), 1.0,
+            pathBD.getName(), 1.0,
+            pathAC.getName(), 10.0,
+            pathCD.getName(), 10.0
+        )
+    );
+    EdgeEvaluator edgeEvaluator = new EdgeEvaluator() {
+      @Override
+      public void onGraphComputationStart(Vehicle vehicle) {
+      }
+
+      @Override
+      public void onGraphComputationEnd(Vehicle vehicle) {
+      }
+
+      @Override
+      public double computeWeight(Edge edge, Vehicle vehicle) {
+        return weights.get(edge.getPath().getName());
+      }
+    };
+    DefaultRouter router = createRouter(edgeEvaluator);
+
+    ExecutorService executor = Executors.newFixedThreadPool(5);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < 200; i++) {
+          weights.put(pathAB.getName(), i % 2 == 0 ? 100.0 : 1.0);
+          router.updateRoutingTopology(Set.of(pathAB));
+        }
+      }));
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < 500; j++) {
+            Set<List<Route>> routes = router.getRoutes(vehicle, pointA, transportOrder, 1);
+
+            assertThat(routes, hasSize(1));
+            Route route = routes.iterator().next().get(0);
+            // Each route must be the cheapest one for one of the versions of the routing graph.
+            String viaPoint = route.getSteps().get(0).getDestinationPoint().getName();
+            assertThat(
+                viaPoint + "=" + route.getCosts(),
+                is(oneOf("B=2", "C=20"))
+            );
+          }
+        }));
+      }
+
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private DefaultRouter createRouter(EdgeEvaluator edgeEvaluator) {
+    ShortestPathConfiguration shortestPathConfiguration = mock();
+    when(shortestPathConfiguration.algorithm())
+        .thenReturn(ShortestPathConfiguration.Algorithm.FLOYD_WARSHALL);
+    DefaultRouterConfiguration routerConfiguration = mock();
+    when(routerConfiguration.routeCacheSize()).thenReturn(100);
+    MapperComponentsFactory mapperComponentsFactory = new MapperComponentsFactory() {
+      @Override
+      public PointVertexMapper createPointVertexMapper() {
+        return new PointVertexMapper();
+      }
+
+      @Override
+      public PathEdgeMapper createPathEdgeMapper(
+          EdgeEvaluator evaluator,
+          boolean excludeLockedPaths
+      ) {
+        return new PathEdgeMapper(edgeEvaluator, excludeLockedPaths, shortestPathConfiguration);
+      }
+    };
+    GroupMapper groupMapper = new DefaultRoutingGroupMapper();
+    GraphProvider graphProvider = new GraphProvider(
+        objectService,
+        mock(GeneralModelGraphMapper.class),
+        new DefaultModelGraphMapper(mock(EdgeEvaluatorComposite.class), mapperComponentsFactory),
+        groupMapper,
+        new GraphMutator()
+    );
+    RouteCacheProvider routeCacheProvider = new RouteCacheProvider(routerConfiguration);
+
+    return new DefaultRouter(
+        objectService,
+        new PointRouterProvider(
+            objectService,
+            new ResourceAvoidanceExtractor(objectService),
+            groupMapper,
+            new FloydWarshallPointRouterFactory(graphProvider, routeCacheProvider),
+            graphProvider,
+            routeCacheProvider
+        ),
+        groupMapper,
+        configuration
+    );
+  }
 }
@@ -0,0 +1,215 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.RouterService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Unit tests for {@link CongestionTracker}.
+ */
+class CongestionTrackerTest {
+
+  private TCSObjectService objectService;
+  private RouterService routerService;
+  private CongestionConfiguration configuration;
+  private CongestionTracker tracker;
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathBC;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock();
+    routerService = mock();
+    configuration = mock();
+    when(configuration.occupancyPenalty()).thenReturn(1000);
+    when(configuration.claimPenalty()).thenReturn(200);
+    when(configuration.delayPenalty()).thenReturn(100);
+    when(configuration.minPenaltyChange()).thenReturn(100);
+    when(configuration.maxPathsPerUpdate()).thenReturn(10);
+
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference())
+        .withLength(1000)
+        .withMaxVelocity(1000);
+    pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference())
+        .withLength(1000)
+        .withMaxVelocity(1000);
+    pointA = pointA.withOutgoingPaths(Set.of(pathAB.getReference()));
+    pointB = pointB.withIncomingPaths(Set.of(pathAB.getReference()))
+        .withOutgoingPaths(Set.of(pathBC.getReference()));
+    pointC = pointC.withIncomingPaths(Set.of(pathBC.getReference()));
+    for (Point point : List.of(pointA, pointB, pointC)) {
+      when(objectService.fetchObject(Point.class, point.getName())).thenReturn(point);
+    }
+    for (Path path : List.of(pathAB, pathBC)) {
+      when(objectService.fetchObject(Path.class, path.getName())).thenReturn(path);
+      when(objectService.fetchObject(Path.class, path.getReference())).thenReturn(path);
+    }
+
+    tracker = new CongestionTracker(
+        objectService,
+        () -> routerService,
+        mock(EventBus.class),
+        mock(),
+        configuration
+    );
+  }
+
+  @Test
+  void penalizeAllocatedAndClaimedPaths() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("vehicle-1")
+                .withAllocatedResources(List.of(Set.of(pathAB.getReference())))
+                .withClaimedResources(
+                    List.of(Set.of(pathAB.getReference()), Set.of(pathBC.getReference()))
+                ),
+            new Vehicle("vehicle-2")
+                .withClaimedResources(List.of(Set.of(pathBC.getReference())))
+        )
+    );
+
+    tracker.run();
+
+    assertThat(tracker.getPenalty(pathAB.getName()), is(1000.0));
+    assertThat(tracker.getPenalty(pathBC.getName()), is(400.0));
+    verify(routerService).updateRoutingTopology(
+        Set.of(pathAB.getReference(), pathBC.getReference())
+    );
+  }
+
+  @Test
+  void applySamePenaltyForAllVehicles() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1")
+        .withAllocatedResources(List.of(Set.of(pathAB.getReference())));
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle1, vehicle2));
+    EdgeEvaluatorCongestion edgeEvaluator = new EdgeEvaluatorCongestion(tracker);
+
+    tracker.run();
+
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, false), vehicle1), is(1000.0));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, false), vehicle2), is(1000.0));
+  }
+
+  @Test
+  void determinePenaltiesOnlyAfterVehiclesChanged() {
+    Vehicle vehicle = new Vehicle("vehicle-1")
+        .withAllocatedResources(List.of(Set.of(pathAB.getReference())));
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle));
+    tracker.run();
+
+    // Nothing changed.
+    tracker.run();
+    tracker.run();
+    verify(objectService, times(1)).fetchObjects(Vehicle.class);
+
+    // The vehicle's claimed resources changed.
+    tracker.onEvent(
+        new TCSObjectEvent(
+            vehicle.withClaimedResources(List.of(Set.of(pathBC.getReference()))),
+            vehicle,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+    tracker.run();
+    verify(objectService, times(2)).fetchObjects(Vehicle.class);
+  }
+
+  @Test
+  void updateOnlyPathsWithSignificantlyChangedPenalties() {
+    Vehicle vehicle = new Vehicle("vehicle-1")
+        .withAllocatedResources(List.of(Set.of(pathAB.getReference())));
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle));
+    tracker.run();
+    verify(routerService).updateRoutingTopology(Set.of(pathAB.getReference()));
+
+    // Nothing changed.
+    tracker.run();
+
+    // A change below the minimum, noticed when the vehicle's position is reported.
+    when(configuration.occupancyPenalty()).thenReturn(1050);
+    tracker.vehicleMoved(vehicle.getName(), null, 0);
+    tracker.run();
+    assertThat(tracker.getPenalty(pathAB.getName()), is(1000.0));
+
+    // The vehicle moved on.
+    Vehicle movedVehicle = vehicle.withAllocatedResources(List.of(Set.of(pathBC.getReference())));
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(movedVehicle));
+    tracker.onEvent(
+        new TCSObjectEvent(movedVehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    tracker.run();
+    assertThat(tracker.getPenalty(pathAB.getName()), is(0.0));
+    assertThat(tracker.getPenalty(pathBC.getName()), is(1050.0));
+    verify(routerService).updateRoutingTopology(
+        Set.of(pathAB.getReference(), pathBC.getReference())
+    );
+    verifyNoMoreInteractions(routerService);
+  }
+
+  @Test
+  void limitNumberOfPathsUpdatedAtOnce() {
+    when(configuration.maxPathsPerUpdate()).thenReturn(1);
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("vehicle-1")
+                .withAllocatedResources(List.of(Set.of(pathAB.getReference())))
+                .withClaimedResources(List.of(Set.of(pathBC.getReference())))
+        )
+    );
+
+    tracker.run();
+    verify(routerService).updateRoutingTopology(Set.of(pathAB.getReference()));
+    assertThat(tracker.getPenalty(pathBC.getName()), is(0.0));
+
+    tracker.run();
+    verify(routerService).updateRoutingTopology(Set.of(pathBC.getReference()));
+    assertThat(tracker.getPenalty(pathBC.getName()), is(200.0));
+  }
+
+  @Test
+  void penalizeDelaysMeasuredWhenTravellingAlongPaths() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of());
+
+    // Travelling along the path is expected to take 1 s, but takes 5 s.
+    tracker.vehicleMoved("vehicle-1", pointA.getReference(), 10000);
+    tracker.vehicleMoved("vehicle-1", pointB.getReference(), 15000);
+    // Travelling along the path in reverse direction as expected does not add any delay.
+    tracker.vehicleMoved("vehicle-2", pointC.getReference(), 10000);
+    tracker.vehicleMoved("vehicle-2", pointB.getReference(), 11000);
+
+    tracker.run();
+
+    // The average delay is a quarter of the measured one (i.e. 1 s), as there was only one
+    // measurement.
+    assertThat(tracker.getPenalty(pathAB.getName()), is(closeTo(100.0, 0.001)));
+    assertThat(tracker.getPenalty(pathBC.getName()), is(0.0));
+    verify(routerService).updateRoutingTopology(Set.of(pathAB.getReference()));
+  }
+}
@@ -0,0 +1,150 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.BellmanFordShortestPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the shortest path algorithms available for point routers on generated plant models.
+ * <p>
+ * The plant models are square grids of points, with every pair of neighbouring points connected
+ * by a path that may be travelled in both directions. For every algorithm, the time for setting
+ * it up (as done when creating point routers) and the average time for computing the shortest
+ * path between two random points are measured.
+ * </p>
+ * <p>
+ * The benchmark is only run with the environment variable {@code OPENTCS_BENCHMARKS} set to
+ * {@code true}, e.g. via {@code OPENTCS_BENCHMARKS=true ./gradlew
+ * :opentcs-strategies-default:test --tests '*CompactDijkstraBenchmark'}.
+ * </p>
+ */
+@EnabledIfEnvironmentVariable(named = "OPENTCS_BENCHMARKS", matches = "true")
+class CompactDijkstraBenchmark {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CompactDijkstraBenchmark.class);
+  /**
+   * Grids with more points than this are not used with the Floyd-Warshall algorithm, which needs
+   * quadratic memory.
+   */
+  private static final int FLOYD_WARSHALL_MAX_POINTS = 2500;
+  private static final int WARMUP_QUERIES = 200;
+  private static final int MEASURED_QUERIES = 1000;
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 50, 100})
+  void compareShortestPathAlgorithms(int gridSize) {
+    List<Point> points = new ArrayList<>();
+    Graph<Vertex, Edge> graph = createGridGraph(gridSize, points);
+    PointIndex pointIndex = new PointIndex(points);
+
+    measure(gridSize, graph, "Dijkstra", DijkstraShortestPath::new);
+    measure(gridSize, graph, "Bellman-Ford", BellmanFordShortestPath::new);
+    if (points.size() <= FLOYD_WARSHALL_MAX_POINTS) {
+      measure(gridSize, graph, "Floyd-Warshall", FloydWarshallShortestPaths::new);
+    }
+    measure(
+        gridSize,
+        graph,
+        "Compact Dijkstra",
+        g -> new CompactDijkstraShortestPath(g, pointIndex)
+    );
+  }
+
+  private void measure(
+      int gridSize,
+      Graph<Vertex, Edge> graph,
+      String algorithmName,
+      Function<Graph<Vertex, Edge>, ShortestPathAlgorithm<Vertex, Edge>> algorithmFactory
+  ) {
+    long setupStart = System.nanoTime();
+    ShortestPathAlgorithm<Vertex, Edge> algorithm = algorithmFactory.apply(graph);
+    long setupNanos = System.nanoTime() - setupStart;
+
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    Random random = new Random(gridSize);
+    double weightSum = 0.0;
+    long queryNanos = 0;
+    for (int query = 0; query < WARMUP_QUERIES + MEASURED_QUERIES; query++) {
+      Vertex source = vertices.get(random.nextInt(vertices.size()));
+      Vertex sink = vertices.get(random.nextInt(vertices.size()));
+      long queryStart = System.nanoTime();
+      weightSum += algorithm.getPath(source, sink).getWeight();
+      if (query >= WARMUP_QUERIES) {
+        queryNanos += System.nanoTime() - queryStart;
+      }
+    }
+
+    LOG.info(
+        "{}x{} grid, {}: setup {} ms, {} us per query (weight checksum {})",
+        gridSize,
+        gridSize,
+        algorithmName,
+        String.format("%.1f", setupNanos / 1_000_000.0),
+        String.format("%.1f", queryNanos / MEASURED_QUERIES / 1_000.0),
+        weightSum
+    );
+  }
+
+  private Graph<Vertex, Edge> createGridGraph(int gridSize, List<Point> points) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Random random = new Random(gridSize);
+
+    Vertex[][] vertices = new Vertex[gridSize][gridSize];
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        Point point = new Point(String.format("Point-%03d-%03d", x, y));
+        points.add(point);
+        vertices[x][y] = new Vertex(point.getReference());
+        graph.addVertex(vertices[x][y]);
+      }
+    }
+
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        if (x + 1 < gridSize) {
+          connect(graph, vertices[x][y], vertices[x + 1][y], 1000 + random.nextInt(1000));
+        }
+        if (y + 1 < gridSize) {
+          connect(graph, vertices[x][y], vertices[x][y + 1], 1000 + random.nextInt(1000));
+        }
+      }
+    }
+    return graph;
+  }
+
+  private void connect(Graph<Vertex, Edge> graph, Vertex vertex1, Vertex vertex2, long length) {
+    Path path = new Path(
+        vertex1.getPoint().getName() + " --- " + vertex2.getPoint().getName(),
+        vertex1.getPoint(),
+        vertex2.getPoint()
+    );
+
+    Edge forward = new Edge(path, false);
+    graph.addEdge(vertex1, vertex2, forward);
+    graph.setEdgeWeight(forward, length);
+
+    Edge reverse = new Edge(path, true);
+    graph.addEdge(vertex2, vertex1, reverse);
+    graph.setEdgeWeight(reverse, length);
+  }
+}
@@ -0,0 +1,200 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link CompactDijkstraShortestPath}.
+ */
+class CompactDijkstraShortestPathTest {
+
+  @Test
+  void returnSingletonPathIfSinkIsSource() {
+    List<Point> points = createPoints(2);
+    Graph<Vertex, Edge> graph = createGraph(points);
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    CompactDijkstraShortestPath algo
+        = new CompactDijkstraShortestPath(graph, new PointIndex(points));
+
+    GraphPath<Vertex, Edge> path = algo.getPath(vertices.get(0), vertices.get(0));
+
+    assertNotNull(path);
+    assertThat(path.getEdgeList(), is(empty()));
+    assertEquals(0.0, path.getWeight());
+  }
+
+  @Test
+  void returnNullIfNoPathExists() {
+    List<Point> points = createPoints(2);
+    Graph<Vertex, Edge> graph = createGraph(points);
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    CompactDijkstraShortestPath algo
+        = new CompactDijkstraShortestPath(graph, new PointIndex(points));
+
+    assertNull(algo.getPath(vertices.get(0), vertices.get(1)));
+    assertEquals(Double.POSITIVE_INFINITY, algo.getPathWeight(vertices.get(0), vertices.get(1)));
+    assertNull(algo.getPaths(vertices.get(0)).getPath(vertices.get(1)));
+  }
+
+  @Test
+  void rejectVertexNotInGraph() {
+    List<Point> points = createPoints(3);
+    // Leave out the last point, as it would be for points excluded from routing.
+    Graph<Vertex, Edge> graph = createGraph(points.subList(0, 2));
+    Vertex vertex = graph.vertexSet().iterator().next();
+    CompactDijkstraShortestPath algo
+        = new CompactDijkstraShortestPath(graph, new PointIndex(points));
+
+    Vertex foreignVertex = new Vertex(points.get(2).getReference());
+
+    assertThrows(IllegalArgumentException.class, () -> algo.getPath(vertex, foreignVertex));
+    assertThrows(IllegalArgumentException.class, () -> algo.getPath(foreignVertex, vertex));
+  }
+
+  @Test
+  void rejectGraphWithPointsNotInIndex() {
+    List<Point> points = createPoints(3);
+    Graph<Vertex, Edge> graph = createGraph(points);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new CompactDijkstraShortestPath(graph, new PointIndex(points.subList(0, 2)))
+    );
+  }
+
+  @Test
+  void computeSamePathWeightsAsDijkstraShortestPath() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 20; run++) {
+      List<Point> points = createPoints(30);
+      Graph<Vertex, Edge> graph = createGraph(points);
+      addRandomEdges(graph, random, 90);
+      List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+
+      ShortestPathAlgorithm<Vertex, Edge> expected = new DijkstraShortestPath<>(graph);
+      CompactDijkstraShortestPath actual
+          = new CompactDijkstraShortestPath(graph, new PointIndex(points));
+
+      for (Vertex source : vertices) {
+        ShortestPathAlgorithm.SingleSourcePaths<Vertex, Edge> actualPaths
+            = actual.getPaths(source);
+        for (Vertex sink : vertices) {
+          double expectedWeight = expected.getPathWeight(source, sink);
+          assertEquals(expectedWeight, actual.getPathWeight(source, sink));
+          assertEquals(expectedWeight, actualPaths.getWeight(sink));
+          assertPathConsistent(graph, actual.getPath(source, sink), source, sink, expectedWeight);
+          assertPathConsistent(graph, actualPaths.getPath(sink), source, sink, expectedWeight);
+        }
+      }
+    }
+  }
+
+  @Test
+  void computeShortestPathsToRequestedSinks() {
+    Random random = new Random(815);
+    List<Point> points = createPoints(50);
+    Graph<Vertex, Edge> graph = createGraph(points);
+    addRandomEdges(graph, random, 150);
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+
+    ShortestPathAlgorithm<Vertex, Edge> expected = new DijkstraShortestPath<>(graph);
+    CompactDijkstraShortestPath actual
+        = new CompactDijkstraShortestPath(graph, new PointIndex(points));
+
+    for (Vertex source : vertices) {
+      Set<Vertex> sinks = Set.of(
+          vertices.get(random.nextInt(vertices.size())),
+          vertices.get(random.nextInt(vertices.size())),
+          vertices.get(random.nextInt(vertices.size()))
+      );
+      ShortestPathAlgorithm.SingleSourcePaths<Vertex, Edge> actualPaths
+          = actual.getPaths(source, sinks);
+      for (Vertex sink : sinks) {
+        assertEquals(expected.getPathWeight(source, sink), actualPaths.getWeight(sink));
+      }
+    }
+  }
+
+  private void assertPathConsistent(
+      Graph<Vertex, Edge> graph,
+      GraphPath<Vertex, Edge> path,
+      Vertex source,
+      Vertex sink,
+      double expectedWeight
+  ) {
+    if (expectedWeight == Double.POSITIVE_INFINITY) {
+      assertNull(path);
+      return;
+    }
+
+    assertNotNull(path);
+    assertEquals(source, path.getStartVertex());
+    assertEquals(sink, path.getEndVertex());
+    assertEquals(expectedWeight, path.getWeight());
+
+    Vertex current = source;
+    double weight = 0.0;
+    for (Edge edge : path.getEdgeList()) {
+      assertEquals(current, graph.getEdgeSource(edge));
+      current = graph.getEdgeTarget(edge);
+      weight += graph.getEdgeWeight(edge);
+    }
+    assertEquals(sink, current);
+    assertEquals(expectedWeight, weight);
+  }
+
+  private List<Point> createPoints(int count) {
+    List<Point> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(new Point(String.format("Point-%03d", i)));
+    }
+    return result;
+  }
+
+  private Graph<Vertex, Edge> createGraph(List<Point> points) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : points) {
+      graph.addVertex(new Vertex(point.getReference()));
+    }
+    return graph;
+  }
+
+  private void addRandomEdges(Graph<Vertex, Edge> graph, Random random, int count) {
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    for (int i = 0; i < count; i++) {
+      // The routing graphs do not allow loops, so make sure the target differs from the source.
+      int sourceIndex = random.nextInt(vertices.size());
+      int targetIndex = (sourceIndex + 1 + random.nextInt(vertices.size() - 1)) % vertices.size();
+      Vertex source = vertices.get(sourceIndex);
+      Vertex target = vertices.get(targetIndex);
+      Edge edge = new Edge(
+          new Path("Path-" + i, source.getPoint(), target.getPoint()),
+          false
+      );
+      graph.addEdge(source, target, edge);
+      // Integral weights, so that sums are exact and ties do not depend on the summation order.
+      graph.setEdgeWeight(edge, 1 + random.nextInt(100));
+    }
+  }
+}
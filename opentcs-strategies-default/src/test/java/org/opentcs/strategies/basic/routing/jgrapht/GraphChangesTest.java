@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link GraphChanges}.
+ */
+class GraphChangesTest {
+
+  private Vertex vertexA;
+  private Vertex vertexB;
+  private Path pathAB;
+  private Graph<Vertex, Edge> graph;
+  private Edge edgeAB;
+
+  @BeforeEach
+  void setUp() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    vertexA = new Vertex(pointA.getReference());
+    vertexB = new Vertex(pointB.getReference());
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    graph = createGraph();
+    edgeAB = addEdge(graph, new Edge(pathAB, false), 10.0);
+  }
+
+  @Test
+  void considerUnchangedEdgesNeitherRemovedNorAdded() {
+    Graph<Vertex, Edge> updatedGraph = createGraph();
+    addEdge(updatedGraph, edgeAB, 10.0);
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+
+    assertThat(changes.getRemovedEdges(), is(empty()));
+    assertThat(changes.getAddedEdges(), is(empty()));
+    assertThat(changes.getReplacedEdges(), is(aMapWithSize(0)));
+    assertThat(changes.isOutdated(edgeAB), is(false));
+    assertThat(changes.getUnaffectedCosts(), is(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void replaceEdgesWithUnchangedWeights() {
+    Graph<Vertex, Edge> updatedGraph = createGraph();
+    Edge updatedEdgeAB = addEdge(updatedGraph, new Edge(pathAB, false), 10.0);
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+
+    assertThat(changes.getRemovedEdges(), is(empty()));
+    assertThat(changes.getAddedEdges(), is(empty()));
+    assertThat(changes.getDecreasedEdges(), is(empty()));
+    assertThat(changes.getReplacedEdges(), hasEntry(edgeAB, updatedEdgeAB));
+    assertThat(changes.isOutdated(edgeAB), is(true));
+    assertThat(changes.getUnaffectedCosts(), is(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void replaceEdgesWithDecreasedWeights() {
+    Graph<Vertex, Edge> updatedGraph = createGraph();
+    Edge updatedEdgeAB = addEdge(updatedGraph, new Edge(pathAB, false), 4.0);
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+
+    assertThat(changes.getRemovedEdges(), is(empty()));
+    assertThat(changes.getAddedEdges(), is(empty()));
+    assertThat(changes.getDecreasedEdges(), contains(updatedEdgeAB));
+    assertThat(changes.getReplacedEdges(), hasEntry(edgeAB, updatedEdgeAB));
+    assertThat(changes.getUnaffectedCosts(), is(4.0));
+  }
+
+  @Test
+  void removeEdgesWithIncreasedWeights() {
+    Graph<Vertex, Edge> updatedGraph = createGraph();
+    addEdge(updatedGraph, new Edge(pathAB, false), 20.0);
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+
+    assertThat(changes.getRemovedEdges(), contains(edgeAB));
+    assertThat(changes.getAddedEdges(), is(empty()));
+    assertThat(changes.getReplacedEdges(), is(aMapWithSize(0)));
+    assertThat(changes.getUnaffectedCosts(), is(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void matchEdgesByDirection() {
+    Graph<Vertex, Edge> updatedGraph = createGraph();
+    Edge reverseEdgeAB = addEdge(updatedGraph, new Edge(pathAB, true), 10.0);
+
+    GraphChanges changes = new GraphChanges(graph, updatedGraph);
+
+    assertThat(changes.getRemovedEdges(), contains(edgeAB));
+    assertThat(changes.getAddedEdges(), contains(reverseEdgeAB));
+  }
+
+  private Graph<Vertex, Edge> createGraph() {
+    Graph<Vertex, Edge> result = new DirectedWeightedMultigraph<>(Edge.class);
+    result.addVertex(vertexA);
+    result.addVertex(vertexB);
+    return result;
+  }
+
+  private Edge addEdge(Graph<Vertex, Edge> targetGraph, Edge edge, double weight) {
+    if (edge.isTravellingReverse()) {
+      targetGraph.addEdge(vertexB, vertexA, edge);
+    }
+    else {
+      targetGraph.addEdge(vertexA, vertexB, edge);
+    }
+    targetGraph.setEdgeWeight(edge, weight);
+    return edge;
+  }
+}
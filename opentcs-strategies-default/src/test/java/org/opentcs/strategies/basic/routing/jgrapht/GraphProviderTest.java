@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
 
@@ -27,6 +29,7 @@ import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
  */
 class GraphProviderTest {
 
+  private TCSObjectService objectService;
   private DefaultModelGraphMapper defaultModelGraphMapper;
   private GroupMapper groupMapper;
   private GraphMutator graphMutator;
@@ -34,11 +37,12 @@ class GraphProviderTest {
 
   @BeforeEach
   void setUp() {
+    objectService = mock();
     defaultModelGraphMapper = mock();
     groupMapper = mock();
     graphMutator = mock();
     graphProvider = new GraphProvider(
-        mock(TCSObjectService.class),
+        objectService,
         mock(GeneralModelGraphMapper.class),
         defaultModelGraphMapper,
         groupMapper,
@@ -94,4 +98,37 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void deriveGraphWithSameKeyAgainAfterGraphUpdate() {
+    // Updates of edge weights (e.g. due to congestion) do not change the path base's hash.
+    Path path = new Path(
+        "some-path",
+        new Point("some-point").getReference(),
+        new Point("some-other-point").getReference()
+    );
+    when(objectService.fetchObjects(Path.class)).thenReturn(Set.of(path));
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    when(groupMapper.apply(vehicle)).thenReturn("some-group");
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle)))
+        .thenReturn(new DirectedWeightedMultigraph<>(Edge.class));
+    when(defaultModelGraphMapper.updateGraph(anyCollection(), eq(vehicle), any()))
+        .thenReturn(new DirectedWeightedMultigraph<>(Edge.class));
+    when(graphMutator.deriveGraph(anySet(), anySet(), any(GraphResult.class)))
+        .thenReturn(
+            new GraphResult(
+                vehicle,
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                new DirectedWeightedMultigraph<>(Edge.class)
+            )
+        );
+
+    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
+    graphProvider.updateGraphResults(Set.of(path));
+    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
+    verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
+  }
 }
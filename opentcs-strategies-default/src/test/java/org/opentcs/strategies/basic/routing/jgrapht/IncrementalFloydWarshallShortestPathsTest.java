@@ -0,0 +1,260 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link IncrementalFloydWarshallShortestPaths}.
+ */
+class IncrementalFloydWarshallShortestPathsTest {
+
+  @Test
+  void computeSamePathWeightsAsDijkstraShortestPath() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 10; run++) {
+      Graph<Vertex, Edge> graph = createGraph(createPoints(30));
+      addRandomEdges(graph, random, 90);
+
+      assertSamePaths(graph, new IncrementalFloydWarshallShortestPaths(graph));
+    }
+  }
+
+  @Test
+  void updateShortestPathsWhenEdgesAreRemoved() {
+    Random random = new Random(815);
+    Graph<Vertex, Edge> graph = createGraph(createPoints(30));
+    addRandomEdges(graph, random, 120);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    for (int update = 0; update < 10; update++) {
+      // Remove edges, as it happens when paths are locked.
+      Graph<Vertex, Edge> updatedGraph = copyGraph(graph);
+      List<Edge> edges = new ArrayList<>(updatedGraph.edgeSet());
+      for (int i = 0; i < 3; i++) {
+        updatedGraph.removeEdge(edges.get(random.nextInt(edges.size())));
+      }
+      graph = updatedGraph;
+
+      algo = algo.updateGraph(graph);
+      assertSamePaths(graph, algo);
+    }
+  }
+
+  @Test
+  void updateShortestPathsWhenEdgesAreAdded() {
+    Random random = new Random(42);
+    Graph<Vertex, Edge> graph = createGraph(createPoints(30));
+    addRandomEdges(graph, random, 30);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    for (int update = 0; update < 10; update++) {
+      // Add edges, as it happens when paths are unlocked.
+      Graph<Vertex, Edge> updatedGraph = copyGraph(graph);
+      addRandomEdges(updatedGraph, random, 5);
+      graph = updatedGraph;
+
+      algo = algo.updateGraph(graph);
+      assertSamePaths(graph, algo);
+    }
+  }
+
+  @Test
+  void updateShortestPathsWhenEdgeWeightsChange() {
+    Random random = new Random(1337);
+    Graph<Vertex, Edge> graph = createGraph(createPoints(30));
+    addRandomEdges(graph, random, 90);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    for (int update = 0; update < 10; update++) {
+      // Replace edges with ones of different weights, as the routing graphs are updated.
+      Graph<Vertex, Edge> updatedGraph = copyGraph(graph);
+      List<Edge> edges = new ArrayList<>(updatedGraph.edgeSet());
+      for (int i = 0; i < 4; i++) {
+        Edge edge = edges.get(random.nextInt(edges.size()));
+        if (!updatedGraph.containsEdge(edge)) {
+          continue;
+        }
+        Vertex source = updatedGraph.getEdgeSource(edge);
+        Vertex target = updatedGraph.getEdgeTarget(edge);
+        updatedGraph.removeEdge(edge);
+        Edge replacement = new Edge(edge.getPath(), edge.isTravellingReverse());
+        updatedGraph.addEdge(source, target, replacement);
+        updatedGraph.setEdgeWeight(replacement, 1 + random.nextInt(100));
+      }
+      graph = updatedGraph;
+
+      algo = algo.updateGraph(graph);
+      assertSamePaths(graph, algo);
+    }
+  }
+
+  @Test
+  void updateShortestPathsWhenEdgesAreReplacedWithUnchangedWeights() {
+    Random random = new Random(99);
+    Graph<Vertex, Edge> graph = createGraph(createPoints(20));
+    addRandomEdges(graph, random, 60);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    // Replace all edges with ones of the same weights, as it happens when the routing graphs are
+    // updated for paths whose edges' weights did not change.
+    Graph<Vertex, Edge> updatedGraph = createGraph(new ArrayList<>());
+    for (Vertex vertex : graph.vertexSet()) {
+      updatedGraph.addVertex(vertex);
+    }
+    for (Edge edge : graph.edgeSet()) {
+      Edge replacement = new Edge(edge.getPath(), edge.isTravellingReverse());
+      updatedGraph.addEdge(graph.getEdgeSource(edge), graph.getEdgeTarget(edge), replacement);
+      updatedGraph.setEdgeWeight(replacement, graph.getEdgeWeight(edge));
+    }
+
+    // The paths must only consist of edges of the updated graph.
+    assertSamePaths(updatedGraph, algo.updateGraph(updatedGraph));
+  }
+
+  @Test
+  void createNewInstanceWhenVerticesChange() {
+    List<Point> points = createPoints(4);
+    Graph<Vertex, Edge> graph = createGraph(points.subList(0, 3));
+    addRandomEdges(graph, new Random(7), 6);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    Graph<Vertex, Edge> updatedGraph = createGraph(points);
+    addRandomEdges(updatedGraph, new Random(7), 8);
+    IncrementalFloydWarshallShortestPaths updatedAlgo = algo.updateGraph(updatedGraph);
+
+    assertThat(updatedAlgo, is(not(sameInstance(algo))));
+    assertSamePaths(updatedGraph, updatedAlgo);
+  }
+
+  @Test
+  void keepPreviousInstanceUnaffectedByUpdates() {
+    Random random = new Random(2024);
+    Graph<Vertex, Edge> graph = createGraph(createPoints(20));
+    addRandomEdges(graph, random, 60);
+    IncrementalFloydWarshallShortestPaths algo = new IncrementalFloydWarshallShortestPaths(graph);
+
+    Graph<Vertex, Edge> updatedGraph = copyGraph(graph);
+    List<Edge> edges = new ArrayList<>(updatedGraph.edgeSet());
+    updatedGraph.removeAllEdges(edges.subList(0, 20));
+    addRandomEdges(updatedGraph, random, 10);
+    IncrementalFloydWarshallShortestPaths updatedAlgo = algo.updateGraph(updatedGraph);
+
+    assertThat(updatedAlgo, is(not(sameInstance(algo))));
+    assertSamePaths(graph, algo);
+    assertSamePaths(updatedGraph, updatedAlgo);
+  }
+
+  private void assertSamePaths(
+      Graph<Vertex, Edge> graph,
+      IncrementalFloydWarshallShortestPaths actual
+  ) {
+    ShortestPathAlgorithm<Vertex, Edge> expected = new DijkstraShortestPath<>(graph);
+    for (Vertex source : graph.vertexSet()) {
+      ShortestPathAlgorithm.SingleSourcePaths<Vertex, Edge> actualPaths = actual.getPaths(source);
+      for (Vertex sink : graph.vertexSet()) {
+        double expectedWeight = expected.getPathWeight(source, sink);
+        assertEquals(expectedWeight, actual.getPathWeight(source, sink));
+        assertEquals(expectedWeight, actualPaths.getWeight(sink));
+        assertPathConsistent(graph, actual.getPath(source, sink), source, sink, expectedWeight);
+      }
+    }
+  }
+
+  private void assertPathConsistent(
+      Graph<Vertex, Edge> graph,
+      GraphPath<Vertex, Edge> path,
+      Vertex source,
+      Vertex sink,
+      double expectedWeight
+  ) {
+    if (expectedWeight == Double.POSITIVE_INFINITY) {
+      assertNull(path);
+      return;
+    }
+
+    assertNotNull(path);
+    assertEquals(source, path.getStartVertex());
+    assertEquals(sink, path.getEndVertex());
+    assertEquals(expectedWeight, path.getWeight());
+
+    Vertex current = source;
+    double weight = 0.0;
+    for (Edge edge : path.getEdgeList()) {
+      assertEquals(current, graph.getEdgeSource(edge));
+      current = graph.getEdgeTarget(edge);
+      weight += graph.getEdgeWeight(edge);
+    }
+    assertEquals(sink, current);
+    assertEquals(expectedWeight, weight);
+  }
+
+  private List<Point> createPoints(int count) {
+    List<Point> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(new Point(String.format("Point-%03d", i)));
+    }
+    return result;
+  }
+
+  private Graph<Vertex, Edge> createGraph(List<Point> points) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : points) {
+      graph.addVertex(new Vertex(point.getReference()));
+    }
+    return graph;
+  }
+
+  /**
+   * Copies the given graph, keeping its vertices and edges, as the routing graphs are updated.
+   */
+  private Graph<Vertex, Edge> copyGraph(Graph<Vertex, Edge> graph) {
+    Graph<Vertex, Edge> result = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Vertex vertex : graph.vertexSet()) {
+      result.addVertex(vertex);
+    }
+    for (Edge edge : graph.edgeSet()) {
+      result.addEdge(graph.getEdgeSource(edge), graph.getEdgeTarget(edge), edge);
+      result.setEdgeWeight(edge, graph.getEdgeWeight(edge));
+    }
+    return result;
+  }
+
+  private void addRandomEdges(Graph<Vertex, Edge> graph, Random random, int count) {
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    int offset = graph.edgeSet().size();
+    for (int i = 0; i < count; i++) {
+      // The routing graphs do not allow loops, so make sure the target differs from the source.
+      int sourceIndex = random.nextInt(vertices.size());
+      int targetIndex = (sourceIndex + 1 + random.nextInt(vertices.size() - 1)) % vertices.size();
+      Vertex source = vertices.get(sourceIndex);
+      Vertex target = vertices.get(targetIndex);
+      Edge edge = new Edge(
+          new Path("Path-" + (offset + i), source.getPoint(), target.getPoint()),
+          false
+      );
+      graph.addEdge(source, target, edge);
+      // Integral weights, so that sums are exact and ties do not depend on the summation order.
+      graph.setEdgeWeight(edge, 1 + random.nextInt(100));
+    }
+  }
+}
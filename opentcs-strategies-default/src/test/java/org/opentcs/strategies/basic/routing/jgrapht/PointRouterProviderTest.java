@@ -2,12 +2,16 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +25,9 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
@@ -44,6 +51,7 @@ public class PointRouterProviderTest {
   private GroupMapper routingGroupMapper;
   private PointRouterFactory pointRouterFactory;
   private GraphProvider graphProvider;
+  private RouteCacheProvider routeCacheProvider;
   private PointRouterProvider pointRouterProvider;
 
   @BeforeEach
@@ -66,13 +74,15 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    routeCacheProvider = mock();
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        routeCacheProvider
     );
   }
 
@@ -153,6 +163,74 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldReusePointRouterForSameResourcesToAvoidIfRouteCachingEnabled() {
+    when(routeCacheProvider.isEnabled()).thenReturn(true);
+    Point point = new Point("Point-001");
+    Set<TCSResourceReference<?>> resourcesToAvoid = Set.of(point.getReference());
+    ResourcesToAvoid extractedResources = resourcesToAvoid(point);
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(resourcesToAvoid))
+        .thenReturn(extractedResources);
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+
+    pointRouterProvider.invalidate();
+    pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    verify(routeCacheProvider).invalidated();
+  }
+
+  @Test
+  void shouldCreatePointRouterForResourcesToAvoidIfRouteCachingDisabled() {
+    when(routeCacheProvider.isEnabled()).thenReturn(false);
+    Point point = new Point("Point-001");
+    Set<TCSResourceReference<?>> resourcesToAvoid = Set.of(point.getReference());
+    ResourcesToAvoid extractedResources = resourcesToAvoid(point);
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(resourcesToAvoid))
+        .thenReturn(extractedResources);
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldUpdatePointRoutersOnRoutingTopologyUpdate() {
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+    PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
+        vehicle,
+        (TransportOrder) null
+    );
+    PointRouter updatedPointRouter = mock();
+    when(pointRouterFactory.updatePointRouter(pointRouter, vehicle)).thenReturn(updatedPointRouter);
+    Set<Path> paths = Set.of(
+        new Path("A --- B", new Point("A").getReference(), new Point("B").getReference())
+    );
+
+    pointRouterProvider.updateRoutingTopology(paths);
+
+    verify(graphProvider).updateGraphResults(paths);
+    assertThat(
+        pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null),
+        is(sameInstance(updatedPointRouter))
+    );
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    verify(routeCacheProvider, never()).invalidated();
+  }
+
+  private ResourcesToAvoid resourcesToAvoid(Point point) {
+    ResourceAvoidanceExtractor extractor = new ResourceAvoidanceExtractor(objectService);
+    when(objectService.fetchObject(Point.class, point.getName())).thenReturn(point);
+    return extractor.extractResourcesToAvoid(Set.of(point.getReference()));
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
@@ -6,13 +6,22 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
@@ -22,7 +31,9 @@ import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.RoutesFromPoint;
 
 /**
  */
@@ -36,6 +47,8 @@ class ShortestPathPointRouterTest {
 
   private Edge edgeAC;
 
+  private Graph<Vertex, Edge> graph;
+
   private ShortestPathPointRouter pointRouter;
 
   @BeforeEach
@@ -52,7 +65,7 @@ class ShortestPathPointRouterTest {
 
     edgeAC = new Edge(pathAC, false);
 
-    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
 
     graph.addVertex(vertexA);
     graph.addVertex(vertexB);
@@ -108,4 +121,87 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void computePathOnlyOnceWithRouteCache() {
+    DefaultRouterConfiguration configuration = mock();
+    when(configuration.routeCacheSize()).thenReturn(10);
+    RouteCacheProvider routeCacheProvider = new RouteCacheProvider(configuration);
+    DijkstraShortestPath<Vertex, Edge> algo = spy(new DijkstraShortestPath<>(graph));
+    pointRouter = new ShortestPathPointRouter(
+        algo,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+        graph,
+        routeCacheProvider.createRouteCache()
+    );
+
+    assertEquals(1234, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertThat(pointRouter.getRouteSteps(pointA, pointC), hasSize(1));
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointB.getReference())
+    );
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+
+    verify(algo, times(2)).getPath(any(), any());
+    assertEquals(2, routeCacheProvider.getHitCount());
+    assertEquals(2, routeCacheProvider.getMissCount());
+  }
+
+  @Test
+  void returnSameRoutesFromPointAsIndividualLookups() {
+    Point pointD = new Point("D");
+    Vertex vertexA = vertexOf(pointA);
+    Vertex vertexC = vertexOf(pointC);
+    Vertex vertexD = new Vertex(pointD.getReference());
+    graph.addVertex(vertexD);
+    Edge edgeCD = new Edge(new Path("C-->D", pointC.getReference(), pointD.getReference()), false);
+    graph.addEdge(vertexC, vertexD, edgeCD);
+    graph.setEdgeWeight(edgeCD, 100);
+    Edge edgeAD = new Edge(new Path("A-->D", pointA.getReference(), pointD.getReference()), false);
+    graph.addEdge(vertexA, vertexD, edgeAD);
+    graph.setEdgeWeight(edgeAD, 5000);
+    DijkstraShortestPath<Vertex, Edge> algo = spy(new DijkstraShortestPath<>(graph));
+    pointRouter = new ShortestPathPointRouter(
+        algo,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD)),
+        graph,
+        RouteCache.disabled()
+    );
+    Set<Point> destPoints = Set.of(pointA, pointB, pointC, pointD);
+
+    RoutesFromPoint routes = pointRouter.getRoutesFromPoint(pointA, destPoints);
+
+    for (Point destPoint : destPoints) {
+      assertEquals(
+          pointRouter.getCosts(pointA.getReference(), destPoint.getReference()),
+          routes.getCosts(destPoint)
+      );
+      assertEquals(pointRouter.getRouteSteps(pointA, destPoint), routes.getRouteSteps(destPoint));
+    }
+    assertEquals(1334, routes.getCosts(pointD));
+    assertThat(routes.getRouteSteps(pointD), hasSize(2));
+    // The routes from the source point were computed without the algorithm's help.
+    verify(algo, times(6)).getPath(any(), any());
+  }
+
+  @Test
+  void rejectLookupOfRouteToPointNotRequested() {
+    RoutesFromPoint routes = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+        graph,
+        RouteCache.disabled()
+    )
+        .getRoutesFromPoint(pointA, Set.of(pointB, pointC));
+
+    assertThrows(IllegalArgumentException.class, () -> routes.getCosts(pointA));
+  }
+
+  private Vertex vertexOf(Point point) {
+    return graph.vertexSet().stream()
+        .filter(vertex -> vertex.getPoint().getName().equals(point.getName()))
+        .findAny()
+        .orElseThrow();
+  }
+
 }
@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.opentcs.strategies.basic.routing.spacetime.ReservationTable.NEVER;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReservationTable}.
+ */
+class ReservationTableTest {
+
+  private ReservationTable table;
+
+  @BeforeEach
+  void setUp() {
+    table = new ReservationTable();
+  }
+
+  @Test
+  void considerResourcesFreeOutsideReservedIntervals() {
+    table.reserve("Point-A", 1000, 2000);
+
+    assertThat(table.isFree("Point-A", 0, 1000), is(true));
+    assertThat(table.isFree("Point-A", 2000, 3000), is(true));
+    assertThat(table.isFree("Point-A", 500, 1500), is(false));
+    assertThat(table.isFree("Point-A", 1500, 1500), is(false));
+    assertThat(table.isFree("Point-B", 500, 1500), is(true));
+  }
+
+  @Test
+  void skipOverlappingReservationsOfAllResources() {
+    table.reserve("Point-A", 1000, 2000);
+    table.reserve("Path-A-B", 2500, 3000);
+    table.reserve("Point-A", 3200, 4000);
+
+    assertThat(table.earliestFree(List.of("Point-A"), 0, 1000, 10000), is(0L));
+    assertThat(table.earliestFree(List.of("Point-A", "Path-A-B"), 500, 1000, 10000), is(4000L));
+    assertThat(table.earliestFree(List.of("Point-A", "Path-A-B"), 1500, 200, 10000), is(2000L));
+  }
+
+  @Test
+  void returnNeverForResourcesReservedBeyondLatestPointOfTime() {
+    table.reserve("Point-A", 1000, 5000);
+    table.reserve("Point-B", 0, NEVER);
+
+    assertThat(table.earliestFree(List.of("Point-A"), 1500, 1000, 4000), is(NEVER));
+    assertThat(table.earliestFree(List.of("Point-A"), 1500, 1000, 5000), is(5000L));
+    assertThat(table.earliestFree(List.of("Point-B"), 0, 1000, NEVER - 1), is(NEVER));
+  }
+}
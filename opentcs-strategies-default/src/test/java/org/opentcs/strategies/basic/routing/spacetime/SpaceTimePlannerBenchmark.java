@@ -0,0 +1,183 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static org.opentcs.strategies.basic.routing.spacetime.ReservationTable.NEVER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares static shortest routes with routes planned in space and time for a fleet of vehicles.
+ * <p>
+ * The plant model is a square grid of points, with every pair of neighbouring points connected by
+ * a path that may be travelled in both directions. Vehicles with random sources and destinations
+ * are routed one after the other, with the routes of previously routed vehicles being reserved.
+ * For both static and planned routes, the sum of the vehicles' arrival times (including the times
+ * they wait for reserved resources) and the number of vehicles that cannot reach their
+ * destinations within the planning horizon are reported.
+ * </p>
+ * <p>
+ * The benchmark is only run with the environment variable {@code OPENTCS_BENCHMARKS} set to
+ * {@code true}, e.g. via {@code OPENTCS_BENCHMARKS=true ./gradlew
+ * :opentcs-strategies-default:test --tests '*SpaceTimePlannerBenchmark'}.
+ * </p>
+ */
+@EnabledIfEnvironmentVariable(named = "OPENTCS_BENCHMARKS", matches = "true")
+class SpaceTimePlannerBenchmark {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SpaceTimePlannerBenchmark.class);
+  private static final int GRID_SIZE = 10;
+  private static final long HORIZON = 300000;
+  private static final long DESTINATION_OCCUPANCY_TIME = 10000;
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 10, 20})
+  void compareStaticAndPlannedRoutes(int vehicleCount) {
+    Graph<Vertex, Edge> graph = createGridGraph(GRID_SIZE);
+    List<Vertex> vertices = new ArrayList<>(graph.vertexSet());
+    DijkstraShortestPath<Vertex, Edge> shortestPaths = new DijkstraShortestPath<>(graph);
+
+    ReservationTable staticTable = new ReservationTable();
+    ReservationTable plannedTable = new ReservationTable();
+    SpaceTimePlanner staticEvaluator = createPlanner(graph, staticTable);
+    SpaceTimePlanner planner = createPlanner(graph, plannedTable);
+
+    Random random = new Random(vehicleCount);
+    long staticArrivalSum = 0;
+    long plannedArrivalSum = 0;
+    int staticBlocked = 0;
+    int plannedBlocked = 0;
+    long planningNanos = 0;
+    for (int vehicle = 0; vehicle < vehicleCount; vehicle++) {
+      Vertex source = vertices.get(random.nextInt(vertices.size()));
+      Vertex destination = vertices.get(random.nextInt(vertices.size()));
+
+      List<Edge> staticEdges = shortestPaths.getPath(source, destination).getEdgeList();
+      long staticArrival = staticEvaluator.arrivalTime(staticEdges, 0);
+      if (staticArrival == NEVER) {
+        staticBlocked++;
+      }
+      else {
+        staticArrivalSum += staticArrival;
+        reserve(graph, staticTable, staticEdges, source);
+      }
+
+      long planningStart = System.nanoTime();
+      SpaceTimePlanner.Plan plan = planner.plan(
+          source.getPoint().getName(),
+          destination.getPoint().getName(),
+          0
+      ).orElse(null);
+      planningNanos += System.nanoTime() - planningStart;
+      if (plan == null) {
+        plannedBlocked++;
+      }
+      else {
+        plannedArrivalSum += plan.arrivalTime();
+        reserve(graph, plannedTable, plan.edges(), source);
+      }
+    }
+
+    LOG.info(
+        "{} vehicles: static routes arrive after {} s in sum ({} blocked), "
+            + "planned routes after {} s in sum ({} blocked), {} us per plan",
+        vehicleCount,
+        staticArrivalSum / 1000,
+        staticBlocked,
+        plannedArrivalSum / 1000,
+        plannedBlocked,
+        String.format("%.1f", planningNanos / vehicleCount / 1_000.0)
+    );
+  }
+
+  private SpaceTimePlanner createPlanner(Graph<Vertex, Edge> graph, ReservationTable table) {
+    return new SpaceTimePlanner(graph, edge -> (long) graph.getEdgeWeight(edge), table, HORIZON);
+  }
+
+  /**
+   * Reserves the resources along the given edges for the time intervals in which a vehicle
+   * travelling along them occupies them.
+   */
+  private void reserve(
+      Graph<Vertex, Edge> graph,
+      ReservationTable table,
+      List<Edge> edges,
+      Vertex source
+  ) {
+    long time = 0;
+    String pointName = source.getPoint().getName();
+    for (Edge edge : edges) {
+      long duration = (long) graph.getEdgeWeight(edge);
+      long departureTime = table.earliestFree(
+          List.of(edge.getPath().getName(), edge.getTargetVertex()),
+          time,
+          duration,
+          HORIZON
+      );
+      table.reserve(pointName, time, departureTime + duration);
+      table.reserve(edge.getPath().getName(), departureTime, departureTime + duration);
+      time = departureTime + duration;
+      pointName = edge.getTargetVertex();
+    }
+    table.reserve(pointName, time, time + DESTINATION_OCCUPANCY_TIME);
+  }
+
+  private Graph<Vertex, Edge> createGridGraph(int gridSize) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Random random = new Random(gridSize);
+
+    Vertex[][] vertices = new Vertex[gridSize][gridSize];
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        Point point = new Point(String.format("Point-%03d-%03d", x, y));
+        vertices[x][y] = new Vertex(point.getReference());
+        graph.addVertex(vertices[x][y]);
+      }
+    }
+
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        if (x + 1 < gridSize) {
+          connect(graph, vertices[x][y], vertices[x + 1][y], 1000 + random.nextInt(1000));
+        }
+        if (y + 1 < gridSize) {
+          connect(graph, vertices[x][y], vertices[x][y + 1], 1000 + random.nextInt(1000));
+        }
+      }
+    }
+    return graph;
+  }
+
+  private void connect(Graph<Vertex, Edge> graph, Vertex vertex1, Vertex vertex2, long travelTime) {
+    Path path = new Path(
+        vertex1.getPoint().getName() + " --- " + vertex2.getPoint().getName(),
+        vertex1.getPoint(),
+        vertex2.getPoint()
+    );
+
+    Edge forward = new Edge(path, false);
+    graph.addEdge(vertex1, vertex2, forward);
+    graph.setEdgeWeight(forward, travelTime);
+
+    Edge reverse = new Edge(path, true);
+    graph.addEdge(vertex2, vertex1, reverse);
+    graph.setEdgeWeight(reverse, travelTime);
+  }
+}
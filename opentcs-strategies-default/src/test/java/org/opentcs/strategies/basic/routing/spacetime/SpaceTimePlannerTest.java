@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.spacetime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.opentcs.strategies.basic.routing.spacetime.ReservationTable.NEVER;
+
+import java.util.List;
+import java.util.Optional;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
+
+/**
+ * Unit tests for {@link SpaceTimePlanner}.
+ */
+class SpaceTimePlannerTest {
+
+  private static final long HORIZON = 60000;
+
+  private Graph<Vertex, Edge> graph;
+  private ReservationTable table;
+  private Vertex vertexA;
+  private Vertex vertexB;
+  private Vertex vertexC;
+
+  @BeforeEach
+  void setUp() {
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    table = new ReservationTable();
+    vertexA = addVertex("Point-A");
+    vertexB = addVertex("Point-B");
+    vertexC = addVertex("Point-C");
+  }
+
+  @Test
+  void takeDetourAroundPathReservedLongerThanDetourTakes() {
+    Edge directEdge = connect(vertexA, vertexB, 1000);
+    Edge detourEdge1 = connect(vertexA, vertexC, 1000);
+    Edge detourEdge2 = connect(vertexC, vertexB, 1000);
+    table.reserve(directEdge.getPath().getName(), 0, 4000);
+
+    Optional<SpaceTimePlanner.Plan> plan = createPlanner().plan("Point-A", "Point-B", 0);
+
+    assertThat(plan.isPresent(), is(true));
+    assertThat(plan.get().edges(), contains(detourEdge1, detourEdge2));
+    assertThat(plan.get().arrivalTime(), is(2000L));
+  }
+
+  @Test
+  void waitForReservedPathIfDetourTakesLonger() {
+    Edge directEdge = connect(vertexA, vertexB, 1000);
+    connect(vertexA, vertexC, 2000);
+    connect(vertexC, vertexB, 2000);
+    table.reserve(directEdge.getPath().getName(), 0, 1500);
+
+    Optional<SpaceTimePlanner.Plan> plan = createPlanner().plan("Point-A", "Point-B", 0);
+
+    assertThat(plan.isPresent(), is(true));
+    assertThat(plan.get().edges(), contains(directEdge));
+    assertThat(plan.get().arrivalTime(), is(2500L));
+  }
+
+  @Test
+  void planNothingIfDestinationIsReservedBeyondHorizon() {
+    connect(vertexA, vertexB, 1000);
+    connect(vertexA, vertexC, 1000);
+    connect(vertexC, vertexB, 1000);
+    table.reserve("Point-B", 0, NEVER);
+
+    assertThat(createPlanner().plan("Point-A", "Point-B", 0).isPresent(), is(false));
+  }
+
+  @Test
+  void includeWaitingTimesInArrivalTimeOfGivenEdges() {
+    Edge directEdge = connect(vertexA, vertexB, 1000);
+    Edge detourEdge1 = connect(vertexA, vertexC, 1000);
+    Edge detourEdge2 = connect(vertexC, vertexB, 1000);
+    table.reserve(directEdge.getPath().getName(), 0, 1500);
+    table.reserve(detourEdge2.getPath().getName(), 1000, 3000);
+
+    SpaceTimePlanner planner = createPlanner();
+
+    // The vehicle may wait at the point it starts at...
+    assertThat(planner.arrivalTime(List.of(directEdge), 0), is(2500L));
+    assertThat(planner.arrivalTime(List.of(detourEdge1, detourEdge2), 0), is(4000L));
+
+    // ...but not at a point that is reserved by another vehicle while it waits there.
+    table.reserve("Point-C", 2000, 2500);
+    assertThat(planner.arrivalTime(List.of(detourEdge1, detourEdge2), 0), is(NEVER));
+  }
+
+  private SpaceTimePlanner createPlanner() {
+    return new SpaceTimePlanner(graph, edge -> (long) graph.getEdgeWeight(edge), table, HORIZON);
+  }
+
+  private Vertex addVertex(String name) {
+    Vertex vertex = new Vertex(new Point(name).getReference());
+    graph.addVertex(vertex);
+    return vertex;
+  }
+
+  private Edge connect(Vertex source, Vertex target, long travelTime) {
+    Path path = new Path(
+        source.getPoint().getName() + " --- " + target.getPoint().getName(),
+        source.getPoint(),
+        target.getPoint()
+    );
+    Edge edge = new Edge(path, false);
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, travelTime);
+    return edge;
+  }
+}
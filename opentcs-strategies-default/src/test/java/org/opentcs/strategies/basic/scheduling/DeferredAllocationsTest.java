@@ -0,0 +1,216 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link DeferredAllocations}.
+ */
+class DeferredAllocationsTest {
+
+  private AtomicLong time;
+  private DeferredAllocations deferredAllocations;
+  private Point point1;
+  private Point point2;
+  private Point point3;
+
+  @BeforeEach
+  void setUp() {
+    time = new AtomicLong();
+    deferredAllocations = new DeferredAllocations(time::get);
+    point1 = new Point("point1");
+    point2 = new Point("point2");
+    point3 = new Point("point3");
+  }
+
+  @Test
+  void wakeUpOnlyAllocationsWaitingForReleasedResources() {
+    AllocatorCommand.Allocate waitingFor1 = allocate("client1", point1);
+    AllocatorCommand.Allocate waitingFor2 = allocate("client2", point2);
+    deferredAllocations.add(waitingFor1, Set.of(point1));
+    deferredAllocations.add(waitingFor2, Set.of(point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point3)), is(empty()));
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), contains(waitingFor1));
+    assertThat(deferredAllocations.size(), is(1));
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), is(empty()));
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), contains(waitingFor2));
+    assertThat(deferredAllocations.size(), is(0));
+  }
+
+  @Test
+  void wakeUpAllocationWaitingForMultipleResourcesOnlyOnce() {
+    AllocatorCommand.Allocate allocate = allocate("client1", point1, point2);
+    deferredAllocations.add(allocate, Set.of(point1, point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1, point2)), contains(allocate));
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), is(empty()));
+  }
+
+  @Test
+  void wakeUpAllocationsNotWaitingForResourcesOnAnyRelease() {
+    AllocatorCommand.Allocate waitingFor1 = allocate("client1", point1);
+    AllocatorCommand.Allocate notWaiting = allocate("client2", point2);
+    deferredAllocations.add(waitingFor1, Set.of(point1));
+    deferredAllocations.add(notWaiting, Set.of());
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point3)), contains(notWaiting));
+    assertThat(deferredAllocations.size(), is(1));
+  }
+
+  @Test
+  void wakeUpAllocationsInOrderOfAge() {
+    AllocatorCommand.Allocate older = allocate("client1", point1);
+    AllocatorCommand.Allocate newer = allocate("client2", point1);
+    deferredAllocations.add(newer, Set.of(point1));
+    deferredAllocations.add(older, Set.of(point1));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), contains(older, newer));
+  }
+
+  @Test
+  void wakeUpAllDeferredAllocations() {
+    AllocatorCommand.Allocate waitingFor1 = allocate("client1", point1);
+    AllocatorCommand.Allocate notWaiting = allocate("client2", point2);
+    deferredAllocations.add(waitingFor1, Set.of(point1));
+    deferredAllocations.add(notWaiting, Set.of());
+
+    assertThat(deferredAllocations.wakeUpAll(), contains(waitingFor1, notWaiting));
+    assertThat(deferredAllocations.size(), is(0));
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), is(empty()));
+  }
+
+  @Test
+  void removeAllocationsOfClient() {
+    AllocatorCommand.Allocate allocate = allocate("client1", point1);
+    deferredAllocations.add(allocate, Set.of(point1));
+
+    deferredAllocations.removeAll(allocate.getClient());
+
+    assertThat(deferredAllocations.size(), is(0));
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), is(empty()));
+  }
+
+  @Test
+  void collectStatisticsPerResource() {
+    deferredAllocations.add(allocate("client1", point1), Set.of(point1));
+    time.set(100);
+    deferredAllocations.add(allocate("client2", point1, point2), Set.of(point1, point2));
+    time.set(400);
+    deferredAllocations.wakeUp(Set.of(point1));
+
+    ResourceWaitStatistics statistics = deferredAllocations.getStatistics().get("point1");
+    assertThat(statistics.getRetryCount(), is(2L));
+    assertThat(statistics.getTotalWaitTime(), is(700L));
+    assertThat(statistics.getMaxWaitTime(), is(400L));
+    assertThat(statistics.getAverageWaitTime(), is(350L));
+    assertThat(deferredAllocations.getStatistics().get("point2"), is(nullValue()));
+  }
+
+  @Test
+  void detectDeadlockWhenDeferringAllocation() {
+    AllocatorCommand.Allocate allocate1 = allocate("client1", point2);
+    AllocatorCommand.Allocate allocate2 = allocate("client2", point3);
+    AllocatorCommand.Allocate allocate3 = allocate("client3", point1);
+    Scheduler.Client client1 = allocate1.getClient();
+    Scheduler.Client client2 = allocate2.getClient();
+    Scheduler.Client client3 = allocate3.getClient();
+
+    assertThat(deferredAllocations.add(allocate1, Set.of(point2), Set.of(client2)), is(empty()));
+    assertThat(deferredAllocations.add(allocate2, Set.of(point3), Set.of(client3)), is(empty()));
+    assertThat(
+        deferredAllocations.add(allocate3, Set.of(point1), Set.of(client1)),
+        contains(client3, client1, client2)
+    );
+  }
+
+  @Test
+  void forgetWaitingClientsOfRetriedAllocations() {
+    AllocatorCommand.Allocate allocate1 = allocate("client1", point2);
+    AllocatorCommand.Allocate allocate2 = allocate("client2", point1);
+
+    deferredAllocations.add(allocate1, Set.of(point2), Set.of(allocate2.getClient()));
+    deferredAllocations.wakeUp(Set.of(point2));
+
+    assertThat(
+        deferredAllocations.add(allocate2, Set.of(point1), Set.of(allocate1.getClient())),
+        is(empty())
+    );
+  }
+
+  @Test
+  void reportDeadlockOnlyOnceUntilResourcesAreReleased() {
+    AllocatorCommand.Allocate allocate1 = allocate("client1", point2);
+    AllocatorCommand.Allocate allocate2 = allocate("client2", point1);
+    Scheduler.Client client1 = allocate1.getClient();
+    Scheduler.Client client2 = allocate2.getClient();
+
+    deferredAllocations.add(allocate1, Set.of(point2), Set.of(client2));
+    assertThat(
+        deferredAllocations.add(allocate2, Set.of(point1), Set.of(client1)),
+        contains(client2, client1)
+    );
+
+    // Retrying the deadlocked allocations detects the same deadlock, which is not reported again.
+    deferredAllocations.wakeUpAll();
+    assertThat(deferredAllocations.add(allocate1, Set.of(point2), Set.of(client2)), is(empty()));
+    assertThat(deferredAllocations.add(allocate2, Set.of(point1), Set.of(client1)), is(empty()));
+
+    deferredAllocations.resourcesReleased(client1);
+    deferredAllocations.wakeUpAll();
+    deferredAllocations.add(allocate1, Set.of(point2), Set.of(client2));
+    assertThat(
+        deferredAllocations.add(allocate2, Set.of(point1), Set.of(client1)),
+        contains(client2, client1)
+    );
+  }
+
+  private AllocatorCommand.Allocate allocate(String clientId, TCSResource<?>... resources) {
+    return new AllocatorCommand.Allocate(new TestClient(clientId), Set.of(resources));
+  }
+
+  private static class TestClient
+      implements
+        Scheduler.Client {
+
+    private final String id;
+
+    TestClient(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return null;
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return false;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
@@ -9,9 +9,12 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -122,6 +125,48 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void reflectAllocatedResourcesUntilCompletelyFreed() {
+    Point point1 = new Point("point1");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point1).allocate(client);
+
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(Set.<TCSResource<?>>of(point1)));
+    assertThat(reservationPool.getAllocations(), is(aMapWithSize(1)));
+
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
+  }
+
+  @Test
+  void reuseAllocationsSnapshotIfUnchanged() {
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+
+    Map<String, Set<TCSResource<?>>> snapshot = reservationPool.getAllocations();
+    assertThat(reservationPool.getAllocations(), is(sameInstance(snapshot)));
+
+    reservationPool.getReservationEntry(new Point("point2")).allocate(client);
+    assertThat(reservationPool.getAllocations(), is(not(sameInstance(snapshot))));
+    assertThat(reservationPool.getAllocations().get(client.getId()), hasSize(2));
+    assertThat(snapshot.get(client.getId()), hasSize(1));
+  }
+
+  @Test
+  void reflectResourcesUnavailableForUser() {
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    Point point3 = new Point("point3");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(new TestClient());
+
+    assertThat(
+        reservationPool.unavailableResourcesForUser(Set.of(point1, point2, point3), client),
+        is(Set.<TCSResource<?>>of(point2))
+    );
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
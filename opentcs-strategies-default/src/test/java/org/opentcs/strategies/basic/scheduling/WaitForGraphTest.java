@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+
+/**
+ * Unit tests for {@link WaitForGraph}.
+ */
+class WaitForGraphTest {
+
+  private WaitForGraph graph;
+  private Scheduler.Client client1;
+  private Scheduler.Client client2;
+  private Scheduler.Client client3;
+
+  @BeforeEach
+  void setUp() {
+    graph = new WaitForGraph();
+    client1 = mock();
+    client2 = mock();
+    client3 = mock();
+  }
+
+  @Test
+  void findShortestCycleThroughClient() {
+    graph.addEdges(client1, Set.of(client2));
+    graph.addEdges(client2, Set.of(client3));
+    graph.addEdges(client3, Set.of(client1));
+    graph.addEdges(client2, Set.of(client1));
+
+    assertThat(graph.findCycle(client1), contains(client1, client2));
+    assertThat(graph.findCycle(client3), contains(client3, client1, client2));
+  }
+
+  @Test
+  void findNoCycleWithoutWaitingClients() {
+    graph.addEdges(client1, Set.of(client2, client3));
+    graph.addEdges(client2, Set.of(client3));
+
+    assertThat(graph.findCycle(client1), is(empty()));
+    assertThat(graph.findCycle(client3), is(empty()));
+  }
+
+  @Test
+  void ignoreClientsWaitingForThemselves() {
+    graph.addEdges(client1, Set.of(client1));
+
+    assertThat(graph.findCycle(client1), is(empty()));
+  }
+
+  @Test
+  void keepEdgesAddedMultipleTimesUntilRemovedAsOften() {
+    graph.addEdges(client1, Set.of(client2));
+    graph.addEdges(client1, Set.of(client2));
+    graph.addEdges(client2, Set.of(client1));
+
+    graph.removeEdges(client1, Set.of(client2));
+    assertThat(graph.findCycle(client1), contains(client1, client2));
+
+    graph.removeEdges(client1, Set.of(client2));
+    assertThat(graph.findCycle(client1), is(empty()));
+    assertThat(graph.successors(client1), is(empty()));
+  }
+}
@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time needed for checking requested areas against the areas allocated by a fleet of
+ * vehicles, with and without the spatial index used by {@link AreaAllocations}.
+ * <p>
+ * Each vehicle allocates a few adjacent square areas at a random position in a large plant, and
+ * each vehicle then requests a few areas adjacent to its allocated ones.
+ * </p>
+ * <p>
+ * The benchmark is only run with the environment variable {@code OPENTCS_BENCHMARKS} set to
+ * {@code true}, e.g. via {@code OPENTCS_BENCHMARKS=true ./gradlew
+ * :opentcs-strategies-default:test --tests '*AreaAllocationsBenchmark'}.
+ * </p>
+ */
+@EnabledIfEnvironmentVariable(named = "OPENTCS_BENCHMARKS", matches = "true")
+class AreaAllocationsBenchmark {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AreaAllocationsBenchmark.class);
+  private static final int PLANT_SIZE = 100_000;
+  private static final int AREA_SIZE = 1_000;
+  private static final int AREAS_PER_ALLOCATION = 5;
+  private static final int WARMUP_RUNS = 20;
+  private static final int MEASURED_RUNS = 100;
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  @ParameterizedTest
+  @ValueSource(ints = {50, 200})
+  void compareIndexedAndLinearAreaChecks(int vehicleCount) {
+    Random random = new Random(vehicleCount);
+    List<TCSObjectReference<Vehicle>> vehicles = new ArrayList<>();
+    Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreas = new HashMap<>();
+    Map<TCSObjectReference<Vehicle>, GeometryCollection> requestedAreas = new HashMap<>();
+    AreaAllocations areaAllocations = new AreaAllocations();
+    for (int i = 0; i < vehicleCount; i++) {
+      TCSObjectReference<Vehicle> vehicleRef = new Vehicle("Vehicle-" + i).getReference();
+      int x = random.nextInt(PLANT_SIZE / AREA_SIZE) * AREA_SIZE;
+      int y = random.nextInt(PLANT_SIZE / AREA_SIZE) * AREA_SIZE;
+      vehicles.add(vehicleRef);
+      allocatedAreas.put(vehicleRef, createAreas(x, y));
+      requestedAreas.put(vehicleRef, createAreas(x + AREAS_PER_ALLOCATION * AREA_SIZE, y));
+      areaAllocations.setAreaAllocation(vehicleRef, allocatedAreas.get(vehicleRef));
+    }
+
+    int linearAllowed = 0;
+    int indexedAllowed = 0;
+    long linearNanos = 0;
+    long indexedNanos = 0;
+    for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+      linearAllowed = 0;
+      indexedAllowed = 0;
+      long start = System.nanoTime();
+      for (TCSObjectReference<Vehicle> vehicleRef : vehicles) {
+        if (isAllowedLinear(allocatedAreas, vehicleRef, requestedAreas.get(vehicleRef))) {
+          linearAllowed++;
+        }
+      }
+      long linearEnd = System.nanoTime();
+      for (TCSObjectReference<Vehicle> vehicleRef : vehicles) {
+        if (areaAllocations.isAreaAllocationAllowed(vehicleRef, requestedAreas.get(vehicleRef))) {
+          indexedAllowed++;
+        }
+      }
+      long indexedEnd = System.nanoTime();
+      if (run >= WARMUP_RUNS) {
+        linearNanos += linearEnd - start;
+        indexedNanos += indexedEnd - linearEnd;
+      }
+    }
+
+    LOG.info(
+        "{} vehicles: linear {} us, indexed {} us per check of all vehicles ({} allowed)",
+        vehicleCount,
+        linearNanos / MEASURED_RUNS / 1_000,
+        indexedNanos / MEASURED_RUNS / 1_000,
+        indexedAllowed
+    );
+    assertThat(indexedAllowed, is(linearAllowed));
+  }
+
+  /**
+   * Checks the requested areas against the areas allocated by all other vehicles one by one, which
+   * is what {@link AreaAllocations} did before using a spatial index.
+   */
+  private boolean isAllowedLinear(
+      Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreas,
+      TCSObjectReference<Vehicle> vehicleRef,
+      GeometryCollection requestedAreas
+  ) {
+    return allocatedAreas.entrySet().stream()
+        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
+        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+  }
+
+  private GeometryCollection createAreas(int x, int y) {
+    Geometry[] areas = new Geometry[AREAS_PER_ALLOCATION];
+    for (int i = 0; i < AREAS_PER_ALLOCATION; i++) {
+      int minX = x + i * AREA_SIZE;
+      // Keep adjacent areas of the same vehicle from touching each other.
+      int maxX = minX + AREA_SIZE - 1;
+      areas[i] = geometryFactory.createPolygon(
+          new Coordinate[]{
+              new Coordinate(minX, y),
+              new Coordinate(minX, y + AREA_SIZE - 1),
+              new Coordinate(maxX, y + AREA_SIZE - 1),
+              new Coordinate(maxX, y),
+              new Coordinate(minX, y)
+          }
+      );
+    }
+    return geometryFactory.createGeometryCollection(areas);
+  }
+}
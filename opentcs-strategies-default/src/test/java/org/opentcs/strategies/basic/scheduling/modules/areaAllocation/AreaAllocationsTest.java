@@ -106,6 +106,59 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationWhenAreaIsOnlyIntersectingEnvelopeOfAreaAllocatedByAnotherVehicle() {
+    // Arrange: Two triangles whose bounding boxes intersect, but which do not intersect themselves.
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(4, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(6, 10),
+        new Coordinate(10, 10)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
+  @Test
+  void considerOnlyLatestAreaAllocationOfOtherVehicles() {
+    // Arrange
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection otherArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+
+    // Act & Assert: Replacing an allocation
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), requestedArea);
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), otherArea);
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), otherArea));
+
+    // Act & Assert: Clearing an allocation
+    areaAllocations.clearAreaAllocation(vehicle2.getReference());
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), otherArea));
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(
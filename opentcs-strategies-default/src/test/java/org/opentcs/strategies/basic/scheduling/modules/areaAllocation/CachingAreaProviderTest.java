@@ -4,12 +4,15 @@ package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +24,7 @@ import org.opentcs.data.model.Couple;
 import org.opentcs.data.model.Envelope;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
 
 /**
  * Tests for {@link CachingAreaProvider}.
@@ -127,6 +131,47 @@ class CachingAreaProviderTest {
     assertThat(result.getNumGeometries(), is(1));
   }
 
+  @Test
+  void reusesAreasProvidedForSameEnvelopeKeyAndResources() {
+    // Arrange
+    point2 = point2.withVehicleEnvelopes(
+        Map.of(
+            "some-envelope-key",
+            new Envelope(
+                List.of(
+                    new Couple(100, 0),
+                    new Couple(100, 10),
+                    new Couple(110, 10),
+                    new Couple(110, 0),
+                    new Couple(100, 0)
+                )
+            )
+        )
+    );
+    when(objectService.fetchObjects(eq(Point.class), any()))
+        .thenReturn(Set.of(point1, point2, point3));
+    when(objectService.fetchObjects(eq(Path.class), any()))
+        .thenReturn(Set.of(path1, path2));
+    areaProvider.initialize();
+    Set<TCSResource<?>> resources = new HashSet<>(Set.<TCSResource<?>>of(point2, path1));
+
+    // Act
+    GeometryCollection result = areaProvider.getAreas("some-envelope-key", resources);
+    resources.add(point3);
+
+    // Assert: Same envelope key and resources
+    assertThat(
+        areaProvider.getAreas("some-envelope-key", Set.of(path1, point2)),
+        is(sameInstance(result))
+    );
+    // Assert: The set of resources given previously was modified and should not match any more.
+    assertThat(result.getNumGeometries(), is(1));
+    assertThat(
+        areaProvider.getAreas("some-envelope-key", resources),
+        is(not(sameInstance(result)))
+    );
+  }
+
   @Test
   void providesEmptyGeometryCollectionForUnknownEnvelopeKey() {
     // Arrange